@@ -0,0 +1,129 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arnes minimo de microbenchmarks en modo throughput, al estilo JMH pero sin
+ * dependencias: iteraciones de calentamiento, iteraciones medidas de duracion
+ * fija y un sumidero para que el JIT no elimine el trabajo medido.
+ * Cada invocacion de la operacion cuenta como una operacion.
+ */
+public final class Bench {
+  private static final int BATCH = 256;
+  private static volatile long sink;
+
+  private final int warmupIterations;
+  private final int measurementIterations;
+  private final int iterationMillis;
+
+  /**
+   * Operacion medida; el valor devuelto va al sumidero
+   */
+  public interface Operation {
+    long run();
+  }
+
+  /**
+   * Resultado de un benchmark: media y desviacion de las iteraciones medidas
+   */
+  public static final class Result {
+    public final String name;
+    public final String params;
+    public final double mean;
+    public final double deviation;
+    public final String unit;
+
+    public Result(String name, String params, List<Double> samples, String unit) {
+      double sum = 0;
+      for (double sample : samples) {
+        sum += sample;
+      }
+      double average = samples.isEmpty() ? 0 : sum / samples.size();
+      double squares = 0;
+      for (double sample : samples) {
+        squares += (sample - average) * (sample - average);
+      }
+      this.name = name;
+      this.params = params;
+      this.mean = average;
+      this.deviation = samples.size() > 1 ? Math.sqrt(squares / (samples.size() - 1)) : 0;
+      this.unit = unit;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%-36s %-28s %14.0f +- %-12.0f %s", name, params, mean, deviation, unit);
+    }
+  }
+
+  public Bench(int warmupIterations, int measurementIterations, int iterationMillis) {
+    if (measurementIterations <= 0 || iterationMillis <= 0) {
+      throw new IllegalArgumentException("Se necesita al menos una iteracion medida de duracion positiva");
+    }
+    this.warmupIterations = warmupIterations;
+    this.measurementIterations = measurementIterations;
+    this.iterationMillis = iterationMillis;
+  }
+
+  /**
+   * Configuracion corta para comprobar que los benchmarks corren
+   */
+  public static Bench quick() {
+    return new Bench(1, 2, 100);
+  }
+
+  public static Bench standard() {
+    return new Bench(5, 5, 1000);
+  }
+
+  public int getWarmupIterations() {
+    return warmupIterations;
+  }
+
+  public int getMeasurementIterations() {
+    return measurementIterations;
+  }
+
+  /**
+   * Mide operaciones por segundo
+   */
+  public Result throughput(String name, String params, Operation operation) {
+    for (int i = 0; i < warmupIterations; i++) {
+      iteration(operation);
+    }
+    List<Double> samples = new ArrayList<>();
+    for (int i = 0; i < measurementIterations; i++) {
+      samples.add(iteration(operation));
+    }
+    return new Result(name, params, samples, "ops/s");
+  }
+
+  private double iteration(Operation operation) {
+    long deadline = System.nanoTime() + iterationMillis * 1000000L;
+    long start = System.nanoTime();
+    long operations = 0;
+    long accumulator = 0;
+    long now;
+    do {
+      for (int i = 0; i < BATCH; i++) {
+        accumulator += operation.run();
+      }
+      operations += BATCH;
+      now = System.nanoTime();
+    } while (now < deadline);
+    consume(accumulator);
+    return operations * 1e9 / (now - start);
+  }
+
+  /**
+   * Sumidero: evita que el resultado de la operacion se descarte
+   */
+  public static void consume(long value) {
+    sink ^= value;
+  }
+
+  public static String header() {
+    return String.format("%-36s %-28s %30s", "Benchmark", "Parametros", "Resultado");
+  }
+}
@@ -0,0 +1,97 @@
+package benchmark;
+
+import config.ArrivalProcess;
+import config.Distribution;
+import config.FastProcessParser;
+import config.ProcessConfigParser;
+import config.WorkloadGenerator;
+import model.Process;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Lineas por segundo al parsear un archivo de procesos generado: el parser
+ * original (split y regex) contra FastProcessParser, armando la lista completa
+ * (con uno y con todos los hilos) o en flujo, descartando cada proceso.
+ * Cada iteracion parsea el archivo completo.
+ */
+public class ParserBenchmark {
+  public static final int DEFAULT_LINES = 2000000;
+  private static final int ORIGINAL = 0;
+  private static final int ORIGINAL_STREAM = 1;
+  private static final int FAST = 2;
+  private static final int FAST_STREAM = 3;
+
+  public static List<Bench.Result> run(Bench bench, int lines) throws IOException {
+    File file = File.createTempFile("benchmark-procesos", ".txt");
+    file.deleteOnExit();
+    WorkloadGenerator generator = new WorkloadGenerator(lines);
+    generator.setArrivals(ArrivalProcess.poisson(1));
+    generator.setCpuBurstCount(Distribution.uniform(1, 4));
+    generator.writeToFile(file.getPath(), lines);
+
+    int threads = Runtime.getRuntime().availableProcessors();
+    List<Bench.Result> results = new ArrayList<>();
+    results.add(measure(bench, "parser ProcessConfigParser lista", lines, file, ORIGINAL, 1));
+    results.add(measure(bench, "parser ProcessConfigParser flujo", lines, file, ORIGINAL_STREAM, 1));
+    results.add(measure(bench, "parser FastProcessParser lista", lines, file, FAST, 1));
+    if (threads > 1) {
+      results.add(measure(bench, "parser FastProcessParser lista", lines, file, FAST, threads));
+    }
+    results.add(measure(bench, "parser FastProcessParser flujo", lines, file, FAST_STREAM, 1));
+    return results;
+  }
+
+  private static Bench.Result measure(Bench bench, String name, int lines, File file, int parser, int threads)
+      throws IOException {
+    for (int i = 0; i < bench.getWarmupIterations(); i++) {
+      parse(file, parser, threads);
+    }
+    List<Double> samples = new ArrayList<>();
+    for (int i = 0; i < bench.getMeasurementIterations(); i++) {
+      long start = System.nanoTime();
+      long parsed = parse(file, parser, threads);
+      samples.add(parsed * 1e9 / (System.nanoTime() - start));
+    }
+    return new Bench.Result(name, "lineas=" + lines + " hilos=" + threads, samples, "lineas/s");
+  }
+
+  /**
+   * Parsea el archivo; en flujo cada proceso se descarta al leerlo
+   */
+  private static long parse(File file, int parser, int threads) throws IOException {
+    // Los parsers de lista informan la cantidad leida por consola; se descarta
+    PrintStream stdout = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      switch (parser) {
+        case ORIGINAL:
+          return ProcessConfigParser.parseFromFile(file.getPath()).size();
+        case FAST:
+          return FastProcessParser.parseFile(file.getPath(), threads).size();
+        case ORIGINAL_STREAM:
+          try (ProcessConfigParser.ProcessStream stream = ProcessConfigParser.stream(file.getPath())) {
+            return drain(stream);
+          }
+        default:
+          return drain(FastProcessParser.stream(file.getPath()));
+      }
+    } finally {
+      System.setOut(stdout);
+    }
+  }
+
+  private static long drain(Iterator<Process> stream) {
+    long count = 0;
+    while (stream.hasNext()) {
+      Bench.consume(stream.next().getArrivalTime());
+      count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,103 @@
+package benchmark;
+
+import memory.OptimalPageReplacement;
+import memory.PageFrame;
+import memory.PageReplacementAlgorithm;
+import memory.PageReplacementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Throughput de cada algoritmo de reemplazo por cantidad de marcos
+ * Una operacion es una referencia a pagina con el mismo protocolo que
+ * MemoryManager: en fallo con memoria llena selectVictimFrame, descarga y carga del marco;
+ * siempre notifyPageAccess. La secuencia tiene un conjunto caliente de la
+ * mitad de los marcos (80% de las referencias) y el resto uniforme sobre
+ * cuatro veces los marcos, asi los fallos pesan en la medicion.
+ */
+public class ReplacementBenchmark {
+  public static final int[] FRAME_COUNTS = {16, 256, 4096};
+  private static final int SEQUENCE_LENGTH = 1 << 16;
+  private static final String PID = "B";
+
+  public static List<Bench.Result> run(Bench bench) {
+    List<Bench.Result> results = new ArrayList<>();
+    for (String name : PageReplacementFactory.ALGORITHMS) {
+      for (int frames : FRAME_COUNTS) {
+        Reference reference = new Reference(PageReplacementFactory.createAlgorithm(name), frames);
+        results.add(bench.throughput("replacement.reference " + name, "marcos=" + frames, reference::next));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Memoria de un solo proceso sobre la que se aplica la secuencia en bucle
+   */
+  static final class Reference {
+    private final PageReplacementAlgorithm algorithm;
+    private final List<PageFrame> frames;
+    private final int[] sequence;
+    private final int[] frameOfPage;
+    private int position;
+    private int time;
+    private int loaded;
+
+    Reference(PageReplacementAlgorithm algorithm, int frameCount) {
+      this.algorithm = algorithm;
+      this.frames = new ArrayList<>(frameCount);
+      for (int i = 0; i < frameCount; i++) {
+        frames.add(new PageFrame(i));
+      }
+      this.sequence = sequence(frameCount);
+      this.frameOfPage = new int[frameCount * 4];
+      Arrays.fill(frameOfPage, -1);
+      registerFuture();
+    }
+
+    long next() {
+      int page = sequence[position++];
+      if (position == sequence.length) {
+        position = 0;
+        registerFuture();
+      }
+      time++;
+      int frameIndex = frameOfPage[page];
+      if (frameIndex < 0) {
+        // Como MemoryManager: marcos libres primero, el algoritmo solo con memoria llena
+        frameIndex = loaded < frames.size() ? loaded++ : algorithm.selectVictimFrame(frames, time);
+        PageFrame victim = frames.get(frameIndex);
+        if (victim.isOccupied()) {
+          frameOfPage[victim.getPageId()] = -1;
+          victim.unloadPage();
+          algorithm.notifyPageUnloaded(frameIndex);
+        }
+        victim.loadPage(PID, page, time);
+        frameOfPage[page] = frameIndex;
+        algorithm.notifyPageLoaded(frameIndex, PID, page, time);
+      }
+      frames.get(frameIndex).access(time);
+      algorithm.notifyPageAccess(frameIndex, PID, page, time);
+      return frameIndex;
+    }
+
+    // Optimal necesita conocer la secuencia; se vuelve a entregar en cada vuelta
+    private void registerFuture() {
+      if (algorithm instanceof OptimalPageReplacement) {
+        ((OptimalPageReplacement) algorithm).setFutureAccesses(PID, sequence);
+      }
+    }
+
+    private static int[] sequence(int frameCount) {
+      Random random = new Random(frameCount);
+      int hot = Math.max(1, frameCount / 2);
+      int[] pages = new int[SEQUENCE_LENGTH];
+      for (int i = 0; i < pages.length; i++) {
+        pages[i] = random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(frameCount * 4);
+      }
+      return pages;
+    }
+  }
+}
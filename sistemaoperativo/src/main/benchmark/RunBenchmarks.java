@@ -0,0 +1,95 @@
+package benchmark;
+
+import log.SimulationEventSink;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ejecuta los benchmarks de planificadores, reemplazo, simulacion, locks y parser
+ * Uso: java benchmark.RunBenchmarks [--quick] [--full] [--mode MODO]
+ *          [scheduler|replacement|simulation|locks|parser]...
+ *   --quick  iteraciones cortas, para comprobar que todo corre
+ *   --full   agrega la carga de 1.000.000 procesos a la simulacion
+ *   --mode   solo THREAD_SAFE o SINGLE_THREADED en scheduler y locks. El costo
+ *            de los locks se obtiene de dos JVM, una por modo, restando ns/tick
+ */
+public class RunBenchmarks {
+
+  public static void main(String[] args) throws IOException {
+    Bench bench = Bench.standard();
+    int[] sizes = SimulationBenchmark.DEFAULT_SIZES;
+    int parserLines = ParserBenchmark.DEFAULT_LINES;
+    List<ConcurrencyMode> modes = Arrays.asList(ConcurrencyMode.values());
+    List<String> selected = new ArrayList<>();
+    for (int a = 0; a < args.length; a++) {
+      String arg = args[a];
+      switch (arg) {
+        case "--quick":
+          bench = Bench.quick();
+          parserLines = ParserBenchmark.DEFAULT_LINES / 10;
+          break;
+        case "--full":
+          sizes = SimulationBenchmark.FULL_SIZES;
+          break;
+        case "--mode":
+          if (a + 1 >= args.length) {
+            usage("Falta el modo despues de --mode");
+          }
+          modes = Arrays.asList(ConcurrencyMode.valueOf(args[++a].toUpperCase()));
+          break;
+        case "scheduler":
+        case "replacement":
+        case "simulation":
+        case "locks":
+        case "parser":
+          selected.add(arg);
+          break;
+        default:
+          usage("Argumento desconocido: " + arg);
+      }
+    }
+    if (selected.isEmpty()) {
+      selected.add("scheduler");
+      selected.add("replacement");
+      selected.add("simulation");
+      selected.add("locks");
+      selected.add("parser");
+    }
+
+    SimulationEventSink original = SimulationLog.getSink();
+    SimulationLog.disable();
+    try {
+      System.out.println(Bench.header());
+      for (String group : selected) {
+        List<Bench.Result> results;
+        if (group.equals("scheduler")) {
+          results = SchedulerBenchmark.run(bench, modes);
+        } else if (group.equals("replacement")) {
+          results = ReplacementBenchmark.run(bench);
+        } else if (group.equals("simulation")) {
+          results = SimulationBenchmark.run(bench, sizes);
+        } else if (group.equals("locks")) {
+          results = SimulationBenchmark.runLockCost(bench, modes);
+        } else {
+          results = ParserBenchmark.run(bench, parserLines);
+        }
+        for (Bench.Result result : results) {
+          System.out.println(result);
+        }
+      }
+    } finally {
+      SimulationLog.setSink(original);
+    }
+  }
+
+  private static void usage(String error) {
+    System.err.println(error);
+    System.err.println("Uso: java benchmark.RunBenchmarks [--quick] [--full] [--mode MODO] "
+        + "[scheduler|replacement|simulation|locks|parser]...");
+    System.exit(1);
+  }
+}
@@ -0,0 +1,65 @@
+package benchmark;
+
+import model.Burst;
+import model.Process;
+import scheduler.SchedulerFactory;
+import scheduler.SchedulingAlgorithm;
+import sync.ConcurrencyMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Throughput de addProcess/getNextProcess de cada planificador
+ * Una operacion es un ciclo completo: se saca el siguiente proceso y se
+ * vuelve a encolar, con la cola llena a la profundidad indicada.
+ */
+public class SchedulerBenchmark {
+  public static final String[] SCHEDULERS = {"FCFS", "SJF", "RR", "RR x4 nucleos"};
+  public static final int[] DEPTHS = {16, 1024, 65536};
+
+  public static List<Bench.Result> run(Bench bench, List<ConcurrencyMode> modes) {
+    List<Bench.Result> results = new ArrayList<>();
+    for (String type : SCHEDULERS) {
+      for (int depth : DEPTHS) {
+        for (ConcurrencyMode mode : modes) {
+          SchedulingAlgorithm scheduler = create(type);
+          scheduler.setConcurrencyMode(mode);
+          for (Process p : workload(depth)) {
+            scheduler.addProcess(p);
+          }
+          results.add(bench.throughput("scheduler.addNext " + type,
+              "n=" + depth + " " + mode, () -> cycle(scheduler)));
+        }
+      }
+    }
+    return results;
+  }
+
+  private static long cycle(SchedulingAlgorithm scheduler) {
+    Process next = scheduler.getNextProcess();
+    scheduler.addProcess(next);
+    return next.getArrivalTime();
+  }
+
+  private static SchedulingAlgorithm create(String type) {
+    if (type.startsWith("RR x")) {
+      return SchedulerFactory.createPerCoreScheduler("RR", 4, 4);
+    }
+    return SchedulerFactory.createScheduler(type, 4);
+  }
+
+  /**
+   * Procesos con rafagas de CPU aleatorias (semilla fija) para que SJF ordene
+   */
+  static List<Process> workload(int count) {
+    Random random = new Random(count);
+    List<Process> processes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      processes.add(new Process("B" + i, i, Arrays.asList(
+          new Burst(Burst.BurstType.CPU, 1 + random.nextInt(50))), 1, 1));
+    }
+    return processes;
+  }
+}
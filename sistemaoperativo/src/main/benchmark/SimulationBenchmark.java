@@ -0,0 +1,136 @@
+package benchmark;
+
+import config.ArrivalProcess;
+import config.Distribution;
+import config.WorkloadGenerator;
+import io.IOManager;
+import memory.LRUPageReplacement;
+import memory.MemoryManager;
+import model.Burst;
+import model.Process;
+import scheduler.RoundRobinScheduler;
+import simulation.SimulationController;
+import sync.ConcurrencyMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ticks por segundo de SimulationController.runSimulation sobre cargas
+ * generadas con WorkloadGenerator. Cada iteracion corre una simulacion
+ * completa con procesos nuevos; solo se cronometra runSimulation. Los
+ * procesos llegan cada 10 ticks en promedio (Poisson) con ~9 ticks de CPU,
+ * asi la cola se mantiene acotada en todas las escalas.
+ *
+ * runLockCost mide ns por tick en cada modo de concurrencia. Cada modo se
+ * calienta por separado; para que las llamadas a Lock no sean bimorficas
+ * conviene medir un solo modo por JVM (RunBenchmarks --mode) y restar.
+ */
+public class SimulationBenchmark {
+  public static final int[] DEFAULT_SIZES = {1000, 10000, 100000};
+  public static final int[] FULL_SIZES = {1000, 10000, 100000, 1000000};
+  private static final int ARRIVAL_GAP = 10;
+  private static final int LOCK_RUNS = 20;
+
+  public static List<Bench.Result> run(Bench bench, int[] sizes) {
+    List<Bench.Result> results = new ArrayList<>();
+    for (int size : sizes) {
+      for (boolean eventDriven : new boolean[] {false, true}) {
+        for (int i = 0; i < bench.getWarmupIterations(); i++) {
+          ticksPerSecond(size, eventDriven);
+        }
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < bench.getMeasurementIterations(); i++) {
+          samples.add(ticksPerSecond(size, eventDriven));
+        }
+        results.add(new Bench.Result("simulation.run RR",
+            "procesos=" + size + (eventDriven ? " eventos" : " ticks"), samples, "ticks/s"));
+      }
+    }
+    return results;
+  }
+
+  public static List<Bench.Result> runLockCost(Bench bench, List<ConcurrencyMode> modes) {
+    List<Process> load = lockWorkload();
+    List<Bench.Result> results = new ArrayList<>();
+    for (ConcurrencyMode mode : modes) {
+      for (int i = 0; i < bench.getWarmupIterations(); i++) {
+        nanosPerTick(load, mode);
+      }
+      List<Double> samples = new ArrayList<>();
+      for (int i = 0; i < bench.getMeasurementIterations(); i++) {
+        samples.add(nanosPerTick(load, mode));
+      }
+      results.add(new Bench.Result("simulation.locks RR", "procesos=64 " + mode, samples, "ns/tick"));
+    }
+    return results;
+  }
+
+  /**
+   * Promedio de LOCK_RUNS simulaciones de la carga en el modo indicado
+   */
+  private static double nanosPerTick(List<Process> load, ConcurrencyMode mode) {
+    long elapsed = 0;
+    long ticks = 0;
+    for (int run = 0; run < LOCK_RUNS; run++) {
+      MemoryManager memory = new MemoryManager(384, new LRUPageReplacement());
+      memory.setPageFaultServiceTime(2);
+      SimulationController controller = new SimulationController(new RoundRobinScheduler(3), memory,
+          new IOManager(), 3, 100000);
+      controller.setConcurrencyMode(mode);
+      controller.setReportEnabled(false);
+      List<Process> copies = new ArrayList<>(load.size());
+      for (Process p : load) {
+        copies.add(p.copy());
+      }
+      controller.addProcesses(copies);
+      long start = System.nanoTime();
+      controller.runSimulation();
+      elapsed += System.nanoTime() - start;
+      ticks += controller.getClock().now();
+    }
+    return elapsed / (double) ticks;
+  }
+
+  /**
+   * 64 procesos CPU-E/S-CPU que llegan uno por tick
+   */
+  static List<Process> lockWorkload() {
+    List<Process> load = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      load.add(new Process("L" + i, i, Arrays.asList(new Burst(Burst.BurstType.CPU, 40),
+          new Burst(Burst.BurstType.IO, 6), new Burst(Burst.BurstType.CPU, 40)), 1, 6));
+    }
+    return load;
+  }
+
+  private static double ticksPerSecond(int size, boolean eventDriven) {
+    MemoryManager memory = new MemoryManager(256, new LRUPageReplacement());
+    memory.setPageFaultServiceTime(2);
+    SimulationController controller = new SimulationController(new RoundRobinScheduler(4), memory,
+        new IOManager(), 4, size * ARRIVAL_GAP * 2);
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    controller.setReportEnabled(false);
+    controller.setEventDriven(eventDriven);
+    controller.addProcesses(workload(size));
+    long start = System.nanoTime();
+    controller.runSimulation();
+    long elapsed = System.nanoTime() - start;
+    Bench.consume(controller.getCPUBusyTime());
+    return controller.getClock().now() * 1e9 / elapsed;
+  }
+
+  /**
+   * Procesos CPU-E/S-CPU con semilla fija
+   */
+  static List<Process> workload(int count) {
+    WorkloadGenerator generator = new WorkloadGenerator(count);
+    generator.setArrivals(ArrivalProcess.poisson(1.0 / ARRIVAL_GAP));
+    generator.setCpuBurst(Distribution.uniform(1, 8));
+    generator.setIoBurst(Distribution.uniform(1, 5));
+    generator.setCpuBurstCount(Distribution.constant(2));
+    generator.setPages(Distribution.uniform(1, 3));
+    generator.setPidPrefix("S");
+    return generator.generate(count);
+  }
+}
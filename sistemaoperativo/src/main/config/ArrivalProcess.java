@@ -0,0 +1,133 @@
+package config;
+
+import java.util.Random;
+
+/**
+ * Proceso de llegadas de una carga sintetica. Cada llamada a next devuelve el
+ * siguiente tiempo de llegada (no decreciente); el tiempo continuo se trunca
+ * al tick, asi varias llegadas pueden caer en el mismo tick.
+ */
+public interface ArrivalProcess {
+
+  /**
+   * Tiempo de la siguiente llegada
+   */
+  int next(Random random);
+
+  /**
+   * Vuelve al tiempo 0 para generar otra carga
+   */
+  void reset();
+
+  /**
+   * Especificacion textual, la misma que acepta parse
+   */
+  String spec();
+
+  /**
+   * Poisson: llegadas independientes, rate por tick en promedio
+   */
+  static ArrivalProcess poisson(double rate) {
+    return new Mmpp(rate, rate, 1, 1);
+  }
+
+  /**
+   * MMPP de dos estados: alterna entre un estado tranquilo (lowRate) y
+   * rafagas (highRate); la duracion de cada estado es exponencial con media
+   * lowLength y highLength ticks
+   */
+  static ArrivalProcess mmpp(double lowRate, double highRate, double lowLength, double highLength) {
+    return new Mmpp(lowRate, highRate, lowLength, highLength);
+  }
+
+  /**
+   * Parsea poisson(tasa) o mmpp(tasaBaja,tasaAlta,duracionBaja,duracionAlta)
+   */
+  static ArrivalProcess parse(String spec) {
+    String text = spec.trim();
+    int open = text.indexOf('(');
+    int close = text.lastIndexOf(')');
+    if (open == -1 || close < open) {
+      throw new IllegalArgumentException("Proceso de llegadas invalido: " + spec);
+    }
+    String name = text.substring(0, open).trim().toLowerCase();
+    String[] args = text.substring(open + 1, close).split(",");
+    double[] values = new double[args.length];
+    for (int i = 0; i < args.length; i++) {
+      values[i] = Double.parseDouble(args[i].trim());
+    }
+    switch (name) {
+      case "poisson":
+        if (values.length != 1) {
+          throw new IllegalArgumentException("poisson necesita la tasa: " + spec);
+        }
+        return poisson(values[0]);
+      case "mmpp":
+        if (values.length != 4) {
+          throw new IllegalArgumentException("mmpp necesita tasaBaja,tasaAlta,duracionBaja,duracionAlta: " + spec);
+        }
+        return mmpp(values[0], values[1], values[2], values[3]);
+      default:
+        throw new IllegalArgumentException("Proceso de llegadas desconocido: " + name);
+    }
+  }
+
+  /**
+   * MMPP de dos estados; con ambas tasas iguales es un Poisson y no sortea
+   * cambios de estado. Por falta de memoria de la exponencial, al cruzar un
+   * cambio de estado se descarta el resto del intervalo y se sortea de nuevo
+   * con la tasa del estado siguiente.
+   */
+  final class Mmpp implements ArrivalProcess {
+    private final double[] rates;
+    private final double[] lengths;
+    private double time;
+    private double stateEnd;
+    private int state;
+
+    Mmpp(double lowRate, double highRate, double lowLength, double highLength) {
+      if (lowRate <= 0 || highRate <= 0 || lowLength <= 0 || highLength <= 0) {
+        throw new IllegalArgumentException("Tasas y duraciones de llegada deben ser positivas");
+      }
+      this.rates = new double[] {lowRate, highRate};
+      this.lengths = new double[] {lowLength, highLength};
+      reset();
+    }
+
+    private boolean isPoisson() {
+      return rates[0] == rates[1];
+    }
+
+    @Override
+    public int next(Random random) {
+      if (Double.isNaN(stateEnd)) {
+        stateEnd = -lengths[state] * Math.log(1 - random.nextDouble());
+      }
+      while (true) {
+        double gap = -Math.log(1 - random.nextDouble()) / rates[state];
+        if (isPoisson() || time + gap < stateEnd) {
+          time += gap;
+          return (int) Math.min(Integer.MAX_VALUE, time);
+        }
+        time = stateEnd;
+        state = 1 - state;
+        stateEnd = time - lengths[state] * Math.log(1 - random.nextDouble());
+      }
+    }
+
+    @Override
+    public void reset() {
+      time = 0;
+      state = 0;
+      // La duracion del primer estado se sortea en la primera llegada
+      stateEnd = isPoisson() ? Double.POSITIVE_INFINITY : Double.NaN;
+    }
+
+    @Override
+    public String spec() {
+      return isPoisson()
+          ? "poisson(" + rates[0] + ")"
+          : "mmpp(" + rates[0] + "," + rates[1] + "," + lengths[0] + "," + lengths[1] + ")";
+    }
+  }
+}
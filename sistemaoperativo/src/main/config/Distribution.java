@@ -0,0 +1,239 @@
+package config;
+
+import java.util.Random;
+
+/**
+ * Distribucion de enteros para generar cargas sinteticas (duracion de
+ * rafagas, cantidad de rafagas, prioridades, paginas). Las muestras salen del
+ * Random que entrega el generador, asi una semilla reproduce toda la carga.
+ */
+public interface Distribution {
+
+  /**
+   * Muestra siguiente
+   */
+  int sample(Random random);
+
+  /**
+   * Especificacion textual, la misma que acepta parse
+   */
+  String spec();
+
+  static Distribution constant(int value) {
+    return new Empirical(new int[] {value}, new double[] {1});
+  }
+
+  /**
+   * Uniforme sobre [min, max]
+   */
+  static Distribution uniform(int min, int max) {
+    return new Uniform(min, max);
+  }
+
+  /**
+   * Exponencial de media mean, redondeada hacia arriba (minimo 1)
+   */
+  static Distribution exponential(double mean) {
+    return new Exponential(mean);
+  }
+
+  /**
+   * Pareto de forma shape y minimo scale: cola pesada, pocas rafagas muy largas
+   */
+  static Distribution pareto(double shape, double scale) {
+    return new Pareto(shape, scale);
+  }
+
+  /**
+   * Valores fijos con pesos relativos
+   */
+  static Distribution empirical(int[] values, double[] weights) {
+    return new Empirical(values, weights);
+  }
+
+  /**
+   * Parsea una especificacion: n, uniform(min,max), exp(media),
+   * pareto(forma,minimo) o emp(v1:p1,v2:p2,...) (sin pesos, equiprobables)
+   */
+  static Distribution parse(String spec) {
+    String text = spec.trim();
+    int open = text.indexOf('(');
+    if (open == -1) {
+      return constant(Integer.parseInt(text));
+    }
+    int close = text.lastIndexOf(')');
+    if (close < open) {
+      throw new IllegalArgumentException("Distribucion invalida: " + spec);
+    }
+    String name = text.substring(0, open).trim().toLowerCase();
+    String inner = text.substring(open + 1, close).trim();
+    String[] args = inner.isEmpty() ? new String[0] : inner.split(",");
+
+    switch (name) {
+      case "uniform":
+        requireArgs(spec, args, 2);
+        return uniform(Integer.parseInt(args[0].trim()), Integer.parseInt(args[1].trim()));
+      case "exp":
+      case "exponential":
+        requireArgs(spec, args, 1);
+        return exponential(Double.parseDouble(args[0].trim()));
+      case "pareto":
+        requireArgs(spec, args, 2);
+        return pareto(Double.parseDouble(args[0].trim()), Double.parseDouble(args[1].trim()));
+      case "emp":
+      case "empirical":
+        if (args.length == 0) {
+          throw new IllegalArgumentException("Distribucion empirica sin valores: " + spec);
+        }
+        int[] values = new int[args.length];
+        double[] weights = new double[args.length];
+        for (int i = 0; i < args.length; i++) {
+          String[] pair = args[i].trim().split(":");
+          values[i] = Integer.parseInt(pair[0].trim());
+          weights[i] = pair.length > 1 ? Double.parseDouble(pair[1].trim()) : 1;
+        }
+        return empirical(values, weights);
+      default:
+        throw new IllegalArgumentException("Distribucion desconocida: " + name);
+    }
+  }
+
+  private static void requireArgs(String spec, String[] args, int count) {
+    if (args.length != count) {
+      throw new IllegalArgumentException(String.format("%s necesita %d parametros", spec, count));
+    }
+  }
+
+  final class Uniform implements Distribution {
+    private final int min;
+    private final int max;
+
+    Uniform(int min, int max) {
+      if (max < min) {
+        throw new IllegalArgumentException("Rango uniforme invalido: " + min + "-" + max);
+      }
+      this.min = min;
+      this.max = max;
+    }
+
+    @Override
+    public int sample(Random random) {
+      return min + random.nextInt(max - min + 1);
+    }
+
+    @Override
+    public String spec() {
+      return "uniform(" + min + "," + max + ")";
+    }
+  }
+
+  final class Exponential implements Distribution {
+    private final double mean;
+
+    Exponential(double mean) {
+      if (mean <= 0) {
+        throw new IllegalArgumentException("La media debe ser positiva: " + mean);
+      }
+      this.mean = mean;
+    }
+
+    @Override
+    public int sample(Random random) {
+      double value = -mean * Math.log(1 - random.nextDouble());
+      return (int) Math.min(Integer.MAX_VALUE, Math.max(1, Math.ceil(value)));
+    }
+
+    @Override
+    public String spec() {
+      return "exp(" + mean + ")";
+    }
+  }
+
+  final class Pareto implements Distribution {
+    private final double shape;
+    private final double scale;
+
+    Pareto(double shape, double scale) {
+      if (shape <= 0 || scale <= 0) {
+        throw new IllegalArgumentException("Forma y minimo de Pareto deben ser positivos");
+      }
+      this.shape = shape;
+      this.scale = scale;
+    }
+
+    @Override
+    public int sample(Random random) {
+      double value = scale / Math.pow(1 - random.nextDouble(), 1 / shape);
+      return (int) Math.min(Integer.MAX_VALUE, Math.max(1, Math.round(value)));
+    }
+
+    @Override
+    public String spec() {
+      return "pareto(" + shape + "," + scale + ")";
+    }
+  }
+
+  /**
+   * Valores con pesos; la muestra busca en la tabla acumulada
+   */
+  final class Empirical implements Distribution {
+    private final int[] values;
+    private final double[] weights;
+    private final double[] cumulative;
+
+    Empirical(int[] values, double[] weights) {
+      if (values.length == 0 || values.length != weights.length) {
+        throw new IllegalArgumentException("Valores y pesos deben tener el mismo largo, no vacio");
+      }
+      this.values = values.clone();
+      this.weights = weights.clone();
+      this.cumulative = new double[weights.length];
+      double total = 0;
+      for (int i = 0; i < weights.length; i++) {
+        if (weights[i] < 0) {
+          throw new IllegalArgumentException("Peso negativo: " + weights[i]);
+        }
+        total += weights[i];
+        cumulative[i] = total;
+      }
+      if (total <= 0) {
+        throw new IllegalArgumentException("La suma de pesos debe ser positiva");
+      }
+    }
+
+    @Override
+    public int sample(Random random) {
+      if (values.length == 1) {
+        return values[0];
+      }
+      double target = random.nextDouble() * cumulative[cumulative.length - 1];
+      // Primer acumulado mayor que target (los pesos cero nunca salen)
+      int low = 0;
+      int high = cumulative.length - 1;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (cumulative[mid] > target) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+      return values[low];
+    }
+
+    @Override
+    public String spec() {
+      if (values.length == 1) {
+        return String.valueOf(values[0]);
+      }
+      StringBuilder sb = new StringBuilder("emp(");
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        sb.append(values[i]).append(':').append(weights[i]);
+      }
+      return sb.append(')').toString();
+    }
+  }
+}
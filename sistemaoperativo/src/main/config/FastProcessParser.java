@@ -0,0 +1,576 @@
+package config;
+
+import model.Burst;
+import model.Process;
+import model.ReferencePattern;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parser del formato de procesos que trabaja sobre los bytes del archivo
+ * mapeado en memoria, sin split, substring ni expresiones regulares: por
+ * linea solo se crean el PID, las rafagas y el proceso. Acepta la misma
+ * sintaxis que ProcessConfigParser (CPU(4),E/S(3@disco:120), patron opcional,
+ * comentarios y lineas DEVICE) e informa los errores con su numero de linea.
+ *
+ * Los archivos grandes se dividen en trozos que terminan en fin de linea y
+ * se parsean en paralelo; el resultado conserva el orden del archivo. Para
+ * millones de procesos conviene stream: la lista completa cuesta mas en
+ * recoleccion de basura que el parseo.
+ */
+public final class FastProcessParser {
+  private static final int MIN_CHUNK = 1 << 20;
+  private static final int MAX_CHUNK = Integer.MAX_VALUE - (1 << 20);
+  private static final int DEVICE_CACHE = 64;
+  private static final int WINDOW = 1 << 16;
+
+  private final ByteBuffer buffer;
+  private int position;
+  private final List<Process> processes;
+  private final List<LineError> errors;
+  private int lines;
+
+  // Ventana de bytes copiada del buffer; las lineas se parsean sobre ella
+  private byte[] data;
+  private int dataStart;
+  private int dataLength;
+
+  // Nombres de dispositivo ya vistos: se reutiliza el String
+  private final String[] deviceNames;
+  private int deviceCount;
+
+  private FastProcessParser(ByteBuffer buffer) {
+    this.buffer = buffer;
+    this.position = buffer.position();
+    this.processes = new ArrayList<>();
+    this.errors = new ArrayList<>();
+    this.data = new byte[WINDOW];
+    this.dataStart = position;
+    this.deviceNames = new String[DEVICE_CACHE];
+  }
+
+  /**
+   * Parsea un archivo con tantos hilos como procesadores
+   */
+  public static List<Process> parseFile(String filePath) throws IOException {
+    return parseFile(filePath, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Parsea un archivo; las lineas invalidas se informan por System.err y se
+   * saltan, como en ProcessConfigParser.parseFromFile
+   *
+   * @param parallelism Hilos (1 = secuencial)
+   */
+  public static List<Process> parseFile(String filePath, int parallelism) throws IOException {
+    return parseFile(filePath, parallelism, MIN_CHUNK);
+  }
+
+  private static List<Process> parseFile(String filePath, int parallelism, int minChunk) throws IOException {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("El paralelismo debe ser mayor a 0");
+    }
+    List<FastProcessParser> chunks;
+    try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+      long[] bounds = chunkBounds(channel, parallelism, minChunk);
+      List<Callable<FastProcessParser>> tasks = new ArrayList<>();
+      for (int i = 0; i + 1 < bounds.length; i++) {
+        long start = bounds[i];
+        long size = bounds[i + 1] - start;
+        tasks.add(() -> parseChunk(channel.map(FileChannel.MapMode.READ_ONLY, start, size)));
+      }
+      chunks = run(tasks, parallelism);
+    }
+
+    List<Process> processes = new ArrayList<>();
+    int linesBefore = 0;
+    for (FastProcessParser chunk : chunks) {
+      processes.addAll(chunk.processes);
+      for (LineError error : chunk.errors) {
+        error.print(linesBefore);
+      }
+      linesBefore += chunk.lines;
+    }
+    System.out.println(String.format("Parseados %d procesos desde %s", processes.size(), filePath));
+    return processes;
+  }
+
+  /**
+   * Parsea un buffer completo (por ejemplo un archivo ya mapeado); los
+   * errores se informan por System.err
+   */
+  public static List<Process> parse(ByteBuffer buffer) {
+    FastProcessParser parser = parseChunk(buffer);
+    for (LineError error : parser.errors) {
+      error.print(0);
+    }
+    return parser.processes;
+  }
+
+  /**
+   * Lee los procesos de a uno sobre el archivo mapeado, sin guardarlos, para
+   * SimulationController.setArrivalSource. Los errores se informan al leerlos.
+   */
+  public static Iterator<Process> stream(String filePath) throws IOException {
+    long[] bounds;
+    try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+      bounds = chunkBounds(channel, 1, MIN_CHUNK);
+    }
+    return new Iterator<Process>() {
+      private int chunk;
+      private FastProcessParser parser;
+      private int linesBefore;
+      private Process next;
+
+      @Override
+      public boolean hasNext() {
+        while (next == null && (parser != null || chunk + 1 < bounds.length)) {
+          if (parser == null) {
+            parser = new FastProcessParser(map(filePath, bounds[chunk], bounds[chunk + 1] - bounds[chunk]));
+            chunk++;
+          }
+          next = parser.nextProcess();
+          for (LineError error : parser.errors) {
+            error.print(linesBefore);
+          }
+          parser.errors.clear();
+          if (next == null) {
+            linesBefore += parser.lines;
+            parser = null;
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public Process next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Process process = next;
+        next = null;
+        return process;
+      }
+    };
+  }
+
+  // El mapeo sigue valido despues de cerrar el canal
+  private static ByteBuffer map(String filePath, long start, long size) {
+    try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static FastProcessParser parseChunk(ByteBuffer buffer) {
+    FastProcessParser parser = new FastProcessParser(buffer);
+    Process process;
+    while ((process = parser.nextProcess()) != null) {
+      parser.processes.add(process);
+    }
+    return parser;
+  }
+
+  private static List<FastProcessParser> run(List<Callable<FastProcessParser>> tasks, int parallelism)
+      throws IOException {
+    if (tasks.size() == 1) {
+      try {
+        return List.of(tasks.get(0).call());
+      } catch (IOException | RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<FastProcessParser> chunks = new ArrayList<>();
+      for (Future<FastProcessParser> future : pool.invokeAll(tasks)) {
+        chunks.add(future.get());
+      }
+      return chunks;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Lectura interrumpida", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IllegalStateException("Fallo el parseo de un trozo: " + e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Limites de los trozos: cada uno empieza justo despues de un fin de linea
+   */
+  private static long[] chunkBounds(FileChannel channel, int parallelism, int minChunk) throws IOException {
+    long size = channel.size();
+    long count = parallelism == 1 ? 1 : Math.max(1, Math.min(parallelism * 4L, size / minChunk));
+    count = Math.max(count, (size + MAX_CHUNK - 1) / MAX_CHUNK);
+    List<Long> bounds = new ArrayList<>();
+    bounds.add(0L);
+    ByteBuffer probe = ByteBuffer.allocate(4096);
+    for (long i = 1; i < count; i++) {
+      long position = Math.max(size * i / count, bounds.get(bounds.size() - 1));
+      long boundary = size;
+      // Avanzar hasta despues del siguiente '\n'
+      while (position < size) {
+        probe.clear();
+        int read = channel.read(probe, position);
+        if (read <= 0) {
+          break;
+        }
+        int newline = -1;
+        for (int k = 0; k < read; k++) {
+          if (probe.get(k) == '\n') {
+            newline = k;
+            break;
+          }
+        }
+        if (newline >= 0) {
+          boundary = position + newline + 1;
+          break;
+        }
+        position += read;
+      }
+      if (boundary > bounds.get(bounds.size() - 1) && boundary < size) {
+        bounds.add(boundary);
+      }
+    }
+    bounds.add(size);
+    long[] result = new long[bounds.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = bounds.get(i);
+    }
+    return result;
+  }
+
+  /**
+   * Siguiente proceso valido desde position, o null al final del buffer;
+   * las lineas invalidas quedan en errors
+   */
+  private Process nextProcess() {
+    int to = buffer.limit();
+    while (position < to) {
+      lines++;
+      int start = position - dataStart;
+      int end = lineEnd(start);
+      start = position - dataStart;
+      position = dataStart + end + 1;
+      // Igual que String.trim: fuera todo caracter <= ' '
+      while (start < end && (data[start] & 0xFF) <= ' ') {
+        start++;
+      }
+      while (end > start && (data[end - 1] & 0xFF) <= ' ') {
+        end--;
+      }
+      if (start == end || isSkipped(start, end)) {
+        continue;
+      }
+      try {
+        return parseLine(start, end);
+      } catch (RuntimeException e) {
+        errors.add(new LineError(lines, text(start, end), e.getMessage()));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Fin (en data) de la linea que empieza en offset. Si la linea no esta
+   * entera en la ventana se recarga desde su inicio, agrandando la ventana
+   * cuando la linea no entra.
+   */
+  private int lineEnd(int offset) {
+    while (true) {
+      for (int i = offset; i < dataLength; i++) {
+        if (data[i] == '\n') {
+          return i;
+        }
+      }
+      if (dataStart + dataLength >= buffer.limit()) {
+        return dataLength;
+      }
+      if (offset == 0 && dataLength == data.length) {
+        data = Arrays.copyOf(data, data.length * 2);
+      }
+      load(dataStart + offset);
+      offset = 0;
+    }
+  }
+
+  private void load(int from) {
+    dataStart = from;
+    dataLength = Math.min(data.length, buffer.limit() - from);
+    buffer.get(from, data, 0, dataLength);
+  }
+
+  private boolean isSkipped(int start, int end) {
+    byte first = data[start];
+    if (first == '#' || (first == '/' && start + 1 < end && data[start + 1] == '/')) {
+      return true;
+    }
+    return startsWithIgnoreCase(start, end, "DEVICE ") || startsWithIgnoreCase(start, end, "DISPOSITIVO ");
+  }
+
+  private Process parseLine(int start, int end) {
+    int pidStart = start;
+    int pidEnd = tokenEnd(pidStart, end);
+    int arrivalStart = skipSpace(pidEnd, end);
+    int arrivalEnd = tokenEnd(arrivalStart, end);
+    int burstStart = skipSpace(arrivalEnd, end);
+    int burstEnd = tokenEnd(burstStart, end);
+    int priorityStart = skipSpace(burstEnd, end);
+    int priorityEnd = tokenEnd(priorityStart, end);
+    int pagesStart = skipSpace(priorityEnd, end);
+    int pagesEnd = tokenEnd(pagesStart, end);
+    if (pagesStart == pagesEnd) {
+      throw new IllegalArgumentException("Formato invalido. Esperado: PID ArrivalTime Bursts Priority Pages [Patron]");
+    }
+
+    String pid = text(pidStart, pidEnd);
+    int arrivalTime = parseInt(arrivalStart, arrivalEnd);
+    List<Burst> bursts = parseBursts(burstStart, burstEnd);
+    int priority = parseInt(priorityStart, priorityEnd);
+    int requiredPages = parseInt(pagesStart, pagesEnd);
+
+    Process process = new Process(pid, arrivalTime, bursts, priority, requiredPages);
+    int patternStart = skipSpace(pagesEnd, end);
+    if (patternStart < end) {
+      process.setReferencePattern(ReferencePattern.parse(text(patternStart, tokenEnd(patternStart, end)), requiredPages));
+    }
+    return process;
+  }
+
+  /**
+   * Rafagas CPU(4),E/S(3),IO(2@disco:10) dentro de [start, end); como
+   * ProcessConfigParser, acepta una coma final
+   */
+  private List<Burst> parseBursts(int start, int end) {
+    int count = 1;
+    for (int i = start; i < end; i++) {
+      if (data[i] == ',') {
+        count++;
+      }
+    }
+    List<Burst> bursts = new ArrayList<>(count);
+    int position = start;
+    while (true) {
+      int pieceEnd = position;
+      while (pieceEnd < end && data[pieceEnd] != ',') {
+        pieceEnd++;
+      }
+      boolean trailingComma = pieceEnd == position && pieceEnd >= end && !bursts.isEmpty();
+      if (!trailingComma) {
+        bursts.add(parseBurst(position, pieceEnd));
+      }
+      if (pieceEnd >= end) {
+        return bursts;
+      }
+      position = pieceEnd + 1;
+    }
+  }
+
+  private Burst parseBurst(int start, int end) {
+    int open = indexOf('(', start, end);
+    int close = indexOf(')', start, end);
+    if (open < 0 || close < open) {
+      throw new IllegalArgumentException("Formato de rafaga invalido: " + text(start, end));
+    }
+    Burst.BurstType type;
+    if (equalsIgnoreCase(start, open, "CPU")) {
+      type = Burst.BurstType.CPU;
+    } else if (equalsIgnoreCase(start, open, "E/S") || equalsIgnoreCase(start, open, "IO")
+        || equalsIgnoreCase(start, open, "I/O")) {
+      type = Burst.BurstType.IO;
+    } else {
+      throw new IllegalArgumentException("Tipo de rafaga desconocido: " + text(start, open).toUpperCase());
+    }
+
+    // Duracion, con dispositivo y posicion opcionales: duracion@dispositivo[:posicion]
+    int at = indexOf('@', open + 1, close);
+    if (at < 0) {
+      return new Burst(type, parseInt(open + 1, close));
+    }
+    if (type != Burst.BurstType.IO) {
+      throw new IllegalArgumentException("Solo las rafagas de E/S pueden indicar dispositivo: " + text(start, end));
+    }
+    int duration = parseInt(open + 1, at);
+    int colon = indexOf(':', at + 1, close);
+    int position = colon < 0 ? 0 : parseInt(colon + 1, close);
+    return new Burst(type, duration, device(at + 1, colon < 0 ? close : colon), position);
+  }
+
+  /**
+   * Entero con signo opcional; espacios alrededor permitidos y mismo mensaje
+   * de error que trim + Integer.parseInt
+   */
+  private int parseInt(int start, int end) {
+    while (start < end && (data[start] & 0xFF) <= ' ') {
+      start++;
+    }
+    while (end > start && (data[end - 1] & 0xFF) <= ' ') {
+      end--;
+    }
+    int i = start;
+    boolean negative = false;
+    if (i < end && (data[i] == '-' || data[i] == '+')) {
+      negative = data[i] == '-';
+      i++;
+    }
+    if (i == end) {
+      throw invalidNumber(start, end);
+    }
+    long value = 0;
+    for (; i < end; i++) {
+      int digit = data[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw invalidNumber(start, end);
+      }
+      value = value * 10 + digit;
+      if (value > (long) Integer.MAX_VALUE + 1) {
+        throw invalidNumber(start, end);
+      }
+    }
+    value = negative ? -value : value;
+    if (value > Integer.MAX_VALUE) {
+      throw invalidNumber(start, end);
+    }
+    return (int) value;
+  }
+
+  private NumberFormatException invalidNumber(int start, int end) {
+    return new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+  }
+
+  private String device(int start, int end) {
+    while (start < end && (data[start] & 0xFF) <= ' ') {
+      start++;
+    }
+    while (end > start && (data[end - 1] & 0xFF) <= ' ') {
+      end--;
+    }
+    for (int i = 0; i < deviceCount; i++) {
+      if (equalsExact(start, end, deviceNames[i])) {
+        return deviceNames[i];
+      }
+    }
+    String name = text(start, end);
+    if (deviceCount < DEVICE_CACHE) {
+      deviceNames[deviceCount++] = name;
+    }
+    return name;
+  }
+
+  private String text(int start, int end) {
+    boolean ascii = true;
+    for (int i = start; i < end; i++) {
+      ascii &= data[i] >= 0;
+    }
+    return new String(data, start, end - start, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+  }
+
+  private int skipSpace(int position, int end) {
+    while (position < end && isSpace(data[position])) {
+      position++;
+    }
+    return position;
+  }
+
+  private int tokenEnd(int position, int end) {
+    while (position < end && !isSpace(data[position])) {
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * Los mismos separadores que \s en ProcessConfigParser
+   */
+  private static boolean isSpace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+  }
+
+  private int indexOf(char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (data[i] == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean equalsIgnoreCase(int start, int end, String expected) {
+    while (start < end && (data[start] & 0xFF) <= ' ') {
+      start++;
+    }
+    while (end > start && (data[end - 1] & 0xFF) <= ' ') {
+      end--;
+    }
+    return end - start == expected.length() && startsWithIgnoreCase(start, end, expected);
+  }
+
+  private boolean startsWithIgnoreCase(int start, int end, String prefix) {
+    if (end - start < prefix.length()) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      int b = data[start + i];
+      if (b >= 'a' && b <= 'z') {
+        b -= 'a' - 'A';
+      }
+      if (b != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean equalsExact(int start, int end, String expected) {
+    if (end - start != expected.length()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length(); i++) {
+      if (data[start + i] != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Linea invalida; el numero es relativo al trozo donde se encontro
+   */
+  private static final class LineError {
+    final int line;
+    final String text;
+    final String message;
+
+    LineError(int line, String text, String message) {
+      this.line = line;
+      this.text = text;
+      this.message = message;
+    }
+
+    void print(int linesBefore) {
+      System.err.println(String.format("Error en línea %d: %s - %s", linesBefore + line, text, message));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package config;
+
+import memory.PageTraceWriter;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Convierte una traza de referencias en texto al formato binario de PageTraceFormat
+ * Formato de texto: PID Pagina Tiempo [R|W], una referencia por línea
+ * Ejemplo: P1 3 120 W
+ * Las líneas vacías y las que empiezan con # se ignoran
+ * Las paginas pueden ser direcciones dispersas: la traza las numera de forma
+ * densa por proceso (ver PageTraceWriter)
+ */
+public class PageTraceConverter {
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.out.println("USO: java config.PageTraceConverter <traza.txt> <traza.bin>");
+      return;
+    }
+    long records = convert(Paths.get(args[0]), Paths.get(args[1]));
+    System.out.println(String.format("Convertidas %d referencias a %s", records, args[1]));
+  }
+
+  /**
+   * Convierte el archivo de texto y devuelve la cantidad de referencias escritas
+   */
+  public static long convert(Path textFile, Path binaryFile) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8);
+         PageTraceWriter writer = new PageTraceWriter(binaryFile)) {
+      String line;
+      int lineNumber = 0;
+      // Columnas de la línea actual: [inicio, fin) de cada token
+      int[] bounds = new int[8];
+
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        int tokens = tokenize(line, bounds);
+        if (tokens == 0 || line.charAt(bounds[0]) == '#') {
+          continue;
+        }
+        if (tokens < 3) {
+          throw new IllegalArgumentException(String.format(
+              "Línea %d: formato invalido. Esperado: PID Pagina Tiempo [R|W]", lineNumber));
+        }
+        try {
+          String pid = line.substring(bounds[0], bounds[1]);
+          int page = Integer.parseInt(line, bounds[2], bounds[3], 10);
+          int time = Integer.parseInt(line, bounds[4], bounds[5], 10);
+          boolean write = tokens > 3 && Character.toUpperCase(line.charAt(bounds[6])) == 'W';
+          writer.write(pid, page, time, write);
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException(String.format("Línea %d: %s", lineNumber, e.getMessage()));
+        }
+      }
+      return writer.getRecordCount();
+    }
+  }
+
+  /**
+   * Separa por espacios los primeros cuatro tokens sin crear arreglos ni expresiones regulares
+   */
+  private static int tokenize(String line, int[] bounds) {
+    int tokens = 0;
+    int i = 0;
+    int length = line.length();
+    while (tokens < 4) {
+      while (i < length && Character.isWhitespace(line.charAt(i))) {
+        i++;
+      }
+      if (i >= length) {
+        break;
+      }
+      bounds[tokens * 2] = i;
+      while (i < length && !Character.isWhitespace(line.charAt(i))) {
+        i++;
+      }
+      bounds[tokens * 2 + 1] = i;
+      tokens++;
+    }
+    return tokens;
+  }
+}
@@ -2,13 +2,20 @@ package config;
 
 import model.Process;
 import model.Burst;
+import model.ReferencePattern;
+import io.IODevice;
+import io.IOQueuePolicy;
+import io.IOServiceModel;
 import java.io.*;
 import java.util.*;
 
 /**
  * Parser para leer configuracion de procesos desde archivo
- * Formato: PID ArrivalTime Bursts Priority Pages
+ * Formato: PID ArrivalTime Bursts Priority Pages [Patron]
  * Ejemplo: P1 0 CPU(4),E/S(3),CPU(5) 1 4
+ * Patron de referencias opcional (por defecto seq): P2 0 CPU(20) 1 8 zipf(1.2,42)
+ * Una rafaga de E/S puede indicar dispositivo y posicion: E/S(3@disco:120)
+ * Dispositivos: DEVICE nombre canales FIFO|ELEVATOR|SSTF [latencia] [busquedaPorPista]
  */
 public class ProcessConfigParser {
   
@@ -30,8 +37,8 @@ public class ProcessConfigParser {
         lineNumber++;
         line = line.trim();
         
-        // Ignorar líneas vacías y comentarios
-        if (line.isEmpty() || line.startsWith("#") || line.startsWith("//")) {
+        // Ignorar líneas vacías, comentarios y definiciones de dispositivos
+        if (line.isEmpty() || line.startsWith("#") || line.startsWith("//") || isDeviceLine(line)) {
           continue;
         }
         
@@ -49,6 +56,77 @@ public class ProcessConfigParser {
     return processes;
   }
   
+  /**
+   * Lee los procesos de un archivo de a uno, a medida que se piden, sin
+   * cargarlos en una lista. Para SimulationController.setArrivalSource el
+   * archivo debe estar ordenado por tiempo de llegada.
+   * 
+   * @param filePath Ruta del archivo
+   * @return Flujo de procesos; se cierra solo al agotarse
+   * @throws IOException Si no se puede abrir el archivo
+   */
+  public static ProcessStream stream(String filePath) throws IOException {
+    return new ProcessStream(new BufferedReader(new FileReader(filePath)));
+  }
+  
+  /**
+   * Lee las definiciones de dispositivos de E/S de un archivo de configuracion
+   * 
+   * @param filePath Ruta del archivo
+   * @return Dispositivos definidos (vacío si no hay ninguno)
+   * @throws IOException Si hay error leyendo el archivo
+   */
+  public static List<IODevice> parseDevicesFromFile(String filePath) throws IOException {
+    List<IODevice> devices = new ArrayList<>();
+    
+    try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+      String line;
+      int lineNumber = 0;
+      
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        line = line.trim();
+        if (!isDeviceLine(line)) {
+          continue;
+        }
+        
+        try {
+          devices.add(parseDevice(line));
+        } catch (Exception e) {
+          System.err.println(String.format("Error en línea %d: %s - %s",
+              lineNumber, line, e.getMessage()));
+        }
+      }
+    }
+    
+    return devices;
+  }
+  
+  private static boolean isDeviceLine(String line) {
+    String upper = line.toUpperCase();
+    return upper.startsWith("DEVICE ") || upper.startsWith("DISPOSITIVO ");
+  }
+  
+  /**
+   * Parsea una definicion de dispositivo
+   * Formato: DEVICE nombre canales politica [latencia] [busquedaPorPista]
+   */
+  private static IODevice parseDevice(String line) {
+    String[] parts = line.split("\\s+");
+    
+    if (parts.length < 4) {
+      throw new IllegalArgumentException("Formato invalido. Esperado: DEVICE nombre canales politica [latencia] [busquedaPorPista]");
+    }
+    
+    String name = parts[1];
+    int channels = Integer.parseInt(parts[2]);
+    IOQueuePolicy policy = IOQueuePolicy.valueOf(parts[3].toUpperCase());
+    int latency = parts.length > 4 ? Integer.parseInt(parts[4]) : 0;
+    double seekPerTrack = parts.length > 5 ? Double.parseDouble(parts[5]) : 0.0;
+    
+    return new IODevice(name, channels, policy, IOServiceModel.linear(latency, seekPerTrack));
+  }
+  
   /**
    * Parsea una línea de configuracion
    * 
@@ -59,7 +137,7 @@ public class ProcessConfigParser {
     String[] parts = line.split("\\s+");
     
     if (parts.length < 5) {
-      throw new IllegalArgumentException("Formato invalido. Esperado: PID ArrivalTime Bursts Priority Pages");
+      throw new IllegalArgumentException("Formato invalido. Esperado: PID ArrivalTime Bursts Priority Pages [Patron]");
     }
     
     String pid = parts[0];
@@ -68,7 +146,12 @@ public class ProcessConfigParser {
     int priority = Integer.parseInt(parts[3]);
     int requiredPages = Integer.parseInt(parts[4]);
     
-    return new Process(pid, arrivalTime, bursts, priority, requiredPages);
+    Process process = new Process(pid, arrivalTime, bursts, priority, requiredPages);
+    // Patron de referencias opcional: seq, loop(n), zipf(s,semilla), phase(l,f,semilla), trace(...)
+    if (parts.length > 5) {
+      process.setReferencePattern(ReferencePattern.parse(parts[5], requiredPages));
+    }
+    return process;
   }
   
   /**
@@ -94,7 +177,23 @@ public class ProcessConfigParser {
       }
       
       String type = burstStr.substring(0, openParen).trim().toUpperCase();
-      int duration = Integer.parseInt(burstStr.substring(openParen + 1, closeParen).trim());
+      String args = burstStr.substring(openParen + 1, closeParen).trim();
+      
+      // E/S dirigida a un dispositivo: duracion@dispositivo[:posicion]
+      String device = null;
+      int position = 0;
+      int at = args.indexOf('@');
+      if (at != -1) {
+        String target = args.substring(at + 1).trim();
+        args = args.substring(0, at).trim();
+        int colon = target.indexOf(':');
+        if (colon != -1) {
+          position = Integer.parseInt(target.substring(colon + 1).trim());
+          target = target.substring(0, colon).trim();
+        }
+        device = target;
+      }
+      int duration = Integer.parseInt(args);
       
       Burst.BurstType burstType;
       if (type.equals("CPU")) {
@@ -105,7 +204,12 @@ public class ProcessConfigParser {
         throw new IllegalArgumentException("Tipo de rafaga desconocido: " + type);
       }
       
-      bursts.add(new Burst(burstType, duration));
+      if (device != null && burstType != Burst.BurstType.IO) {
+        throw new IllegalArgumentException("Solo las rafagas de E/S pueden indicar dispositivo: " + burstStr);
+      }
+      bursts.add(device != null
+          ? new Burst(burstType, duration, device, position)
+          : new Burst(burstType, duration));
     }
     
     return bursts;
@@ -144,38 +248,122 @@ public class ProcessConfigParser {
   public static void saveToFile(List<Process> processes, String filePath) throws IOException {
     try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
       writer.println("# Configuracion de procesos");
-      writer.println("# Formato: PID ArrivalTime Bursts Priority Pages");
+      writer.println("# Formato: PID ArrivalTime Bursts Priority Pages [Patron]");
       writer.println("# Ejemplo: P1 0 CPU(4),E/S(3),CPU(5) 1 4");
       writer.println();
       
       for (Process p : processes) {
-        String burstSpec = formatBursts(p.getBursts());
-        writer.println(String.format("%s %d %s %d %d",
-            p.getPid(),
-            p.getArrivalTime(),
-            burstSpec,
-            p.getPriority(),
-            p.getRequiredPages()));
+        writer.println(formatLine(p));
       }
     }
     
     System.out.println(String.format("Guardados %d procesos en %s", processes.size(), filePath));
   }
   
+  /**
+   * Linea de configuracion de un proceso, en el formato que lee parseFromFile
+   */
+  static String formatLine(Process p) {
+    StringBuilder sb = new StringBuilder(64);
+    sb.append(p.getPid()).append(' ').append(p.getArrivalTime()).append(' ');
+    appendBursts(sb, p.getBursts());
+    sb.append(' ').append(p.getPriority()).append(' ').append(p.getRequiredPages());
+    String pattern = p.getReferencePattern().spec();
+    if (!pattern.equals("seq")) {
+      sb.append(' ').append(pattern);
+    }
+    return sb.toString();
+  }
+  
   /**
    * Formatea rafagas para guardar
    */
-  private static String formatBursts(List<Burst> bursts) {
-    StringBuilder sb = new StringBuilder();
+  private static void appendBursts(StringBuilder sb, List<Burst> bursts) {
     for (int i = 0; i < bursts.size(); i++) {
       Burst burst = bursts.get(i);
-      String type = burst.getType() == Burst.BurstType.CPU ? "CPU" : "E/S";
-      sb.append(String.format("%s(%d)", type, burst.getDuration()));
+      sb.append(burst.getType() == Burst.BurstType.CPU ? "CPU(" : "E/S(").append(burst.getDuration());
+      if (burst.getDevice() != null) {
+        sb.append('@').append(burst.getDevice()).append(':').append(burst.getPosition());
+      }
+      sb.append(')');
       if (i < bursts.size() - 1) {
         sb.append(",");
       }
     }
-    return sb.toString();
+  }
+  
+  /**
+   * Flujo de procesos leidos de un archivo; las lineas invalidas se informan
+   * y se saltan, igual que en parseFromFile
+   */
+  public static class ProcessStream implements Iterator<Process>, Closeable {
+    private final BufferedReader reader;
+    private Process next;
+    private int lineNumber;
+    private long count;
+    private boolean closed;
+    
+    ProcessStream(BufferedReader reader) {
+      this.reader = reader;
+    }
+    
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        next = readNext();
+      }
+      return next != null;
+    }
+    
+    @Override
+    public Process next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Process process = next;
+      next = null;
+      count++;
+      return process;
+    }
+    
+    /**
+     * Procesos entregados hasta ahora
+     */
+    public long getCount() {
+      return count;
+    }
+    
+    private Process readNext() {
+      if (closed) {
+        return null;
+      }
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          lineNumber++;
+          line = line.trim();
+          if (line.isEmpty() || line.startsWith("#") || line.startsWith("//") || isDeviceLine(line)) {
+            continue;
+          }
+          try {
+            return parseLine(line);
+          } catch (Exception e) {
+            System.err.println(String.format("Error en línea %d: %s - %s",
+                lineNumber, line, e.getMessage()));
+          }
+        }
+        close();
+        return null;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      reader.close();
+    }
   }
   
   /**
@@ -0,0 +1,213 @@
+package config;
+
+import model.Burst;
+import model.Process;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Generador de cargas sinteticas reproducibles para pruebas de escala
+ * Cada proceso alterna rafagas de CPU y E/S (empieza y termina en CPU); las
+ * llegadas salen de un ArrivalProcess (Poisson o MMPP) y las duraciones,
+ * cantidad de rafagas, prioridades y paginas de Distribution. Con la misma
+ * semilla y parametros se obtiene siempre la misma carga.
+ *
+ * Los procesos se producen de a uno (stream), asi se pueden escribir millones
+ * en el formato de ProcessConfigParser sin tenerlos en memoria.
+ */
+public class WorkloadGenerator {
+  private final long seed;
+  private ArrivalProcess arrivals;
+  private Distribution cpuBurst;
+  private Distribution ioBurst;
+  private Distribution cpuBurstCount;
+  private Distribution priority;
+  private Distribution pages;
+  private String pidPrefix;
+
+  public WorkloadGenerator(long seed) {
+    this.seed = seed;
+    this.arrivals = ArrivalProcess.poisson(0.1);
+    this.cpuBurst = Distribution.exponential(6);
+    this.ioBurst = Distribution.exponential(4);
+    this.cpuBurstCount = Distribution.uniform(1, 3);
+    this.priority = Distribution.constant(1);
+    this.pages = Distribution.uniform(1, 8);
+    this.pidPrefix = "P";
+  }
+
+  public void setArrivals(ArrivalProcess arrivals) {
+    this.arrivals = arrivals;
+  }
+
+  public void setCpuBurst(Distribution cpuBurst) {
+    this.cpuBurst = cpuBurst;
+  }
+
+  public void setIoBurst(Distribution ioBurst) {
+    this.ioBurst = ioBurst;
+  }
+
+  /**
+   * Cantidad de rafagas de CPU por proceso (entre cada par va una de E/S)
+   */
+  public void setCpuBurstCount(Distribution cpuBurstCount) {
+    this.cpuBurstCount = cpuBurstCount;
+  }
+
+  public void setPriority(Distribution priority) {
+    this.priority = priority;
+  }
+
+  public void setPages(Distribution pages) {
+    this.pages = pages;
+  }
+
+  public void setPidPrefix(String pidPrefix) {
+    this.pidPrefix = pidPrefix;
+  }
+
+  /**
+   * Produce count procesos de a uno; cada llamada empieza de nuevo desde la semilla
+   */
+  public Iterator<Process> stream(long count) {
+    Random random = new Random(seed);
+    // Copia propia del proceso de llegadas para que dos recorridos no se mezclen
+    ArrivalProcess source = ArrivalProcess.parse(arrivals.spec());
+    return new Iterator<Process>() {
+      private long produced;
+
+      @Override
+      public boolean hasNext() {
+        return produced < count;
+      }
+
+      @Override
+      public Process next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        produced++;
+        return createProcess(pidPrefix + produced, source.next(random), random);
+      }
+    };
+  }
+
+  /**
+   * Genera count procesos en una lista, para entregarlos al simulador
+   */
+  public List<Process> generate(int count) {
+    List<Process> processes = new ArrayList<>(count);
+    Iterator<Process> it = stream(count);
+    while (it.hasNext()) {
+      processes.add(it.next());
+    }
+    return processes;
+  }
+
+  /**
+   * Escribe count procesos en el formato de ProcessConfigParser
+   * @return Cantidad de procesos escritos
+   */
+  public long write(Writer out, long count) throws IOException {
+    BufferedWriter writer = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out);
+    writer.write("# Carga sintetica: " + describe() + "\n");
+    writer.write("# Formato: PID ArrivalTime Bursts Priority Pages [Patron]\n");
+    long written = 0;
+    Iterator<Process> it = stream(count);
+    while (it.hasNext()) {
+      writer.write(ProcessConfigParser.formatLine(it.next()));
+      writer.write('\n');
+      written++;
+    }
+    writer.flush();
+    return written;
+  }
+
+  public long writeToFile(String filePath, long count) throws IOException {
+    try (Writer out = Files.newBufferedWriter(Paths.get(filePath))) {
+      return write(out, count);
+    }
+  }
+
+  /**
+   * Parametros de la carga, en el formato de las opciones de main
+   */
+  public String describe() {
+    return String.format("semilla=%d llegadas=%s cpu=%s io=%s rafagas=%s prioridad=%s paginas=%s",
+        seed, arrivals.spec(), cpuBurst.spec(), ioBurst.spec(), cpuBurstCount.spec(),
+        priority.spec(), pages.spec());
+  }
+
+  private Process createProcess(String pid, int arrivalTime, Random random) {
+    int cpuBursts = Math.max(1, cpuBurstCount.sample(random));
+    List<Burst> bursts = new ArrayList<>(cpuBursts * 2 - 1);
+    for (int i = 0; i < cpuBursts; i++) {
+      if (i > 0) {
+        bursts.add(new Burst(Burst.BurstType.IO, Math.max(1, ioBurst.sample(random))));
+      }
+      bursts.add(new Burst(Burst.BurstType.CPU, Math.max(1, cpuBurst.sample(random))));
+    }
+    int processPriority = priority.sample(random);
+    int requiredPages = Math.max(1, pages.sample(random));
+    return new Process(pid, arrivalTime, bursts, processPriority, requiredPages);
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0 || args.length % 2 == 0) {
+      System.out.println("USO: java config.WorkloadGenerator <procesos> [--seed n] [--arrivals poisson(0.1)|mmpp(0.05,1,500,50)]"
+          + " [--cpu exp(6)|pareto(1.5,2)|emp(2:5,8:1)] [--io exp(4)] [--bursts uniform(1,3)]"
+          + " [--priority emp(1:6,2:3,3:1)] [--pages uniform(1,8)] [--out archivo]");
+      return;
+    }
+    long count = Long.parseLong(args[0]);
+    long seed = 42;
+    String output = null;
+    Map<String, String> options = new LinkedHashMap<>();
+    for (int i = 1; i < args.length; i += 2) {
+      if (args[i].equals("--seed")) {
+        seed = Long.parseLong(args[i + 1]);
+      } else if (args[i].equals("--out")) {
+        output = args[i + 1];
+      } else {
+        options.put(args[i], args[i + 1]);
+      }
+    }
+    WorkloadGenerator generator = new WorkloadGenerator(seed);
+    for (Map.Entry<String, String> option : options.entrySet()) {
+      String value = option.getValue();
+      switch (option.getKey()) {
+        case "--arrivals":
+          generator.setArrivals(ArrivalProcess.parse(value));
+          break;
+        case "--cpu":
+          generator.setCpuBurst(Distribution.parse(value));
+          break;
+        case "--io":
+          generator.setIoBurst(Distribution.parse(value));
+          break;
+        case "--bursts":
+          generator.setCpuBurstCount(Distribution.parse(value));
+          break;
+        case "--priority":
+          generator.setPriority(Distribution.parse(value));
+          break;
+        case "--pages":
+          generator.setPages(Distribution.parse(value));
+          break;
+        default:
+          throw new IllegalArgumentException("Opcion desconocida: " + option.getKey());
+      }
+    }
+    if (output == null) {
+      generator.write(new OutputStreamWriter(System.out), count);
+    } else {
+      long start = System.nanoTime();
+      long written = generator.writeToFile(output, count);
+      System.out.println(String.format("%d procesos escritos en %s (%d ms)",
+          written, output, (System.nanoTime() - start) / 1000000));
+    }
+  }
+}
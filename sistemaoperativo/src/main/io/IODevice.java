@@ -0,0 +1,250 @@
+package io;
+
+import java.util.*;
+import java.io.Serializable;
+
+/**
+ * Dispositivo de E/S con un numero fijo de canales y una cola de solicitudes.
+ * Cuando todos los canales estan ocupados las solicitudes esperan en la cola
+ * y se atienden segun la politica configurada (FIFO, ELEVATOR o SSTF).
+ * No es thread-safe: IOManager lo usa siempre bajo su propio lock.
+ */
+public class IODevice implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final String name;
+  private final int channels;
+  private final IOQueuePolicy policy;
+  private final IOServiceModel serviceModel;
+
+  private final List<IOOperation> queue;
+  private int busyChannels;
+  private int headPosition;
+  private boolean movingUp;
+
+  // Metricas
+  private long busyTime;
+  private int servedRequests;
+  private int[] waitTimes;
+  private int maxQueueDepth;
+  private long queueDepthArea;
+  private int lastQueueChange;
+  private int lastActivityTime;
+
+  public IODevice(String name, int channels, IOQueuePolicy policy, IOServiceModel serviceModel) {
+    if (channels <= 0) {
+      throw new IllegalArgumentException("El dispositivo " + name + " necesita al menos un canal");
+    }
+    this.name = name;
+    this.channels = channels;
+    this.policy = policy;
+    this.serviceModel = serviceModel;
+    this.queue = new ArrayList<>();
+    this.waitTimes = new int[16];
+    reset();
+  }
+
+  public IODevice(String name, int channels, IOQueuePolicy policy) {
+    this(name, channels, policy, IOServiceModel.transferOnly());
+  }
+
+  /**
+   * Copia el dispositivo con su configuracion, sin cola ni estadisticas
+   */
+  public IODevice copy() {
+    return new IODevice(name, channels, policy, serviceModel);
+  }
+
+  boolean hasFreeChannel() {
+    return busyChannels < channels;
+  }
+
+  /**
+   * Ocupa un canal con la operacion y calcula su tiempo de fin
+   */
+  void startService(IOOperation operation, int time) {
+    int seekDistance = Math.abs(operation.getPosition() - headPosition);
+    int service = Math.max(0, serviceModel.serviceTime(operation.getDuration(), seekDistance));
+    if (operation.getPosition() != headPosition) {
+      movingUp = operation.getPosition() > headPosition;
+    }
+    headPosition = operation.getPosition();
+    busyChannels++;
+    operation.start(time, time + service);
+
+    if (servedRequests == waitTimes.length) {
+      waitTimes = Arrays.copyOf(waitTimes, waitTimes.length * 2);
+    }
+    waitTimes[servedRequests++] = time - operation.getRequestTime();
+    lastActivityTime = Math.max(lastActivityTime, time);
+  }
+
+  /**
+   * Encola una solicitud que no encontro canal libre
+   */
+  void enqueue(IOOperation operation, int time) {
+    accumulateQueueDepth(time);
+    queue.add(operation);
+    maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+  }
+
+  /**
+   * Libera el canal de una operacion terminada
+   * @return Siguiente solicitud de la cola segun la politica, o null si no hay
+   */
+  IOOperation release(IOOperation finished, int time) {
+    busyChannels--;
+    busyTime += finished.getEndTime() - finished.getStartTime();
+    lastActivityTime = Math.max(lastActivityTime, time);
+    if (queue.isEmpty()) {
+      return null;
+    }
+    accumulateQueueDepth(time);
+    return queue.remove(selectNext());
+  }
+
+  /**
+   * Indice de la siguiente solicitud a atender
+   */
+  private int selectNext() {
+    switch (policy) {
+      case SSTF:
+        return closestTo(headPosition);
+      case ELEVATOR:
+        int next = nextInDirection(movingUp);
+        if (next < 0) {
+          movingUp = !movingUp;
+          next = nextInDirection(movingUp);
+        }
+        return next;
+      default:
+        return 0;
+    }
+  }
+
+  private int closestTo(int position) {
+    int best = 0;
+    int bestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < queue.size(); i++) {
+      int distance = Math.abs(queue.get(i).getPosition() - position);
+      if (distance < bestDistance) {
+        best = i;
+        bestDistance = distance;
+      }
+    }
+    return best;
+  }
+
+  private int nextInDirection(boolean up) {
+    int best = -1;
+    int bestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < queue.size(); i++) {
+      int delta = queue.get(i).getPosition() - headPosition;
+      int distance = up ? delta : -delta;
+      if (distance >= 0 && distance < bestDistance) {
+        best = i;
+        bestDistance = distance;
+      }
+    }
+    return best;
+  }
+
+  private void accumulateQueueDepth(int time) {
+    if (time > lastQueueChange) {
+      queueDepthArea += (long) queue.size() * (time - lastQueueChange);
+      lastQueueChange = time;
+    }
+  }
+
+  /**
+   * Percentil (0-100) de los tiempos de espera en cola, por rango mas cercano
+   */
+  public int getWaitPercentile(double percentile) {
+    if (servedRequests == 0) {
+      return 0;
+    }
+    int[] sorted = Arrays.copyOf(waitTimes, servedRequests);
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+  }
+
+  /**
+   * Fraccion del tiempo en que los canales estuvieron ocupados
+   */
+  public double getUtilization(int elapsedTime) {
+    if (elapsedTime <= 0) {
+      return 0.0;
+    }
+    return Math.min(1.0, (double) busyTime / ((long) channels * elapsedTime));
+  }
+
+  /**
+   * Profundidad media de la cola ponderada por tiempo
+   */
+  public double getAverageQueueDepth(int elapsedTime) {
+    if (elapsedTime <= 0) {
+      return 0.0;
+    }
+    long area = queueDepthArea;
+    if (elapsedTime > lastQueueChange) {
+      area += (long) queue.size() * (elapsedTime - lastQueueChange);
+    }
+    return (double) area / elapsedTime;
+  }
+
+  public String getMetrics(int elapsedTime) {
+    return String.format("  %s (%d canal(es), %s): utilizacion=%.1f%%, atendidas=%d, cola actual=%d, "
+        + "cola max=%d, cola media=%.2f, espera p50=%d p90=%d p99=%d\n",
+        name, channels, policy, getUtilization(elapsedTime) * 100, servedRequests, queue.size(),
+        maxQueueDepth, getAverageQueueDepth(elapsedTime),
+        getWaitPercentile(50), getWaitPercentile(90), getWaitPercentile(99));
+  }
+
+  public void reset() {
+    queue.clear();
+    busyChannels = 0;
+    headPosition = 0;
+    movingUp = true;
+    busyTime = 0;
+    servedRequests = 0;
+    maxQueueDepth = 0;
+    queueDepthArea = 0;
+    lastQueueChange = 0;
+    lastActivityTime = 0;
+  }
+
+  // Getters
+
+  public String getName() {
+    return name;
+  }
+
+  public int getChannels() {
+    return channels;
+  }
+
+  public IOQueuePolicy getPolicy() {
+    return policy;
+  }
+
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  public int getBusyChannels() {
+    return busyChannels;
+  }
+
+  public int getServedRequests() {
+    return servedRequests;
+  }
+
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  public int getLastActivityTime() {
+    return lastActivityTime;
+  }
+}
@@ -2,28 +2,92 @@
 package io;
 
 import model.Process;
+import model.Burst;
 import scheduler.SimulationClock;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.io.Serializable;
 
 /**
  * Gestor de operaciones de E/S
- * Simula dispositivos de E/S y maneja procesos bloqueados por E/S
+ * Simula dispositivos de E/S y maneja procesos bloqueados por E/S.
+ * Las operaciones pendientes se guardan en un min-heap por tiempo de fin con
+ * referencia directa al proceso, de modo que cada tick solo toca las que terminan.
+ * Las rafagas sin dispositivo se atienden en paralelo sin contencion; las que
+ * indican un dispositivo registrado compiten por sus canales y esperan en su cola.
  */
-public class IOManager {
+public class IOManager implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private Map<String, IOOperation> activeOperations;
+  private Map<String, IODevice> devices;
+  private PriorityQueue<IOOperation> pendingCompletions;
+  private long operationSequence;
   private Lock ioLock;
   private int totalIOOperations;
   private int completedIOOperations;
+  private SimulationClock clock;
   
   public IOManager() {
     this.activeOperations = new HashMap<>();
+    this.devices = new LinkedHashMap<>();
+    this.pendingCompletions = new PriorityQueue<>();
+    this.operationSequence = 0;
     this.ioLock = new ReentrantLock();
     this.totalIOOperations = 0;
     this.completedIOOperations = 0;
+    this.clock = SimulationClock.shared();
     
-    System.out.println("IOManager inicializado");
+    SimulationLog.log(LogLevel.INFO, EventCategory.IO, "IOManager inicializado");
+  }
+  
+  /**
+   * Modo de concurrencia; se cambia antes de usar el componente
+   */
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.ioLock = mode.newLock();
+  }
+
+  /**
+   * Reloj de la simulacion propietaria; sin llamar a este metodo se usa el compartido
+   */
+  public void setClock(SimulationClock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Registra un dispositivo de E/S (reemplaza uno previo con el mismo nombre)
+   */
+  public void registerDevice(IODevice device) {
+    ioLock.lock();
+    try {
+      devices.put(device.getName(), device);
+    } finally {
+      ioLock.unlock();
+    }
+  }
+  
+  public IODevice getDevice(String name) {
+    ioLock.lock();
+    try {
+      return devices.get(name);
+    } finally {
+      ioLock.unlock();
+    }
+  }
+  
+  public Collection<IODevice> getDevices() {
+    ioLock.lock();
+    try {
+      return new ArrayList<>(devices.values());
+    } finally {
+      ioLock.unlock();
+    }
   }
   
   /**
@@ -33,22 +97,75 @@ public class IOManager {
    * @param duration Duracion de la operacion
    */
   public void startIOOperation(Process process, int duration) {
+    startIOOperation(process, duration, clock.now());
+  }
+
+  /**
+   * Inicia una operacion de E/S con un tiempo de inicio explícito
+   * (usado por el motor por eventos, que no avanza el reloj unidad a unidad)
+   *
+   * @param process Proceso que solicita E/S
+   * @param duration Duracion de la operacion
+   * @param startTime Tiempo de simulacion en que inicia la operacion
+   * @return Tiempo en que finaliza la operacion
+   */
+  public int startIOOperation(Process process, int duration, int startTime) {
+    return startIOOperation(process, duration, null, 0, startTime);
+  }
+
+  /**
+   * Inicia la operacion de E/S descrita por una rafaga, en su dispositivo si lo indica
+   *
+   * @return Tiempo en que finaliza la operacion, o -1 si quedo en la cola del dispositivo
+   */
+  public int startIOOperation(Process process, Burst ioBurst, int startTime) {
+    return startIOOperation(process, ioBurst.getDuration(), ioBurst.getDevice(),
+        ioBurst.getPosition(), startTime);
+  }
+
+  private int startIOOperation(Process process, int duration, String deviceName,
+                               int position, int startTime) {
     ioLock.lock();
     try {
       String pid = process.getPid();
-      int startTime = SimulationClock.getTime();
-      int endTime = startTime + duration;
+      IODevice device = null;
+      if (deviceName != null) {
+        device = devices.get(deviceName);
+        if (device == null) {
+          SimulationLog.log(LogLevel.WARN, EventCategory.IO, pid, -1,
+              String.format("[E/S] Dispositivo '%s' no registrado, se atiende sin contencion", deviceName));
+        }
+      }
       
-      IOOperation operation = new IOOperation(pid, startTime, endTime, duration);
+      IOOperation operation = new IOOperation(process, startTime, duration, operationSequence++,
+          device, position);
       activeOperations.put(pid, operation);
       totalIOOperations++;
       
       process.setState(Process.ProcessState.BLOCKED_IO);
       process.resetIOReady();
       
-      System.out.println(String.format("[E/S] Proceso %s inicia operacion de E/S (duracion: %d, finaliza en t=%d)",
-          pid, duration, endTime));
+      if (device == null) {
+        operation.start(startTime, startTime + duration);
+      } else if (device.hasFreeChannel()) {
+        device.startService(operation, startTime);
+      } else {
+        device.enqueue(operation, startTime);
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.IO, pid, device.getQueueDepth(),
+              String.format("[E/S] Proceso %s en cola de %s (profundidad: %d)",
+              pid, device.getName(), device.getQueueDepth()));
+        }
+        return -1;
+      }
+      pendingCompletions.offer(operation);
       
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.IO, pid, duration,
+            String.format("[E/S] Proceso %s inicia operacion de E/S (duracion: %d, finaliza en t=%d)",
+            pid, duration, operation.getEndTime()));
+      }
+      return operation.getEndTime();
     } finally {
       ioLock.unlock();
     }
@@ -59,34 +176,49 @@ public class IOManager {
    * @return Lista de procesos que completaron su E/S
    * NOTA: updateIOOperations NO debe cambiar el estado del proceso ni encolar al scheduler.
    * Esa responsabilidad la realiza el SynchronizationCoordinator para evitar duplicidad.
+   * La lista de procesos ya no se recorre: cada operacion guarda su proceso.
    */
   public List<Process> updateIOOperations(List<Process> allProcesses) {
+    return drainCompletedUpTo(clock.now());
+  }
+
+  /**
+   * Completa de una vez todas las operaciones cuyo fin es menor o igual a time,
+   * en orden de tiempo de fin y, a igual fin, en orden de inicio
+   * @return Lista de procesos que completaron su E/S
+   */
+  public List<Process> drainCompletedUpTo(int time) {
     ioLock.lock();
     try {
       List<Process> completedProcesses = new ArrayList<>();
-      int currentTime = SimulationClock.getTime();
-
-      Iterator<Map.Entry<String, IOOperation>> iterator = activeOperations.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Map.Entry<String, IOOperation> entry = iterator.next();
-        IOOperation operation = entry.getValue();
 
-        if (currentTime >= operation.getEndTime()) {
-          // La operacion de E/S ha terminado
-          String pid = entry.getKey();
-          // Buscar el proceso correspondiente
-          Process process = findProcess(allProcesses, pid);
-          if (process != null) {
-            // Señal al proceso: su E/S terminó. El Coordinator será responsable de re-enqueue.
-            process.signalIOComplete();
-            completedProcesses.add(process);
-            System.out.println(String.format("[E/S] Proceso %s completo operacion de E/S en t=%d",
-                pid, currentTime));
+      while (!pendingCompletions.isEmpty() && pendingCompletions.peek().getEndTime() <= time) {
+        IOOperation operation = pendingCompletions.poll();
+        String pid = operation.getProcessId();
+        // El canal se libera al fin del servicio y atiende la siguiente solicitud de la cola
+        IODevice device = operation.getDevice();
+        if (device != null) {
+          IOOperation next = device.release(operation, operation.getEndTime());
+          if (next != null) {
+            device.startService(next, operation.getEndTime());
+            pendingCompletions.offer(next);
           }
+        }
+        // Una operacion reemplazada por otra posterior del mismo proceso se descarta
+        if (activeOperations.get(pid) != operation) {
+          continue;
+        }
+        activeOperations.remove(pid);
 
-          completedIOOperations++;
-          iterator.remove();
+        // Señal al proceso: su E/S terminó. El Coordinator será responsable de re-enqueue.
+        Process process = operation.getProcess();
+        process.signalIOComplete();
+        completedProcesses.add(process);
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.IO, pid, time,
+              String.format("[E/S] Proceso %s completo operacion de E/S en t=%d", pid, time));
         }
+        completedIOOperations++;
       }
 
       return completedProcesses;
@@ -95,17 +227,17 @@ public class IOManager {
       ioLock.unlock();
     }
   }
-  
+
   /**
-   * Busca un proceso por su PID
+   * Tiempo de fin de la proxima operacion pendiente, o Integer.MAX_VALUE si no hay
    */
-  private Process findProcess(List<Process> processes, String pid) {
-    for (Process p : processes) {
-      if (p.getPid().equals(pid)) {
-        return p;
-      }
+  public int nextCompletionTime() {
+    ioLock.lock();
+    try {
+      return pendingCompletions.isEmpty() ? Integer.MAX_VALUE : pendingCompletions.peek().getEndTime();
+    } finally {
+      ioLock.unlock();
     }
-    return null;
   }
   
   /**
@@ -134,8 +266,12 @@ public class IOManager {
       
       if (!activeOperations.isEmpty()) {
         sb.append("\nOperaciones en curso:\n");
-        int currentTime = SimulationClock.getTime();
+        int currentTime = clock.snapshot();
         for (IOOperation op : activeOperations.values()) {
+          if (!op.isStarted()) {
+            sb.append(String.format("  %s: en cola de %s\n", op.getProcessId(), op.getDevice().getName()));
+            continue;
+          }
           int remaining = op.getEndTime() - currentTime;
           sb.append(String.format("  %s: finaliza en t=%d (quedan %d unidades)\n",
               op.getProcessId(), op.getEndTime(), remaining));
@@ -160,6 +296,14 @@ public class IOManager {
       sb.append(String.format("Operaciones completadas: %d\n", completedIOOperations));
       sb.append(String.format("Operaciones activas: %d\n", activeOperations.size()));
       
+      if (!devices.isEmpty()) {
+        int elapsed = clock.snapshot();
+        sb.append("Dispositivos:\n");
+        for (IODevice device : devices.values()) {
+          sb.append(device.getMetrics(elapsed));
+        }
+      }
+      
       return sb.toString();
     } finally {
       ioLock.unlock();
@@ -173,9 +317,13 @@ public class IOManager {
     ioLock.lock();
     try {
       activeOperations.clear();
+      pendingCompletions.clear();
+      for (IODevice device : devices.values()) {
+        device.reset();
+      }
       totalIOOperations = 0;
       completedIOOperations = 0;
-      System.out.println("[E/S] IOManager reseteado");
+      SimulationLog.log(LogLevel.INFO, EventCategory.IO, "[E/S] IOManager reseteado");
     } finally {
       ioLock.unlock();
     }
@@ -199,37 +347,4 @@ public class IOManager {
       ioLock.unlock();
     }
   }
-  
-  /**
-   * Clase interna para representar una operacion de E/S
-   */
-  private static class IOOperation {
-    private String processId;
-    private int startTime;
-    private int endTime;
-    private int duration;
-    
-    public IOOperation(String processId, int startTime, int endTime, int duration) {
-      this.processId = processId;
-      this.startTime = startTime;
-      this.endTime = endTime;
-      this.duration = duration;
-    }
-    
-    public String getProcessId() {
-      return processId;
-    }
-    
-    public int getStartTime() {
-      return startTime;
-    }
-    
-    public int getEndTime() {
-      return endTime;
-    }
-    
-    public int getDuration() {
-      return duration;
-    }
-  }
-}
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package io;
+
+import model.Process;
+import java.io.Serializable;
+
+/**
+ * Operacion de E/S de un proceso
+ * Se ordena por tiempo de fin y, a igual fin, por orden de solicitud
+ */
+class IOOperation implements Comparable<IOOperation>, Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final Process process;
+  private final int requestTime;
+  private final int duration;
+  private final long sequence;
+  private final IODevice device;
+  private final int position;
+  private int startTime;
+  private int endTime;
+
+  IOOperation(Process process, int requestTime, int duration, long sequence,
+              IODevice device, int position) {
+    this.process = process;
+    this.requestTime = requestTime;
+    this.duration = duration;
+    this.sequence = sequence;
+    this.device = device;
+    this.position = position;
+    this.startTime = -1;
+    this.endTime = -1;
+  }
+
+  /**
+   * Marca el inicio del servicio
+   */
+  void start(int startTime, int endTime) {
+    this.startTime = startTime;
+    this.endTime = endTime;
+  }
+
+  boolean isStarted() {
+    return startTime >= 0;
+  }
+
+  Process getProcess() {
+    return process;
+  }
+
+  String getProcessId() {
+    return process.getPid();
+  }
+
+  int getRequestTime() {
+    return requestTime;
+  }
+
+  int getStartTime() {
+    return startTime;
+  }
+
+  int getEndTime() {
+    return endTime;
+  }
+
+  int getDuration() {
+    return duration;
+  }
+
+  IODevice getDevice() {
+    return device;
+  }
+
+  int getPosition() {
+    return position;
+  }
+
+  @Override
+  public int compareTo(IOOperation other) {
+    if (endTime != other.endTime) {
+      return Integer.compare(endTime, other.endTime);
+    }
+    return Long.compare(sequence, other.sequence);
+  }
+}
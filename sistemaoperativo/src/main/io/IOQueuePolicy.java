@@ -0,0 +1,10 @@
+package io;
+
+/**
+ * Politica de atencion de la cola de un dispositivo de E/S
+ */
+public enum IOQueuePolicy {
+  FIFO,      // Orden de llegada
+  ELEVATOR,  // SCAN: atiende en el sentido actual del cabezal y luego invierte
+  SSTF       // Shortest Seek Time First: la solicitud mas cercana al cabezal
+}
@@ -0,0 +1,32 @@
+package io;
+
+import java.io.Serializable;
+
+/**
+ * Modelo de tiempo de servicio de un dispositivo de E/S
+ */
+public interface IOServiceModel extends Serializable {
+
+  /**
+   * Calcula el tiempo de servicio de una solicitud
+   * @param transferTime Duracion de la rafaga de E/S (tiempo de transferencia)
+   * @param seekDistance Distancia entre el cabezal y la posicion solicitada
+   * @return Unidades de tiempo que el canal queda ocupado
+   */
+  int serviceTime(int transferTime, int seekDistance);
+
+  /**
+   * Modelo sin costos adicionales: el servicio dura lo mismo que la rafaga
+   */
+  static IOServiceModel transferOnly() {
+    return (transferTime, seekDistance) -> transferTime;
+  }
+
+  /**
+   * Modelo lineal: latencia fija + transferencia + costo de busqueda por pista
+   */
+  static IOServiceModel linear(int latency, double seekTimePerTrack) {
+    return (transferTime, seekDistance) ->
+        latency + transferTime + (int) Math.ceil(seekDistance * seekTimePerTrack);
+  }
+}
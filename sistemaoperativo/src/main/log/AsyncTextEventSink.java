@@ -0,0 +1,195 @@
+package log;
+
+import java.io.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sink de texto con buffer y escritura asíncrona.
+ * El hilo de la simulacion solo encola la línea; un hilo escritor la vuelca
+ * a un BufferedWriter, de modo que el bucle principal no compite por el lock de stdout.
+ * Pensado para un único productor (el hilo de la simulacion).
+ * Si el hilo escritor termina por un error de escritura, el sink se
+ * deshabilita y los eventos siguientes se descartan en vez de bloquear.
+ */
+public class AsyncTextEventSink implements SimulationEventSink {
+  private static final int DEFAULT_CAPACITY = 8192;
+  private static final int WRITER_BUFFER = 1 << 16;
+  private static final long OFFER_WAIT_MILLIS = 100;
+
+  // Marcadores de control (se comparan por referencia)
+  private static final String FLUSH_MARK = new String("<flush>");
+  private static final String CLOSE_MARK = new String("<close>");
+
+  private final LogLevel threshold;
+  private final BlockingQueue<String> queue;
+  private final Writer writer;
+  private final boolean closeWriter; // false para stdout: se vacia pero no se cierra
+  private final Thread writerThread;
+
+  private final Object flushLock = new Object();
+  private long flushRequested;
+  private long flushCompleted;
+  private volatile boolean closed;
+  private volatile boolean writerStopped;
+  private volatile IOException writeError;
+  private long droppedEvents;
+
+  public AsyncTextEventSink(Writer writer, LogLevel threshold, int capacity) {
+    this(writer, threshold, capacity, true);
+  }
+
+  private AsyncTextEventSink(Writer writer, LogLevel threshold, int capacity, boolean closeWriter) {
+    this.threshold = threshold;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, WRITER_BUFFER);
+    this.closeWriter = closeWriter;
+    this.flushRequested = 0;
+    this.flushCompleted = 0;
+    this.closed = false;
+
+    this.writerThread = new Thread(this::drainLoop, "sim-log-writer");
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+  }
+
+  public AsyncTextEventSink(String filePath, LogLevel threshold) throws IOException {
+    this(new BufferedWriter(new FileWriter(filePath), WRITER_BUFFER), threshold, DEFAULT_CAPACITY);
+  }
+
+  //Crea un sink asíncrono sobre la salida estandar; close la vacia sin cerrarla
+  public static AsyncTextEventSink toStdout(LogLevel threshold) {
+    return new AsyncTextEventSink(new OutputStreamWriter(System.out), threshold, DEFAULT_CAPACITY, false);
+  }
+
+  @Override
+  public boolean isEnabled(LogLevel level) {
+    return !closed && !writerStopped && level.isEnabledFor(threshold);
+  }
+
+  @Override
+  public void onEvent(LogLevel level, EventCategory category, int time,
+                      String processId, int value, String message) {
+    if (!isEnabled(level)) {
+      return;
+    }
+    StringBuilder sb = new StringBuilder(message.length() + 24);
+    sb.append("[t=").append(time).append("] ").append(level).append(' ')
+      .append(category).append(' ').append(message);
+    enqueue(sb.toString());
+  }
+
+  @Override
+  public void flush() {
+    if (closed) {
+      return;
+    }
+    long ticket;
+    synchronized (flushLock) {
+      ticket = ++flushRequested;
+    }
+    enqueue(FLUSH_MARK);
+    synchronized (flushLock) {
+      while (flushCompleted < ticket && writerThread.isAlive()) {
+        try {
+          flushLock.wait(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    flush();
+    closed = true;
+    enqueue(CLOSE_MARK);
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Error de escritura ocurrido en el hilo escritor, si lo hubo
+   */
+  public IOException getWriteError() {
+    return writeError;
+  }
+
+  /**
+   * Eventos descartados porque el hilo escritor ya no estaba activo
+   */
+  public long getDroppedEvents() {
+    return droppedEvents;
+  }
+
+  /**
+   * Encola la linea esperando lugar mientras el hilo escritor siga activo;
+   * si termino, la descarta
+   */
+  private void enqueue(String line) {
+    try {
+      while (!queue.offer(line, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (writerStopped) {
+          droppedEvents++;
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Bucle del hilo escritor: vuelca las líneas en lotes
+   */
+  private void drainLoop() {
+    try {
+      while (true) {
+        String line = queue.take();
+        if (line == CLOSE_MARK) {
+          break;
+        }
+        if (line == FLUSH_MARK) {
+          writer.flush();
+          synchronized (flushLock) {
+            flushCompleted++;
+            flushLock.notifyAll();
+          }
+          continue;
+        }
+        writer.write(line);
+        writer.write('\n');
+      }
+      writer.flush();
+      if (closeWriter) {
+        writer.close();
+      }
+    } catch (IOException e) {
+      writeError = e;
+      if (closeWriter) {
+        try {
+          writer.close();
+        } catch (IOException ignored) {
+          // Ya se informa el primer error
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      writerStopped = true;
+      synchronized (flushLock) {
+        flushCompleted = flushRequested;
+        flushLock.notifyAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package log;
+
+import java.io.*;
+
+/**
+ * Sink binario estructurado: cada evento se guarda como registro con campos
+ * tipados en lugar de texto libre, para analizarlo después sin parsear.
+ *
+ * Formato: cabecera "SIMEVT" + versión (short), luego registros
+ *   int time | byte level | byte category | UTF pid ("" si no hay) | int value | [UTF message]
+ * El mensaje solo se escribe si el sink se creó con includeMessages = true.
+ */
+public class BinaryEventSink implements SimulationEventSink {
+  private static final String MAGIC = "SIMEVT";
+  private static final short VERSION = 1;
+
+  private final LogLevel threshold;
+  private final DataOutputStream out;
+  private final boolean includeMessages;
+  private long recordCount;
+  private boolean closed;
+
+  public BinaryEventSink(OutputStream output, LogLevel threshold, boolean includeMessages) throws IOException {
+    this.threshold = threshold;
+    this.out = new DataOutputStream(new BufferedOutputStream(output, 1 << 16));
+    this.includeMessages = includeMessages;
+    this.recordCount = 0;
+    this.closed = false;
+
+    out.writeBytes(MAGIC);
+    out.writeShort(VERSION);
+    out.writeBoolean(includeMessages);
+  }
+
+  public BinaryEventSink(String filePath, LogLevel threshold, boolean includeMessages) throws IOException {
+    this(new FileOutputStream(filePath), threshold, includeMessages);
+  }
+
+  @Override
+  public boolean isEnabled(LogLevel level) {
+    return !closed && level.isEnabledFor(threshold);
+  }
+
+  @Override
+  public synchronized void onEvent(LogLevel level, EventCategory category, int time,
+                                   String processId, int value, String message) {
+    if (!isEnabled(level)) {
+      return;
+    }
+    try {
+      out.writeInt(time);
+      out.writeByte(level.ordinal());
+      out.writeByte(category.ordinal());
+      out.writeUTF(processId != null ? processId : "");
+      out.writeInt(value);
+      if (includeMessages) {
+        out.writeUTF(message != null ? message : "");
+      }
+      recordCount++;
+    } catch (IOException e) {
+      System.err.println("[LOG] Error escribiendo evento binario: " + e.getMessage());
+    }
+  }
+
+  @Override
+  public synchronized void flush() {
+    try {
+      out.flush();
+    } catch (IOException e) {
+      System.err.println("[LOG] Error vaciando sink binario: " + e.getMessage());
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      out.close();
+    } catch (IOException e) {
+      System.err.println("[LOG] Error cerrando sink binario: " + e.getMessage());
+    }
+  }
+
+  public synchronized long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Convierte un archivo de eventos binarios a texto legible
+   * @param filePath Archivo generado por este sink
+   * @param output Destino del texto
+   * @return Número de registros leídos
+   * @throws IOException Si el archivo no tiene el formato esperado
+   */
+  public static long dump(String filePath, PrintStream output) throws IOException {
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(filePath), 1 << 16))) {
+      byte[] magic = new byte[MAGIC.length()];
+      in.readFully(magic);
+      if (!MAGIC.equals(new String(magic, "US-ASCII"))) {
+        throw new IOException("No es un archivo de eventos de simulacion: " + filePath);
+      }
+      short version = in.readShort();
+      if (version != VERSION) {
+        throw new IOException("Version de formato no soportada: " + version);
+      }
+      boolean withMessages = in.readBoolean();
+
+      LogLevel[] levels = LogLevel.values();
+      EventCategory[] categories = EventCategory.values();
+      long count = 0;
+      while (true) {
+        int time;
+        try {
+          time = in.readInt();
+        } catch (EOFException eof) {
+          break;
+        }
+        LogLevel level = levels[in.readByte()];
+        EventCategory category = categories[in.readByte()];
+        String pid = in.readUTF();
+        int value = in.readInt();
+        String message = withMessages ? in.readUTF() : "";
+        output.println(String.format("[t=%d] %s %s pid=%s value=%d %s",
+            time, level, category, pid.isEmpty() ? "-" : pid, value, message));
+        count++;
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package log;
+
+/**
+ * Sink que escribe los mensajes en la consola, igual que los println originales.
+ * Los errores van a System.err y el resto a System.out
+ */
+public class ConsoleEventSink implements SimulationEventSink {
+  private final LogLevel threshold;
+
+  public ConsoleEventSink(LogLevel threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public boolean isEnabled(LogLevel level) {
+    return level.isEnabledFor(threshold);
+  }
+
+  @Override
+  public void onEvent(LogLevel level, EventCategory category, int time,
+                      String processId, int value, String message) {
+    if (!isEnabled(level)) {
+      return;
+    }
+    if (level == LogLevel.ERROR) {
+      System.err.println(message);
+    } else {
+      System.out.println(message);
+    }
+  }
+
+  @Override
+  public void flush() {
+    System.out.flush();
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  public LogLevel getThreshold() {
+    return threshold;
+  }
+}
@@ -0,0 +1,8 @@
+package log;
+
+/**
+ * Modulo del simulador que origina un evento de registro
+ */
+public enum EventCategory {
+  SIMULATION, CPU, SCHEDULER, MEMORY, IO, SYNC
+}
@@ -0,0 +1,18 @@
+package log;
+
+/**
+ * Niveles de detalle del registro de eventos de la simulacion
+ * OFF desactiva todo; cada nivel incluye a los anteriores
+ */
+public enum LogLevel {
+  OFF, ERROR, WARN, INFO, DEBUG, TRACE;
+
+  /**
+   * Verifica si un mensaje de este nivel pasa el umbral indicado
+   * @param threshold Nivel maximo configurado en el sink
+   * @return true si el mensaje debe registrarse
+   */
+  public boolean isEnabledFor(LogLevel threshold) {
+    return this != OFF && ordinal() <= threshold.ordinal();
+  }
+}
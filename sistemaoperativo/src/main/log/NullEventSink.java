@@ -0,0 +1,26 @@
+package log;
+
+/**
+ * Sink que descarta todos los eventos (nivel OFF)
+ */
+public class NullEventSink implements SimulationEventSink {
+
+  @Override
+  public boolean isEnabled(LogLevel level) {
+    return false;
+  }
+
+  @Override
+  public void onEvent(LogLevel level, EventCategory category, int time,
+                      String processId, int value, String message) {
+    // Sin registro
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void close() {
+  }
+}
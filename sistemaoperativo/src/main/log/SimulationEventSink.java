@@ -0,0 +1,34 @@
+package log;
+
+/**
+ * Destino de los eventos de registro de la simulacion.
+ * Las llamadas en caminos calientes deben consultar {@link #isEnabled(LogLevel)}
+ * antes de construir el mensaje, para no asignar nada cuando el nivel esta apagado.
+ */
+public interface SimulationEventSink {
+
+  /**
+   * Verifica si el sink registra mensajes de este nivel
+   * @param level Nivel del mensaje
+   * @return true si el mensaje sera registrado
+   */
+  boolean isEnabled(LogLevel level);
+
+  /**
+   * Registra un evento
+   * @param level Nivel del evento
+   * @param category Modulo que lo origina
+   * @param time Tiempo de simulacion
+   * @param processId PID asociado (puede ser null)
+   * @param value Valor numerico asociado (duracion, marco, tamaño de cola...), -1 si no aplica
+   * @param message Texto legible del evento
+   */
+  void onEvent(LogLevel level, EventCategory category, int time,
+               String processId, int value, String message);
+
+  //Vacía los buffers pendientes
+  void flush();
+
+  //Libera los recursos del sink (vacía antes de cerrar)
+  void close();
+}
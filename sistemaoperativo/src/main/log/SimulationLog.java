@@ -0,0 +1,73 @@
+package log;
+
+import scheduler.SimulationClock;
+
+/**
+ * Punto de acceso global al registro de eventos de la simulacion.
+ * Por defecto escribe en consola con todo el detalle, como los println originales.
+ * Para corridas grandes se puede apagar (NullEventSink) o redirigir a un sink
+ * asíncrono o binario.
+ *
+ * Uso en caminos calientes:
+ *   if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+ *     SimulationLog.log(LogLevel.DEBUG, EventCategory.CPU, pid, valor, "mensaje " + ...);
+ *   }
+ */
+public class SimulationLog {
+  private static volatile SimulationEventSink sink = new ConsoleEventSink(LogLevel.TRACE);
+  private static volatile SimulationClock clock = SimulationClock.shared();
+
+  public static SimulationEventSink getSink() {
+    return sink;
+  }
+
+  /**
+   * Cambia el sink activo. El sink anterior se vacía pero no se cierra.
+   * @param newSink Nuevo destino (null equivale a apagar el registro)
+   */
+  public static void setSink(SimulationEventSink newSink) {
+    SimulationEventSink previous = sink;
+    sink = newSink != null ? newSink : new NullEventSink();
+    previous.flush();
+  }
+
+  /**
+   * Reloj con el que se marcan los eventos; cada simulacion asigna el suyo al
+   * empezar. Con varias simulaciones a la vez el registro es compartido y
+   * conviene apagarlo.
+   */
+  public static void setClock(SimulationClock newClock) {
+    clock = newClock != null ? newClock : SimulationClock.shared();
+  }
+
+  //Apaga el registro de eventos
+  public static void disable() {
+    setSink(new NullEventSink());
+  }
+
+  public static boolean isEnabled(LogLevel level) {
+    return sink.isEnabled(level);
+  }
+
+  /**
+   * Registra un evento sin PID asociado
+   */
+  public static void log(LogLevel level, EventCategory category, String message) {
+    log(level, category, null, -1, message);
+  }
+
+  /**
+   * Registra un evento estructurado usando el tiempo actual del reloj
+   */
+  public static void log(LogLevel level, EventCategory category, String processId,
+                         int value, String message) {
+    SimulationEventSink current = sink;
+    if (current.isEnabled(level)) {
+      current.onEvent(level, category, clock.snapshot(), processId, value, message);
+    }
+  }
+
+  public static void flush() {
+    sink.flush();
+  }
+}
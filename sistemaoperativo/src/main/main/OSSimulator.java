@@ -6,10 +6,17 @@ import model.Burst;
 import scheduler.*;
 import memory.*;
 import io.IOManager;
+import io.IODevice;
 import simulation.SimulationController;
+import simulation.ParameterSweep;
+import sync.ConcurrencyMode;
 import config.ProcessConfigParser;
+import log.SimulationEventSink;
+import log.SimulationLog;
 import java.util.*;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Paths;
 
 /**
  * Clase principal del simulador de sistema operativo
@@ -46,6 +53,8 @@ public class OSSimulator {
     // Crear y ejecutar simulacion
     SimulationController controller = new SimulationController(
         scheduler, memoryManager, ioManager, 3, 100);
+    // Sin interfaz grafica nadie lee el estado desde otro hilo: sin locks
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
     
     controller.addProcesses(processes);
     controller.runSimulation();
@@ -61,7 +70,7 @@ public class OSSimulator {
     
     // Probar diferentes combinaciones
     String[] schedulerNames = {"FCFS", "SJF", "Round Robin"};
-    String[] memoryAlgorithms = {"FIFO", "LRU", "Optimal"};
+    String[] memoryAlgorithms = PageReplacementFactory.ALGORITHMS;
     
     for (String schedName : schedulerNames) {
       for (String memAlg : memoryAlgorithms) {
@@ -85,6 +94,7 @@ public class OSSimulator {
         // Ejecutar simulacion
         SimulationController controller = new SimulationController(
             scheduler, memoryManager, ioManager, 3, 100);
+        controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
         
         controller.addProcesses(processes);
         controller.runSimulation();
@@ -147,21 +157,7 @@ public class OSSimulator {
     List<Process> clones = new ArrayList<>();
     
     for (Process p : original) {
-      // Crear nueva lista de bursts
-      List<Burst> newBursts = new ArrayList<>();
-      for (Burst b : p.getBursts()) {
-        newBursts.add(new Burst(b.getType(), b.getDuration()));
-      }
-      
-      Process clone = new Process(
-          p.getPid(),
-          p.getArrivalTime(),
-          newBursts,
-          p.getPriority(),
-          p.getRequiredPages()
-      );
-      
-      clones.add(clone);
+      clones.add(p.copy());
     }
     
     return clones;
@@ -187,16 +183,7 @@ public class OSSimulator {
    * Crea un algoritmo de reemplazo de paginas según el nombre
    */
   private static PageReplacementAlgorithm createPageAlgorithm(String name) {
-    switch (name) {
-      case "FIFO":
-        return new FIFOPageReplacement();
-      case "LRU":
-        return new LRUPageReplacement();
-      case "Optimal":
-        return new OptimalPageReplacement();
-      default:
-        throw new IllegalArgumentException("Algoritmo de memoria desconocido: " + name);
-    }
+    return PageReplacementFactory.createAlgorithm(name);
   }
   
   /**
@@ -219,10 +206,14 @@ public class OSSimulator {
       PageReplacementAlgorithm pageAlgorithm = new LRUPageReplacement();
       MemoryManager memoryManager = new MemoryManager(10, pageAlgorithm);
       IOManager ioManager = new IOManager();
+      for (IODevice device : ProcessConfigParser.parseDevicesFromFile(configFile)) {
+        ioManager.registerDevice(device);
+      }
       
       // Crear y ejecutar simulacion
       SimulationController controller = new SimulationController(
           scheduler, memoryManager, ioManager, 3, 150);
+      controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
       
       controller.addProcesses(processes);
       controller.runSimulation();
@@ -232,6 +223,93 @@ public class OSSimulator {
     }
   }
   
+  /**
+   * Ejecuta el mismo archivo sin y con control de carga, con fallos de pagina que
+   * cuestan tiempo, y compara tasa de fallos y utilizacion de CPU
+   */
+  public static void runLoadControlComparison(String configFile, int frames) {
+    System.out.println(String.format("\n=== CONTROL DE CARGA: %s (%d marcos) ===\n", configFile, frames));
+    String[] labels = {"Sin control", "Con control"};
+    double[] faultRates = new double[2];
+    double[] utilizations = new double[2];
+    
+    try {
+      for (int run = 0; run < 2; run++) {
+        List<Process> processes = ProcessConfigParser.parseFromFile(configFile);
+        MemoryManager memoryManager = new MemoryManager(frames, new LRUPageReplacement());
+        memoryManager.setPageFaultServiceTime(4);
+        SimulationController controller = new SimulationController(
+            new RoundRobinScheduler(3), memoryManager, new IOManager(), 3, 1000);
+        controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+        if (run == 1) {
+          controller.setLoadController(new LoadController(memoryManager, 4));
+        }
+        controller.addProcesses(processes);
+        controller.runSimulation();
+        faultRates[run] = memoryManager.getFaultRate();
+        utilizations[run] = controller.getCPUUtilization();
+      }
+    } catch (IOException e) {
+      System.err.println("Error leyendo archivo: " + e.getMessage());
+      return;
+    }
+    
+    System.out.println("\n=== COMPARACION ANTES / DESPUES ===");
+    for (int run = 0; run < 2; run++) {
+      System.out.println(String.format("%-12s Tasa de fallos: %.3f  Utilizacion de CPU: %.1f%%",
+          labels[run], faultRates[run], utilizations[run] * 100));
+    }
+  }
+  
+  /**
+   * Reproduce una traza binaria de referencias con cada algoritmo de reemplazo
+   * y compara fallos de pagina
+   */
+  public static void runTraceReplay(String traceFile, int frames) {
+    System.out.println(String.format("\n=== REPRODUCCION DE TRAZA: %s (%d marcos) ===\n", traceFile, frames));
+    SimulationEventSink sink = SimulationLog.getSink();
+    try (PageTraceReader reader = new PageTraceReader(Paths.get(traceFile))) {
+      System.out.println(String.format("%d referencias de %d procesos",
+          reader.getRecordCount(), reader.getProcessCount()));
+      SimulationLog.disable();
+      for (String name : PageReplacementFactory.ALGORITHMS) {
+        MemoryManager memoryManager = new MemoryManager(frames, PageReplacementFactory.createAlgorithm(name));
+        memoryManager.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+        long start = System.nanoTime();
+        reader.replay(memoryManager);
+        long millis = (System.nanoTime() - start) / 1000000;
+        System.out.println(String.format("%-14s Fallos: %d  Tasa de fallos: %.3f  (%d ms)",
+            name, memoryManager.getPageFaults(), memoryManager.getFaultRate(), millis));
+      }
+    } catch (IOException e) {
+      System.err.println("Error leyendo traza: " + e.getMessage());
+    } finally {
+      SimulationLog.setSink(sink);
+    }
+  }
+
+  /**
+   * Barrido en paralelo de planificador x quantum x marcos x reemplazo sobre
+   * un archivo de procesos; escribe la tabla de resultados en CSV
+   */
+  public static void runParameterSweep(String configFile, String outputFile) {
+    System.out.println(String.format("\n=== BARRIDO DE PARAMETROS: %s ===\n", configFile));
+    try {
+      ParameterSweep sweep = ParameterSweep.fromFile(configFile);
+      sweep.setQuanta(new int[]{2, 3, 4, 6});
+      sweep.setFrames(new int[]{4, 8, 12, 16});
+      long start = System.nanoTime();
+      List<ParameterSweep.Result> results = sweep.run();
+      long millis = (System.nanoTime() - start) / 1000000;
+      try (PrintWriter out = new PrintWriter(outputFile)) {
+        out.print(ParameterSweep.toCSV(results));
+      }
+      System.out.println(String.format("%d combinaciones en %d ms -> %s", results.size(), millis, outputFile));
+    } catch (IOException e) {
+      System.err.println("Error en el barrido: " + e.getMessage());
+    }
+  }
+
   /**
    * Crea un archivo de ejemplo de configuracion
    */
@@ -255,6 +333,7 @@ public class OSSimulator {
     System.out.println("  --file <archivo>     Ejecutar simulacion desde archivo");
     System.out.println("  --create <archivo>   Crear archivo de ejemplo");
     System.out.println("  --compare            Ejecutar simulaciones comparativas");
+    System.out.println("  --sweep <archivo> <salida.csv>  Barrido de parametros en paralelo");
     System.out.println("  --help               Mostrar esta ayuda");
     System.out.println("\nEJEMPLOS:");
     System.out.println("  java main.OSSimulator");
@@ -0,0 +1,199 @@
+package memory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo de reemplazo ARC (Adaptive Replacement Cache)
+ * - T1: paginas residentes vistas una sola vez (recencia).
+ * - T2: paginas residentes vistas al menos dos veces (frecuencia).
+ * - B1/B2: listas fantasma con paginas expulsadas recientemente de T1/T2.
+ * Un fallo sobre una pagina de B1 agranda el objetivo p de T1; uno sobre B2 lo
+ * achica. Asi un recorrido secuencial largo solo pasa por T1 sin expulsar el
+ * conjunto caliente de T2. Todas las operaciones son O(1).
+ *
+ * MemoryManager elige la victima antes de avisar que pagina entra, por lo que
+ * el ajuste de p se aplica al cargar y la regla de empate "x en B2" de ARC no
+ * se usa al reemplazar.
+ */
+public class ARCPageReplacement implements PageReplacementAlgorithm, HitRatioReporter {
+  private static final long serialVersionUID = 1L;
+
+  private static final int NONE = -1;
+
+  private final PageEntryIndex index;
+  private final PageEntryList t1;
+  private final PageEntryList t2;
+  private final PageEntryList b1;
+  private final PageEntryList b2;
+  private final HitRatioTracker tracker;
+  private int[] loadedAt;      // El acceso en el mismo instante de la carga es parte del fallo
+  private int capacity;        // Marcos totales, conocido al primer reemplazo
+  private int target;          // p: tamaño objetivo de T1
+  private int pendingVictim;
+
+  public ARCPageReplacement() {
+    this.index = new PageEntryIndex();
+    this.t1 = new PageEntryList(0);
+    this.t2 = new PageEntryList(0);
+    this.b1 = new PageEntryList(0);
+    this.b2 = new PageEntryList(0);
+    this.tracker = new HitRatioTracker();
+    this.loadedAt = new int[0];
+    this.capacity = 0;
+    this.target = 0;
+    this.pendingVictim = NONE;
+  }
+
+  @Override
+  public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+    capacity = frames.size();
+    PageEntry victim;
+    if (!t1.isEmpty() && (t1.size() > target || t2.isEmpty())) {
+      victim = t1.lru();
+    } else {
+      victim = t2.lru();
+    }
+    if (victim == null) {
+      // Marcos cargados antes de instalar el algoritmo
+      for (int i = 0; i < frames.size(); i++) {
+        if (frames.get(i).isOccupied()) {
+          return i;
+        }
+      }
+      return NONE;
+    }
+    pendingVictim = victim.frame;
+    return victim.frame;
+  }
+
+  @Override
+  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+    PageEntry entry = index.atFrame(frameIndex);
+    if (entry == null) {
+      return;
+    }
+    if (frameIndex < loadedAt.length && loadedAt[frameIndex] == currentTime) {
+      loadedAt[frameIndex] = NONE;
+      return;
+    }
+    tracker.recordHit(currentTime);
+    // Acierto: pasa (o vuelve) a la cabeza de T2
+    t1.remove(entry);
+    t2.addMru(entry);
+  }
+
+  @Override
+  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+    tracker.recordMiss(currentTime);
+    PageEntry entry = index.getOrCreate(processId, pageId);
+    if (b1.contains(entry)) {
+      // Fallo en B1: T1 fue demasiado chica
+      target = Math.min(capacityOrFrames(), target + Math.max(1, b2.size() / b1.size()));
+      b1.remove(entry);
+      t2.addMru(entry);
+    } else if (b2.contains(entry)) {
+      // Fallo en B2: T2 fue demasiado chica
+      target = Math.max(0, target - Math.max(1, b1.size() / b2.size()));
+      b2.remove(entry);
+      t2.addMru(entry);
+    } else {
+      t1.addMru(entry);
+      trimGhosts();
+    }
+    index.bindFrame(entry, frameIndex);
+    markLoaded(frameIndex, currentTime);
+  }
+
+  @Override
+  public void notifyPageUnloaded(int frameIndex) {
+    PageEntry entry = index.atFrame(frameIndex);
+    if (entry == null) {
+      return;
+    }
+    boolean evicted = frameIndex == pendingVictim;
+    pendingVictim = NONE;
+    index.unbindFrame(entry);
+    if (frameIndex < loadedAt.length) {
+      loadedAt[frameIndex] = NONE;
+    }
+    if (evicted && t1.contains(entry)) {
+      t1.remove(entry);
+      b1.addMru(entry);
+      trimGhosts();
+    } else if (evicted && t2.contains(entry)) {
+      t2.remove(entry);
+      b2.addMru(entry);
+      trimGhosts();
+    } else {
+      // Liberado por fin de proceso: no se guarda historial
+      t1.remove(entry);
+      t2.remove(entry);
+      index.remove(entry);
+    }
+  }
+
+  /**
+   * Mantiene |T1|+|B1| <= c y el total de entradas <= 2c
+   */
+  private void trimGhosts() {
+    if (capacity <= 0) {
+      return;
+    }
+    while (t1.size() + b1.size() > capacity && !b1.isEmpty()) {
+      dropGhost(b1);
+    }
+    while (t1.size() + t2.size() + b1.size() + b2.size() > 2 * capacity && !b2.isEmpty()) {
+      dropGhost(b2);
+    }
+  }
+
+  private void dropGhost(PageEntryList ghosts) {
+    PageEntry oldest = ghosts.lru();
+    ghosts.remove(oldest);
+    index.remove(oldest);
+  }
+
+  private int capacityOrFrames() {
+    return capacity > 0 ? capacity : t1.size() + t2.size();
+  }
+
+  private void markLoaded(int frameIndex, int currentTime) {
+    if (frameIndex >= loadedAt.length) {
+      int oldSize = loadedAt.length;
+      loadedAt = Arrays.copyOf(loadedAt, Math.max(frameIndex + 1, oldSize * 2));
+      Arrays.fill(loadedAt, oldSize, loadedAt.length, NONE);
+    }
+    loadedAt[frameIndex] = currentTime;
+  }
+
+  /**
+   * @return Tamaño objetivo actual de T1 (p)
+   */
+  public int getTarget() {
+    return target;
+  }
+
+  @Override
+  public HitRatioTracker getHitRatioTracker() {
+    return tracker;
+  }
+
+  @Override
+  public void reset() {
+    t1.clear();
+    t2.clear();
+    b1.clear();
+    b2.clear();
+    index.clear();
+    tracker.reset();
+    Arrays.fill(loadedAt, NONE);
+    target = 0;
+    pendingVictim = NONE;
+  }
+
+  @Override
+  public String getName() {
+    return "ARC (Adaptive Replacement Cache)";
+  }
+}
@@ -0,0 +1,68 @@
+package memory;
+
+import java.util.List;
+
+/**
+ * Algoritmo de reemplazo CLOCK (segunda oportunidad)
+ * Los marcos forman un anillo recorrido por una manecilla. Si el marco apuntado
+ * tiene el bit de referencia activo se le limpia y se avanza; el primero sin
+ * referencia es la victima. Cada bit limpiado se pago con un acceso previo, asi
+ * que la seleccion es O(1) amortizado.
+ */
+public class ClockPageReplacement implements PageReplacementAlgorithm {
+  private static final long serialVersionUID = 1L;
+
+  private int hand;
+
+  public ClockPageReplacement() {
+    this.hand = 0;
+  }
+
+  @Override
+  public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+    int size = frames.size();
+    if (size == 0) {
+      return -1;
+    }
+    // Como maximo dos vueltas: la primera limpia todos los bits
+    for (int step = 0; step < 2 * size; step++) {
+      int index = hand % size;
+      PageFrame frame = frames.get(index);
+      hand = (index + 1) % size;
+      if (!frame.isOccupied()) {
+        return index;
+      }
+      if (frame.isReferenced()) {
+        frame.clearReferenced();
+      } else {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+    // El bit de referencia lo activa MemoryManager sobre el marco
+  }
+
+  @Override
+  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+    // La pagina nueva queda detras de la manecilla
+  }
+
+  @Override
+  public void notifyPageUnloaded(int frameIndex) {
+    // Sin estado por marco
+  }
+
+  @Override
+  public void reset() {
+    hand = 0;
+  }
+
+  @Override
+  public String getName() {
+    return "CLOCK (Segunda Oportunidad)";
+  }
+}
@@ -0,0 +1,76 @@
+package memory;
+
+import java.util.List;
+
+/**
+ * Algoritmo de segunda oportunidad mejorado (bits de referencia y modificado)
+ * Clasifica los marcos por (R, M) y busca en orden (0,0), (0,1), (1,0), (1,1):
+ * - Vuelta 1: busca (0,0) sin tocar bits.
+ * - Vuelta 2: busca (0,1) limpiando R de los marcos que pasa.
+ * - Se repiten ambas vueltas con los bits ya limpiados.
+ * Se prefieren paginas limpias porque no requieren escritura a disco.
+ */
+public class EnhancedSecondChancePageReplacement implements PageReplacementAlgorithm {
+  private static final long serialVersionUID = 1L;
+
+  private int hand;
+
+  public EnhancedSecondChancePageReplacement() {
+    this.hand = 0;
+  }
+
+  @Override
+  public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+    int size = frames.size();
+    if (size == 0) {
+      return -1;
+    }
+    for (int round = 0; round < 2; round++) {
+      // Vuelta de busqueda de (0,0)
+      for (int step = 0; step < size; step++) {
+        int index = (hand + step) % size;
+        PageFrame frame = frames.get(index);
+        if (!frame.isOccupied() || (!frame.isReferenced() && !frame.isDirty())) {
+          hand = (index + 1) % size;
+          return index;
+        }
+      }
+      // Vuelta de busqueda de (0,1), dando segunda oportunidad a los referenciados
+      for (int step = 0; step < size; step++) {
+        int index = (hand + step) % size;
+        PageFrame frame = frames.get(index);
+        if (!frame.isReferenced() && frame.isDirty()) {
+          hand = (index + 1) % size;
+          return index;
+        }
+        frame.clearReferenced();
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+    // Los bits R y M los activa MemoryManager sobre el marco
+  }
+
+  @Override
+  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+    // Sin estado por marco
+  }
+
+  @Override
+  public void notifyPageUnloaded(int frameIndex) {
+    // Sin estado por marco
+  }
+
+  @Override
+  public void reset() {
+    hand = 0;
+  }
+
+  @Override
+  public String getName() {
+    return "Segunda Oportunidad Mejorado (R,M)";
+  }
+}
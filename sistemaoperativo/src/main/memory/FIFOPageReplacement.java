@@ -10,6 +10,8 @@ import java.util.Queue;
  * Reemplaza la pagina que ha estado mas tiempo en memoria
  */
 public class FIFOPageReplacement implements PageReplacementAlgorithm {
+  private static final long serialVersionUID = 1L;
+
   private Queue<Integer> loadOrder;
   
   public FIFOPageReplacement() {
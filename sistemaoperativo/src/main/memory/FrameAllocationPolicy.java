@@ -0,0 +1,10 @@
+package memory;
+
+/**
+ * Politicas de asignacion de marcos entre procesos
+ */
+public enum FrameAllocationPolicy {
+  GLOBAL,               // Un solo conjunto de marcos con reemplazo global (por defecto)
+  WORKING_SET,          // Cada proceso conserva solo las paginas de su ventana de trabajo
+  PAGE_FAULT_FREQUENCY  // El conjunto residente crece o se reduce segun la frecuencia de fallos
+}
@@ -0,0 +1,96 @@
+package memory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo de reemplazo GCLOCK (CLOCK generalizado)
+ * Cada marco lleva un contador de referencias en lugar de un solo bit: cada
+ * acceso lo incrementa (hasta un maximo) y la manecilla lo decrementa al pasar.
+ * La victima es el primer marco con contador en cero. Cada decremento se pago
+ * con un acceso previo, asi que la seleccion es O(1) amortizado.
+ */
+public class GClockPageReplacement implements PageReplacementAlgorithm {
+  private static final long serialVersionUID = 1L;
+
+  private static final int DEFAULT_MAX_COUNT = 3;
+
+  private final int maxCount;
+  private int[] counters;
+  private int hand;
+
+  public GClockPageReplacement() {
+    this(DEFAULT_MAX_COUNT);
+  }
+
+  /**
+   * @param maxCount Valor maximo del contador de cada marco
+   */
+  public GClockPageReplacement(int maxCount) {
+    if (maxCount <= 0) {
+      throw new IllegalArgumentException("El contador maximo debe ser mayor a 0");
+    }
+    this.maxCount = maxCount;
+    this.counters = new int[0];
+    this.hand = 0;
+  }
+
+  @Override
+  public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+    int size = frames.size();
+    if (size == 0) {
+      return -1;
+    }
+    ensureCapacity(size - 1);
+    // Tras maxCount vueltas todos los contadores llegan a cero
+    for (int step = 0; step < (maxCount + 1) * size; step++) {
+      int index = hand % size;
+      PageFrame frame = frames.get(index);
+      hand = (index + 1) % size;
+      if (!frame.isOccupied()) {
+        return index;
+      }
+      if (counters[index] == 0) {
+        return index;
+      }
+      counters[index]--;
+    }
+    return -1;
+  }
+
+  @Override
+  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+    ensureCapacity(frameIndex);
+    counters[frameIndex] = Math.min(maxCount, counters[frameIndex] + 1);
+  }
+
+  @Override
+  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+    ensureCapacity(frameIndex);
+    counters[frameIndex] = 0;
+  }
+
+  @Override
+  public void notifyPageUnloaded(int frameIndex) {
+    if (frameIndex >= 0 && frameIndex < counters.length) {
+      counters[frameIndex] = 0;
+    }
+  }
+
+  private void ensureCapacity(int frameIndex) {
+    if (frameIndex >= counters.length) {
+      counters = Arrays.copyOf(counters, Math.max(frameIndex + 1, counters.length * 2));
+    }
+  }
+
+  @Override
+  public void reset() {
+    Arrays.fill(counters, 0);
+    hand = 0;
+  }
+
+  @Override
+  public String getName() {
+    return "GCLOCK (CLOCK Generalizado)";
+  }
+}
@@ -0,0 +1,12 @@
+package memory;
+
+/**
+ * Algoritmo de reemplazo que registra su tasa de aciertos a lo largo del tiempo
+ */
+public interface HitRatioReporter {
+
+  /**
+   * @return Registro de aciertos y fallos por ventana de tiempo
+   */
+  HitRatioTracker getHitRatioTracker();
+}
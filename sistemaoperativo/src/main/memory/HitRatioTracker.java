@@ -0,0 +1,158 @@
+package memory;
+
+import java.util.Arrays;
+import java.io.Serializable;
+
+/**
+ * Registro de aciertos y fallos de pagina agrupados en ventanas de tiempo fijas.
+ * Permite ver como evoluciona la tasa de aciertos durante la simulacion.
+ * Las ventanas se cuentan desde el primer acceso registrado y solo se guardan
+ * las ultimas MAX_WINDOWS en un anillo, asi que tiempos grandes o dispersos
+ * (trazas con marcas de tiempo reales) no agrandan el registro.
+ */
+public class HitRatioTracker implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final int DEFAULT_WINDOW = 10;
+  private static final int MAX_WINDOWS = 1024;
+
+  private final int windowSize;
+  private final int[] windowHits;     // Anillo indexado por ventana % MAX_WINDOWS
+  private final int[] windowAccesses;
+  private long origin;       // Inicio de la ventana del primer acceso
+  private long firstWindow;  // Ventana mas antigua guardada, relativa al origen
+  private long lastWindow;   // Ventana mas reciente, -1 si no hubo accesos
+  private int hits;
+  private int misses;
+
+  public HitRatioTracker() {
+    this(DEFAULT_WINDOW);
+  }
+
+  /**
+   * @param windowSize Unidades de tiempo por ventana
+   */
+  public HitRatioTracker(int windowSize) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("El tamaño de ventana debe ser mayor a 0");
+    }
+    this.windowSize = windowSize;
+    this.windowHits = new int[MAX_WINDOWS];
+    this.windowAccesses = new int[MAX_WINDOWS];
+    this.lastWindow = -1;
+  }
+
+  public void recordHit(int time) {
+    int slot = slot(time);
+    hits++;
+    if (slot >= 0) {
+      windowHits[slot]++;
+      windowAccesses[slot]++;
+    }
+  }
+
+  public void recordMiss(int time) {
+    int slot = slot(time);
+    misses++;
+    if (slot >= 0) {
+      windowAccesses[slot]++;
+    }
+  }
+
+  /**
+   * Posicion en el anillo de la ventana del tiempo dado; abre ventanas nuevas
+   * descartando las mas antiguas. -1 si la ventana ya se descarto.
+   */
+  private int slot(int time) {
+    if (lastWindow < 0) {
+      origin = Math.floorDiv((long) time, windowSize) * windowSize;
+      firstWindow = 0;
+      lastWindow = 0;
+      return 0;
+    }
+    long window = Math.max(0, ((long) time - origin) / windowSize);
+    if (window > lastWindow) {
+      long from = Math.max(lastWindow + 1, window - MAX_WINDOWS + 1);
+      for (long w = from; w <= window; w++) {
+        int slot = (int) (w % MAX_WINDOWS);
+        windowHits[slot] = 0;
+        windowAccesses[slot] = 0;
+      }
+      lastWindow = window;
+      firstWindow = Math.max(firstWindow, window - MAX_WINDOWS + 1);
+    } else if (window < firstWindow) {
+      return -1;
+    }
+    return (int) (window % MAX_WINDOWS);
+  }
+
+  public int getHits() {
+    return hits;
+  }
+
+  public int getMisses() {
+    return misses;
+  }
+
+  /**
+   * @return Tasa de aciertos acumulada (0 a 1), 0 si no hubo accesos
+   */
+  public double getHitRatio() {
+    int total = hits + misses;
+    return total == 0 ? 0.0 : hits / (double) total;
+  }
+
+  public int getWindowSize() {
+    return windowSize;
+  }
+
+  /**
+   * @return Ventanas guardadas, de la mas antigua (0) a la mas reciente
+   */
+  public int getWindowCount() {
+    return lastWindow < 0 ? 0 : (int) (lastWindow - firstWindow + 1);
+  }
+
+  /**
+   * @param window Ventana guardada, 0 es la mas antigua
+   * @return Tasa de aciertos de la ventana, o -1 si no tuvo accesos
+   */
+  public double getWindowHitRatio(int window) {
+    if (window < 0 || window >= getWindowCount()) {
+      return -1;
+    }
+    int slot = (int) ((firstWindow + window) % MAX_WINDOWS);
+    if (windowAccesses[slot] == 0) {
+      return -1;
+    }
+    return windowHits[slot] / (double) windowAccesses[slot];
+  }
+
+  /**
+   * Linea de tiempo con la tasa de aciertos de cada ventana con accesos
+   */
+  public String formatTimeline() {
+    StringBuilder sb = new StringBuilder();
+    int count = getWindowCount();
+    for (int i = 0; i < count; i++) {
+      double ratio = getWindowHitRatio(i);
+      if (ratio >= 0) {
+        long start = origin + (firstWindow + i) * windowSize;
+        sb.append(String.format("  t=%d-%d: %.1f%% (%d accesos)\n",
+            start, start + windowSize - 1, ratio * 100,
+            windowAccesses[(int) ((firstWindow + i) % MAX_WINDOWS)]));
+      }
+    }
+    return sb.toString();
+  }
+
+  public void reset() {
+    Arrays.fill(windowHits, 0);
+    Arrays.fill(windowAccesses, 0);
+    origin = 0;
+    firstWindow = 0;
+    lastWindow = -1;
+    hits = 0;
+    misses = 0;
+  }
+}
@@ -0,0 +1,112 @@
+package memory;
+
+import java.io.Serializable;
+
+/**
+ * Tabla de paginas invertida: (proceso, pagina) -> marco.
+ * Hash de direccionamiento abierto con sondeo lineal sobre arreglos paralelos.
+ * Como nunca hay mas entradas que marcos, la capacidad se fija al crearla
+ * (al menos el doble de marcos) y no se redimensiona ni asigna memoria al operar.
+ */
+public class InvertedPageTable implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final int EMPTY = -1;
+
+  private final String[] processIds;
+  private final int[] pageIds;
+  private final int[] frameIndexes;
+  private final int mask;
+  private int size;
+
+  public InvertedPageTable(int totalFrames) {
+    int capacity = Integer.highestOneBit(Math.max(2, totalFrames) * 2 - 1) << 1;
+    this.processIds = new String[capacity];
+    this.pageIds = new int[capacity];
+    this.frameIndexes = new int[capacity];
+    this.mask = capacity - 1;
+    clear();
+  }
+
+  /**
+   * @return Marco que contiene la pagina, o -1 si no esta cargada
+   */
+  public int get(String processId, int pageId) {
+    int slot = slot(processId, pageId);
+    while (frameIndexes[slot] != EMPTY) {
+      if (pageIds[slot] == pageId && processIds[slot].equals(processId)) {
+        return frameIndexes[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return EMPTY;
+  }
+
+  public void put(String processId, int pageId, int frameIndex) {
+    int slot = slot(processId, pageId);
+    while (frameIndexes[slot] != EMPTY) {
+      if (pageIds[slot] == pageId && processIds[slot].equals(processId)) {
+        frameIndexes[slot] = frameIndex;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    processIds[slot] = processId;
+    pageIds[slot] = pageId;
+    frameIndexes[slot] = frameIndex;
+    size++;
+  }
+
+  /**
+   * Elimina la entrada y recompacta el grupo de sondeo (sin marcas de borrado)
+   */
+  public void remove(String processId, int pageId) {
+    int slot = slot(processId, pageId);
+    while (frameIndexes[slot] != EMPTY) {
+      if (pageIds[slot] == pageId && processIds[slot].equals(processId)) {
+        break;
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (frameIndexes[slot] == EMPTY) {
+      return;
+    }
+    size--;
+
+    int hole = slot;
+    int next = (hole + 1) & mask;
+    while (frameIndexes[next] != EMPTY) {
+      int home = slot(processIds[next], pageIds[next]);
+      // Mover la entrada al hueco si su posicion ideal no queda entre el hueco y ella
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        processIds[hole] = processIds[next];
+        pageIds[hole] = pageIds[next];
+        frameIndexes[hole] = frameIndexes[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    processIds[hole] = null;
+    frameIndexes[hole] = EMPTY;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    for (int i = 0; i < frameIndexes.length; i++) {
+      processIds[i] = null;
+      frameIndexes[i] = EMPTY;
+    }
+    size = 0;
+  }
+
+  private int slot(String processId, int pageId) {
+    int h = processId.hashCode() * 31 + pageId;
+    h ^= (h >>> 16);
+    h *= 0x85ebca6b;
+    h ^= (h >>> 13);
+    return h & mask;
+  }
+}
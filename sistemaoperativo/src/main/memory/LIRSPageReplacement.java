@@ -0,0 +1,251 @@
+package memory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo de reemplazo LIRS (Low Inter-reference Recency Set)
+ * Clasifica las paginas por la distancia entre sus dos ultimos accesos:
+ * - LIR: distancia corta, siempre residentes (casi todos los marcos).
+ * - HIR: distancia larga; pocas residentes en la cola Q, el resto solo historial.
+ * La pila S guarda el orden de recencia de LIR y HIR (incluidas las fantasma)
+ * y su fondo es siempre una LIR. Un HIR accedido mientras sigue en S pasa a LIR
+ * y el LIR del fondo baja a HIR. La victima es el frente de Q, por lo que un
+ * recorrido secuencial solo rota por los pocos marcos HIR.
+ */
+public class LIRSPageReplacement implements PageReplacementAlgorithm, HitRatioReporter {
+  private static final long serialVersionUID = 1L;
+
+  private static final int NONE = -1;
+
+  private final PageEntryIndex index;
+  private final PageEntryList stack;  // S: recencia, fondo = LIR mas antiguo
+  private final PageEntryList queue;  // Q: HIR residentes, frente = victima
+  private final PageEntryList ghosts; // HIR no residentes aun en S, por antigüedad
+  private final HitRatioTracker tracker;
+  private int[] loadedAt;             // El acceso en el mismo instante de la carga es parte del fallo
+  private int capacity;               // Marcos totales, conocido al primer reemplazo
+  private int lirCount;
+  private int pendingVictim;
+
+  public LIRSPageReplacement() {
+    this.index = new PageEntryIndex();
+    this.stack = new PageEntryList(0);
+    this.queue = new PageEntryList(1);
+    this.ghosts = new PageEntryList(2);
+    this.tracker = new HitRatioTracker();
+    this.loadedAt = new int[0];
+    this.capacity = 0;
+    this.lirCount = 0;
+    this.pendingVictim = NONE;
+  }
+
+  @Override
+  public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+    capacity = frames.size();
+    enforceLirLimit();
+    if (queue.isEmpty() && lirCount > 0) {
+      demoteBottomLir();
+    }
+    PageEntry victim = queue.lru();
+    if (victim == null) {
+      // Marcos cargados antes de instalar el algoritmo
+      for (int i = 0; i < frames.size(); i++) {
+        if (frames.get(i).isOccupied()) {
+          return i;
+        }
+      }
+      return NONE;
+    }
+    pendingVictim = victim.frame;
+    return victim.frame;
+  }
+
+  @Override
+  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+    PageEntry entry = index.atFrame(frameIndex);
+    if (entry == null) {
+      return;
+    }
+    if (frameIndex < loadedAt.length && loadedAt[frameIndex] == currentTime) {
+      loadedAt[frameIndex] = NONE;
+      return;
+    }
+    tracker.recordHit(currentTime);
+
+    if (entry.lir) {
+      boolean wasBottom = stack.lru() == entry;
+      stack.addMru(entry);
+      if (wasBottom) {
+        prune();
+      }
+    } else if (stack.contains(entry)) {
+      // HIR residente con distancia corta: pasa a LIR
+      queue.remove(entry);
+      promote(entry);
+    } else {
+      stack.addMru(entry);
+      queue.addMru(entry);
+    }
+  }
+
+  @Override
+  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+    tracker.recordMiss(currentTime);
+    PageEntry entry = index.getOrCreate(processId, pageId);
+    ghosts.remove(entry);
+
+    if (capacity == 0 || lirCount < lirLimit()) {
+      // Calentamiento o marcos liberados: la pagina entra directo al conjunto LIR
+      if (!entry.lir) {
+        entry.lir = true;
+        lirCount++;
+      }
+      stack.addMru(entry);
+    } else if (stack.contains(entry)) {
+      // HIR no residente con distancia corta
+      promote(entry);
+    } else {
+      stack.addMru(entry);
+      queue.addMru(entry);
+    }
+    index.bindFrame(entry, frameIndex);
+    markLoaded(frameIndex, currentTime);
+  }
+
+  @Override
+  public void notifyPageUnloaded(int frameIndex) {
+    PageEntry entry = index.atFrame(frameIndex);
+    if (entry == null) {
+      return;
+    }
+    boolean evicted = frameIndex == pendingVictim;
+    pendingVictim = NONE;
+    index.unbindFrame(entry);
+    if (frameIndex < loadedAt.length) {
+      loadedAt[frameIndex] = NONE;
+    }
+
+    if (evicted && !entry.lir) {
+      queue.remove(entry);
+      if (stack.contains(entry)) {
+        // Queda como HIR no residente para detectar su proximo acceso
+        ghosts.addMru(entry);
+        trimGhosts();
+      } else {
+        index.remove(entry);
+      }
+    } else {
+      // Liberado por fin de proceso: no se guarda historial
+      if (entry.lir) {
+        entry.lir = false;
+        lirCount--;
+      }
+      stack.remove(entry);
+      queue.remove(entry);
+      index.remove(entry);
+      prune();
+    }
+  }
+
+  private void promote(PageEntry entry) {
+    entry.lir = true;
+    lirCount++;
+    stack.addMru(entry);
+    enforceLirLimit();
+  }
+
+  private void enforceLirLimit() {
+    if (capacity == 0) {
+      return;
+    }
+    while (lirCount > lirLimit()) {
+      demoteBottomLir();
+    }
+  }
+
+  /**
+   * El LIR del fondo de S pasa a HIR residente al final de Q
+   */
+  private void demoteBottomLir() {
+    PageEntry bottom = stack.lru();
+    if (bottom == null) {
+      return;
+    }
+    bottom.lir = false;
+    lirCount--;
+    stack.remove(bottom);
+    queue.addMru(bottom);
+    prune();
+  }
+
+  /**
+   * Quita del fondo de S las entradas HIR hasta dejar un LIR
+   */
+  private void prune() {
+    PageEntry bottom = stack.lru();
+    while (bottom != null && !bottom.lir) {
+      stack.remove(bottom);
+      if (!bottom.isResident()) {
+        ghosts.remove(bottom);
+        index.remove(bottom);
+      }
+      bottom = stack.lru();
+    }
+  }
+
+  /**
+   * Limita el historial de HIR no residentes a tantas entradas como marcos
+   */
+  private void trimGhosts() {
+    while (capacity > 0 && ghosts.size() > capacity) {
+      PageEntry oldest = ghosts.lru();
+      ghosts.remove(oldest);
+      stack.remove(oldest);
+      index.remove(oldest);
+    }
+  }
+
+  private int lirLimit() {
+    int hirLimit = Math.max(1, capacity / 100);
+    return Math.max(1, capacity - hirLimit);
+  }
+
+  private void markLoaded(int frameIndex, int currentTime) {
+    if (frameIndex >= loadedAt.length) {
+      int oldSize = loadedAt.length;
+      loadedAt = Arrays.copyOf(loadedAt, Math.max(frameIndex + 1, oldSize * 2));
+      Arrays.fill(loadedAt, oldSize, loadedAt.length, NONE);
+    }
+    loadedAt[frameIndex] = currentTime;
+  }
+
+  /**
+   * @return Cantidad de paginas en el conjunto LIR
+   */
+  public int getLirCount() {
+    return lirCount;
+  }
+
+  @Override
+  public HitRatioTracker getHitRatioTracker() {
+    return tracker;
+  }
+
+  @Override
+  public void reset() {
+    stack.clear();
+    queue.clear();
+    ghosts.clear();
+    index.clear();
+    tracker.reset();
+    Arrays.fill(loadedAt, NONE);
+    lirCount = 0;
+    pendingVictim = NONE;
+  }
+
+  @Override
+  public String getName() {
+    return "LIRS (Low Inter-reference Recency Set)";
+  }
+}
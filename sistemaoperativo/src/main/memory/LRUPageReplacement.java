@@ -1,65 +1,156 @@
-//src/main/memory/LRUPageReplacement.java
 package memory;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Algoritmo de reemplazo de paginas LRU (Least Recently Used)
- * Reemplaza la pagina que no ha sido usada por mas tiempo
+ * Reemplaza la pagina que no ha sido usada por mas tiempo.
+ *
+ * Los marcos cargados forman una lista doblemente enlazada intrusiva sobre
+ * arreglos prev/next indexados por marco, ordenada de la cola (uso mas antiguo)
+ * a la cabeza (uso mas reciente). Un acceso mueve el marco a la cabeza y la
+ * victima es la cola, ambos en O(1). A igual tiempo de acceso queda primero el
+ * marco de menor indice, igual que el recorrido lineal anterior.
  */
 public class LRUPageReplacement implements PageReplacementAlgorithm {
-  private Map<Integer, Integer> lastAccessTime;
-  
+  private static final long serialVersionUID = 1L;
+
+  private static final int NONE = -1;
+
+  private int[] prev;
+  private int[] next;
+  private int[] accessTime;
+  private boolean[] linked;
+  private int head; // Uso mas reciente
+  private int tail; // Uso mas antiguo
+
   public LRUPageReplacement() {
-    this.lastAccessTime = new HashMap<>();
+    this.prev = new int[0];
+    this.next = new int[0];
+    this.accessTime = new int[0];
+    this.linked = new boolean[0];
+    reset();
   }
-  
+
   @Override
   public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
-    // Seleccionar la pagina con el tiempo de acceso mas antiguo
-    int victimIndex = -1;
-    int oldestAccessTime = Integer.MAX_VALUE;
-    
-    for (int i = 0; i < frames.size(); i++) {
-      PageFrame frame = frames.get(i);
-      if (frame.isOccupied()) {
-        int accessTime = lastAccessTime.getOrDefault(i, frame.getLoadTime());
-        if (accessTime < oldestAccessTime) {
-          oldestAccessTime = accessTime;
-          victimIndex = i;
-        }
-      }
+    // La cola es el marco usado hace mas tiempo; se omiten marcos ya liberados
+    int victim = tail;
+    while (victim != NONE && (victim >= frames.size() || !frames.get(victim).isOccupied())) {
+      victim = next[victim];
     }
-    // Limpiar el registro del marco víctima
-    if (victimIndex != -1) {
-      lastAccessTime.remove(victimIndex);
-    }
-    return victimIndex;
+    return victim;
   }
 
   @Override
   public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
-    // Actualizar el tiempo de último acceso
-    lastAccessTime.put(frameIndex, currentTime);
+    touch(frameIndex, currentTime);
   }
+
   @Override
   public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
-    // Registrar el tiempo de carga como tiempo de acceso inicial
-    lastAccessTime.put(frameIndex, currentTime);
+    // El tiempo de carga cuenta como acceso inicial
+    touch(frameIndex, currentTime);
   }
+
   @Override
   public void notifyPageUnloaded(int frameIndex) {
-    // Limpiar registro del marco liberado
-    lastAccessTime.remove(frameIndex);
+    if (frameIndex >= 0 && frameIndex < linked.length && linked[frameIndex]) {
+      unlink(frameIndex);
+    }
   }
-  
+
+  /**
+   * Registra un acceso: desengancha el marco y lo inserta junto a la cabeza,
+   * detras de los marcos con acceso posterior o igual tiempo y mayor indice
+   */
+  private void touch(int frameIndex, int currentTime) {
+    ensureCapacity(frameIndex);
+    if (linked[frameIndex]) {
+      unlink(frameIndex);
+    }
+    accessTime[frameIndex] = currentTime;
+
+    // Normalmente el reloj solo avanza y el bucle no itera o itera muy poco
+    int after = head;
+    while (after != NONE && isNewer(after, frameIndex)) {
+      after = prev[after];
+    }
+    insertAfter(frameIndex, after);
+  }
+
+  /**
+   * true si el marco a debe quedar mas cerca de la cabeza que el marco b
+   */
+  private boolean isNewer(int a, int b) {
+    if (accessTime[a] != accessTime[b]) {
+      return accessTime[a] > accessTime[b];
+    }
+    return a > b;
+  }
+
+  /**
+   * Inserta el marco inmediatamente hacia la cabeza desde "after" (NONE = nueva cola)
+   */
+  private void insertAfter(int frameIndex, int after) {
+    int before = after == NONE ? tail : next[after];
+    prev[frameIndex] = after;
+    next[frameIndex] = before;
+    if (after == NONE) {
+      tail = frameIndex;
+    } else {
+      next[after] = frameIndex;
+    }
+    if (before == NONE) {
+      head = frameIndex;
+    } else {
+      prev[before] = frameIndex;
+    }
+    linked[frameIndex] = true;
+  }
+
+  private void unlink(int frameIndex) {
+    int p = prev[frameIndex];
+    int n = next[frameIndex];
+    if (p == NONE) {
+      tail = n;
+    } else {
+      next[p] = n;
+    }
+    if (n == NONE) {
+      head = p;
+    } else {
+      prev[n] = p;
+    }
+    prev[frameIndex] = NONE;
+    next[frameIndex] = NONE;
+    linked[frameIndex] = false;
+  }
+
+  private void ensureCapacity(int frameIndex) {
+    if (frameIndex < linked.length) {
+      return;
+    }
+    int size = Math.max(frameIndex + 1, linked.length * 2);
+    int oldSize = linked.length;
+    prev = Arrays.copyOf(prev, size);
+    next = Arrays.copyOf(next, size);
+    accessTime = Arrays.copyOf(accessTime, size);
+    linked = Arrays.copyOf(linked, size);
+    Arrays.fill(prev, oldSize, size, NONE);
+    Arrays.fill(next, oldSize, size, NONE);
+  }
+
   @Override
   public void reset() {
-    lastAccessTime.clear();
+    Arrays.fill(prev, NONE);
+    Arrays.fill(next, NONE);
+    Arrays.fill(linked, false);
+    head = NONE;
+    tail = NONE;
   }
-  
+
   @Override
   public String getName() {
     return "LRU (Least Recently Used)";
@@ -0,0 +1,124 @@
+package memory;
+
+import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.io.Serializable;
+
+/**
+ * Control de carga contra thrashing
+ * Si la suma de los conjuntos de trabajo de los procesos en memoria supera los
+ * marcos disponibles, el proceso que se iba a despachar se suspende
+ * (BLOCKED_MEMORY) y sus paginas salen de memoria. Los suspendidos se reanudan
+ * en orden de llegada cuando su conjunto de trabajo vuelve a caber.
+ * Siempre queda al menos un proceso en memoria para garantizar el avance.
+ */
+public class LoadController implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final MemoryManager memoryManager;
+  private final int window;
+  private final Deque<Process> suspended;
+  private final Set<String> suspendedIds;
+  private int suspensions;
+  private int resumptions;
+
+  /**
+   * @param memoryManager Gestor de memoria del que se leen los conjuntos de trabajo
+   * @param window Ventana de trabajo (tau) en accesos de cada proceso
+   */
+  public LoadController(MemoryManager memoryManager, int window) {
+    if (window <= 0) {
+      throw new IllegalArgumentException("La ventana de trabajo debe ser mayor a 0");
+    }
+    this.memoryManager = memoryManager;
+    this.window = window;
+    this.suspended = new ArrayDeque<>();
+    this.suspendedIds = new HashSet<>();
+    this.suspensions = 0;
+    this.resumptions = 0;
+  }
+
+  /**
+   * Decide si el proceso que se va a despachar debe suspenderse
+   */
+  public boolean shouldSuspend(Process process) {
+    if (suspendedIds.contains(process.getPid())) {
+      return false;
+    }
+    int others = 0;
+    int demand = memoryManager.getWorkingSetSize(process.getPid(), window);
+    for (String pid : memoryManager.getRegisteredProcessIds()) {
+      if (!pid.equals(process.getPid()) && !suspendedIds.contains(pid)) {
+        others++;
+        demand += memoryManager.getWorkingSetSize(pid, window);
+      }
+    }
+    return others > 0 && demand > memoryManager.getTotalFrames();
+  }
+
+  /**
+   * Suspende el proceso y retira sus paginas de memoria
+   */
+  public void suspend(Process process, int currentTime) {
+    process.setState(Process.ProcessState.BLOCKED_MEMORY);
+    memoryManager.swapOutProcess(process);
+    suspended.addLast(process);
+    suspendedIds.add(process.getPid());
+    suspensions++;
+    SimulationLog.log(LogLevel.INFO, EventCategory.MEMORY, process.getPid(), currentTime,
+        String.format("[CARGA] t=%d: %s suspendido, conjuntos de trabajo exceden %d marcos",
+        currentTime, process.getPid(), memoryManager.getTotalFrames()));
+  }
+
+  /**
+   * Retira de la lista de suspendidos el primero que vuelve a caber en memoria
+   * @return Proceso a reanudar, o null si ninguno cabe todavia
+   */
+  public Process pollResumable(int currentTime) {
+    Process next = suspended.peekFirst();
+    if (next == null) {
+      return null;
+    }
+    int inMemory = 0;
+    int demand = memoryManager.getWorkingSetSize(next.getPid(), window);
+    List<String> registered = memoryManager.getRegisteredProcessIds();
+    for (String pid : registered) {
+      if (!suspendedIds.contains(pid)) {
+        inMemory++;
+        demand += memoryManager.getWorkingSetSize(pid, window);
+      }
+    }
+    if (inMemory > 0 && demand > memoryManager.getTotalFrames()) {
+      return null;
+    }
+    suspended.pollFirst();
+    suspendedIds.remove(next.getPid());
+    resumptions++;
+    SimulationLog.log(LogLevel.INFO, EventCategory.MEMORY, next.getPid(), currentTime,
+        String.format("[CARGA] t=%d: %s reanudado", currentTime, next.getPid()));
+    return next;
+  }
+
+  public boolean hasSuspended() {
+    return !suspended.isEmpty();
+  }
+
+  public int getSuspensions() {
+    return suspensions;
+  }
+
+  public int getResumptions() {
+    return resumptions;
+  }
+
+  public int getWindow() {
+    return window;
+  }
+}
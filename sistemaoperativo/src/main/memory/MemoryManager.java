@@ -2,16 +2,24 @@
 package memory;
 
 import model.Process;
+import model.ReferencePattern;
 import scheduler.SimulationClock;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.io.Serializable;
 
 /**
  * Gestor de memoria virtual con soporte para reemplazo de paginas
  * Simula la memoria física dividida en marcos de pagina
  */
-public class MemoryManager {
+public class MemoryManager implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private List<PageFrame> frames;
   private int totalFrames;
   private PageReplacementAlgorithm replacementAlgorithm;
@@ -21,8 +29,24 @@ public class MemoryManager {
   // Métricas
   private int pageFaults;
   private int pageReplacements;
-  private Map<String, Integer> processPageFaults;
-  private Map<String, Set<Integer>> pageTable; // Tabla de paginas por proceso
+  private Map<String, Integer> processPageFaults; // Fallos de los procesos ya liberados
+  private boolean keepFinishedProcessFaults;     // false: solo cuentan en pageFaults
+  private Map<String, PageTable> pageTables; // Tabla de paginas por proceso
+
+  // Indices para evitar recorrer todos los marcos
+  private InvertedPageTable frameLookup;      // (proceso, pagina) -> marco
+  private BitSet freeFrames;                  // Bit i activo = marco i libre
+  private Map<String, BitSet> processFrames;  // Marcos ocupados por cada proceso
+  private int occupiedFrames;
+
+  // Asignacion local de marcos y costo de los fallos
+  private FrameAllocationPolicy allocationPolicy;
+  private int workingSetWindow;
+  private int pffMinInterval;  // Fallos mas seguidos que esto: el proceso crece
+  private int pffMaxInterval;  // Fallos mas espaciados que esto: el proceso se reduce
+  private int pageFaultServiceTime;
+  private int memoryAccesses;
+  private SimulationClock clock;
 
   public MemoryManager(int totalFrames, PageReplacementAlgorithm algorithm) {
     if (totalFrames <= 0) {
@@ -37,14 +61,24 @@ public class MemoryManager {
 
     this.replacementAlgorithm = algorithm;
     this.memoryLock = new ReentrantLock();
+    this.clock = SimulationClock.shared();
     this.pageFaults = 0;
     this.pageReplacements = 0;
     this.processPageFaults = new HashMap<>();
-    this.pageTable = new HashMap<>();
+    this.keepFinishedProcessFaults = true;
+    this.pageTables = new HashMap<>();
     this.processRegistry = new HashMap<>();
-
-    System.out.println(String.format("MemoryManager inicializado: %d marcos, Algoritmo: %s",
-        totalFrames, algorithm.getName()));
+    this.frameLookup = new InvertedPageTable(totalFrames);
+    this.freeFrames = new BitSet(totalFrames);
+    this.freeFrames.set(0, totalFrames);
+    this.processFrames = new HashMap<>();
+    this.occupiedFrames = 0;
+    this.allocationPolicy = FrameAllocationPolicy.GLOBAL;
+    this.pageFaultServiceTime = 0;
+    this.memoryAccesses = 0;
+
+    SimulationLog.log(LogLevel.INFO, EventCategory.MEMORY,
+        String.format("MemoryManager inicializado: %d marcos, Algoritmo: %s", totalFrames, algorithm.getName()));
   }
 
   /**
@@ -59,10 +93,13 @@ public class MemoryManager {
 
     try {
       registerProcessIfNeeded(process);
-      pageTable.putIfAbsent(pid, new HashSet<>());
+      pageTableFor(process);
 
-      if (process.getRequiredPages() > 0) {
-        ensurePageLoadedInternal(process, 0); // puede realizar reemplazos dentro de memoryLock
+      // Con tiempo de servicio de fallos la primera pagina se carga por demanda
+      // (bloqueando al proceso), no como una carga gratuita al despachar
+      if (process.getRequiredPages() > 0 && pageFaultServiceTime == 0) {
+        int firstPage = process.getReferencePattern().pageAt(0);
+        ensurePageLoadedInternal(process, firstPage, clock.now()); // puede realizar reemplazos dentro de memoryLock
       }
 
       // marcar localmente que todo salió bien (no llamar a métodos externos aquí)
@@ -74,15 +111,39 @@ public class MemoryManager {
     // Llamadas fuera del lock para evitar deadlocks (process.signalMemoryReady adquiere process.lock)
     if (ready) {
       process.signalMemoryReady();
-      System.out.println(String.format("[MEMORIA] Proceso %s listo para ejecucion", pid));
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, pid, -1,
+            String.format("[MEMORIA] Proceso %s listo para ejecucion", pid));
+      }
     }
     return ready;
   }
 
+  /**
+   * Registra el proceso y su tabla de paginas sin cargar ninguna pagina
+   * (reproduccion de trazas, que luego fija la secuencia de Optimal)
+   */
+  public void registerProcess(Process process) {
+    memoryLock.lock();
+    try {
+      registerProcessIfNeeded(process);
+      pageTableFor(process);
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
   /**
    * Carga bajo demanda una pagina específica si todavía no se encuentra en memoria.
    */
   public void ensurePageLoaded(Process process, int pageId) {
+    ensurePageLoaded(process, pageId, clock.now());
+  }
+
+  /**
+   * Carga bajo demanda una pagina usando un tiempo explícito (motor por eventos)
+   */
+  public void ensurePageLoaded(Process process, int pageId, int currentTime) {
     if (process == null || pageId < 0) {
       return;
     }
@@ -90,8 +151,8 @@ public class MemoryManager {
     memoryLock.lock();
     try {
       registerProcessIfNeeded(process);
-      pageTable.putIfAbsent(process.getPid(), new HashSet<>());
-      ensurePageLoadedInternal(process, pageId);
+      pageTableFor(process);
+      ensurePageLoadedInternal(process, pageId, currentTime);
     } finally {
       memoryLock.unlock();
     }
@@ -99,25 +160,32 @@ public class MemoryManager {
 
   /**
    * Carga una pagina específica en memoria
-   * @param processId ID del proceso
-   * @param pageId    ID de la pagina
+   * @param process     Proceso dueño de la pagina
+   * @param pageId      ID de la pagina
+   * @param currentTime Tiempo de simulacion del acceso
    */
-  private void loadPageInternal(Process process, int pageId) {
+  private void loadPageInternal(Process process, int pageId, int currentTime) {
     String processId = process.getPid();
-    int currentTime = SimulationClock.getTime();
+
+    if (allocationPolicy != FrameAllocationPolicy.GLOBAL) {
+      applyAllocationPolicy(processId);
+    }
 
     // Buscar un marco libre
     int frameIndex = findFreeFrame();
 
     if (frameIndex == -1) {
       // No hay marcos libres, aplicar algoritmo de reemplazo
-      System.out.println(String.format("[MEMORIA] No hay marcos libres, aplicando %s",
-          replacementAlgorithm.getName()));
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, processId, pageId,
+            String.format("[MEMORIA] No hay marcos libres, aplicando %s", replacementAlgorithm.getName()));
+      }
 
       frameIndex = replacementAlgorithm.selectVictimFrame(frames, currentTime);
 
       if (frameIndex == -1) {
-        System.err.println("[MEMORIA] ERROR: No se pudo seleccionar un marco víctima");
+        SimulationLog.log(LogLevel.ERROR, EventCategory.MEMORY, processId, pageId,
+            "[MEMORIA] ERROR: No se pudo seleccionar un marco víctima");
         return;
       }
 
@@ -126,19 +194,24 @@ public class MemoryManager {
       String victimProcess = victimFrame.getProcessId();
       int victimPage = victimFrame.getPageId();
 
-      System.out.println(String.format("[MEMORIA] Reemplazando pagina %s-P%d con %s-P%d en Frame[%d]",
-          victimProcess, victimPage, processId, pageId, frameIndex));
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, processId, frameIndex,
+            String.format("[MEMORIA] Reemplazando pagina %s-P%d con %s-P%d en Frame[%d]",
+            victimProcess, victimPage, processId, pageId, frameIndex));
+      }
 
       // Actualizar tabla de paginas de la víctima
-      if (pageTable.containsKey(victimProcess)) {
-        pageTable.get(victimProcess).remove(victimPage);
+      PageTable victimTable = pageTables.get(victimProcess);
+      if (victimTable != null) {
+        victimTable.unmap(victimPage);
       }
 
-      Process victim = processRegistry.get(victimProcess);
-      if (victim != null) {
-        victim.removeLoadedPage(victimPage);
+      frameLookup.remove(victimProcess, victimPage);
+      BitSet victimFrames = processFrames.get(victimProcess);
+      if (victimFrames != null) {
+        victimFrames.clear(frameIndex);
       }
-
+      occupiedFrames--;
       victimFrame.unloadPage();
       pageReplacements++;
       // NOTIFICAR AL ALGORITMO que el marco fue liberado (limpiar estado interno)
@@ -146,40 +219,130 @@ public class MemoryManager {
         replacementAlgorithm.notifyPageUnloaded(frameIndex);
       } catch (Exception e) {
         // defensivo: no dejar que un algoritmo mal implementado rompa la simulación
-        System.err.println("[MEMORIA] Warning: notifyPageUnloaded falló: " + e.getMessage());
+        SimulationLog.log(LogLevel.ERROR, EventCategory.MEMORY, victimProcess, frameIndex,
+            "[MEMORIA] Warning: notifyPageUnloaded falló: " + e.getMessage());
       }
     }
 
     // Cargar la nueva pagina
     PageFrame frame = frames.get(frameIndex);
     frame.loadPage(processId, pageId, currentTime);
+    freeFrames.clear(frameIndex);
+    frameLookup.put(processId, pageId, frameIndex);
+    BitSet owned = processFrames.get(processId);
+    if (owned == null) {
+      owned = new BitSet(totalFrames);
+      processFrames.put(processId, owned);
+    }
+    owned.set(frameIndex);
+    occupiedFrames++;
 
     // Actualizar tabla de paginas
-    pageTable.get(processId).add(pageId);
-    process.addLoadedPage(pageId);
+    PageTable table = pageTables.get(processId);
+    table.map(pageId, frameIndex);
 
     // Notificar al algoritmo de reemplazo
     replacementAlgorithm.notifyPageLoaded(frameIndex, processId, pageId, currentTime);
 
     // Registrar fallo de pagina
     pageFaults++;
-    processPageFaults.put(processId, processPageFaults.getOrDefault(processId, 0) + 1);
+    table.recordFault();
 
-    System.out.println(String.format("[MEMORIA] Pagina %s-P%d cargada en Frame[%d] - Fallo de pagina #%d",
-      processId, pageId, frameIndex, pageFaults));
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, processId, frameIndex,
+          String.format("[MEMORIA] Pagina %s-P%d cargada en Frame[%d] - Fallo de pagina #%d",
+          processId, pageId, frameIndex, pageFaults));
+    }
   }
 
   /**
-   * Busca un marco libre en memoria
-   * @return Indice del marco libre, o -1 si no hay ninguno
+   * Ajusta el conjunto residente del proceso que fallo antes de buscar marco:
+   * - WORKING_SET: libera sus paginas fuera de la ventana de trabajo.
+   * - PAGE_FAULT_FREQUENCY: si los fallos estan espaciados libera las paginas no
+   *   referenciadas desde el fallo anterior; en la zona intermedia reemplaza
+   *   localmente su pagina menos usada; si falla seguido crece con reemplazo global.
    */
-  private int findFreeFrame() {
-    for (int i = 0; i < frames.size(); i++) {
-      if (!frames.get(i).isOccupied()) {
-        return i;
+  private void applyAllocationPolicy(String processId) {
+    PageTable table = pageTables.get(processId);
+    BitSet owned = processFrames.get(processId);
+    if (table == null || owned == null || owned.isEmpty()) {
+      return;
+    }
+    int now = table.getVirtualTime();
+
+    if (allocationPolicy == FrameAllocationPolicy.WORKING_SET) {
+      int since = now - workingSetWindow;
+      for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+        if (table.getLastReference(frames.get(i).getPageId()) <= since) {
+          releaseFrame(i);
+        }
+      }
+      return;
+    }
+
+    int interval = now - table.getLastFaultTime();
+    table.setLastFaultTime(now);
+    if (interval > pffMaxInterval) {
+      int lastFault = now - interval;
+      for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+        if (table.getLastReference(frames.get(i).getPageId()) <= lastFault) {
+          releaseFrame(i);
+        }
+      }
+    } else if (interval >= pffMinInterval) {
+      int victim = -1;
+      int oldest = Integer.MAX_VALUE;
+      for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+        int reference = table.getLastReference(frames.get(i).getPageId());
+        if (reference < oldest) {
+          oldest = reference;
+          victim = i;
+        }
+      }
+      if (victim >= 0) {
+        releaseFrame(victim);
       }
     }
-    return -1;
+  }
+
+  /**
+   * Libera un marco ocupado sin cargar otra pagina en el
+   */
+  private void releaseFrame(int frameIndex) {
+    PageFrame frame = frames.get(frameIndex);
+    String processId = frame.getProcessId();
+    int pageId = frame.getPageId();
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, processId, frameIndex,
+          String.format("[MEMORIA] Liberando Frame[%d] (%s-P%d) por politica %s",
+          frameIndex, processId, pageId, allocationPolicy));
+    }
+    PageTable table = pageTables.get(processId);
+    if (table != null) {
+      table.unmap(pageId);
+    }
+    frameLookup.remove(processId, pageId);
+    BitSet owned = processFrames.get(processId);
+    if (owned != null) {
+      owned.clear(frameIndex);
+    }
+    freeFrames.set(frameIndex);
+    occupiedFrames--;
+    frame.unloadPage();
+    try {
+      replacementAlgorithm.notifyPageUnloaded(frameIndex);
+    } catch (Exception e) {
+      SimulationLog.log(LogLevel.ERROR, EventCategory.MEMORY, processId, frameIndex,
+          "[MEMORIA] Warning: notifyPageUnloaded falló: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Busca el marco libre de menor indice
+   * @return Indice del marco libre, o -1 si no hay ninguno
+   */
+  private int findFreeFrame() {
+    return freeFrames.nextSetBit(0);
   }
 
   /**
@@ -198,8 +361,21 @@ public class MemoryManager {
   }
 
   private boolean isPageLoadedInternal(String processId, int pageId) {
-    Set<Integer> pages = pageTable.get(processId);
-    return pages != null && pages.contains(pageId);
+    PageTable table = pageTables.get(processId);
+    return table != null && table.isLoaded(pageId);
+  }
+
+  /**
+   * Obtiene (o crea y asocia al proceso) su tabla de paginas
+   */
+  private PageTable pageTableFor(Process process) {
+    PageTable table = pageTables.get(process.getPid());
+    if (table == null) {
+      table = new PageTable(process.getRequiredPages());
+      pageTables.put(process.getPid(), table);
+      process.attachPageTable(table);
+    }
+    return table;
   }
 
   /**
@@ -211,33 +387,74 @@ public class MemoryManager {
     try {
       String pid = process.getPid();
 
-      System.out.println(String.format("\n[MEMORIA] Liberando paginas del proceso %s", pid));
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, pid, -1,
+            String.format("\n[MEMORIA] Liberando paginas del proceso %s", pid));
+      }
 
-      // Liberar todos los marcos que contienen paginas de este proceso
-      for (PageFrame frame : frames) {
-        if (frame.isOccupied() && frame.getProcessId().equals(pid)) {
-          System.out.println(String.format("[MEMORIA] Liberando Frame[%d] (%s-P%d)",
-              frame.getFrameId(), pid, frame.getPageId()));
+      // Liberar solo los marcos de este proceso, en orden de indice
+      BitSet owned = processFrames.remove(pid);
+      if (owned != null) {
+        for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+          PageFrame frame = frames.get(i);
+          if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+            SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, pid, frame.getFrameId(),
+                String.format("[MEMORIA] Liberando Frame[%d] (%s-P%d)",
+                frame.getFrameId(), pid, frame.getPageId()));
+          }
+          frameLookup.remove(pid, frame.getPageId());
+          freeFrames.set(i);
+          occupiedFrames--;
           frame.unloadPage();
           // Notificar al algoritmo la liberación del marco
           try {
             replacementAlgorithm.notifyPageUnloaded(frame.getFrameId());
           } catch (Exception e) {
-            System.err.println("[MEMORIA] Warning: notifyPageUnloaded falló durante freePagesForProcess: " + e.getMessage());
+            SimulationLog.log(LogLevel.ERROR, EventCategory.MEMORY, pid, frame.getFrameId(),
+                "[MEMORIA] Warning: notifyPageUnloaded falló durante freePagesForProcess: " + e.getMessage());
           }
         }
       }
 
-      // Limpiar tabla de paginas
-      pageTable.remove(pid);
+      // Limpiar tabla de paginas (la vista del proceso queda vacia)
+      PageTable table = pageTables.remove(pid);
+      if (table != null) {
+        if (keepFinishedProcessFaults) {
+          processPageFaults.merge(pid, table.getFaultCount(), Integer::sum);
+        } else {
+          processPageFaults.remove(pid);
+        }
+        table.clear();
+      }
       processRegistry.remove(pid);
       if (replacementAlgorithm instanceof OptimalPageReplacement) {
         OptimalPageReplacement optimal = (OptimalPageReplacement) replacementAlgorithm;
         optimal.unregisterProcess(pid);
       }
 
-      process.clearLoadedPages();
+    } finally {
+      memoryLock.unlock();
+    }
+  }
 
+  /**
+   * Saca de memoria todas las paginas de un proceso suspendido. A diferencia de
+   * freePagesForProcess conserva su tabla de paginas y su historial de referencias
+   * para poder estimar su conjunto de trabajo al reanudarlo.
+   */
+  public void swapOutProcess(Process process) {
+    memoryLock.lock();
+    try {
+      BitSet owned = processFrames.get(process.getPid());
+      if (owned != null) {
+        for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+          releaseFrame(i);
+        }
+      }
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.MEMORY, process.getPid(), -1,
+            String.format("[MEMORIA] Proceso %s retirado de memoria", process.getPid()));
+      }
     } finally {
       memoryLock.unlock();
     }
@@ -249,27 +466,66 @@ public class MemoryManager {
    * @param pageId    ID de la pagina
    */
   public void accessPage(String processId, int pageId) {
+    accessPage(processId, pageId, clock.now());
+  }
+
+  /**
+   * Accede a una pagina en un tiempo explícito (motor por eventos)
+   */
+  public void accessPage(String processId, int pageId, int currentTime) {
+    accessPage(processId, pageId, currentTime, false);
+  }
+
+  /**
+   * Accede a una pagina indicando si es escritura. Activa el bit de referencia
+   * del marco y, si es escritura, el bit de modificado
+   */
+  public void accessPage(String processId, int pageId, int currentTime, boolean write) {
     memoryLock.lock();
     try {
-      int currentTime = SimulationClock.getTime();
-
-      // Buscar el marco que contiene esta pagina
-      for (int i = 0; i < frames.size(); i++) {
-        PageFrame frame = frames.get(i);
-        if (frame.isOccupied() &&
-            frame.getProcessId().equals(processId) &&
-            frame.getPageId() == pageId) {
-
-          frame.access(currentTime);
-          replacementAlgorithm.notifyPageAccess(i, processId, pageId, currentTime);
-          return;
-        }
-      }
+      accessPageInternal(processId, pageId, currentTime, write);
     } finally {
       memoryLock.unlock();
     }
   }
 
+  /**
+   * Carga bajo demanda y accede a la pagina con una sola toma del lock
+   * (reproduccion de trazas, donde cada registro es una referencia)
+   */
+  public void reference(Process process, int pageId, int currentTime, boolean write) {
+    if (process == null || pageId < 0) {
+      return;
+    }
+    memoryLock.lock();
+    try {
+      registerProcessIfNeeded(process);
+      pageTableFor(process);
+      ensurePageLoadedInternal(process, pageId, currentTime);
+      accessPageInternal(process.getPid(), pageId, currentTime, write);
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  private void accessPageInternal(String processId, int pageId, int currentTime, boolean write) {
+    // Buscar el marco que contiene esta pagina en la tabla invertida
+    int frameIndex = frameLookup.get(processId, pageId);
+    if (frameIndex >= 0) {
+      frames.get(frameIndex).access(currentTime, write);
+      PageTable table = pageTables.get(processId);
+      memoryAccesses++;
+      if (table != null) {
+        table.setReferenced(pageId, true);
+        table.recordReference(pageId);
+        if (write) {
+          table.setDirty(pageId, true);
+        }
+      }
+      replacementAlgorithm.notifyPageAccess(frameIndex, processId, pageId, currentTime);
+    }
+  }
+
   /**
    * Obtiene el estado actual de la memoria
    * @return String con el estado de todos los marcos
@@ -292,7 +548,7 @@ public class MemoryManager {
       }
 
       sb.append("\nTabla de paginas por proceso:\n");
-      for (Map.Entry<String, Set<Integer>> entry : pageTable.entrySet()) {
+      for (Map.Entry<String, PageTable> entry : pageTables.entrySet()) {
         sb.append(String.format("%s: %s\n", entry.getKey(), entry.getValue()));
       }
 
@@ -315,12 +571,26 @@ public class MemoryManager {
       sb.append(String.format("Marcos totales: %d\n", totalFrames));
       sb.append(String.format("Total de fallos de pagina: %d\n", pageFaults));
       sb.append(String.format("Total de reemplazos: %d\n", pageReplacements));
+      if (replacementAlgorithm instanceof HitRatioReporter reporter) {
+        HitRatioTracker tracker = reporter.getHitRatioTracker();
+        sb.append(String.format("Tasa de aciertos: %.1f%% (%d aciertos, %d fallos)\n",
+            tracker.getHitRatio() * 100, tracker.getHits(), tracker.getMisses()));
+        sb.append("Tasa de aciertos por ventana:\n");
+        sb.append(tracker.formatTimeline());
+      }
 
       sb.append("\nFallos de pagina por proceso:\n");
-      for (Map.Entry<String, Integer> entry : processPageFaults.entrySet()) {
+      for (Map.Entry<String, Integer> entry : collectProcessPageFaults().entrySet()) {
         sb.append(String.format("  %s: %d fallos\n", entry.getKey(), entry.getValue()));
       }
 
+      if (allocationPolicy != FrameAllocationPolicy.GLOBAL || pageFaultServiceTime > 0) {
+        sb.append(String.format("\nPolitica de asignacion: %s\n", allocationPolicy));
+        sb.append(String.format("Tiempo de servicio de fallo: %d\n", pageFaultServiceTime));
+        sb.append(String.format("Accesos a memoria: %d\n", memoryAccesses));
+        sb.append(String.format("Tasa de fallos: %.3f fallos por acceso\n", getFaultRate()));
+      }
+
       return sb.toString();
     } finally {
       memoryLock.unlock();
@@ -334,13 +604,7 @@ public class MemoryManager {
   }
 
   public int getOccupiedFrameCount() {
-    int count = 0;
-    for (PageFrame frame : frames) {
-      if (frame.isOccupied()) {
-        count++;
-      }
-    }
-    return count;
+    return occupiedFrames;
   }
 
   public int getFreeFrameCount() {
@@ -351,12 +615,181 @@ public class MemoryManager {
     return pageFaults;
   }
 
+  public int getMemoryAccesses() {
+    return memoryAccesses;
+  }
+
+  /**
+   * @return Fallos de pagina por acceso a memoria, 0 si no hubo accesos
+   */
+  public double getFaultRate() {
+    return memoryAccesses == 0 ? 0.0 : pageFaults / (double) memoryAccesses;
+  }
+
+  /**
+   * Asignacion por conjunto de trabajo: al fallar, un proceso libera las paginas
+   * que no referencio en sus ultimos window accesos
+   */
+  public void setWorkingSetPolicy(int window) {
+    if (window <= 0) {
+      throw new IllegalArgumentException("La ventana de trabajo debe ser mayor a 0");
+    }
+    this.allocationPolicy = FrameAllocationPolicy.WORKING_SET;
+    this.workingSetWindow = window;
+  }
+
+  /**
+   * Asignacion por frecuencia de fallos (intervalos medidos en accesos del proceso)
+   * @param minInterval Por debajo de este intervalo entre fallos el proceso crece
+   * @param maxInterval Por encima de este intervalo el proceso se reduce
+   */
+  public void setPageFaultFrequencyPolicy(int minInterval, int maxInterval) {
+    if (minInterval <= 0 || maxInterval < minInterval) {
+      throw new IllegalArgumentException("Se requiere 0 < intervalo minimo <= intervalo maximo");
+    }
+    this.allocationPolicy = FrameAllocationPolicy.PAGE_FAULT_FREQUENCY;
+    this.pffMinInterval = minInterval;
+    this.pffMaxInterval = maxInterval;
+  }
+
+  /**
+   * Vuelve al reemplazo global sin limites por proceso
+   */
+  public void useGlobalAllocation() {
+    this.allocationPolicy = FrameAllocationPolicy.GLOBAL;
+  }
+
+  public FrameAllocationPolicy getAllocationPolicy() {
+    return allocationPolicy;
+  }
+
+  /**
+   * Modo de concurrencia; se cambia antes de usar el componente
+   */
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.memoryLock = mode.newLock();
+  }
+
+  /**
+   * Reloj de la simulacion propietaria; sin llamar a este metodo se usa el compartido
+   */
+  public void setClock(SimulationClock clock) {
+    this.clock = clock;
+  }
+
+  public SimulationClock getClock() {
+    return clock;
+  }
+
+  /**
+   * Con false, los fallos de un proceso liberado solo quedan en el total y
+   * desaparecen de getProcessPageFaults (llegadas en flujo)
+   */
+  public void setKeepFinishedProcessFaults(boolean keep) {
+    memoryLock.lock();
+    try {
+      this.keepFinishedProcessFaults = keep;
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  /**
+   * Tiempo que un proceso queda bloqueado (BLOCKED_MEMORY) por cada fallo de pagina
+   * durante su ejecucion. Con 0 (por defecto) los fallos no cuestan tiempo.
+   */
+  public void setPageFaultServiceTime(int serviceTime) {
+    if (serviceTime < 0) {
+      throw new IllegalArgumentException("El tiempo de servicio no puede ser negativo");
+    }
+    this.pageFaultServiceTime = serviceTime;
+  }
+
+  public int getPageFaultServiceTime() {
+    return pageFaultServiceTime;
+  }
+
+  /**
+   * Tamaño del conjunto de trabajo de un proceso registrado (0 si no lo esta)
+   */
+  public int getWorkingSetSize(String processId, int window) {
+    memoryLock.lock();
+    try {
+      PageTable table = pageTables.get(processId);
+      return table == null ? 0 : table.getWorkingSetSize(window);
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  /**
+   * Procesos con tabla de paginas en memoria (no terminados)
+   */
+  public List<String> getRegisteredProcessIds() {
+    memoryLock.lock();
+    try {
+      return new ArrayList<>(processRegistry.keySet());
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  /**
+   * Pagina que usara la proxima unidad de CPU del proceso
+   */
+  public int nextPageOf(Process process) {
+    return process.getReferencePattern().pageAt(
+        process.getTotalCPUTime() - process.getRemainingCPUTime());
+  }
+
+  /**
+   * Cuantas de las proximas unidades de CPU (hasta maxUnits) usan paginas ya
+   * residentes, es decir, cuanto puede ejecutar el proceso sin fallar
+   */
+  public int countResidentRun(Process process, int maxUnits) {
+    if (process.getRequiredPages() <= 0) {
+      return maxUnits;
+    }
+    ReferencePattern pattern = process.getReferencePattern();
+    int executed = process.getTotalCPUTime() - process.getRemainingCPUTime();
+    memoryLock.lock();
+    try {
+      for (int i = 0; i < maxUnits; i++) {
+        if (!isPageLoadedInternal(process.getPid(), pattern.pageAt(executed + i))) {
+          return i;
+        }
+      }
+      return maxUnits;
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
   public int getPageReplacements() {
     return pageReplacements;
   }
 
   public Map<String, Integer> getProcessPageFaults() {
-    return new HashMap<>(processPageFaults);
+    memoryLock.lock();
+    try {
+      return collectProcessPageFaults();
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  /**
+   * Fallos por proceso: los liberados mas los que siguen con tabla de paginas
+   */
+  private Map<String, Integer> collectProcessPageFaults() {
+    Map<String, Integer> faults = new HashMap<>(processPageFaults);
+    for (Map.Entry<String, PageTable> entry : pageTables.entrySet()) {
+      int count = entry.getValue().getFaultCount();
+      if (count > 0) {
+        faults.merge(entry.getKey(), count, Integer::sum);
+      }
+    }
+    return faults;
   }
 
   public PageReplacementAlgorithm getReplacementAlgorithm() {
@@ -373,7 +806,26 @@ public class MemoryManager {
           optimal.setFutureAccesses(process.getPid(), buildReferenceString(process));
         }
       }
-      System.out.println(String.format("[MEMORIA] Algoritmo cambiado a: %s", algorithm.getName()));
+      // Cambio a mitad de simulacion: el algoritmo nuevo conoce las paginas
+      // residentes en el orden en que se cargaron y luego se usaron
+      List<PageFrame> resident = new ArrayList<>();
+      for (PageFrame frame : frames) {
+        if (frame.isOccupied()) {
+          resident.add(frame);
+        }
+      }
+      resident.sort(Comparator.comparingInt(PageFrame::getLoadTime));
+      for (PageFrame frame : resident) {
+        algorithm.notifyPageLoaded(frame.getFrameId(), frame.getProcessId(), frame.getPageId(), frame.getLoadTime());
+      }
+      resident.sort(Comparator.comparingInt(PageFrame::getLastAccessTime));
+      for (PageFrame frame : resident) {
+        if (frame.getLastAccessTime() > frame.getLoadTime()) {
+          algorithm.notifyPageAccess(frame.getFrameId(), frame.getProcessId(), frame.getPageId(), frame.getLastAccessTime());
+        }
+      }
+      SimulationLog.log(LogLevel.INFO, EventCategory.MEMORY,
+          String.format("[MEMORIA] Algoritmo cambiado a: %s", algorithm.getName()));
     } finally {
       memoryLock.unlock();
     }
@@ -383,12 +835,21 @@ public class MemoryManager {
    * Notifica a memoria que un proceso consumio CPU para actualizar accesos
    */
   public void notifyProcessCPUUsage(Process process, int executedUnits) {
+    notifyProcessCPUUsage(process, executedUnits, clock.now());
+  }
+
+  /**
+   * Notifica un tramo de CPU ejecutado de una sola vez. La unidad i del tramo
+   * se registra como acceso en startTime + i, igual que si se hubiera ejecutado
+   * unidad por unidad con el reloj avanzando.
+   */
+  public void notifyProcessCPUUsage(Process process, int executedUnits, int startTime) {
     if (process == null || executedUnits <= 0) {
       return;
     }
 
-    // Cada unidad de CPU simula un acceso a una pagina
-    int pages = Math.max(1, process.getRequiredPages());
+    // Cada unidad de CPU simula un acceso a la pagina que indica su patron
+    ReferencePattern pattern = process.getReferencePattern();
     int totalCpu = process.getTotalCPUTime();
     int remaining = process.getRemainingCPUTime();
 
@@ -399,9 +860,9 @@ public class MemoryManager {
 
     for (int i = 0; i < executedUnits; i++) {
       int accessIndex = firstIndex + i;
-      int pageId = accessIndex % pages;
-      ensurePageLoaded(process, pageId);
-      accessPage(process.getPid(), pageId);
+      int pageId = pattern.pageAt(accessIndex);
+      ensurePageLoaded(process, pageId, startTime + i);
+      accessPage(process.getPid(), pageId, startTime + i);
     }
   }
 
@@ -417,7 +878,7 @@ public class MemoryManager {
     }
   }
 
-  private void ensurePageLoadedInternal(Process process, int pageId) {
+  private void ensurePageLoadedInternal(Process process, int pageId, int currentTime) {
     if (process.getRequiredPages() <= 0) {
       return;
     }
@@ -427,15 +888,18 @@ public class MemoryManager {
       return;
     }
 
-    loadPageInternal(process, pageId);
+    loadPageInternal(process, pageId, currentTime);
   }
 
-  private List<Integer> buildReferenceString(Process process) {
-    int totalCpu = process.getTotalCPUTime();
-    int pages = Math.max(1, process.getRequiredPages());
-    List<Integer> sequence = new ArrayList<>(totalCpu);
-    for (int i = 0; i < totalCpu; i++) {
-      sequence.add(i % pages);
+  /**
+   * Accesos futuros del proceso, generados con el mismo patron que usa
+   * notifyProcessCPUUsage para que Optimal vea exactamente la misma secuencia
+   */
+  private int[] buildReferenceString(Process process) {
+    ReferencePattern pattern = process.getReferencePattern();
+    int[] sequence = new int[process.getTotalCPUTime()];
+    for (int i = 0; i < sequence.length; i++) {
+      sequence[i] = pattern.pageAt(i);
     }
     return sequence;
   }
@@ -453,12 +917,20 @@ public class MemoryManager {
 
       pageFaults = 0;
       pageReplacements = 0;
+      memoryAccesses = 0;
       processPageFaults.clear();
-      pageTable.clear();
+      for (PageTable table : pageTables.values()) {
+        table.clear();
+      }
+      pageTables.clear();
       processRegistry.clear();
+      frameLookup.clear();
+      freeFrames.set(0, totalFrames);
+      processFrames.clear();
+      occupiedFrames = 0;
       replacementAlgorithm.reset();
 
-      System.out.println("[MEMORIA] Memoria reseteada");
+      SimulationLog.log(LogLevel.INFO, EventCategory.MEMORY, "[MEMORIA] Memoria reseteada");
     } finally {
       memoryLock.unlock();
     }
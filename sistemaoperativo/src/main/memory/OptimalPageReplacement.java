@@ -1,44 +1,101 @@
-//src/main/memory/OptimalPageReplacement.java
 package memory;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.ArrayList;
+import java.io.Serializable;
 
 /**
  * Algoritmo de reemplazo OPTIMAL corregido.
  * - El puntero avanza SOLO cuando realmente se accede a una pagina.
  * - Maneja correctamente accesos futuros por proceso.
  * - No se adelanta en funcion de rafagas de CPU.
+ *
+ * Al registrar la secuencia de un proceso se precalcula, para cada posicion,
+ * la siguiente aparicion de la misma pagina. Cada marco ocupado vive en un
+ * max-heap indexado por su proximo uso: un acceso solo actualiza la clave de la
+ * pagina que deja de estar en la posicion actual, y la victima es la raiz,
+ * sin recorrer la secuencia futura.
+ *
+ * Las posiciones de cada secuencia son locales al proceso. Cuando varios
+ * procesos comparten una traza global (reproduccion de trazas) cada acceso
+ * puede llevar su posicion en esa traza, y las claves de todos los marcos se
+ * comparan en la misma linea de tiempo.
  */
 public class OptimalPageReplacement implements PageReplacementAlgorithm {
+  private static final long serialVersionUID = 1L;
+
+  private static final int NEVER = -1;
 
-  private final Map<String, List<Integer>> futureAccesses;
-  private final Map<String, Integer> currentPositions;
+  private final Map<String, ReferenceString> references;
+
+  // Max-heap de marcos ocupados: mayor proximo uso primero (NEVER antes que todo),
+  // a igual clave el de menor indice, como el recorrido lineal original
+  private int[] heap;
+  private int heapSize;
+  private int[] heapIndex;   // Posicion del marco en el heap, -1 si no esta
+  private int[] frameKey;    // Proximo uso de la pagina del marco
+  private String[] frameProcess;
+  private int[] framePage;
 
   public OptimalPageReplacement() {
-    this.futureAccesses = new HashMap<>();
-    this.currentPositions = new HashMap<>();
+    this.references = new HashMap<>();
+    this.heap = new int[0];
+    this.heapIndex = new int[0];
+    this.frameKey = new int[0];
+    this.frameProcess = new String[0];
+    this.framePage = new int[0];
+    this.heapSize = 0;
   }
 
   /**
    * Registra la secuencia futura de accesos del proceso.
    */
   public void setFutureAccesses(String processId, List<Integer> accessSequence) {
-    futureAccesses.put(processId, new ArrayList<>(accessSequence));
-    currentPositions.put(processId, 0);
+    int[] accesses = new int[accessSequence.size()];
+    for (int i = 0; i < accesses.length; i++) {
+      accesses[i] = accessSequence.get(i);
+    }
+    setFutureAccesses(processId, accesses);
+  }
+
+  /**
+   * Registra la secuencia futura de accesos del proceso (sin cajas)
+   */
+  public void setFutureAccesses(String processId, int[] accesses) {
+    references.put(processId, new ReferenceString(accesses, null));
+    refreshFramesOf(processId);
+  }
+
+  /**
+   * Registra la secuencia futura del proceso dentro de una traza compartida
+   * @param accesses  Paginas que referencia el proceso, en orden
+   * @param positions Posicion global de cada acceso en la traza (creciente)
+   */
+  public void setFutureAccesses(String processId, int[] accesses, int[] positions) {
+    if (positions.length != accesses.length) {
+      throw new IllegalArgumentException("Se necesita una posicion global por acceso");
+    }
+    references.put(processId, new ReferenceString(accesses, positions));
+    refreshFramesOf(processId);
   }
 
   /**
    * Avanza UNA posicion cuando se accede realmente a memoria.
    */
   public void advancePointerOnRealAccess(String processId) {
-    int current = currentPositions.getOrDefault(processId, 0);
-    int maxSize = futureAccesses.getOrDefault(processId, List.of()).size();
+    ReferenceString ref = references.get(processId);
+    if (ref == null || ref.position >= ref.accesses.length) {
+      return;
+    }
+    int page = ref.accesses[ref.position];
+    ref.nextUseOfPage[page] = ref.nextOccurrence[ref.position];
+    ref.position++;
 
-    if (current < maxSize) {
-      currentPositions.put(processId, current + 1);
+    int frame = ref.frameOf(page);
+    if (frame >= 0) {
+      updateKey(frame, ref.nextUse(page));
     }
   }
 
@@ -46,88 +103,243 @@ public class OptimalPageReplacement implements PageReplacementAlgorithm {
    * Elimina datos de un proceso finalizado
    */
   public void unregisterProcess(String processId) {
-    futureAccesses.remove(processId);
-    currentPositions.remove(processId);
+    references.remove(processId);
+    refreshFramesOf(processId);
   }
 
   @Override
   public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+    // Si hay un marco libre, usarlo
+    if (heapSize < frames.size()) {
+      for (int i = 0; i < frames.size(); i++) {
+        PageFrame frame = frames.get(i);
+        if (!frame.isOccupied()) {
+          return i;
+        }
+        // Marco cargado antes de instalar el algoritmo: incorporarlo al heap
+        if (i >= heapIndex.length || heapIndex[i] < 0) {
+          track(i, frame.getProcessId(), frame.getPageId());
+        }
+      }
+    }
+    return heapSize > 0 ? heap[0] : 0;
+  }
 
-    int victimIndex = -1;
-    int farthestUse = Integer.MIN_VALUE;
+  @Override
+  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+    // Aquí avanzamos el puntero SOLO si hay un acceso real
+    advancePointerOnRealAccess(processId);
+  }
 
-    for (int i = 0; i < frames.size(); i++) {
+  @Override
+  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+    track(frameIndex, processId, pageId);
+  }
 
-      PageFrame frame = frames.get(i);
+  @Override
+  public void notifyPageUnloaded(int frameIndex) {
+    untrack(frameIndex);
+  }
 
-      // Si el marco esta libre, usarlo
-      if (!frame.isOccupied()) {
-        return i;
-      }
+  @Override
+  public void reset() {
+    references.clear();
+    Arrays.fill(heapIndex, -1);
+    Arrays.fill(frameProcess, null);
+    heapSize = 0;
+  }
 
-      int nextUse = findNextUse(frame.getProcessId(), frame.getPageId());
+  @Override
+  public String getName() {
+    return "Optimal (Corregido)";
+  }
 
-      // Si NO SE USARa MaS: ¡victima inmediata!
-      if (nextUse == -1) {
-        return i;
-      }
+  // ---- Marcos ----
 
-      // Escoger pagina cuyo proximo uso esta MaS LEJOS
-      if (nextUse > farthestUse) {
-        farthestUse = nextUse;
-        victimIndex = i;
-      }
+  private void track(int frame, String processId, int pageId) {
+    ensureCapacity(frame);
+    if (heapIndex[frame] >= 0) {
+      untrack(frame);
+    }
+    frameProcess[frame] = processId;
+    framePage[frame] = pageId;
+    ReferenceString ref = references.get(processId);
+    int key = NEVER;
+    if (ref != null) {
+      ref.setFrame(pageId, frame);
+      key = ref.nextUse(pageId);
     }
+    frameKey[frame] = key;
+    heap[heapSize] = frame;
+    heapIndex[frame] = heapSize;
+    heapSize++;
+    siftUp(heapIndex[frame]);
+  }
 
-    // Si todo fallo, algo anda raro, pero selecciona el primero
-    return victimIndex != -1 ? victimIndex : 0;
+  private void untrack(int frame) {
+    if (frame < 0 || frame >= heapIndex.length || heapIndex[frame] < 0) {
+      return;
+    }
+    ReferenceString ref = references.get(frameProcess[frame]);
+    if (ref != null) {
+      ref.setFrame(framePage[frame], -1);
+    }
+    int index = heapIndex[frame];
+    int last = heap[--heapSize];
+    heapIndex[frame] = -1;
+    frameProcess[frame] = null;
+    if (last != frame) {
+      heap[index] = last;
+      heapIndex[last] = index;
+      siftDown(index);
+      siftUp(heapIndex[last]);
+    }
   }
 
   /**
-   * Busca el proximo uso futuro real de la pagina.
-   * Retorna:
-   * - índice en lista futura
-   * - -1 si nunca mas se usa
+   * Recalcula las claves de los marcos de un proceso cuya secuencia cambio
    */
-  private int findNextUse(String processId, int pageId) {
+  private void refreshFramesOf(String processId) {
+    ReferenceString ref = references.get(processId);
+    for (int frame = 0; frame < frameProcess.length; frame++) {
+      if (heapIndex[frame] >= 0 && processId.equals(frameProcess[frame])) {
+        if (ref != null) {
+          ref.setFrame(framePage[frame], frame);
+        }
+        updateKey(frame, ref != null ? ref.nextUse(framePage[frame]) : NEVER);
+      }
+    }
+  }
 
-    List<Integer> accesses = futureAccesses.get(processId);
-    if (accesses == null || accesses.isEmpty()) {
-      return -1;
+  private void updateKey(int frame, int key) {
+    if (heapIndex[frame] < 0) {
+      return;
     }
+    frameKey[frame] = key;
+    siftUp(heapIndex[frame]);
+    siftDown(heapIndex[frame]);
+  }
 
-    int start = currentPositions.getOrDefault(processId, 0);
+  /**
+   * true si el marco a debe salir antes que el marco b
+   */
+  private boolean evictsBefore(int a, int b) {
+    int keyA = frameKey[a] == NEVER ? Integer.MAX_VALUE : frameKey[a];
+    int keyB = frameKey[b] == NEVER ? Integer.MAX_VALUE : frameKey[b];
+    if (keyA != keyB) {
+      return keyA > keyB;
+    }
+    return a < b;
+  }
 
-    for (int i = start; i < accesses.size(); i++) {
-      if (accesses.get(i) == pageId) {
-        return i;
+  private void siftUp(int index) {
+    int frame = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!evictsBefore(frame, heap[parent])) {
+        break;
       }
+      heap[index] = heap[parent];
+      heapIndex[heap[index]] = index;
+      index = parent;
     }
-
-    return -1; // ya no se usara en el futuro
+    heap[index] = frame;
+    heapIndex[frame] = index;
   }
 
-  @Override
-  public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
-    // Aquí avanzamos el puntero SOLO si hay un acceso real
-    advancePointerOnRealAccess(processId);
-  }
-  @Override
-  public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
-    // No se requiere accion
-  }
-  @Override
-  public void notifyPageUnloaded(int frameIndex) {
-    // No es necesario hacer nada en la versión óptima corregida
-    // (las estructuras se basan en futureAccesses por proceso, no por frameIndex).
+  private void siftDown(int index) {
+    int frame = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize && evictsBefore(heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!evictsBefore(heap[child], frame)) {
+        break;
+      }
+      heap[index] = heap[child];
+      heapIndex[heap[index]] = index;
+      index = child;
+    }
+    heap[index] = frame;
+    heapIndex[frame] = index;
   }
-  @Override
-  public void reset() {
-    futureAccesses.clear();
-    currentPositions.clear();
+
+  private void ensureCapacity(int frame) {
+    if (frame < heapIndex.length) {
+      return;
+    }
+    int size = Math.max(frame + 1, heapIndex.length * 2);
+    int oldSize = heapIndex.length;
+    heap = Arrays.copyOf(heap, size);
+    heapIndex = Arrays.copyOf(heapIndex, size);
+    Arrays.fill(heapIndex, oldSize, size, -1);
+    frameKey = Arrays.copyOf(frameKey, size);
+    frameProcess = Arrays.copyOf(frameProcess, size);
+    framePage = Arrays.copyOf(framePage, size);
   }
-  @Override
-  public String getName() {
-    return "Optimal (Corregido)";
+
+  /**
+   * Secuencia de referencias de un proceso con su indice de proximas apariciones
+   */
+  private static class ReferenceString implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    final int[] accesses;
+    final int[] nextOccurrence; // Siguiente posicion con la misma pagina, o NEVER
+    final int[] nextUseOfPage;  // Proxima posicion >= position de cada pagina, o NEVER
+    final int[] positions;      // Posicion global de cada acceso, null si son locales
+    int[] frameOfPage;          // Marco donde esta cargada cada pagina, o -1
+    int position;
+
+    ReferenceString(int[] accesses, int[] positions) {
+      this.accesses = accesses.clone();
+      this.positions = positions != null ? positions.clone() : null;
+      int maxPage = -1;
+      for (int page : accesses) {
+        maxPage = Math.max(maxPage, page);
+      }
+      this.nextOccurrence = new int[accesses.length];
+      this.nextUseOfPage = new int[maxPage + 1];
+      Arrays.fill(nextUseOfPage, NEVER);
+      for (int i = accesses.length - 1; i >= 0; i--) {
+        nextOccurrence[i] = nextUseOfPage[accesses[i]];
+        nextUseOfPage[accesses[i]] = i;
+      }
+      this.frameOfPage = new int[maxPage + 1];
+      Arrays.fill(frameOfPage, -1);
+      this.position = 0;
+    }
+
+    /**
+     * Proximo uso de la pagina como clave del heap: posicion global si la
+     * secuencia la tiene, local si no
+     */
+    int nextUse(int page) {
+      int local = page >= 0 && page < nextUseOfPage.length ? nextUseOfPage[page] : NEVER;
+      return local == NEVER || positions == null ? local : positions[local];
+    }
+
+    int frameOf(int page) {
+      return page < frameOfPage.length ? frameOfPage[page] : -1;
+    }
+
+    void setFrame(int page, int frame) {
+      if (page < 0) {
+        return;
+      }
+      if (page >= frameOfPage.length) {
+        if (frame < 0) {
+          return;
+        }
+        int oldSize = frameOfPage.length;
+        frameOfPage = Arrays.copyOf(frameOfPage, page + 1);
+        Arrays.fill(frameOfPage, oldSize, page + 1, -1);
+      }
+      frameOfPage[page] = frame;
+    }
   }
 }
@@ -0,0 +1,43 @@
+package memory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * Entrada de pagina (proceso, pagina) usada por los algoritmos con listas
+ * fantasma. Puede estar enlazada a la vez en hasta tres listas, una por ranura.
+ */
+final class PageEntry implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  static final int SLOTS = 3;
+
+  final String processId;
+  final int pageId;
+  int frame;   // Marco donde reside, -1 si es solo historial (fantasma)
+  boolean lir; // Solo LIRS: pertenece al conjunto LIR
+
+  // Los enlaces no se serializan (la recursion por la lista desbordaria la
+  // pila); cada PageEntryList los vuelve a armar al leerse
+  transient PageEntry[] prev = new PageEntry[SLOTS];
+  transient PageEntry[] next = new PageEntry[SLOTS];
+  transient PageEntryList[] owner = new PageEntryList[SLOTS];
+
+  PageEntry(String processId, int pageId) {
+    this.processId = processId;
+    this.pageId = pageId;
+    this.frame = -1;
+  }
+
+  boolean isResident() {
+    return frame >= 0;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    prev = new PageEntry[SLOTS];
+    next = new PageEntry[SLOTS];
+    owner = new PageEntryList[SLOTS];
+  }
+}
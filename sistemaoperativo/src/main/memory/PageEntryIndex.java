@@ -0,0 +1,69 @@
+package memory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.io.Serializable;
+
+/**
+ * Busqueda de PageEntry por (proceso, pagina), incluidas las fantasma,
+ * y por marco para las residentes
+ */
+final class PageEntryIndex implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final Map<String, Map<Integer, PageEntry>> entries = new HashMap<>();
+  private PageEntry[] byFrame = new PageEntry[0];
+
+  PageEntry get(String processId, int pageId) {
+    Map<Integer, PageEntry> pages = entries.get(processId);
+    return pages == null ? null : pages.get(pageId);
+  }
+
+  PageEntry getOrCreate(String processId, int pageId) {
+    return entries.computeIfAbsent(processId, k -> new HashMap<>())
+        .computeIfAbsent(pageId, k -> new PageEntry(processId, pageId));
+  }
+
+  /**
+   * Elimina la entrada por completo (deja de ser residente y fantasma)
+   */
+  void remove(PageEntry entry) {
+    unbindFrame(entry);
+    Map<Integer, PageEntry> pages = entries.get(entry.processId);
+    if (pages != null && pages.get(entry.pageId) == entry) {
+      pages.remove(entry.pageId);
+      if (pages.isEmpty()) {
+        entries.remove(entry.processId);
+      }
+    }
+  }
+
+  PageEntry atFrame(int frame) {
+    return frame >= 0 && frame < byFrame.length ? byFrame[frame] : null;
+  }
+
+  void bindFrame(PageEntry entry, int frame) {
+    if (frame >= byFrame.length) {
+      byFrame = Arrays.copyOf(byFrame, Math.max(frame + 1, byFrame.length * 2));
+    }
+    PageEntry previous = byFrame[frame];
+    if (previous != null && previous != entry) {
+      previous.frame = -1;
+    }
+    byFrame[frame] = entry;
+    entry.frame = frame;
+  }
+
+  void unbindFrame(PageEntry entry) {
+    if (entry.frame >= 0 && entry.frame < byFrame.length && byFrame[entry.frame] == entry) {
+      byFrame[entry.frame] = null;
+    }
+    entry.frame = -1;
+  }
+
+  void clear() {
+    entries.clear();
+    Arrays.fill(byFrame, null);
+  }
+}
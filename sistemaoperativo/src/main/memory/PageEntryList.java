@@ -0,0 +1,108 @@
+package memory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Lista doblemente enlazada intrusiva de PageEntry ordenada de la cabeza
+ * (uso mas reciente, MRU) a la cola (uso mas antiguo, LRU). Todas las
+ * operaciones son O(1); cada lista usa una ranura propia de la entrada.
+ */
+final class PageEntryList implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final int slot;
+  private transient PageEntry head;
+  private transient PageEntry tail;
+  private transient int size;
+
+  PageEntryList(int slot) {
+    this.slot = slot;
+  }
+
+  boolean contains(PageEntry entry) {
+    return entry.owner[slot] == this;
+  }
+
+  void addMru(PageEntry entry) {
+    if (contains(entry)) {
+      remove(entry);
+    }
+    entry.prev[slot] = null;
+    entry.next[slot] = head;
+    if (head != null) {
+      head.prev[slot] = entry;
+    } else {
+      tail = entry;
+    }
+    head = entry;
+    entry.owner[slot] = this;
+    size++;
+  }
+
+  void remove(PageEntry entry) {
+    if (!contains(entry)) {
+      return;
+    }
+    PageEntry p = entry.prev[slot];
+    PageEntry n = entry.next[slot];
+    if (p != null) {
+      p.next[slot] = n;
+    } else {
+      head = n;
+    }
+    if (n != null) {
+      n.prev[slot] = p;
+    } else {
+      tail = p;
+    }
+    entry.prev[slot] = null;
+    entry.next[slot] = null;
+    entry.owner[slot] = null;
+    size--;
+  }
+
+  PageEntry lru() {
+    return tail;
+  }
+
+  /**
+   * Entrada siguiente hacia la cabeza (mas reciente)
+   */
+  PageEntry newerThan(PageEntry entry) {
+    return entry.prev[slot];
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void clear() {
+    while (tail != null) {
+      remove(tail);
+    }
+  }
+
+  // Se guardan las entradas en orden, de la mas antigua a la mas reciente
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(size);
+    for (PageEntry e = tail; e != null; e = e.prev[slot]) {
+      out.writeObject(e);
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      addMru((PageEntry) in.readObject());
+    }
+  }
+}
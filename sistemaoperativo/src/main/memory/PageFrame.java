@@ -1,16 +1,22 @@
 //src/main/memory/PageFrame.java
 package memory;
 
+import java.io.Serializable;
+
 /**
  * Representa un marco de pagina en la memoria física
  */
-public class PageFrame {
+public class PageFrame implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private int frameId;
   private String processId;
   private int pageId;
   private boolean occupied;
   private int loadTime;
   private int lastAccessTime;
+  private boolean referenced; // Bit R: se activa en cada acceso, lo limpian CLOCK y similares
+  private boolean dirty;      // Bit M: pagina modificada desde su carga
   
   public PageFrame(int frameId) {
     this.frameId = frameId;
@@ -19,6 +25,8 @@ public class PageFrame {
     this.pageId = -1;
     this.loadTime = -1;
     this.lastAccessTime = -1;
+    this.referenced = false;
+    this.dirty = false;
   }
   
   public void loadPage(String processId, int pageId, int currentTime) {
@@ -27,6 +35,8 @@ public class PageFrame {
     this.occupied = true;
     this.loadTime = currentTime;
     this.lastAccessTime = currentTime;
+    this.referenced = false;
+    this.dirty = false;
   }
   
   public void unloadPage() {
@@ -35,10 +45,27 @@ public class PageFrame {
     this.occupied = false;
     this.loadTime = -1;
     this.lastAccessTime = -1;
+    this.referenced = false;
+    this.dirty = false;
   }
   
   public void access(int currentTime) {
     this.lastAccessTime = currentTime;
+    this.referenced = true;
+  }
+
+  /**
+   * Acceso con indicacion de escritura: una escritura ademas marca el marco como sucio
+   */
+  public void access(int currentTime, boolean write) {
+    access(currentTime);
+    if (write) {
+      this.dirty = true;
+    }
+  }
+
+  public void clearReferenced() {
+    this.referenced = false;
   }
   
   // Getters
@@ -65,6 +92,14 @@ public class PageFrame {
   public int getLastAccessTime() {
     return lastAccessTime;
   }
+
+  public boolean isReferenced() {
+    return referenced;
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
   
   @Override
   public String toString() {
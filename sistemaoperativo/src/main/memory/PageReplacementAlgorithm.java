@@ -2,11 +2,12 @@
 package memory;
 
 import java.util.List;
+import java.io.Serializable;
 
 /**
  * Interface para algoritmos de reemplazo de paginas
  */
-public interface PageReplacementAlgorithm {
+public interface PageReplacementAlgorithm extends Serializable {
   
   /**
    * Selecciona un marco de pagina para ser reemplazad
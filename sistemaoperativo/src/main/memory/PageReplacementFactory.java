@@ -0,0 +1,47 @@
+package memory;
+
+/**
+ * Factory para crear instancias de algoritmos de reemplazo de paginas
+ * Centraliza los nombres aceptados por la GUI y el simulador de consola
+ */
+public class PageReplacementFactory {
+
+  // Nombres en el orden en que se muestran en la interfaz
+  public static final String[] ALGORITHMS = {
+      "FIFO", "LRU", "Optimal", "CLOCK", "Second-Chance", "GCLOCK", "ARC", "LIRS"
+  };
+
+  /**
+   * Crea un algoritmo de reemplazo basado en el nombre especificado
+   * @param type Nombre del algoritmo (FIFO, LRU, Optimal, CLOCK, Second-Chance, GCLOCK, ARC, LIRS)
+   * @return Instancia del algoritmo
+   * @throws IllegalArgumentException si el nombre no es soportado
+   */
+  public static PageReplacementAlgorithm createAlgorithm(String type) {
+    if (type == null) {
+      throw new IllegalArgumentException("Tipo de algoritmo de memoria no puede ser null");
+    }
+
+    switch (type.toUpperCase()) {
+      case "FIFO":
+        return new FIFOPageReplacement();
+      case "LRU":
+        return new LRUPageReplacement();
+      case "OPTIMAL":
+        return new OptimalPageReplacement();
+      case "CLOCK":
+        return new ClockPageReplacement();
+      case "SECOND-CHANCE":
+      case "ESC":
+        return new EnhancedSecondChancePageReplacement();
+      case "GCLOCK":
+        return new GClockPageReplacement();
+      case "ARC":
+        return new ARCPageReplacement();
+      case "LIRS":
+        return new LIRSPageReplacement();
+      default:
+        throw new IllegalArgumentException("Algoritmo de memoria no soportado: " + type);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package memory;
+
+import model.PageTableView;
+import java.util.Arrays;
+import java.io.Serializable;
+
+/**
+ * Tabla de paginas de un proceso como arreglo plano de enteros.
+ * Cada entrada guarda el bit de validez, los bits de referencia y modificacion
+ * y el numero de marco, sin objetos por pagina: cargar o descargar no asigna memoria.
+ * Tambien lleva el tiempo virtual del proceso (cantidad de accesos realizados) y
+ * el instante virtual de la ultima referencia de cada pagina, para medir su
+ * conjunto de trabajo aunque la pagina ya no este residente.
+ */
+public class PageTable implements PageTableView, Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final int VALID = 1 << 30;
+  private static final int REFERENCED = 1 << 29;
+  private static final int DIRTY = 1 << 28;
+  private static final int FRAME_MASK = DIRTY - 1;
+
+  private int[] entries;
+  private int loadedCount;
+  private int[] lastReference; // Tiempo virtual de la ultima referencia, 0 si nunca
+  private int virtualTime;
+  private int lastFaultTime;   // Tiempo virtual del ultimo fallo (PFF)
+  private int faultCount;      // Fallos de pagina del proceso
+
+  public PageTable(int pageCount) {
+    this.entries = new int[Math.max(1, pageCount)];
+    this.loadedCount = 0;
+    this.lastReference = new int[entries.length];
+    this.virtualTime = 0;
+    this.lastFaultTime = 0;
+    this.faultCount = 0;
+  }
+
+  /**
+   * Marca la pagina como cargada en el marco indicado (bits R y M limpios)
+   */
+  public void map(int pageId, int frameIndex) {
+    if (pageId >= entries.length) {
+      entries = Arrays.copyOf(entries, Math.max(pageId + 1, entries.length * 2));
+      lastReference = Arrays.copyOf(lastReference, entries.length);
+    }
+    if ((entries[pageId] & VALID) == 0) {
+      loadedCount++;
+    }
+    entries[pageId] = VALID | frameIndex;
+  }
+
+  /**
+   * Invalida la entrada de la pagina
+   */
+  public void unmap(int pageId) {
+    if (pageId < entries.length && (entries[pageId] & VALID) != 0) {
+      entries[pageId] = 0;
+      loadedCount--;
+    }
+  }
+
+  public void setReferenced(int pageId, boolean referenced) {
+    setFlag(pageId, REFERENCED, referenced);
+  }
+
+  public void setDirty(int pageId, boolean dirty) {
+    setFlag(pageId, DIRTY, dirty);
+  }
+
+  private void setFlag(int pageId, int flag, boolean value) {
+    if (pageId < entries.length && (entries[pageId] & VALID) != 0) {
+      entries[pageId] = value ? entries[pageId] | flag : entries[pageId] & ~flag;
+    }
+  }
+
+  /**
+   * Registra una referencia a la pagina y avanza el tiempo virtual del proceso
+   */
+  public void recordReference(int pageId) {
+    virtualTime++;
+    if (pageId >= 0 && pageId < lastReference.length) {
+      lastReference[pageId] = virtualTime;
+    }
+  }
+
+  public int getLastReference(int pageId) {
+    return pageId >= 0 && pageId < lastReference.length ? lastReference[pageId] : 0;
+  }
+
+  public int getVirtualTime() {
+    return virtualTime;
+  }
+
+  public int getLastFaultTime() {
+    return lastFaultTime;
+  }
+
+  public void setLastFaultTime(int lastFaultTime) {
+    this.lastFaultTime = lastFaultTime;
+  }
+
+  //Cuenta un fallo de pagina del proceso
+  public void recordFault() {
+    faultCount++;
+  }
+
+  public int getFaultCount() {
+    return faultCount;
+  }
+
+  /**
+   * Tamaño del conjunto de trabajo: paginas referenciadas en los ultimos
+   * window accesos del proceso, esten o no residentes
+   */
+  public int getWorkingSetSize(int window) {
+    int since = virtualTime - window;
+    int size = 0;
+    for (int reference : lastReference) {
+      if (reference > 0 && reference > since) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  public void clear() {
+    Arrays.fill(entries, 0);
+    loadedCount = 0;
+    Arrays.fill(lastReference, 0);
+    virtualTime = 0;
+    lastFaultTime = 0;
+    faultCount = 0;
+  }
+
+  @Override
+  public boolean isLoaded(int pageId) {
+    return pageId >= 0 && pageId < entries.length && (entries[pageId] & VALID) != 0;
+  }
+
+  @Override
+  public int getFrame(int pageId) {
+    return isLoaded(pageId) ? entries[pageId] & FRAME_MASK : -1;
+  }
+
+  @Override
+  public boolean isReferenced(int pageId) {
+    return isLoaded(pageId) && (entries[pageId] & REFERENCED) != 0;
+  }
+
+  @Override
+  public boolean isDirty(int pageId) {
+    return isLoaded(pageId) && (entries[pageId] & DIRTY) != 0;
+  }
+
+  @Override
+  public int getLoadedCount() {
+    return loadedCount;
+  }
+
+  /**
+   * Paginas cargadas en orden ascendente, con el formato de un conjunto: [0, 2, 3]
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int page = 0; page < entries.length; page++) {
+      if ((entries[page] & VALID) != 0) {
+        if (sb.length() > 1) {
+          sb.append(", ");
+        }
+        sb.append(page);
+      }
+    }
+    return sb.append("]").toString();
+  }
+}
@@ -0,0 +1,46 @@
+package memory;
+
+import java.nio.ByteOrder;
+
+/**
+ * Formato binario de trazas de referencias a paginas (little-endian):
+ *
+ * Cabecera (32 bytes):
+ *   int   magico "PTRC"
+ *   short version
+ *   short reservado
+ *   long  cantidad de registros
+ *   long  desplazamiento de la tabla de procesos
+ *   int   cantidad de procesos
+ *   int   reservado
+ *
+ * Registros de ancho fijo (12 bytes), inmediatamente despues de la cabecera:
+ *   int   tiempo
+ *   int   pagina (id denso del proceso: 0..paginas-1, en orden de aparicion)
+ *   short indice del proceso en la tabla
+ *   short banderas (bit 0 = escritura)
+ *
+ * Tabla de procesos (al final, para poder escribir la traza en una sola pasada):
+ *   por proceso: int paginas (distintas), long registros, short largo, bytes
+ *   UTF-8 del PID, e int[paginas] con el id original de cada id denso
+ *
+ * Los ids densos permiten dimensionar tablas de paginas por la cantidad de
+ * paginas distintas aunque la traza use direcciones dispersas (0x7ffd1234).
+ */
+public final class PageTraceFormat {
+  public static final int MAGIC = 0x43525450; // "PTRC" leido en little-endian
+  public static final short VERSION = 2;
+  public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  public static final int HEADER_SIZE = 32;
+  public static final int RECORD_SIZE = 12;
+  public static final int MAX_PROCESSES = 0xFFFF;
+  public static final short FLAG_WRITE = 1;
+
+  static final int OFFSET_RECORD_COUNT = 8;
+  static final int OFFSET_TABLE = 16;
+  static final int OFFSET_PROCESS_COUNT = 24;
+
+  private PageTraceFormat() {
+  }
+}
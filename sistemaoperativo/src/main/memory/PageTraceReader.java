@@ -0,0 +1,196 @@
+package memory;
+
+import model.Burst;
+import model.Process;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Lee una traza binaria (ver PageTraceFormat) mapeando el archivo en memoria
+ * por ventanas: los registros se leen con accesos absolutos sobre el
+ * MappedByteBuffer y se entregan como primitivos, sin crear objetos por registro.
+ * forEach entrega los ids de pagina originales; replay usa los densos.
+ */
+public class PageTraceReader implements Closeable {
+  // Ventana de mapeo: multiplo del tamaño de registro y menor a 2 GB
+  private static final long WINDOW_RECORDS = 1L << 24;
+
+  private final FileChannel channel;
+  private final long recordCount;
+  private final String[] processIds;
+  private final int[][] pageIds; // id original de cada id denso, por proceso
+  private final long[] recordCounts;
+
+  public PageTraceReader(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      ByteBuffer header = readFully(0, PageTraceFormat.HEADER_SIZE);
+      if (header.getInt(0) != PageTraceFormat.MAGIC) {
+        throw new IOException("No es una traza binaria de paginas: " + path);
+      }
+      short version = header.getShort(4);
+      if (version != PageTraceFormat.VERSION) {
+        throw new IOException("Version de traza no soportada: " + version);
+      }
+      this.recordCount = header.getLong(PageTraceFormat.OFFSET_RECORD_COUNT);
+      long tableOffset = header.getLong(PageTraceFormat.OFFSET_TABLE);
+      int processCount = header.getInt(PageTraceFormat.OFFSET_PROCESS_COUNT);
+      if (tableOffset != PageTraceFormat.HEADER_SIZE + recordCount * PageTraceFormat.RECORD_SIZE
+          || tableOffset > channel.size()) {
+        throw new IOException("Traza truncada o cabecera inconsistente: " + path);
+      }
+
+      this.processIds = new String[processCount];
+      this.pageIds = new int[processCount][];
+      this.recordCounts = new long[processCount];
+      ByteBuffer table = readFully(tableOffset, (int) (channel.size() - tableOffset));
+      for (int i = 0; i < processCount; i++) {
+        int pages = table.getInt();
+        recordCounts[i] = table.getLong();
+        byte[] name = new byte[table.getShort() & 0xFFFF];
+        table.get(name);
+        processIds[i] = new String(name, StandardCharsets.UTF_8);
+        if (pages < 0 || pages > table.remaining() / 4) {
+          throw new IOException("Tabla de procesos inconsistente: " + path);
+        }
+        pageIds[i] = new int[pages];
+        table.asIntBuffer().get(pageIds[i]);
+        table.position(table.position() + 4 * pages);
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  public int getProcessCount() {
+    return processIds.length;
+  }
+
+  public String getProcessId(int processIndex) {
+    return processIds[processIndex];
+  }
+
+  /**
+   * Paginas distintas que usa el proceso
+   */
+  public int getPageCount(int processIndex) {
+    return pageIds[processIndex].length;
+  }
+
+  /**
+   * Id original de una pagina del proceso a partir de su id denso
+   */
+  public int getPageId(int processIndex, int densePage) {
+    return pageIds[processIndex][densePage];
+  }
+
+  public long getRecordCount(int processIndex) {
+    return recordCounts[processIndex];
+  }
+
+  /**
+   * Recorre todos los registros en orden, con los ids de pagina originales
+   */
+  public void forEach(PageTraceVisitor visitor) throws IOException {
+    forEachDense((process, page, time, write) -> visitor.accept(process, pageIds[process][page], time, write));
+  }
+
+  /**
+   * Recorre todos los registros en orden, con los ids de pagina densos
+   */
+  private void forEachDense(PageTraceVisitor visitor) throws IOException {
+    long position = PageTraceFormat.HEADER_SIZE;
+    long remaining = recordCount;
+    while (remaining > 0) {
+      long records = Math.min(remaining, WINDOW_RECORDS);
+      int bytes = (int) (records * PageTraceFormat.RECORD_SIZE);
+      MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, bytes);
+      window.order(PageTraceFormat.ORDER);
+      for (int offset = 0; offset < bytes; offset += PageTraceFormat.RECORD_SIZE) {
+        int time = window.getInt(offset);
+        int page = window.getInt(offset + 4);
+        int process = window.getShort(offset + 8) & 0xFFFF;
+        boolean write = (window.getShort(offset + 10) & PageTraceFormat.FLAG_WRITE) != 0;
+        visitor.accept(process, page, time, write);
+      }
+      position += bytes;
+      remaining -= records;
+    }
+  }
+
+  /**
+   * Reproduce la traza en el gestor de memoria con los ids de pagina densos:
+   * cada proceso ocupa las paginas 0..getPageCount-1, asi sus tablas no
+   * dependen de lo dispersos que sean los ids originales. Cada proceso de la
+   * traza se registra con sus paginas y, si el algoritmo es Optimal, con su secuencia
+   * de referencias y la posicion global de cada una (una pasada previa): Optimal
+   * compara el proximo uso de paginas de distintos procesos en el orden de la
+   * traza, no en el indice de acceso de cada proceso.
+   *
+   * @return Procesos creados, en el orden de la tabla de la traza
+   */
+  public List<Process> replay(MemoryManager memory) throws IOException {
+    Process[] processes = new Process[processIds.length];
+    for (int i = 0; i < processes.length; i++) {
+      if (recordCounts[i] > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Proceso con demasiadas referencias: " + processIds[i]);
+      }
+      int references = (int) Math.max(1, recordCounts[i]);
+      processes[i] = new Process(processIds[i], 0,
+          Arrays.asList(new Burst(Burst.BurstType.CPU, references)), 1, pageIds[i].length);
+    }
+
+    if (memory.getReplacementAlgorithm() instanceof OptimalPageReplacement optimal) {
+      if (recordCount > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Traza demasiado larga para Optimal: " + recordCount);
+      }
+      int[][] sequences = new int[processes.length][];
+      int[][] positions = new int[processes.length][];
+      int[] filled = new int[processes.length];
+      for (int i = 0; i < processes.length; i++) {
+        sequences[i] = new int[(int) recordCounts[i]];
+        positions[i] = new int[(int) recordCounts[i]];
+      }
+      int[] next = {0};
+      forEachDense((process, page, time, write) -> {
+        sequences[process][filled[process]] = page;
+        positions[process][filled[process]++] = next[0]++;
+      });
+      for (int i = 0; i < processes.length; i++) {
+        memory.registerProcess(processes[i]);
+        optimal.setFutureAccesses(processIds[i], sequences[i], positions[i]);
+      }
+    }
+
+    forEachDense((process, page, time, write) -> memory.reference(processes[process], page, time, write));
+    return Arrays.asList(processes);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private ByteBuffer readFully(long position, int size) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(size).order(PageTraceFormat.ORDER);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Fin de archivo inesperado en la traza");
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+}
@@ -0,0 +1,16 @@
+package memory;
+
+/**
+ * Recibe los registros de una traza binaria como primitivos, sin crear objetos
+ */
+@FunctionalInterface
+public interface PageTraceVisitor {
+
+  /**
+   * @param processIndex Indice del proceso en la tabla de la traza
+   * @param pageId       Pagina accedida
+   * @param time         Tiempo de la referencia
+   * @param write        true si es escritura
+   */
+  void accept(int processIndex, int pageId, int time, boolean write);
+}
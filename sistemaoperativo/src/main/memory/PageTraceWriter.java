@@ -0,0 +1,187 @@
+package memory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Escribe una traza binaria (ver PageTraceFormat) en una sola pasada: los
+ * registros se acumulan en un buffer directo y la tabla de procesos y la
+ * cabecera se completan al cerrar. Las paginas de cada proceso se numeran
+ * de forma densa en orden de aparicion; la tabla guarda los ids originales.
+ */
+public class PageTraceWriter implements Closeable {
+  private static final int BUFFER_RECORDS = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private final Map<String, Integer> processIndex;
+  private final List<String> processIds;
+  private PageIds[] pageIds;
+  private long[] recordCounts;
+  private long recordCount;
+  private boolean closed;
+
+  public PageTraceWriter(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    this.buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * PageTraceFormat.RECORD_SIZE)
+        .order(PageTraceFormat.ORDER);
+    this.processIndex = new HashMap<>();
+    this.processIds = new ArrayList<>();
+    this.pageIds = new PageIds[8];
+    this.recordCounts = new long[8];
+    channel.position(PageTraceFormat.HEADER_SIZE);
+  }
+
+  /**
+   * Agrega una referencia
+   * @param processId Proceso que accede
+   * @param pageId    Pagina accedida (>= 0, puede ser dispersa)
+   * @param time      Tiempo de la referencia
+   * @param write     true si es escritura
+   */
+  public void write(String processId, int pageId, int time, boolean write) throws IOException {
+    if (pageId < 0) {
+      throw new IllegalArgumentException("Pagina negativa en la traza: " + pageId);
+    }
+    int index = indexOf(processId);
+    if (!buffer.hasRemaining()) {
+      flush();
+    }
+    buffer.putInt(time);
+    buffer.putInt(pageIds[index].denseId(pageId));
+    buffer.putShort((short) index);
+    buffer.putShort(write ? PageTraceFormat.FLAG_WRITE : 0);
+    recordCounts[index]++;
+    recordCount++;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      flush();
+      long tableOffset = channel.position();
+
+      // Tabla de procesos
+      byte[][] names = new byte[processIds.size()][];
+      int tableSize = 0;
+      for (int i = 0; i < names.length; i++) {
+        names[i] = processIds.get(i).getBytes(StandardCharsets.UTF_8);
+        tableSize += 14 + names[i].length + 4 * pageIds[i].size;
+      }
+      ByteBuffer table = ByteBuffer.allocate(tableSize).order(PageTraceFormat.ORDER);
+      for (int i = 0; i < names.length; i++) {
+        PageIds pages = pageIds[i];
+        table.putInt(pages.size).putLong(recordCounts[i]).putShort((short) names[i].length).put(names[i]);
+        table.asIntBuffer().put(pages.raw, 0, pages.size);
+        table.position(table.position() + 4 * pages.size);
+      }
+      table.flip();
+      writeFully(table, tableOffset);
+
+      // Cabecera definitiva
+      ByteBuffer header = ByteBuffer.allocate(PageTraceFormat.HEADER_SIZE).order(PageTraceFormat.ORDER);
+      header.putInt(PageTraceFormat.MAGIC).putShort(PageTraceFormat.VERSION).putShort((short) 0)
+          .putLong(recordCount).putLong(tableOffset).putInt(processIds.size()).putInt(0);
+      header.flip();
+      writeFully(header, 0);
+    } finally {
+      channel.close();
+    }
+  }
+
+  private int indexOf(String processId) {
+    Integer index = processIndex.get(processId);
+    if (index != null) {
+      return index;
+    }
+    if (processIds.size() >= PageTraceFormat.MAX_PROCESSES) {
+      throw new IllegalStateException("La traza admite hasta " + PageTraceFormat.MAX_PROCESSES + " procesos");
+    }
+    int created = processIds.size();
+    processIds.add(processId);
+    processIndex.put(processId, created);
+    if (created == pageIds.length) {
+      pageIds = Arrays.copyOf(pageIds, created * 2);
+      recordCounts = Arrays.copyOf(recordCounts, created * 2);
+    }
+    pageIds[created] = new PageIds();
+    return created;
+  }
+
+  private void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private void writeFully(ByteBuffer data, long position) throws IOException {
+    while (data.hasRemaining()) {
+      position += channel.write(data, position);
+    }
+  }
+
+  /**
+   * Paginas de un proceso: id original -> id denso, con direccionamiento
+   * abierto sobre arreglos de int para no crear objetos por registro
+   */
+  private static final class PageIds {
+    private int[] slots = new int[16]; // id denso + 1, 0 = libre
+    private int[] raw = new int[8];    // id original de cada id denso
+    private int size;
+
+    int denseId(int page) {
+      int mask = slots.length - 1;
+      int slot = hash(page) & mask;
+      while (slots[slot] != 0) {
+        int dense = slots[slot] - 1;
+        if (raw[dense] == page) {
+          return dense;
+        }
+        slot = (slot + 1) & mask;
+      }
+      if (size == raw.length) {
+        raw = Arrays.copyOf(raw, size * 2);
+      }
+      raw[size] = page;
+      slots[slot] = ++size;
+      if (size * 2 > slots.length) {
+        rehash();
+      }
+      return size - 1;
+    }
+
+    private void rehash() {
+      slots = new int[slots.length * 2];
+      int mask = slots.length - 1;
+      for (int dense = 0; dense < size; dense++) {
+        int slot = hash(raw[dense]) & mask;
+        while (slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = dense + 1;
+      }
+    }
+
+    private static int hash(int page) {
+      int h = page * 0x9E3779B9;
+      return h ^ (h >>> 16);
+    }
+  }
+}
@@ -1,13 +1,19 @@
 //src/main/model/Burst.java
 package model;
 
+import java.io.Serializable;
+
 /**
  * Representa una rafaga de CPU o E/S en un proceso
  */
-public class Burst {
+public class Burst implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private BurstType type;
   private int duration;
   private int remainingTime;
+  private String device;   // Dispositivo de E/S destino (null = E/S sin contencion)
+  private int position;    // Posicion (pista/bloque) usada por las colas ELEVATOR y SSTF
 
   public enum BurstType {
     CPU, IO
@@ -19,6 +25,22 @@ public class Burst {
     this.remainingTime = duration;
   }
 
+  /**
+   * Rafaga de E/S dirigida a un dispositivo con nombre
+   */
+  public Burst(BurstType type, int duration, String device, int position) {
+    this(type, duration);
+    this.device = device;
+    this.position = position;
+  }
+
+  /**
+   * Copia la rafaga con su duracion original (sin progreso)
+   */
+  public Burst copy() {
+    return new Burst(type, duration, device, position);
+  }
+
   // Getters y Setters
   public BurstType getType() {
     return type;
@@ -36,6 +58,14 @@ public class Burst {
     this.remainingTime = remainingTime;
   }
 
+  public String getDevice() {
+    return device;
+  }
+
+  public int getPosition() {
+    return position;
+  }
+
   /**
    * Verifica si la rafaga ha sido completada
    */
@@ -45,6 +75,9 @@ public class Burst {
 
   @Override
   public String toString() {
+    if (device != null) {
+      return String.format("%s(%d@%s:%d)", type, duration, device, position);
+    }
     return String.format("%s(%d)", type, duration);
   }
 }
\ No newline at end of file
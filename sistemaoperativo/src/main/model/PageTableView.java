@@ -0,0 +1,27 @@
+package model;
+
+/**
+ * Vista de solo lectura de la tabla de paginas de un proceso.
+ * La tabla pertenece al gestor de memoria; el proceso solo la consulta.
+ */
+public interface PageTableView {
+
+  /**
+   * @return true si la pagina esta cargada en un marco
+   */
+  boolean isLoaded(int pageId);
+
+  /**
+   * @return Marco que contiene la pagina, o -1 si no esta cargada
+   */
+  int getFrame(int pageId);
+
+  boolean isReferenced(int pageId);
+
+  boolean isDirty(int pageId);
+
+  /**
+   * @return Cantidad de paginas cargadas actualmente
+   */
+  int getLoadedCount();
+}
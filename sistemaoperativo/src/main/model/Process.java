@@ -8,14 +8,16 @@ import java.util.HashSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.Condition;
-import java.util.Collections;
-import java.util.concurrent.ConcurrentHashMap;
+import sync.ConcurrencyMode;
+import java.io.Serializable;
 
 /**
  * Representa un proceso en el sistema operativo simulado
  * Implementa Runnable para ejecutar como hilo independiente
  */
-public class Process implements Runnable {
+public class Process implements Runnable, Serializable {
+  private static final long serialVersionUID = 1L;
+
   private String pid;
   private int arrivalTime;
   private List<Burst> bursts;
@@ -25,8 +27,9 @@ public class Process implements Runnable {
   private ProcessState state;
   
   // Memoria virtual
-  private Set<Integer> pageIds; // IDs de paginas que requiere este proceso
-  private Set<Integer> loadedPages; // Paginas actualmente en memoria
+  private PageTableView pageTable; // Tabla de paginas (propiedad del gestor de memoria)
+  private ReferencePattern referencePattern; // Que pagina usa cada unidad de CPU
+  private long affinityMask; // Bit i activo: puede ejecutar en el nucleo i
   
   // Sincronizacion
   private Lock lock;
@@ -55,12 +58,8 @@ public class Process implements Runnable {
     this.requiredPages = requiredPages;
     this.state = ProcessState.NEW;
     
-    // Inicializar paginas (IDs consecutivos desde 0)
-    this.pageIds = new HashSet<>();
-    this.loadedPages = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    for (int i = 0; i < requiredPages; i++) {
-      pageIds.add(i);
-    }
+    this.referencePattern = ReferencePattern.sequential(Math.max(1, requiredPages));
+    this.affinityMask = -1L;
     
     // Inicializar sincronizacion
     this.lock = new ReentrantLock();
@@ -77,6 +76,22 @@ public class Process implements Runnable {
     this.firstExecutionTime = -1;
   }
 
+  /**
+   * Copia el proceso sin progreso: rafagas con su duracion original, el mismo
+   * patron de referencias y la misma afinidad. La copia no tiene tabla de paginas
+   * ni metricas, lista para otra simulacion.
+   */
+  public Process copy() {
+    List<Burst> copies = new ArrayList<>(bursts.size());
+    for (Burst burst : bursts) {
+      copies.add(burst.copy());
+    }
+    Process clone = new Process(pid, arrivalTime, copies, priority, requiredPages);
+    clone.referencePattern = referencePattern;
+    clone.affinityMask = affinityMask;
+    return clone;
+  }
+
   @Override
   public void run() {
     // La ejecucion real se controla desde el ProcessDispatcher
@@ -86,6 +101,16 @@ public class Process implements Runnable {
   
   // Métodos de sincronizacion
   
+  /**
+   * Modo de concurrencia del proceso; se cambia antes de simular. En
+   * SINGLE_THREADED waitForMemory y waitForIO fallan en vez de bloquear.
+   */
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.lock = mode.newLock();
+    this.memoryAvailable = lock.newCondition();
+    this.ioComplete = lock.newCondition();
+  }
+  
   /**
    * Espera hasta que la memoria esté disponible para este proceso
    */
@@ -203,32 +228,81 @@ public class Process implements Runnable {
     }
   }
   //concurrentes no es necesario bloquearlos
+  // Las paginas del proceso son 0..requiredPages-1; el conjunto se arma al pedirlo
   public Set<Integer> getPageIds() {
-    return new HashSet<>(pageIds);
+    Set<Integer> pageIds = new HashSet<>();
+    for (int i = 0; i < requiredPages; i++) {
+      pageIds.add(i);
+    }
+    return pageIds;
   }
   
   public Set<Integer> getLoadedPages() {
-    return new HashSet<>(loadedPages);
+    Set<Integer> loaded = new HashSet<>();
+    for (int pageId = 0; pageId < requiredPages; pageId++) {
+      if (isPageLoaded(pageId)) {
+        loaded.add(pageId);
+      }
+    }
+    return loaded;
   }
   
-  public void addLoadedPage(int pageId) {
-    loadedPages.add(pageId);
+  /**
+   * Asocia la tabla de paginas que mantiene el gestor de memoria
+   */
+  public void attachPageTable(PageTableView pageTable) {
+    this.pageTable = pageTable;
   }
   
-  public void removeLoadedPage(int pageId) {
-    loadedPages.remove(pageId);
+  public PageTableView getPageTable() {
+    return pageTable;
   }
-  
-  public void clearLoadedPages() {
-    loadedPages.clear();
+
+  /**
+   * Restringe los nucleos donde puede ejecutar el proceso (bit i = nucleo i)
+   */
+  public void setAffinityMask(long affinityMask) {
+    if (affinityMask == 0) {
+      throw new IllegalArgumentException("La afinidad debe permitir al menos un nucleo");
+    }
+    this.affinityMask = affinityMask;
+  }
+
+  public long getAffinityMask() {
+    return affinityMask;
+  }
+
+  public boolean canRunOn(int core) {
+    return core < 64 ? (affinityMask & (1L << core)) != 0 : affinityMask == -1L;
+  }
+
+  public ReferencePattern getReferencePattern() {
+    return referencePattern;
+  }
+
+  /**
+   * Cambia el patron de referencias; debe generar solo paginas del proceso
+   */
+  public void setReferencePattern(ReferencePattern referencePattern) {
+    if (referencePattern.maxPage() >= Math.max(1, requiredPages)) {
+      throw new IllegalArgumentException(String.format(
+          "El patron %s usa paginas fuera del proceso %s", referencePattern.spec(), pid));
+    }
+    this.referencePattern = referencePattern;
   }
   
   public boolean isPageLoaded(int pageId) {
-    return loadedPages.contains(pageId);
+    PageTableView table = pageTable;
+    return table != null && table.isLoaded(pageId);
   }
   
   public boolean allPagesLoaded() {
-    return loadedPages.containsAll(pageIds);
+    for (int pageId = 0; pageId < requiredPages; pageId++) {
+      if (!isPageLoaded(pageId)) {
+        return false;
+      }
+    }
+    return true;
   }
   
   // Métricas
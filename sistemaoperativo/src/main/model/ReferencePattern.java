@@ -0,0 +1,354 @@
+package model;
+
+import java.io.Serializable;
+
+/**
+ * Modelo de referencias a memoria de un proceso: decide que pagina usa cada
+ * unidad de CPU. pageAt es una funcion pura del indice de acceso (y de la
+ * semilla), por lo que el gestor de memoria y Optimal ven la misma secuencia
+ * sin guardar estado ni crear objetos por acceso.
+ */
+public interface ReferencePattern extends Serializable {
+
+  /**
+   * Pagina referenciada por el acceso accessIndex (0 = primera unidad de CPU)
+   */
+  int pageAt(int accessIndex);
+
+  /**
+   * Especificacion textual, la misma que acepta parse
+   */
+  String spec();
+
+  /**
+   * Pagina mas alta que puede generar el patron (para validar contra el proceso)
+   */
+  int maxPage();
+
+  /**
+   * Recorrido secuencial circular: i % pages (el comportamiento original)
+   */
+  static ReferencePattern sequential(int pages) {
+    return new Sequential(pages, 1);
+  }
+
+  /**
+   * Recorrido secuencial que usa cada pagina accessesPerPage veces seguidas
+   */
+  static ReferencePattern sequential(int pages, int accessesPerPage) {
+    return new Sequential(pages, accessesPerPage);
+  }
+
+  /**
+   * Bucle sobre las paginas [start, start + length)
+   */
+  static ReferencePattern loop(int start, int length) {
+    return new Loop(start, length);
+  }
+
+  /**
+   * Conjunto caliente con distribucion Zipf: la pagina k se usa con
+   * probabilidad proporcional a 1 / (k + 1)^exponent
+   */
+  static ReferencePattern zipf(int pages, double exponent, long seed) {
+    return new Zipf(pages, exponent, seed);
+  }
+
+  /**
+   * Localidad por fases: cada phaseLength accesos la ventana de locality
+   * paginas se desplaza a una base elegida con la semilla
+   */
+  static ReferencePattern phases(int pages, int locality, int phaseLength, long seed) {
+    return new Phases(pages, locality, phaseLength, seed);
+  }
+
+  /**
+   * Repite una traza fija de paginas
+   */
+  static ReferencePattern trace(int[] pages) {
+    return new Trace(pages);
+  }
+
+  /**
+   * Parsea una especificacion: seq, seq(k), loop(n), loop(inicio,n),
+   * zipf(exponente,semilla), phase(localidad,fase,semilla) o trace(p0,p1,...)
+   *
+   * @param spec Especificacion
+   * @param pages Paginas del proceso; toda pagina generada queda en [0, pages)
+   */
+  static ReferencePattern parse(String spec, int pages) {
+    String text = spec.trim();
+    int open = text.indexOf('(');
+    String name = (open == -1 ? text : text.substring(0, open)).trim().toLowerCase();
+    String[] args = new String[0];
+    if (open != -1) {
+      int close = text.lastIndexOf(')');
+      if (close < open) {
+        throw new IllegalArgumentException("Patron de referencias invalido: " + spec);
+      }
+      String inner = text.substring(open + 1, close).trim();
+      args = inner.isEmpty() ? args : inner.split(",");
+    }
+    int size = Math.max(1, pages);
+
+    ReferencePattern pattern;
+    switch (name) {
+      case "seq":
+      case "sequential":
+        pattern = sequential(size, args.length > 0 ? intArg(args, 0) : 1);
+        break;
+      case "loop":
+        pattern = args.length > 1
+            ? loop(intArg(args, 0), intArg(args, 1))
+            : loop(0, args.length > 0 ? intArg(args, 0) : size);
+        break;
+      case "zipf":
+        pattern = zipf(size, args.length > 0 ? Double.parseDouble(args[0].trim()) : 1.0,
+            args.length > 1 ? Long.parseLong(args[1].trim()) : 0L);
+        break;
+      case "phase":
+      case "phases":
+        pattern = phases(size, args.length > 0 ? intArg(args, 0) : Math.max(1, size / 4),
+            args.length > 1 ? intArg(args, 1) : 10,
+            args.length > 2 ? Long.parseLong(args[2].trim()) : 0L);
+        break;
+      case "trace":
+        int[] trace = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+          trace[i] = intArg(args, i);
+        }
+        pattern = trace(trace);
+        break;
+      default:
+        throw new IllegalArgumentException("Patron de referencias desconocido: " + name);
+    }
+
+    if (pattern.maxPage() >= size) {
+      throw new IllegalArgumentException(String.format(
+          "El patron %s usa paginas fuera de [0, %d)", spec, size));
+    }
+    return pattern;
+  }
+
+  private static int intArg(String[] args, int index) {
+    return Integer.parseInt(args[index].trim());
+  }
+
+  /**
+   * Mezclador SplitMix64: entero pseudoaleatorio reproducible a partir de
+   * (semilla, indice), sin estado compartido
+   */
+  static long mix(long seed, long index) {
+    long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Recorrido secuencial circular
+   */
+  final class Sequential implements ReferencePattern {
+    private static final long serialVersionUID = 1L;
+
+    private final int pages;
+    private final int accessesPerPage;
+
+    Sequential(int pages, int accessesPerPage) {
+      if (pages <= 0 || accessesPerPage <= 0) {
+        throw new IllegalArgumentException("Paginas y accesos por pagina deben ser positivos");
+      }
+      this.pages = pages;
+      this.accessesPerPage = accessesPerPage;
+    }
+
+    @Override
+    public int pageAt(int accessIndex) {
+      return (accessIndex / accessesPerPage) % pages;
+    }
+
+    @Override
+    public int maxPage() {
+      return pages - 1;
+    }
+
+    @Override
+    public String spec() {
+      return accessesPerPage == 1 ? "seq" : "seq(" + accessesPerPage + ")";
+    }
+  }
+
+  /**
+   * Bucle sobre un rango contiguo de paginas
+   */
+  final class Loop implements ReferencePattern {
+    private static final long serialVersionUID = 1L;
+
+    private final int start;
+    private final int length;
+
+    Loop(int start, int length) {
+      if (start < 0 || length <= 0) {
+        throw new IllegalArgumentException("Bucle invalido: inicio=" + start + ", longitud=" + length);
+      }
+      this.start = start;
+      this.length = length;
+    }
+
+    @Override
+    public int pageAt(int accessIndex) {
+      return start + accessIndex % length;
+    }
+
+    @Override
+    public int maxPage() {
+      return start + length - 1;
+    }
+
+    @Override
+    public String spec() {
+      return start == 0 ? "loop(" + length + ")" : "loop(" + start + "," + length + ")";
+    }
+  }
+
+  /**
+   * Zipf: distribucion acumulada precalculada y busqueda binaria por acceso
+   */
+  final class Zipf implements ReferencePattern {
+    private static final long serialVersionUID = 1L;
+
+    private final double exponent;
+    private final long seed;
+    private final double[] cumulative;
+
+    Zipf(int pages, double exponent, long seed) {
+      if (pages <= 0 || exponent < 0) {
+        throw new IllegalArgumentException("Zipf invalido: paginas=" + pages + ", exponente=" + exponent);
+      }
+      this.exponent = exponent;
+      this.seed = seed;
+      this.cumulative = new double[pages];
+      double total = 0;
+      for (int k = 0; k < pages; k++) {
+        total += 1.0 / Math.pow(k + 1, exponent);
+        cumulative[k] = total;
+      }
+      for (int k = 0; k < pages; k++) {
+        cumulative[k] /= total;
+      }
+      cumulative[pages - 1] = 1.0;
+    }
+
+    @Override
+    public int pageAt(int accessIndex) {
+      double u = (mix(seed, accessIndex) >>> 11) * 0x1.0p-53;
+      int low = 0;
+      int high = cumulative.length - 1;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (cumulative[mid] > u) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+      return low;
+    }
+
+    @Override
+    public int maxPage() {
+      return cumulative.length - 1;
+    }
+
+    @Override
+    public String spec() {
+      return "zipf(" + exponent + "," + seed + ")";
+    }
+  }
+
+  /**
+   * Localidad que cambia de fase: dentro de cada fase los accesos caen
+   * en una ventana de locality paginas consecutivas (circular)
+   */
+  final class Phases implements ReferencePattern {
+    private static final long serialVersionUID = 1L;
+
+    private final int pages;
+    private final int locality;
+    private final int phaseLength;
+    private final long seed;
+
+    Phases(int pages, int locality, int phaseLength, long seed) {
+      if (pages <= 0 || locality <= 0 || locality > pages || phaseLength <= 0) {
+        throw new IllegalArgumentException(String.format(
+            "Fases invalidas: paginas=%d, localidad=%d, fase=%d", pages, locality, phaseLength));
+      }
+      this.pages = pages;
+      this.locality = locality;
+      this.phaseLength = phaseLength;
+      this.seed = seed;
+    }
+
+    @Override
+    public int pageAt(int accessIndex) {
+      int phase = accessIndex / phaseLength;
+      int base = (int) Long.remainderUnsigned(mix(seed, -1L - phase), pages);
+      int offset = (int) Long.remainderUnsigned(mix(seed, accessIndex), locality);
+      return (base + offset) % pages;
+    }
+
+    @Override
+    public int maxPage() {
+      return pages - 1;
+    }
+
+    @Override
+    public String spec() {
+      return "phase(" + locality + "," + phaseLength + "," + seed + ")";
+    }
+  }
+
+  /**
+   * Traza fija que se repite al agotarse
+   */
+  final class Trace implements ReferencePattern {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] pages;
+    private final int maxPage;
+
+    Trace(int[] pages) {
+      if (pages.length == 0) {
+        throw new IllegalArgumentException("La traza de referencias esta vacia");
+      }
+      this.pages = pages.clone();
+      int max = 0;
+      for (int page : this.pages) {
+        if (page < 0) {
+          throw new IllegalArgumentException("Pagina negativa en la traza: " + page);
+        }
+        max = Math.max(max, page);
+      }
+      this.maxPage = max;
+    }
+
+    @Override
+    public int pageAt(int accessIndex) {
+      return pages[accessIndex % pages.length];
+    }
+
+    @Override
+    public int maxPage() {
+      return maxPage;
+    }
+
+    @Override
+    public String spec() {
+      StringBuilder sb = new StringBuilder("trace(");
+      for (int i = 0; i < pages.length; i++) {
+        sb.append(i > 0 ? "," : "").append(pages[i]);
+      }
+      return sb.append(")").toString();
+    }
+  }
+}
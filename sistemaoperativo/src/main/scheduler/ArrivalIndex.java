@@ -0,0 +1,137 @@
+package scheduler;
+
+import model.Process;
+import java.util.*;
+import java.io.Serializable;
+
+/**
+ * Indice de llegadas: los procesos se ordenan una sola vez por tiempo de llegada
+ * y un cursor avanza a medida que el reloj los alcanza. Cada proceso se examina
+ * una sola vez en toda la simulacion, en lugar de recorrer la lista en cada tick.
+ * Con llegadas iguales se conserva el orden de registro (ordenamiento estable).
+ *
+ * Tambien puede leer de un flujo ya ordenado por llegada: solo guarda el
+ * proximo proceso, asi los ya entregados no quedan retenidos por el indice.
+ */
+public class ArrivalIndex implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final Process[] byArrival;
+  private int cursor;
+
+  // Modo flujo: proximo proceso leido por adelantado
+  private final Iterator<Process> source;
+  private Process head;
+  private int lastArrival;
+
+  public ArrivalIndex(Collection<Process> processes) {
+    this.byArrival = processes.toArray(new Process[0]);
+    Arrays.sort(byArrival, Comparator.comparingInt(Process::getArrivalTime));
+    this.cursor = 0;
+    this.source = null;
+  }
+
+  /**
+   * Indice sobre un flujo ordenado por tiempo de llegada
+   * @throws IllegalStateException al leer una llegada anterior a la previa
+   */
+  public ArrivalIndex(Iterator<Process> source) {
+    this.byArrival = null;
+    this.source = source;
+    this.lastArrival = Integer.MIN_VALUE;
+    this.head = pull();
+  }
+
+  private Process pull() {
+    if (!source.hasNext()) {
+      return null;
+    }
+    Process p = source.next();
+    if (p.getArrivalTime() < lastArrival) {
+      throw new IllegalStateException(String.format(
+          "Flujo de llegadas fuera de orden: %s llega en %d, despues de una llegada en %d",
+          p.getPid(), p.getArrivalTime(), lastArrival));
+    }
+    lastArrival = p.getArrivalTime();
+    return p;
+  }
+
+  private Process peek() {
+    if (byArrival == null) {
+      return head;
+    }
+    return cursor < byArrival.length ? byArrival[cursor] : null;
+  }
+
+  private void advance() {
+    if (byArrival == null) {
+      head = pull();
+    } else {
+      cursor++;
+    }
+  }
+
+  /**
+   * Devuelve el siguiente proceso NEW que llega exactamente en currentTime, o null.
+   * Los que llegaban antes y ya no pueden admitirse se descartan.
+   */
+  public Process pollArrivalAt(int currentTime) {
+    Process p;
+    while ((p = peek()) != null) {
+      if (p.getArrivalTime() > currentTime) {
+        return null;
+      }
+      advance();
+      if (p.getArrivalTime() == currentTime && p.getState() == Process.ProcessState.NEW) {
+        return p;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Devuelve el siguiente proceso NEW que llego en currentTime o antes, o null
+   */
+  public Process pollArrivedBy(int currentTime) {
+    Process p;
+    while ((p = peek()) != null) {
+      if (p.getArrivalTime() > currentTime) {
+        return null;
+      }
+      advance();
+      if (p.getState() == Process.ProcessState.NEW) {
+        return p;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Tiempo de la proxima llegada pendiente, o Integer.MAX_VALUE si no quedan
+   */
+  public int nextArrivalTime() {
+    Process p = peek();
+    return p != null ? p.getArrivalTime() : Integer.MAX_VALUE;
+  }
+
+  public boolean hasPending() {
+    return peek() != null;
+  }
+
+  /**
+   * Clase del iterador del flujo, o null si el indice es sobre una coleccion
+   */
+  public Class<?> getSourceClass() {
+    return source != null ? source.getClass() : null;
+  }
+
+  /**
+   * @throws UnsupportedOperationException si el indice lee de un flujo
+   */
+  public void reset() {
+    if (byArrival == null) {
+      throw new UnsupportedOperationException("Un flujo de llegadas no se puede reiniciar");
+    }
+    cursor = 0;
+  }
+}
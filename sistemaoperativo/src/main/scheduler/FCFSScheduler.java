@@ -2,6 +2,10 @@
 package scheduler;
 
 import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -13,14 +17,18 @@ import java.util.concurrent.locks.ReentrantLock;
  * Desventajas: Poco rendimiento con procesos largos al inicio
  */
 public class FCFSScheduler implements SchedulingAlgorithm {
+  private static final long serialVersionUID = 1L;
+
   private final Queue<Process> readyQueue;
   private final PerformanceMetrics metrics;
-  private final Lock queueLock;
+  private Lock queueLock;
+  private SimulationClock clock;
 
   public FCFSScheduler() {
     this.readyQueue = new LinkedList<>();
     this.metrics = new PerformanceMetrics();
     this.queueLock = new ReentrantLock();
+    this.clock = SimulationClock.shared();
   }
 
   @Override
@@ -38,8 +46,10 @@ public class FCFSScheduler implements SchedulingAlgorithm {
     queueLock.lock();
     try {
       readyQueue.offer(process);
-      System.out.println("FCFS: Proceso " + process.getPid() +
-          " agregado a cola. Tamaño cola: " + readyQueue.size());
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), readyQueue.size(),
+            "FCFS: Proceso " + process.getPid() + " agregado a cola. Tamaño cola: " + readyQueue.size());
+      }
     } finally {
       queueLock.unlock();
     }
@@ -50,9 +60,12 @@ public class FCFSScheduler implements SchedulingAlgorithm {
   public void onProcessCompletion(Process process) {
     int completionTime = process.getCompletionTime() >= 0
         ? process.getCompletionTime()
-        : SimulationClock.getTime();
+        : clock.now();
     metrics.recordCompletion(process, completionTime);
-    System.out.println("FCFS: Proceso " + process.getPid() + " completado");
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), completionTime,
+          "FCFS: Proceso " + process.getPid() + " completado");
+    }
   }
 
   @Override
@@ -63,7 +76,10 @@ public class FCFSScheduler implements SchedulingAlgorithm {
       queueLock.lock();
       try {
         readyQueue.offer(process);
-        System.out.println("FCFS: Proceso " + process.getPid() + " reinsertado al final de la cola");
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), readyQueue.size(),
+              "FCFS: Proceso " + process.getPid() + " reinsertado al final de la cola");
+        }
       } finally {
         queueLock.unlock();
       }
@@ -72,7 +88,7 @@ public class FCFSScheduler implements SchedulingAlgorithm {
   
   @Override
   public void onProcessStarted(Process process) {
-    metrics.recordFirstExecution(process, SimulationClock.getTime());
+    metrics.recordFirstExecution(process, clock.now());
   }
   
   @Override
@@ -80,6 +96,26 @@ public class FCFSScheduler implements SchedulingAlgorithm {
     metrics.addCPUTime(process, time);
   }
 
+  @Override
+  public boolean removeProcess(Process process) {
+    queueLock.lock();
+    try {
+      return readyQueue.remove(process);
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
+  @Override
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.queueLock = mode.newLock();
+  }
+
+  @Override
+  public void setClock(SimulationClock clock) {
+    this.clock = clock;
+  }
+
   @Override
   public List<Process> getReadyQueue() {
     queueLock.lock();
@@ -90,6 +126,16 @@ public class FCFSScheduler implements SchedulingAlgorithm {
     }
   }
 
+  @Override
+  public int readyCount() {
+    queueLock.lock();
+    try {
+      return readyQueue.size();
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
   @Override
   public boolean isPreemptive() {
     return false; // FCFS no es apropiativo
@@ -1,20 +1,37 @@
 package scheduler;
 
 import java.util.*;
+import java.io.Serializable;
 
 /**
  * Genera y almacena el diagrama de Gantt de la ejecucion
  * Muestra qué proceso ejecuto en cada momento
  */
-public class GanttChart {
+public class GanttChart implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private final List<GanttEntry> entries;
-  private final List<String> events;
+  private final List<GanttEvent> events;
   private int currentTime;
+  private boolean recording;
 
   public GanttChart() {
     this.entries = new ArrayList<>();
     this.events = new ArrayList<>();
     this.currentTime = 0;
+    this.recording = true;
+  }
+
+  /**
+   * Con false no se guardan ejecuciones ni eventos (solo avanza el tiempo),
+   * para simulaciones de muchos procesos donde el diagrama no se muestra
+   */
+  public void setRecording(boolean recording) {
+    this.recording = recording;
+  }
+
+  public boolean isRecording() {
+    return recording;
   }
 
   /**
@@ -39,6 +56,10 @@ public class GanttChart {
    * Agrega una ejecucion con tiempo de inicio y fin
    */
   public void addExecution(String processId, int startTime, int endTime) {
+    if (!recording) {
+      currentTime = endTime;
+      return;
+    }
     // Si el proceso anterior es el mismo y continúa, extender su tiempo
     if (!entries.isEmpty()) {
       GanttEntry last = entries.get(entries.size() - 1);
@@ -58,7 +79,50 @@ public class GanttChart {
    * Agrega un evento al registro
    */
   public void addEvent(int time, String description) {
-    events.add(String.format("[t=%d] %s", time, description));
+    if (!recording) {
+      return;
+    }
+    events.add(new GanttEvent(time, description));
+  }
+
+  /**
+   * Agrega una entrada tal cual, sin unirla con la anterior; para
+   * reconstruir un diagrama guardado
+   */
+  public void appendEntry(String processId, int startTime, int endTime) {
+    entries.add(new GanttEntry(processId, startTime, endTime));
+    currentTime = endTime == -1 ? startTime : endTime;
+  }
+
+  public int getEntryCount() {
+    return entries.size();
+  }
+
+  public String getEntryProcessId(int index) {
+    return entries.get(index).processId;
+  }
+
+  public int getEntryStartTime(int index) {
+    return entries.get(index).startTime;
+  }
+
+  /**
+   * Fin de la entrada, o -1 si sigue abierta
+   */
+  public int getEntryEndTime(int index) {
+    return entries.get(index).endTime;
+  }
+
+  public int getEventCount() {
+    return events.size();
+  }
+
+  public int getEventTime(int index) {
+    return events.get(index).time;
+  }
+
+  public String getEventDescription(int index) {
+    return events.get(index).description;
   }
 
   /**
@@ -73,6 +137,19 @@ public class GanttChart {
     }
   }
 
+  /**
+   * Proceso (o IDLE) que ocupaba la CPU en el instante time, o null si no hay registro
+   */
+  public String getProcessAt(int time) {
+    for (int i = entries.size() - 1; i >= 0; i--) {
+      GanttEntry entry = entries.get(i);
+      if (entry.startTime <= time && (time < entry.endTime || entry.endTime == -1)) {
+        return entry.processId;
+      }
+    }
+    return null;
+  }
+
   /**
    * Representacion del diagrama de Gantt
    */
@@ -113,8 +190,8 @@ public class GanttChart {
     // Eventos importantes
     if (!events.isEmpty()) {
       sb.append("\n=== EVENTOS ===\n");
-      for (String event : events) {
-        sb.append(event).append("\n");
+      for (GanttEvent event : events) {
+        sb.append(String.format("[t=%d] %s", event.time, event.description)).append("\n");
       }
     }
 
@@ -129,11 +206,12 @@ public class GanttChart {
       return new ArrayList<>();
     }
     
+    // Se trabaja sobre copias: mostrar el diagrama no debe modificar sus entradas
     List<GanttEntry> consolidated = new ArrayList<>();
-    GanttEntry current = entries.get(0);
+    GanttEntry current = entries.get(0).copy();
     
     for (int i = 1; i < entries.size(); i++) {
-      GanttEntry next = entries.get(i);
+      GanttEntry next = entries.get(i).copy();
       
       if (current.processId.equals(next.processId) && current.endTime == next.startTime) {
         // Extender la entrada actual
@@ -165,7 +243,9 @@ public class GanttChart {
   /**
    * Entrada individual del diagrama de Gantt
    */
-  private static class GanttEntry {
+  private static class GanttEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     String processId;
     int startTime;
     int endTime;
@@ -175,5 +255,24 @@ public class GanttChart {
       this.startTime = startTime;
       this.endTime = endTime;
     }
+
+    GanttEntry copy() {
+      return new GanttEntry(processId, startTime, endTime);
+    }
+  }
+
+  /**
+   * Evento del registro; el texto se arma solo al mostrarlo
+   */
+  private static class GanttEvent implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    final int time;
+    final String description;
+
+    GanttEvent(int time, String description) {
+      this.time = time;
+      this.description = description;
+    }
   }
 }
\ No newline at end of file
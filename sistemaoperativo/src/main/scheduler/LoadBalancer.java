@@ -0,0 +1,248 @@
+package scheduler;
+
+import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.io.Serializable;
+
+/**
+ * Balanceo de carga entre las colas de un MultiQueueScheduler
+ * - Empuje periodico: cada pushInterval unidades se mueven procesos en espera
+ *   del nucleo mas cargado al menos cargado mientras la diferencia sea mayor a 1.
+ * - Robo: un nucleo que queda sin trabajo toma un proceso de la cola mas larga.
+ * Se respeta la mascara de afinidad de cada proceso y se prefieren procesos
+ * frios (que no ejecutaron hace poco), tomados del final de la cola.
+ * Cada migracion cuesta migrationCost unidades en el nucleo destino, mas
+ * cachePenalty si el proceso aun tenia la cache caliente en su nucleo anterior.
+ */
+public class LoadBalancer implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final MultiQueueScheduler scheduler;
+  private int pushInterval;
+  private boolean stealing;
+  private int migrationCost;
+  private int hotTime;
+  private int cachePenalty;
+  private final Map<String, Integer> lastRunEnd;
+
+  // Estadisticas
+  private int pushMigrations;
+  private int steals;
+  private int penaltyTime;
+  private int idleTimeRemoved;
+
+  public LoadBalancer(MultiQueueScheduler scheduler) {
+    this.scheduler = scheduler;
+    this.pushInterval = 4;
+    this.stealing = true;
+    this.migrationCost = 1;
+    this.hotTime = 3;
+    this.cachePenalty = 2;
+    this.lastRunEnd = new HashMap<>();
+  }
+
+  public MultiQueueScheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * @param pushInterval Unidades entre balanceos por empuje (0 lo desactiva)
+   */
+  public void setPushInterval(int pushInterval) {
+    if (pushInterval < 0) {
+      throw new IllegalArgumentException("El intervalo de balanceo no puede ser negativo");
+    }
+    this.pushInterval = pushInterval;
+  }
+
+  public void setStealing(boolean stealing) {
+    this.stealing = stealing;
+  }
+
+  public boolean isStealing() {
+    return stealing;
+  }
+
+  /**
+   * @param migrationCost Unidades que pierde el nucleo destino al recibir un proceso migrado
+   */
+  public void setMigrationCost(int migrationCost) {
+    if (migrationCost < 0) {
+      throw new IllegalArgumentException("El costo de migracion no puede ser negativo");
+    }
+    this.migrationCost = migrationCost;
+  }
+
+  /**
+   * @param hotTime Unidades tras su ultima ejecucion en que la cache del proceso sigue caliente
+   * @param cachePenalty Costo extra al migrar un proceso con la cache caliente
+   */
+  public void setCacheWarmth(int hotTime, int cachePenalty) {
+    if (hotTime < 0 || cachePenalty < 0) {
+      throw new IllegalArgumentException("Los parametros de cache no pueden ser negativos");
+    }
+    this.hotTime = hotTime;
+    this.cachePenalty = cachePenalty;
+  }
+
+  /**
+   * Reinicia estadisticas e historial de ejecucion (al iniciar una simulacion)
+   */
+  public void reset() {
+    lastRunEnd.clear();
+    pushMigrations = 0;
+    steals = 0;
+    penaltyTime = 0;
+    idleTimeRemoved = 0;
+  }
+
+  /**
+   * Empuje periodico desde el nucleo mas cargado al menos cargado
+   * @param busy Nucleos que tienen un proceso en ejecucion
+   */
+  public void balance(int now, boolean[] busy) {
+    if (pushInterval == 0 || now % pushInterval != 0) {
+      return;
+    }
+    while (true) {
+      int busiest = 0;
+      int idlest = 0;
+      for (int core = 1; core < busy.length; core++) {
+        if (load(core, busy) > load(busiest, busy)) {
+          busiest = core;
+        }
+        if (load(core, busy) < load(idlest, busy)) {
+          idlest = core;
+        }
+      }
+      if (load(busiest, busy) - load(idlest, busy) <= 1) {
+        return;
+      }
+      Process candidate = pickCandidate(busiest, idlest, now);
+      if (candidate == null || !scheduler.migrate(candidate, busiest, idlest)) {
+        return;
+      }
+      pushMigrations++;
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, candidate.getPid(), idlest,
+            String.format("Balanceo: %s empujado del nucleo %d al %d", candidate.getPid(), busiest, idlest));
+      }
+    }
+  }
+
+  /**
+   * Robo para un nucleo sin trabajo: toma un proceso de la cola mas larga que
+   * pueda ceder uno sin quedar ociosa
+   * @return true si se movio un proceso a la cola del nucleo ladron
+   */
+  public boolean steal(int thief, int now, boolean[] busy) {
+    if (!stealing) {
+      return false;
+    }
+    int victim = -1;
+    Process candidate = null;
+    for (int core = 0; core < busy.length; core++) {
+      int queued = scheduler.getReadyCount(core);
+      if (core == thief || queued <= (busy[core] ? 0 : 1)
+          || (victim >= 0 && queued <= scheduler.getReadyCount(victim))) {
+        continue;
+      }
+      Process option = pickCandidate(core, thief, now);
+      if (option != null) {
+        victim = core;
+        candidate = option;
+      }
+    }
+    if (candidate == null || !scheduler.migrate(candidate, victim, thief)) {
+      return false;
+    }
+    steals++;
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, candidate.getPid(), thief,
+          String.format("Balanceo: nucleo %d roba %s del nucleo %d", thief, candidate.getPid(), victim));
+    }
+    return true;
+  }
+
+  /**
+   * Desde el final de la cola: el primer proceso frio que pueda ir al destino,
+   * o si todos estan calientes el ultimo que pueda ir
+   */
+  private Process pickCandidate(int from, int to, int now) {
+    List<Process> queue = scheduler.getReadyQueue(from);
+    Process fallback = null;
+    for (int i = queue.size() - 1; i >= 0; i--) {
+      Process process = queue.get(i);
+      if (!process.canRunOn(to)) {
+        continue;
+      }
+      if (!isHot(process, now)) {
+        return process;
+      }
+      if (fallback == null) {
+        fallback = process;
+      }
+    }
+    return fallback;
+  }
+
+  private int load(int core, boolean[] busy) {
+    return (busy[core] ? 1 : 0) + scheduler.getReadyCount(core);
+  }
+
+  private boolean isHot(Process process, int now) {
+    Integer end = lastRunEnd.get(process.getPid());
+    return end != null && now - end < hotTime;
+  }
+
+  /**
+   * Costo de despachar en otro nucleo un proceso que ejecuto antes en uno distinto
+   */
+  public int migrationPenalty(Process process, int now) {
+    int penalty = migrationCost + (isHot(process, now) ? cachePenalty : 0);
+    penaltyTime += penalty;
+    return penalty;
+  }
+
+  /**
+   * Registra que el proceso ejecuto hasta endTime (su cache queda caliente)
+   */
+  public void recordRun(Process process, int endTime) {
+    lastRunEnd.put(process.getPid(), endTime);
+  }
+
+  /**
+   * Unidades ejecutadas por procesos robados en nucleos que de otro modo estarian ociosos
+   */
+  public void recordIdleTimeRemoved(int units) {
+    idleTimeRemoved += units;
+  }
+
+  public int getPushMigrations() {
+    return pushMigrations;
+  }
+
+  public int getSteals() {
+    return steals;
+  }
+
+  public int getPenaltyTime() {
+    return penaltyTime;
+  }
+
+  public int getIdleTimeRemoved() {
+    return idleTimeRemoved;
+  }
+
+  public String getReport() {
+    return String.format("Balanceo: empuje cada %s, robo %s, costo de migracion=%d (+%d con cache caliente < %d)\n"
+            + "Migraciones por empuje: %d, Robos: %d, Tiempo perdido en migraciones: %d",
+        pushInterval == 0 ? "desactivado" : pushInterval + " unidades", stealing ? "activo" : "desactivado",
+        migrationCost, cachePenalty, hotTime, pushMigrations, steals, penaltyTime);
+  }
+}
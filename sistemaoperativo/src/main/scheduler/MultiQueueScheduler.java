@@ -0,0 +1,229 @@
+package scheduler;
+
+import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
+import java.util.*;
+
+/**
+ * Planificador con una cola de listos por nucleo: cada nucleo tiene su propia
+ * instancia de SchedulingAlgorithm. Un proceso vuelve a la cola del ultimo
+ * nucleo donde ejecuto (afinidad); uno que nunca ejecuto va a la cola menos
+ * cargada entre los nucleos que permite su mascara de afinidad.
+ * Las métricas se llevan aqui de forma global, porque un proceso puede pasar
+ * por varios nucleos.
+ */
+public class MultiQueueScheduler implements SchedulingAlgorithm {
+  private static final long serialVersionUID = 1L;
+
+  private final List<SchedulingAlgorithm> coreSchedulers;
+  private final Map<String, Integer> affinity;
+  private final PerformanceMetrics metrics;
+  private SimulationClock clock;
+  private boolean keepFinishedProcesses;
+
+  public MultiQueueScheduler(List<SchedulingAlgorithm> coreSchedulers) {
+    if (coreSchedulers.isEmpty()) {
+      throw new IllegalArgumentException("Se necesita al menos un nucleo");
+    }
+    this.coreSchedulers = new ArrayList<>(coreSchedulers);
+    this.affinity = new HashMap<>();
+    this.metrics = new PerformanceMetrics();
+    this.clock = SimulationClock.shared();
+    this.keepFinishedProcesses = true;
+  }
+
+  /**
+   * Con false, al terminar un proceso se descartan sus metricas (en todos los
+   * nucleos) y su nucleo asignado; ver PerformanceMetrics.setKeepFinishedProcesses
+   */
+  public void setKeepFinishedProcesses(boolean keep) {
+    this.keepFinishedProcesses = keep;
+    metrics.setKeepFinishedProcesses(keep);
+    for (SchedulingAlgorithm core : coreSchedulers) {
+      core.getPerformanceMetrics().setKeepFinishedProcesses(keep);
+    }
+  }
+
+  public int getCoreCount() {
+    return coreSchedulers.size();
+  }
+
+  public SchedulingAlgorithm getCoreScheduler(int core) {
+    return coreSchedulers.get(core);
+  }
+
+  /**
+   * Siguiente proceso de la cola del nucleo; queda asociado a ese nucleo
+   */
+  public Process getNextProcess(int core) {
+    Process process = coreSchedulers.get(core).getNextProcess();
+    if (process != null) {
+      affinity.put(process.getPid(), core);
+    }
+    return process;
+  }
+
+  /**
+   * Sin nucleo indicado se toma la primera cola con procesos
+   */
+  @Override
+  public Process getNextProcess() {
+    for (int core = 0; core < coreSchedulers.size(); core++) {
+      Process process = getNextProcess(core);
+      if (process != null) {
+        return process;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void addProcess(Process process) {
+    Integer core = affinity.get(process.getPid());
+    int target = core != null && process.canRunOn(core) ? core : leastLoadedCore(process);
+    affinity.put(process.getPid(), target);
+    coreSchedulers.get(target).addProcess(process);
+    metrics.recordArrival(process);
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), target,
+          String.format("Multi-cola: %s asignado al nucleo %d", process.getPid(), target));
+    }
+  }
+
+  /**
+   * Nucleo al que pertenece el proceso, o -1 si aun no fue asignado
+   */
+  public int getCoreOf(Process process) {
+    return affinity.getOrDefault(process.getPid(), -1);
+  }
+
+  public int getReadyCount(int core) {
+    return coreSchedulers.get(core).readyCount();
+  }
+
+  /**
+   * Cola de listos de un nucleo (copia)
+   */
+  public List<Process> getReadyQueue(int core) {
+    return coreSchedulers.get(core).getReadyQueue();
+  }
+
+  /**
+   * Mueve un proceso en espera de la cola de un nucleo a la de otro
+   * @return true si el proceso estaba en la cola de origen y puede ejecutar en el destino
+   */
+  public boolean migrate(Process process, int fromCore, int toCore) {
+    if (!process.canRunOn(toCore) || !coreSchedulers.get(fromCore).removeProcess(process)) {
+      return false;
+    }
+    affinity.put(process.getPid(), toCore);
+    coreSchedulers.get(toCore).addProcess(process);
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), toCore,
+          String.format("Multi-cola: %s migrado del nucleo %d al %d", process.getPid(), fromCore, toCore));
+    }
+    return true;
+  }
+
+  private int leastLoadedCore(Process process) {
+    int best = 0;
+    int bestCount = Integer.MAX_VALUE;
+    for (int core = 0; core < coreSchedulers.size(); core++) {
+      if (!process.canRunOn(core)) {
+        continue;
+      }
+      int count = getReadyCount(core);
+      if (count < bestCount) {
+        best = core;
+        bestCount = count;
+      }
+    }
+    return best;
+  }
+
+  private SchedulingAlgorithm ownerOf(Process process) {
+    return coreSchedulers.get(affinity.getOrDefault(process.getPid(), 0));
+  }
+
+  @Override
+  public void onProcessCompletion(Process process) {
+    int completionTime = process.getCompletionTime() >= 0
+        ? process.getCompletionTime()
+        : clock.now();
+    metrics.recordCompletion(process, completionTime);
+    ownerOf(process).onProcessCompletion(process);
+    if (!keepFinishedProcesses) {
+      affinity.remove(process.getPid());
+    }
+  }
+
+  @Override
+  public void onProcessInterrupted(Process process) {
+    ownerOf(process).onProcessInterrupted(process);
+  }
+
+  @Override
+  public void onProcessStarted(Process process) {
+    metrics.recordFirstExecution(process, clock.now());
+    ownerOf(process).onProcessStarted(process);
+  }
+
+  @Override
+  public void recordCPUExecution(Process process, int time) {
+    metrics.addCPUTime(process, time);
+    ownerOf(process).recordCPUExecution(process, time);
+  }
+
+  @Override
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    for (SchedulingAlgorithm scheduler : coreSchedulers) {
+      scheduler.setConcurrencyMode(mode);
+    }
+  }
+
+  @Override
+  public void setClock(SimulationClock clock) {
+    this.clock = clock;
+    for (SchedulingAlgorithm scheduler : coreSchedulers) {
+      scheduler.setClock(clock);
+    }
+  }
+
+  @Override
+  public List<Process> getReadyQueue() {
+    List<Process> ready = new ArrayList<>();
+    for (SchedulingAlgorithm scheduler : coreSchedulers) {
+      ready.addAll(scheduler.getReadyQueue());
+    }
+    return ready;
+  }
+
+  @Override
+  public int readyCount() {
+    int count = 0;
+    for (SchedulingAlgorithm scheduler : coreSchedulers) {
+      count += scheduler.readyCount();
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isPreemptive() {
+    return coreSchedulers.get(0).isPreemptive();
+  }
+
+  @Override
+  public String getMetrics() {
+    return String.format("Multi-cola (%d nucleos, %s por nucleo)\n%s",
+        coreSchedulers.size(), coreSchedulers.get(0).getClass().getSimpleName(),
+        metrics.generateReport());
+  }
+
+  @Override
+  public PerformanceMetrics getPerformanceMetrics() {
+    return metrics;
+  }
+}
@@ -4,18 +4,37 @@ package scheduler;
 import model.Process;
 import model.Burst;
 import java.util.*;
+import java.io.Serializable;
 
 /**
  * Clase para calcular y almacenar métricas de rendimiento de schedulers
  * Calcula: Tiempo de espera, tiempo de retorno, tiempo de respuesta
  */
-public class PerformanceMetrics {
+public class PerformanceMetrics implements Serializable {
+  private static final long serialVersionUID = 1L;
   
   // Informacion por proceso
   private Map<String, ProcessMetrics> processMetrics;
   
+  // Procesos terminados que ya no se guardan uno por uno (llegadas en flujo)
+  private boolean keepFinishedProcesses;
+  private int foldedCompleted;
+  private long foldedWaiting;
+  private long foldedTurnaround;
+  private long foldedResponse;
+  private int foldedStarted;
+  
   public PerformanceMetrics() {
     this.processMetrics = new HashMap<>();
+    this.keepFinishedProcesses = true;
+  }
+  
+  /**
+   * Con false, cada proceso que termina se suma a los totales y se descarta;
+   * los promedios no cambian, pero el reporte ya no lo detalla
+   */
+  public void setKeepFinishedProcesses(boolean keep) {
+    this.keepFinishedProcesses = keep;
   }
   
   //Registra la llegada de un proceso
@@ -42,15 +61,23 @@ public class PerformanceMetrics {
     ProcessMetrics metrics = processMetrics.get(pid);
     if (metrics != null) {
       metrics.completionTime = time;
+      if (!keepFinishedProcesses) {
+        foldedCompleted++;
+        foldedWaiting += metrics.getWaitingTime();
+        foldedTurnaround += metrics.getTurnaroundTime();
+        if (metrics.firstExecutionTime != -1) {
+          foldedResponse += metrics.getResponseTime();
+          foldedStarted++;
+        }
+        processMetrics.remove(pid);
+      }
     }
   }
   
   //Obtiene el tiempo de espera promedio
   public double getAverageWaitingTime() {
-    if (processMetrics.isEmpty()) return 0.0;
-    
-    double totalWait = 0;
-    int count = 0;
+    double totalWait = foldedWaiting;
+    int count = foldedCompleted;
     
     for (ProcessMetrics metrics : processMetrics.values()) {
       if (metrics.completionTime != -1) {
@@ -66,10 +93,8 @@ public class PerformanceMetrics {
   
   //Obtiene el tiempo de retorno promedio
   public double getAverageTurnaroundTime() {
-    if (processMetrics.isEmpty()) return 0.0;
-    
-    double totalTurnaround = 0;
-    int count = 0;
+    double totalTurnaround = foldedTurnaround;
+    int count = foldedCompleted;
     
     for (ProcessMetrics metrics : processMetrics.values()) {
       if (metrics.completionTime != -1) {
@@ -84,10 +109,8 @@ public class PerformanceMetrics {
   
   //Obtiene el tiempo de respuesta promedio
   public double getAverageResponseTime() {
-    if (processMetrics.isEmpty()) return 0.0;
-    
-    double totalResponse = 0;
-    int count = 0;
+    double totalResponse = foldedResponse;
+    int count = foldedStarted;
     
     for (ProcessMetrics metrics : processMetrics.values()) {
       if (metrics.firstExecutionTime != -1) {
@@ -102,7 +125,7 @@ public class PerformanceMetrics {
   
   // Obtiene el número de procesos completados
   public int getCompletedProcessCount() {
-    int count = 0;
+    int count = foldedCompleted;
     for (ProcessMetrics metrics : processMetrics.values()) {
       if (metrics.completionTime != -1) {
         count++;
@@ -138,8 +161,29 @@ public class PerformanceMetrics {
     return sb.toString();
   }
   
+  // Recorre las metricas de cada proceso registrado (-1 si aun no ocurrio)
+  public void forEachProcess(ProcessMetricsVisitor visitor) {
+    for (ProcessMetrics metrics : processMetrics.values()) {
+      boolean completed = metrics.completionTime != -1;
+      boolean started = metrics.firstExecutionTime != -1;
+      visitor.accept(metrics.pid, metrics.arrivalTime, metrics.firstExecutionTime, metrics.completionTime,
+          completed ? metrics.getWaitingTime() : -1,
+          completed ? metrics.getTurnaroundTime() : -1,
+          started ? metrics.getResponseTime() : -1);
+    }
+  }
+  
+  // Recibe las metricas de un proceso como primitivos
+  @FunctionalInterface
+  public interface ProcessMetricsVisitor {
+    void accept(String pid, int arrivalTime, int firstExecutionTime, int completionTime,
+                int waitingTime, int turnaroundTime, int responseTime);
+  }
+  
   //Clase interna para almacenar métricas de un proceso individual
-  private static class ProcessMetrics {
+  private static class ProcessMetrics implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     String pid;
     int arrivalTime;
     int firstExecutionTime;
@@ -194,5 +238,10 @@ public class PerformanceMetrics {
   //Resetea todas las métricas
   public void reset() {
     processMetrics.clear();
+    foldedCompleted = 0;
+    foldedWaiting = 0;
+    foldedTurnaround = 0;
+    foldedResponse = 0;
+    foldedStarted = 0;
   }
 }
@@ -3,6 +3,9 @@ package scheduler;
 
 import model.Process;
 import model.Burst;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
 import java.util.*;
 //import java.util.concurrent.ConcurrentHashMap;
 
@@ -14,12 +17,17 @@ public class ProcessDispatcher {
   private final SchedulingAlgorithm scheduler;
   private final GanttChart ganttChart;
   private final List<Process> allProcesses;
+  private final SimulationClock clock;
+  private ArrivalIndex arrivals;
+  private int activeProcesses;
   //private final Set<Integer> loadedPages;
 
   public ProcessDispatcher(SchedulingAlgorithm scheduler) {
     this.scheduler = scheduler;
     this.ganttChart = new GanttChart();
     this.allProcesses = new ArrayList<>();
+    this.clock = new SimulationClock();
+    scheduler.setClock(clock);
     //this.loadedPages = ConcurrentHashMap.newKeySet();
   }
 
@@ -35,11 +43,12 @@ public class ProcessDispatcher {
    * Ejecuta la simulacion :)
    */
   public void runSimulation() {
-    System.out.println("\n                             INICIANDO SIMULACIoN ");
-    System.out.println("Algoritmo: " + scheduler.getClass().getSimpleName());
-    System.out.println("Procesos registrados: " + allProcesses.size());
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n                             INICIANDO SIMULACIoN ");
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Algoritmo: " + scheduler.getClass().getSimpleName());
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Procesos registrados: " + allProcesses.size());
     
-    SimulationClock.reset();
+    clock.restart();
+    SimulationLog.setClock(clock);
     int currentTime = 0;
     Process currentProcess = null;
     int quantumUsed = 0;
@@ -48,6 +57,13 @@ public class ProcessDispatcher {
     
     // Ordenar procesos por tiempo de llegada
     allProcesses.sort(Comparator.comparingInt(Process::getArrivalTime));
+    arrivals = new ArrivalIndex(allProcesses);
+    activeProcesses = 0;
+    for (Process process : allProcesses) {
+      if (process.getState() != Process.ProcessState.TERMINATED) {
+        activeProcesses++;
+      }
+    }
     
     while (!allProcessesCompleted()) {
       // 1. Agregar procesos que han llegado al scheduler
@@ -68,16 +84,21 @@ public class ProcessDispatcher {
           ganttChart.recordExecution(currentProcess.getPid(), currentTime);
           quantumUsed = 0;
           
-          System.out.println(String.format("[T=%d] Ejecutando %s (CPU restante: %d)",
-              currentTime, currentProcess.getPid(), currentProcess.getRemainingCPUTime()));
+          if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+            SimulationLog.log(LogLevel.DEBUG, EventCategory.CPU, currentProcess.getPid(),
+                currentProcess.getRemainingCPUTime(), String.format("[T=%d] Ejecutando %s (CPU restante: %d)",
+                currentTime, currentProcess.getPid(), currentProcess.getRemainingCPUTime()));
+          }
         } else {
           // CPU idle
           if (!allProcessesCompleted()) {
-            System.out.println(String.format("[T=%d] CPU IDLE", currentTime));
+            if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+              SimulationLog.log(LogLevel.DEBUG, EventCategory.CPU, String.format("[T=%d] CPU IDLE", currentTime));
+            }
             ganttChart.recordExecution("IDLE", currentTime);
           }
           currentTime++;
-          SimulationClock.setTime(currentTime);
+          clock.moveTo(currentTime);
           continue;
         }
       }
@@ -87,6 +108,7 @@ public class ProcessDispatcher {
         Burst activeBurst = currentProcess.getCurrentBurst();
         if (activeBurst == null) {
           // Proceso termino entre iteraciones
+          activeProcesses--;
           currentProcess.setState(Process.ProcessState.TERMINATED);
           currentProcess.setCompletionTime(currentTime);
           scheduler.onProcessCompletion(currentProcess);
@@ -105,15 +127,18 @@ public class ProcessDispatcher {
         scheduler.recordCPUExecution(currentProcess, executed);
         quantumUsed++;
         currentTime++;
-        SimulationClock.setTime(currentTime);
+        clock.moveTo(currentTime);
         
         if (activeBurst.getRemainingTime() <= 0) {
           if (currentProcess.isCompleted()) {
+            activeProcesses--;
             currentProcess.setState(Process.ProcessState.TERMINATED);
             currentProcess.setCompletionTime(currentTime);
             scheduler.onProcessCompletion(currentProcess);
-            System.out.println(String.format("[T=%d] %s TERMINADO",
-                currentTime, currentProcess.getPid()));
+            if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+              SimulationLog.log(LogLevel.DEBUG, EventCategory.CPU, currentProcess.getPid(), currentTime,
+                  String.format("[T=%d] %s TERMINADO", currentTime, currentProcess.getPid()));
+            }
             currentProcess = null;
             quantumUsed = 0;
           } else {
@@ -125,8 +150,10 @@ public class ProcessDispatcher {
             }
           }
         } else if (scheduler.isPreemptive() && quantumUsed >= quantum) {
-          System.out.println(String.format("[T=%d] %s interrumpido por quantum",
-              currentTime, currentProcess.getPid()));
+          if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+            SimulationLog.log(LogLevel.DEBUG, EventCategory.CPU, currentProcess.getPid(), quantumUsed,
+                String.format("[T=%d] %s interrumpido por quantum", currentTime, currentProcess.getPid()));
+          }
           currentProcess.setState(Process.ProcessState.READY);
           scheduler.onProcessInterrupted(currentProcess);
           
@@ -134,7 +161,8 @@ public class ProcessDispatcher {
           if (currentProcess.getRemainingCPUTime() > 0) {
             List<Process> rq = scheduler.getReadyQueue();
             if (!rq.contains(currentProcess)) {
-              System.out.println(String.format("[WARN] El scheduler %s NO reinsertó %s tras la interrupción (isPreemptive=true).",
+              SimulationLog.log(LogLevel.WARN, EventCategory.SCHEDULER, currentProcess.getPid(), -1,
+                  String.format("[WARN] El scheduler %s NO reinsertó %s tras la interrupción (isPreemptive=true).",
                   scheduler.getClass().getSimpleName(), currentProcess.getPid()));
             }
           }
@@ -145,41 +173,36 @@ public class ProcessDispatcher {
       
       // Prevenir loops infinitos
       if (currentTime > 1000) {
-        System.out.println("ADVERTENCIA: Ya nos pasamos mas de 1000 unidades de tiempo");
+        SimulationLog.log(LogLevel.WARN, EventCategory.SIMULATION, "ADVERTENCIA: Ya nos pasamos mas de 1000 unidades de tiempo");
         break;
       }
     }
     
     ganttChart.finalizeChart(currentTime);
-    System.out.println("\nSIMULACIoN TERMINADA");
-    System.out.println("Tiempo total: " + currentTime + " unidades");
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\nSIMULACIoN TERMINADA");
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Tiempo total: " + currentTime + " unidades");
   }
 
   /**
    * Agrega procesos que han llegado al sistema
    */
   private void addArrivingProcesses(int currentTime) {
-    for (Process process : allProcesses) {
-      if (process.getState() == Process.ProcessState.NEW && 
-          process.getArrivalTime() <= currentTime) {
-        process.setState(Process.ProcessState.READY);
-        scheduler.addProcess(process);
-        System.out.println(String.format("[T=%d] %s llega al sistema",
-            currentTime, process.getPid()));
+    Process process;
+    while ((process = arrivals.pollArrivedBy(currentTime)) != null) {
+      process.setState(Process.ProcessState.READY);
+      scheduler.addProcess(process);
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), currentTime,
+            String.format("[T=%d] %s llega al sistema", currentTime, process.getPid()));
       }
     }
   }
 
   /**
-   * Verifica si todos los procesos han terminado
+   * Verifica si todos los procesos han terminado (contador mantenido en cada terminacion)
    */
   private boolean allProcessesCompleted() {
-    for (Process process : allProcesses) {
-      if (process.getState() != Process.ProcessState.TERMINATED) {
-        return false;
-      }
-    }
-    return true;
+    return activeProcesses == 0;
   }
 
   /**
@@ -218,8 +241,11 @@ public class ProcessDispatcher {
    */
   private void handleImmediateIO(Process process, Burst ioBurst, int currentTime) {
     process.setState(Process.ProcessState.BLOCKED_IO);
-    System.out.println(String.format("[T=%d] %s bloqueado por I/O (%d unidades)",
-        currentTime, process.getPid(), ioBurst.getDuration()));
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.IO, process.getPid(), ioBurst.getDuration(),
+          String.format("[T=%d] %s bloqueado por I/O (%d unidades)",
+          currentTime, process.getPid(), ioBurst.getDuration()));
+    }
     ganttChart.addEvent(currentTime, process.getPid() + " -> I/O");
     process.completeCurrentBurst();
     process.setState(Process.ProcessState.READY);
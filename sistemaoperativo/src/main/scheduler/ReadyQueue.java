@@ -2,21 +2,33 @@
 package scheduler;
 
 import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
 import java.util.*;
 import java.util.concurrent.locks.*;
+import java.io.Serializable;
 
 /**
  * Cola de procesos lista con sincronizacion para acceso concurrente
- * Evita condiciones de carrera cuando varios hilos acceden
+ * Evita condiciones de carrera cuando varios hilos acceden.
+ * En modo SINGLE_THREADED no sincroniza y getNextProcess falla con la cola vacia.
  */
-public class ReadyQueue {
+public class ReadyQueue implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private final Queue<Process> queue;
   private final Lock lock;
   private final Condition notEmpty;
 
   public ReadyQueue() {
+    this(ConcurrencyMode.THREAD_SAFE);
+  }
+
+  public ReadyQueue(ConcurrencyMode mode) {
     this.queue = new LinkedList<>();
-    this.lock = new ReentrantLock();
+    this.lock = mode.newLock();
     this.notEmpty = lock.newCondition();
   }
 
@@ -28,8 +40,10 @@ public class ReadyQueue {
     try {
       queue.offer(process);
       notEmpty.signalAll(); // Notificar a hilos esperando
-      System.out.println("ReadyQueue: Proceso " + process.getPid() +
-          " agregado. Tamaño: " + queue.size());
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), queue.size(),
+            "ReadyQueue: Proceso " + process.getPid() + " agregado. Tamaño: " + queue.size());
+      }
     } finally {
       lock.unlock();
     }
@@ -43,13 +57,15 @@ public class ReadyQueue {
     lock.lock();
     try {
       while (queue.isEmpty()) {
-        System.out.println("ReadyQueue: Cola vacía, esperando...");
+        SimulationLog.log(LogLevel.TRACE, EventCategory.SCHEDULER, "ReadyQueue: Cola vacía, esperando...");
         notEmpty.await(); // Esperar hasta que haya procesos
       }
 
       Process process = queue.poll();
-      System.out.println("ReadyQueue: Proceso " + process.getPid() +
-          " removido. Tamaño: " + queue.size());
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), queue.size(),
+            "ReadyQueue: Proceso " + process.getPid() + " removido. Tamaño: " + queue.size());
+      }
       return process;
     } finally {
       lock.unlock();
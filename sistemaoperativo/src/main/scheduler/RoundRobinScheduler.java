@@ -2,6 +2,10 @@
 package scheduler;
 
 import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -13,10 +17,13 @@ import java.util.concurrent.locks.ReentrantLock;
  * Desventajas: Overhead por cambios de contexto
  */
 public class RoundRobinScheduler implements SchedulingAlgorithm {
+  private static final long serialVersionUID = 1L;
+
   private final Queue<Process> readyQueue;
   private final int quantum;
   private final PerformanceMetrics metrics;
-  private final Lock queueLock;
+  private Lock queueLock;
+  private SimulationClock clock;
   private int contextSwitches;
 
   public RoundRobinScheduler(int quantum) {
@@ -28,6 +35,7 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
     this.quantum = quantum;
     this.metrics = new PerformanceMetrics();
     this.queueLock = new ReentrantLock();
+    this.clock = SimulationClock.shared();
     this.contextSwitches = 0;
   }
 
@@ -46,8 +54,10 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
     queueLock.lock();
     try {
       readyQueue.offer(process);
-      System.out.println("RR: Proceso " + process.getPid() +
-          " agregado. Tamaño cola: " + readyQueue.size());
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), readyQueue.size(),
+            "RR: Proceso " + process.getPid() + " agregado. Tamaño cola: " + readyQueue.size());
+      }
     } finally {
       queueLock.unlock();
     }
@@ -58,9 +68,12 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
   public void onProcessCompletion(Process process) {
     int completionTime = process.getCompletionTime() >= 0
         ? process.getCompletionTime()
-        : SimulationClock.getTime();
+        : clock.now();
     metrics.recordCompletion(process, completionTime);
-    System.out.println("RR: Proceso " + process.getPid() + " completado");
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), completionTime,
+          "RR: Proceso " + process.getPid() + " completado");
+    }
   }
 
   @Override
@@ -71,8 +84,10 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
       try {
         readyQueue.offer(process);
         contextSwitches++;
-        System.out.println("RR: Proceso " + process.getPid() +
-            " interrumpido por quantum, reinsertado");
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), readyQueue.size(),
+              "RR: Proceso " + process.getPid() + " interrumpido por quantum, reinsertado");
+        }
       } finally {
         queueLock.unlock();
       }
@@ -81,7 +96,7 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
   
   @Override
   public void onProcessStarted(Process process) {
-    metrics.recordFirstExecution(process, SimulationClock.getTime());
+    metrics.recordFirstExecution(process, clock.now());
   }
   
   @Override
@@ -89,6 +104,26 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
     metrics.addCPUTime(process, time);
   }
 
+  @Override
+  public boolean removeProcess(Process process) {
+    queueLock.lock();
+    try {
+      return readyQueue.remove(process);
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
+  @Override
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.queueLock = mode.newLock();
+  }
+
+  @Override
+  public void setClock(SimulationClock clock) {
+    this.clock = clock;
+  }
+
   @Override
   public List<Process> getReadyQueue() {
     queueLock.lock();
@@ -99,6 +134,16 @@ public class RoundRobinScheduler implements SchedulingAlgorithm {
     }
   }
 
+  @Override
+  public int readyCount() {
+    queueLock.lock();
+    try {
+      return readyQueue.size();
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
   @Override
   public boolean isPreemptive() {
     return true; // Round Robin es apropiativo por quantum
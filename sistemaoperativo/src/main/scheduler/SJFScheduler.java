@@ -2,7 +2,12 @@
 package scheduler;
 
 import model.Process;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
 import java.util.*;
+import java.io.Serializable;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -11,9 +16,12 @@ import java.util.concurrent.locks.ReentrantLock;
  * Ejecuta primero el proceso con la rafaga de CPU mas corta.
  */
 public class SJFScheduler implements SchedulingAlgorithm {
+  private static final long serialVersionUID = 1L;
+
   private final PriorityQueue<Process> readyQueue;
   private final PerformanceMetrics metrics;
-  private final Lock queueLock;
+  private Lock queueLock;
+  private SimulationClock clock;
    private final Comparator<Process> comparator;
   private final boolean autoReinsertOnInterrupt;
 
@@ -24,16 +32,14 @@ public class SJFScheduler implements SchedulingAlgorithm {
 
     public SJFScheduler(boolean autoReinsertOnInterrupt) {
     // Comparator estable: current CPU burst, arrivalTime, pid (para determinismo)
-    Comparator<Process> cmp = Comparator
-      .comparingInt((Process p) -> p.getCurrentCPUBurstTime())
-      .thenComparingInt(Process::getArrivalTime)
-      .thenComparing(Process::getPid);
+    Comparator<Process> cmp = new BurstOrder();
 
     // Guardar comparator en campo y usarlo para la PriorityQueue
     this.comparator = cmp;
     this.readyQueue = new PriorityQueue<>(cmp);
     this.metrics = new PerformanceMetrics();
     this.queueLock = new ReentrantLock();
+    this.clock = SimulationClock.shared();
     this.autoReinsertOnInterrupt = autoReinsertOnInterrupt;
   }
 
@@ -56,9 +62,12 @@ public class SJFScheduler implements SchedulingAlgorithm {
       // Evitar duplicados y forzar re-heapify si el proceso ya estaba
       readyQueue.remove(process);
       readyQueue.offer(process);
-      System.out.println("SJF: Proceso " + process.getPid() +
-          " agregado/reordenado. Proxima rafaga: " + process.getCurrentCPUBurstTime() +
-          ". Tamaño cola: " + readyQueue.size());
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), readyQueue.size(),
+            "SJF: Proceso " + process.getPid() +
+            " agregado/reordenado. Proxima rafaga: " + process.getCurrentCPUBurstTime() +
+            ". Tamaño cola: " + readyQueue.size());
+      }
     } finally {
       queueLock.unlock();
     }
@@ -78,8 +87,11 @@ public class SJFScheduler implements SchedulingAlgorithm {
       boolean existed = readyQueue.remove(process);
       if (existed) {
         readyQueue.offer(process); // reinsertar para re-heapify
-        System.out.println("SJF: Prioridad actualizada para " + process.getPid() +
-            " (nueva rafaga: " + process.getCurrentCPUBurstTime() + ")");
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(),
+              process.getCurrentCPUBurstTime(), "SJF: Prioridad actualizada para " + process.getPid() +
+              " (nueva rafaga: " + process.getCurrentCPUBurstTime() + ")");
+        }
       }
       return existed;
     } finally {
@@ -90,12 +102,16 @@ public class SJFScheduler implements SchedulingAlgorithm {
   /**
    * Elimina un proceso de la cola si está presente.
    */
+  @Override
   public boolean removeProcess(Process process) {
     queueLock.lock();
     try {
       boolean removed = readyQueue.remove(process);
       if (removed) {
-        System.out.println("SJF: Proceso " + process.getPid() + " removido de la cola");
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), readyQueue.size(),
+              "SJF: Proceso " + process.getPid() + " removido de la cola");
+        }
       }
       return removed;
     } finally {
@@ -107,9 +123,12 @@ public class SJFScheduler implements SchedulingAlgorithm {
   public void onProcessCompletion(Process process) {
     int completionTime = process.getCompletionTime() >= 0
         ? process.getCompletionTime()
-        : SimulationClock.getTime();
+        : clock.now();
     metrics.recordCompletion(process, completionTime);
-    System.out.println("SJF: Proceso " + process.getPid() + " completado");
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), completionTime,
+          "SJF: Proceso " + process.getPid() + " completado");
+    }
   }
 
     @Override
@@ -119,21 +138,25 @@ public class SJFScheduler implements SchedulingAlgorithm {
     // - Si false (por defecto) no reinserta: se espera que Dispatcher/MemoryManager
     //   re-agregue el proceso cuando realmente esté listo (recomendado para I/O/page-fault).
     if (process == null) {
-      System.out.println("SJF: onProcessInterrupted recibido null");
+      SimulationLog.log(LogLevel.WARN, EventCategory.SCHEDULER, "SJF: onProcessInterrupted recibido null");
       return;
     }
 
     if (process.getRemainingCPUTime() > 0 && autoReinsertOnInterrupt) {
       addProcess(process); // addProcess ya gestiona los locks internamente
-      System.out.println("SJF: Proceso " + process.getPid() + " reinsertado por interrupcion");
-    } else {
-      System.out.println("SJF: Proceso " + process.getPid() + " interrumpido (no reinsertado automáticamente)");
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), -1,
+            "SJF: Proceso " + process.getPid() + " reinsertado por interrupcion");
+      }
+    } else if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SCHEDULER, process.getPid(), -1,
+          "SJF: Proceso " + process.getPid() + " interrumpido (no reinsertado automáticamente)");
     }
   }
 
   @Override
   public void onProcessStarted(Process process) {
-    metrics.recordFirstExecution(process, SimulationClock.getTime());
+    metrics.recordFirstExecution(process, clock.now());
   }
   
   @Override
@@ -141,6 +164,16 @@ public class SJFScheduler implements SchedulingAlgorithm {
     metrics.addCPUTime(process, time);
   }
 
+  @Override
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.queueLock = mode.newLock();
+  }
+
+  @Override
+  public void setClock(SimulationClock clock) {
+    this.clock = clock;
+  }
+
   @Override
   public List<Process> getReadyQueue() {
     queueLock.lock();
@@ -155,6 +188,16 @@ public class SJFScheduler implements SchedulingAlgorithm {
     }
   }
 
+  @Override
+  public int readyCount() {
+    queueLock.lock();
+    try {
+      return readyQueue.size();
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
   @Override
   public boolean isPreemptive() {
     return autoReinsertOnInterrupt;
@@ -169,4 +212,21 @@ public class SJFScheduler implements SchedulingAlgorithm {
   public PerformanceMetrics getPerformanceMetrics() {
     return metrics;
   }
+
+  /**
+   * Orden de la cola: rafaga actual, llegada, pid. Clase con nombre (no
+   * lambda) para que el planificador se pueda guardar en un checkpoint.
+   */
+  private static final class BurstOrder implements Comparator<Process>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public int compare(Process a, Process b) {
+      int c = Integer.compare(a.getCurrentCPUBurstTime(), b.getCurrentCPUBurstTime());
+      if (c == 0) {
+        c = Integer.compare(a.getArrivalTime(), b.getArrivalTime());
+      }
+      return c != 0 ? c : a.getPid().compareTo(b.getPid());
+    }
+  }
 }
\ No newline at end of file
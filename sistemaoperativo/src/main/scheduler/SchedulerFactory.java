@@ -1,6 +1,12 @@
 //src/main/scheduler/SchedulerFactory.java
 package scheduler;
 
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Factory para crear instancias de algoritmos de planificacion
  * Centraliza la creacion y permite cambiar facilmente entre algoritmos
@@ -21,18 +27,19 @@ public class SchedulerFactory {
 
     switch (type.toUpperCase()) {
       case "FCFS":
-        System.out.println("Creando scheduler FCFS");
+        SimulationLog.log(LogLevel.INFO, EventCategory.SCHEDULER, "Creando scheduler FCFS");
         return new FCFSScheduler();
 
       case "SJF":
-        System.out.println("Creando scheduler SJF");
+        SimulationLog.log(LogLevel.INFO, EventCategory.SCHEDULER, "Creando scheduler SJF");
         return new SJFScheduler();
 
       case "RR":
         if (quantum <= 0) {
           throw new IllegalArgumentException("Quantum debe ser mayor a 0 para Round Robin");
         }
-        System.out.println("Creando scheduler Round Robin con quantum: " + quantum);
+        SimulationLog.log(LogLevel.INFO, EventCategory.SCHEDULER,
+            "Creando scheduler Round Robin con quantum: " + quantum);
         return new RoundRobinScheduler(quantum);
 
       default:
@@ -40,6 +47,23 @@ public class SchedulerFactory {
     }
   }
 
+  /**
+   * Crea un planificador con una cola (e instancia del algoritmo) por nucleo
+   * @param type    Tipo de scheduler de cada nucleo (FCFS, SJF, RR)
+   * @param quantum Quantum para Round Robin (ignorado para otros)
+   * @param cores   Cantidad de nucleos
+   */
+  public static MultiQueueScheduler createPerCoreScheduler(String type, int quantum, int cores) {
+    if (cores <= 0) {
+      throw new IllegalArgumentException("La cantidad de nucleos debe ser mayor a 0");
+    }
+    List<SchedulingAlgorithm> schedulers = new ArrayList<>();
+    for (int core = 0; core < cores; core++) {
+      schedulers.add(createScheduler(type, quantum));
+    }
+    return new MultiQueueScheduler(schedulers);
+  }
+
   //Crea scheduler con quantum por defecto para RR
   public static SchedulingAlgorithm createScheduler(String type) {
     return createScheduler(type, 4); // Quantum por defecto: 4
@@ -2,13 +2,15 @@
 package scheduler;
 
 import model.Process;
+import sync.ConcurrencyMode;
 import java.util.List;
+import java.io.Serializable;
 
 /**
  * Interface común para todos los algoritmos de planificacion.
  * Define los métodos que deben implementar todos los schedulers.
  */
-public interface SchedulingAlgorithm {
+public interface SchedulingAlgorithm extends Serializable {
 
   //Obtiene el proximo proceso a ejecutar según el algoritmo
   //@return Proceso a ejecutar, o null si no hay procesos listos
@@ -46,12 +48,40 @@ public interface SchedulingAlgorithm {
    */
   void recordCPUExecution(Process process, int time);
 
+  /**
+   * Quita un proceso de la cola de listos sin ejecutarlo (migracion entre nucleos)
+   * @param process Proceso a quitar
+   * @return true si el proceso estaba en la cola
+   */
+  default boolean removeProcess(Process process) {
+    return false;
+  }
+
+  /**
+   * Reloj de la simulacion a la que pertenece el planificador. Sin llamar a
+   * este metodo se usa el reloj compartido (SimulationClock.shared()).
+   */
+  default void setClock(SimulationClock clock) {
+  }
+
+  /**
+   * Modo de concurrencia de la cola de listos; se cambia antes de usarla
+   */
+  default void setConcurrencyMode(ConcurrencyMode mode) {
+  }
+
   /**
    * Obtiene la cola actual de procesos listos para visualizacion
    * @return Lista de procesos en cola de listos
    */
   List<Process> getReadyQueue();
 
+  /**
+   * Cantidad de procesos en la cola de listos, sin copiar la cola
+   * @return Procesos listos
+   */
+  int readyCount();
+
   /**
    * Verifica si el algoritmo es apropiativo
    * @return true si es apropiativo (puede interrumpir), false si no
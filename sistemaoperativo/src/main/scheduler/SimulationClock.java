@@ -1,35 +1,72 @@
 //src/main/scheduler/SimulationClock.java
 package scheduler;
 
+import java.io.Serializable;
+
 /**
- * Reloj global sincronizado para la simulacion
- * Mantiene consistencia en el tiempo entre todos los componentes
+ * Reloj de una simulacion
+ * Cada SimulationController crea el suyo y lo entrega a sus componentes, asi
+ * varias simulaciones pueden correr a la vez en la misma JVM. Solo el hilo de
+ * la simulacion avanza el reloj y lo lee con now() (campo simple); otros
+ * hilos, como la GUI, leen la copia publicada con snapshot().
+ * Los metodos estaticos operan sobre un reloj compartido, usado por los
+ * componentes que no recibieron uno propio.
  */
-public class SimulationClock {
-  private static int currentTime = 0;
-  private static final Object lock = new Object();
+public class SimulationClock implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final SimulationClock shared = new SimulationClock();
+
+  private int time;
+  private volatile int published;
+
+  /**
+   * Tiempo actual, para el hilo que avanza el reloj
+   */
+  public int now() {
+    return time;
+  }
+
+  /**
+   * Ultimo tiempo publicado, seguro de leer desde cualquier hilo
+   */
+  public int snapshot() {
+    return published;
+  }
+
+  public void advance() {
+    published = ++time;
+  }
+
+  public void moveTo(int time) {
+    this.time = time;
+    this.published = time;
+  }
+
+  public void restart() {
+    moveTo(0);
+  }
+
+  /**
+   * Reloj compartido de los componentes sin reloj propio
+   */
+  public static SimulationClock shared() {
+    return shared;
+  }
 
   public static int getTime() {
-    synchronized (lock) {
-      return currentTime;
-    }
+    return shared.snapshot();
   }
 
   public static void incrementTime() {
-    synchronized (lock) {
-      currentTime++;
-    }
+    shared.advance();
   }
 
   public static void setTime(int time) {
-    synchronized (lock) {
-      currentTime = time;
-    }
+    shared.moveTo(time);
   }
 
   public static void reset() {
-    synchronized (lock) {
-      currentTime = 0;
-    }
+    shared.restart();
   }
-}
\ No newline at end of file
+}
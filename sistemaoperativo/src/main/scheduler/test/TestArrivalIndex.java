@@ -0,0 +1,58 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.ArrivalIndex;
+import java.util.*;
+
+/**
+ * Prueba del indice de llegadas usado por el controlador y el dispatcher
+ */
+public class TestArrivalIndex {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST INDICE DE LLEGADAS");
+
+    List<Process> processes = new ArrayList<>();
+    processes.add(create("P1", 3));
+    processes.add(create("P2", 0));
+    processes.add(create("P3", 3));
+    processes.add(create("P4", -1));
+    processes.add(create("P5", 7));
+
+    // Llegada exacta: P4 (negativo) nunca se admite, P1 y P3 conservan su orden
+    ArrivalIndex index = new ArrivalIndex(processes);
+    StringBuilder exact = new StringBuilder();
+    for (int t = 0; t <= 8; t++) {
+      Process p;
+      while ((p = index.pollArrivalAt(t)) != null) {
+        exact.append(p.getPid()).append("@").append(t).append(" ");
+      }
+    }
+    test.check("Llegadas exactas: " + exact.toString().trim(), exact.toString().trim().equals("P2@0 P1@3 P3@3 P5@7"));
+
+    // Llegada acumulada: todo lo que llego hasta t=5
+    index.reset();
+    StringBuilder arrived = new StringBuilder();
+    Process p;
+    while ((p = index.pollArrivedBy(5)) != null) {
+      arrived.append(p.getPid()).append(" ");
+    }
+    test.check("Llegados hasta t=5: " + arrived.toString().trim()
+        + " (proxima llegada en t=" + index.nextArrivalTime() + ")",
+        arrived.toString().trim().equals("P4 P2 P1 P3") && index.nextArrivalTime() == 7);
+
+    // Los procesos que ya no estan en NEW se omiten
+    index.reset();
+    processes.get(1).setState(Process.ProcessState.READY);
+    Process none = index.pollArrivalAt(0);
+    test.check("P2 ya admitido, siguiente en t=0: " + none, none == null && index.nextArrivalTime() == 3);
+
+    test.finish();
+  }
+
+  private static Process create(String pid, int arrival) {
+    return new Process(pid, arrival, Arrays.asList(new Burst(Burst.BurstType.CPU, 2)), 1, 1);
+  }
+}
@@ -0,0 +1,352 @@
+package scheduler.test;
+
+import model.Burst;
+import model.Process;
+import scheduler.*;
+import memory.*;
+import io.IODevice;
+import io.IOManager;
+import simulation.SimulationCheckpoint;
+import simulation.SimulationController;
+import sync.ConcurrencyMode;
+import config.ArrivalProcess;
+import config.ProcessConfigParser;
+import config.WorkloadGenerator;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Prueba de checkpoint y restore: pausar con runUntil, guardar, restaurar y
+ * continuar da la misma simulacion que correrla de una vez (ticks, eventos,
+ * multinucleo, todos los algoritmos de reemplazo, E/S, control de carga y
+ * llegadas desde un flujo serializable);
+ * las ramas de un checkpoint son independientes y corren en paralelo, y
+ * restore rechaza clases ajenas al simulador y grafos demasiado profundos
+ */
+public class TestCheckpoint {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST CHECKPOINT").silenceLog();
+
+    // 1. Pausa + checkpoint + restore en cada modo y algoritmo
+    for (String replacement : PageReplacementFactory.ALGORITHMS) {
+      for (boolean eventDriven : new boolean[]{false, true}) {
+        Case c = new Case("config/caso_dispositivos.txt", "RR", replacement, 1, eventDriven, false);
+        test.check(String.format("  %-13s %-7s: restaurado igual a sin pausa", replacement,
+            eventDriven ? "eventos" : "ticks"), roundTrip(c));
+      }
+    }
+    test.check("FCFS por ticks", roundTrip(new Case("config/caso_cpu_io.txt", "FCFS", "CLOCK", 1, false, false)));
+    test.check("SJF por eventos", roundTrip(new Case("config/caso_cpu_io.txt", "SJF", "LIRS", 1, true, false)));
+    test.check("2 nucleos, cola global", roundTrip(new Case("config/caso_multinucleo.txt", "RR", "ARC", 2, false, false)));
+    test.check("2 nucleos, colas por nucleo", roundTrip(new Case("config/caso_multinucleo.txt", "RR*", "LRU", 2, false, false)));
+    test.check("Control de carga por ticks", roundTrip(new Case("config/caso_thrashing_control.txt", "RR", "LRU", 1, false, true)));
+    test.check("Control de carga por eventos", roundTrip(new Case("config/caso_thrashing_control.txt", "RR", "LRU", 1, true, true)));
+    test.check("Flujo de llegadas por ticks", streamedRoundTrip(false));
+    test.check("Flujo de llegadas por eventos", streamedRoundTrip(true));
+
+    // 2. Pausar varias veces sin checkpoint no cambia el resultado
+    Case rr = new Case("config/caso_dispositivos.txt", "RR", "GCLOCK", 1, true, false);
+    String expected = fingerprint(runToEnd(rr.build()));
+    SimulationController stepped = rr.build();
+    int pauses = 0;
+    for (int t = 5; stepped.runUntil(t); t += 5) {
+      pauses++;
+    }
+    test.check("Pausas cada 5 unidades (" + pauses + ") sin cambios", pauses > 1 && expected.equals(fingerprint(stepped)));
+
+    // 3. Una pausa no deja cambiar de modo; terminar antes de la pausa no pausa
+    SimulationController paused = rr.build();
+    paused.runUntil(10);
+    test.check("Pausada rechaza cambiar de modo", rejectsModeChange(paused));
+    SimulationController finished = rr.build();
+    test.check("runUntil despues del final termina sin pausa", !finished.runUntil(Integer.MAX_VALUE - 1)
+        && !finished.isPaused() && expected.equals(fingerprint(finished)));
+
+    // 4. Guardar y cargar desde archivo
+    Path dir = Files.createTempDirectory("checkpoints");
+    SimulationController toSave = rr.build();
+    toSave.runUntil(12);
+    SimulationCheckpoint saved = toSave.checkpoint();
+    Path file = dir.resolve("caso.sckp");
+    saved.save(file);
+    SimulationCheckpoint loaded = SimulationCheckpoint.load(file);
+    test.check("Archivo: mismo tiempo y continua igual", loaded.getTime() == saved.getTime()
+        && expected.equals(fingerprint(runToEnd(loaded.restore()))));
+    test.check("Byte alterado rechazado", rejected(corrupt(file, dir.resolve("alterado.sckp"))));
+    test.check("Archivo truncado rechazado", rejected(truncate(file, dir.resolve("corto.sckp"))));
+    test.check("Archivo ajeno rechazado", rejected(Paths.get("config/caso_dispositivos.txt")));
+    List<Object> nested = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      nested = new ArrayList<>(Collections.singletonList(nested));
+    }
+    test.check("Clase fuera del filtro rechazada al restaurar",
+        restoreRejected(forge(file, dir.resolve("ajeno.sckp"), new TreeMap<String, String>())));
+    test.check("Grafo demasiado profundo rechazado al restaurar",
+        restoreRejected(forge(file, dir.resolve("profundo.sckp"), nested)));
+
+    // 5. Ramas "que pasaria si" desde un mismo checkpoint, en paralelo
+    WorkloadGenerator generator = new WorkloadGenerator(25);
+    generator.setArrivals(ArrivalProcess.poisson(0.05));
+    List<Process> workload = generator.generate(2000);
+    SimulationController large = new SimulationController(new RoundRobinScheduler(4),
+        new MemoryManager(48, new FIFOPageReplacement()), new IOManager(), 4, 5000000);
+    large.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    large.setReportEnabled(false);
+    large.setEventDriven(true);
+    large.addProcesses(workload);
+    large.runUntil(workload.get(workload.size() / 2).getArrivalTime());
+    long start = System.nanoTime();
+    SimulationCheckpoint checkpoint = large.checkpoint();
+    long save = System.nanoTime() - start;
+    int restores = 20;
+    start = System.nanoTime();
+    for (int i = 0; i < restores; i++) {
+      checkpoint.restore();
+    }
+    long restore = (System.nanoTime() - start) / restores;
+    System.out.println(String.format("  checkpoint en t=%d: %d bytes, guardar %d ms, restaurar %.2f ms",
+        checkpoint.getTime(), checkpoint.getSize(), save / 1000000, restore / 1e6));
+
+    List<Function<SimulationController, String>> branches = Arrays.asList(
+        TestCheckpoint::continueAsIs,
+        c -> switchTo(c, new LRUPageReplacement()),
+        c -> switchTo(c, new ARCPageReplacement()),
+        TestCheckpoint::continueAsIs);
+    List<String> sequential = checkpoint.fork(branches, 1);
+    List<String> parallel = checkpoint.fork(branches, 4);
+    String continued = fingerprint(runToEnd(large));
+    test.check("Ramas en paralelo iguales a secuenciales", sequential.equals(parallel));
+    test.check("Rama sin cambios igual a continuar el original", continued.equals(parallel.get(0))
+        && continued.equals(parallel.get(3)));
+    test.check("Ramas con otro algoritmo terminan todos los procesos", completesAll(parallel.get(1), workload.size())
+        && completesAll(parallel.get(2), workload.size()));
+
+    test.finish();
+  }
+
+  /**
+   * Configuracion de una simulacion; "RR*" usa una cola por nucleo
+   */
+  private static final class Case {
+    final String config;
+    final String scheduler;
+    final String replacement;
+    final int cores;
+    final boolean eventDriven;
+    final boolean loadControl;
+
+    Case(String config, String scheduler, String replacement, int cores, boolean eventDriven, boolean loadControl) {
+      this.config = config;
+      this.scheduler = scheduler;
+      this.replacement = replacement;
+      this.cores = cores;
+      this.eventDriven = eventDriven;
+      this.loadControl = loadControl;
+    }
+
+    SimulationController build() throws IOException {
+      List<Process> processes = ProcessConfigParser.parseFromFile(config);
+      IOManager io = new IOManager();
+      for (IODevice device : ProcessConfigParser.parseDevicesFromFile(config)) {
+        io.registerDevice(device);
+      }
+      SchedulingAlgorithm algorithm = scheduler.equals("RR*")
+          ? SchedulerFactory.createPerCoreScheduler("RR", 3, cores)
+          : SchedulerFactory.createScheduler(scheduler, 3);
+      MemoryManager memory = new MemoryManager(8, PageReplacementFactory.createAlgorithm(replacement));
+      if (loadControl) {
+        memory.setPageFaultServiceTime(4);
+      }
+      SimulationController controller = new SimulationController(algorithm, memory, io, 3, 1000);
+      controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+      controller.setReportEnabled(false);
+      controller.setEventDriven(eventDriven);
+      controller.setCoreCount(cores);
+      if (loadControl) {
+        controller.setLoadController(new LoadController(memory, 4));
+      }
+      controller.addProcesses(processes);
+      return controller;
+    }
+  }
+
+  /**
+   * Pausa a un tercio, guarda, restaura dos veces y compara cada copia
+   * (y el original continuado) con la simulacion sin pausa
+   */
+  private static boolean roundTrip(Case c) throws IOException {
+    SimulationController reference = runToEnd(c.build());
+    String expected = fingerprint(reference);
+    SimulationController controller = c.build();
+    if (!controller.runUntil(Math.max(1, reference.getClock().now() / 3))) {
+      return false;
+    }
+    SimulationCheckpoint checkpoint = controller.checkpoint();
+    SimulationController first = checkpoint.restore();
+    SimulationController second = checkpoint.restore();
+    return first != second && checkpoint.getTime() == controller.getClock().now()
+        && expected.equals(fingerprint(runToEnd(first)))
+        && expected.equals(fingerprint(runToEnd(second)))
+        && expected.equals(fingerprint(runToEnd(controller)));
+  }
+
+  /**
+   * Simulacion con llegadas desde un flujo serializable, pausada en t=5
+   */
+  private static boolean streamedRoundTrip(boolean eventDriven) {
+    String expected = fingerprint(runToEnd(streamed(eventDriven)));
+    SimulationController controller = streamed(eventDriven);
+    if (!controller.runUntil(5)) {
+      return false;
+    }
+    SimulationCheckpoint checkpoint = controller.checkpoint();
+    return completesAll(expected, 12) && expected.equals(fingerprint(runToEnd(checkpoint.restore())))
+        && expected.equals(fingerprint(runToEnd(controller)));
+  }
+
+  private static SimulationController streamed(boolean eventDriven) {
+    SimulationController controller = new SimulationController(new RoundRobinScheduler(3),
+        new MemoryManager(8, new LRUPageReplacement()), new IOManager(), 3, 1000);
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    controller.setReportEnabled(false);
+    controller.setEventDriven(eventDriven);
+    controller.setArrivalSource(new GeneratedArrivals(12));
+    return controller;
+  }
+
+  /**
+   * Flujo de llegadas serializable: un proceso cada 2 unidades, que el
+   * checkpoint guarda junto con su posicion
+   */
+  private static final class GeneratedArrivals implements Iterator<Process>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int count;
+    private int next;
+
+    GeneratedArrivals(int count) {
+      this.count = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < count;
+    }
+
+    @Override
+    public Process next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<Burst> bursts = new ArrayList<>();
+      bursts.add(new Burst(Burst.BurstType.CPU, 2 + next % 4));
+      Process p = new Process("S" + next, next * 2, bursts, 1, 2 + next % 3);
+      next++;
+      return p;
+    }
+  }
+
+  private static SimulationController runToEnd(SimulationController controller) {
+    controller.runSimulation();
+    return controller;
+  }
+
+  private static String continueAsIs(SimulationController controller) {
+    return fingerprint(runToEnd(controller));
+  }
+
+  private static String switchTo(SimulationController controller, PageReplacementAlgorithm algorithm) {
+    controller.getMemoryManager().setReplacementAlgorithm(algorithm);
+    return fingerprint(runToEnd(controller));
+  }
+
+  /**
+   * Resultado observable: Gantt de cada nucleo, reporte de metricas,
+   * reloj, CPU ocupada y fallos de pagina
+   */
+  private static String fingerprint(SimulationController controller) {
+    StringBuilder sb = new StringBuilder();
+    for (int lane = 0; lane < controller.getCoreCount(); lane++) {
+      sb.append(controller.getCoreGanttChart(lane)).append('\n');
+    }
+    PerformanceMetrics metrics = controller.getScheduler().getPerformanceMetrics();
+    MemoryManager memory = controller.getMemoryManager();
+    sb.append(metrics.generateReport()).append('\n')
+        .append("completados=").append(metrics.getCompletedProcessCount())
+        .append(" t=").append(controller.getClock().now())
+        .append(" cpu=").append(controller.getCPUBusyTime())
+        .append(" fallos=").append(memory.getPageFaults())
+        .append(" accesos=").append(memory.getMemoryAccesses());
+    return sb.toString();
+  }
+
+  private static boolean completesAll(String fingerprint, int processes) {
+    return fingerprint.contains("completados=" + processes + " ");
+  }
+
+  private static boolean rejectsModeChange(SimulationController controller) {
+    try {
+      controller.setEventDriven(false);
+      return false;
+    } catch (IllegalStateException e) {
+      return true;
+    }
+  }
+
+  private static Path corrupt(Path source, Path target) throws IOException {
+    byte[] data = Files.readAllBytes(source);
+    data[data.length / 2] ^= 0x5A;
+    return Files.write(target, data);
+  }
+
+  private static Path truncate(Path source, Path target) throws IOException {
+    Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() / 2);
+    }
+    return target;
+  }
+
+  /**
+   * Checkpoint con cabecera y CRC validos pero otro contenido serializado
+   */
+  private static Path forge(Path source, Path target, Object payload) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(payload);
+    }
+    byte[] state = bytes.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(state);
+    ByteBuffer data = ByteBuffer.allocate(24 + state.length).order(ByteOrder.LITTLE_ENDIAN);
+    data.put(Files.readAllBytes(source), 0, 12).putLong(state.length).putInt((int) crc.getValue()).put(state);
+    return Files.write(target, data.array());
+  }
+
+  private static boolean restoreRejected(Path file) throws IOException {
+    SimulationCheckpoint checkpoint = SimulationCheckpoint.load(file);
+    try {
+      checkpoint.restore();
+      return false;
+    } catch (IllegalStateException e) {
+      return e.getCause() instanceof InvalidClassException;
+    }
+  }
+
+  private static boolean rejected(Path file) {
+    try {
+      SimulationCheckpoint.load(file);
+      return false;
+    } catch (IOException e) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package scheduler.test;
+
+import memory.*;
+import java.util.*;
+
+/**
+ * Prueba de CLOCK, Segunda Oportunidad Mejorado y GCLOCK sobre trazas sinteticas,
+ * comparando fallos contra FIFO, LRU y el limite de Optimal
+ */
+public class TestClockAlgorithms {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST ALGORITMOS CLOCK");
+
+    int[] trace = localityTrace(200000, 200, 7);
+    boolean[] writes = writeFlags(trace.length, 0.3, 11);
+    int frameCount = 32;
+
+    // 1. CLOCK elige las mismas victimas que una cola FIFO con segunda oportunidad
+    List<Integer> clockVictims = new ArrayList<>();
+    simulate(new ClockPageReplacement(), trace, writes, frameCount, clockVictims, false);
+    List<Integer> queueVictims = secondChanceQueue(trace, frameCount);
+    test.check("CLOCK vs cola de segunda oportunidad: " + clockVictims.size() + " victimas",
+        clockVictims.equals(queueVictims));
+
+    // 2. Segunda Oportunidad Mejorado siempre elige la clase (R,M) mas baja disponible
+    boolean classesOk = simulate(new EnhancedSecondChancePageReplacement(), trace, writes,
+        frameCount, null, true) >= 0;
+    test.check("Segunda Oportunidad Mejorado respeta el orden de clases", classesOk);
+
+    // 3. Fallos por algoritmo: ninguno puede bajar del optimo
+    System.out.println("\nFallos con " + frameCount + " marcos y " + trace.length + " referencias:");
+    int optimalFaults = simulate(optimal(trace), trace, writes, frameCount, null, false);
+    for (String name : PageReplacementFactory.ALGORITHMS) {
+      PageReplacementAlgorithm algorithm = name.equals("Optimal")
+          ? optimal(trace) : PageReplacementFactory.createAlgorithm(name);
+      int faults = simulate(algorithm, trace, writes, frameCount, null, false);
+      test.check(String.format("  %-14s fallos=%6d (%.2fx optimo)",
+          name, faults, faults / (double) optimalFaults), faults >= optimalFaults);
+    }
+
+    test.finish();
+  }
+
+  private static OptimalPageReplacement optimal(int[] trace) {
+    OptimalPageReplacement optimal = new OptimalPageReplacement();
+    optimal.setFutureAccesses("P1", trace);
+    return optimal;
+  }
+
+  /**
+   * Ejecuta la traza contra el algoritmo con los bits R/M como los activa MemoryManager.
+   * Devuelve los fallos, o -1 si checkClasses detecta una victima de clase incorrecta
+   */
+  private static int simulate(PageReplacementAlgorithm algorithm, int[] trace, boolean[] writes,
+      int frameCount, List<Integer> victims, boolean checkClasses) {
+    List<PageFrame> frames = new ArrayList<>();
+    for (int i = 0; i < frameCount; i++) {
+      frames.add(new PageFrame(i));
+    }
+    Map<Integer, Integer> resident = new HashMap<>();
+    int faults = 0;
+
+    for (int t = 0; t < trace.length; t++) {
+      int page = trace[t];
+      Integer frame = resident.get(page);
+      if (frame == null) {
+        faults++;
+        if (resident.size() < frameCount) {
+          frame = resident.size();
+        } else {
+          int[] classes = new int[frameCount];
+          int lowestClass = 3;
+          for (int i = 0; i < frameCount; i++) {
+            classes[i] = pageClass(frames.get(i));
+            lowestClass = Math.min(lowestClass, classes[i]);
+          }
+          frame = algorithm.selectVictimFrame(frames, t);
+          PageFrame target = frames.get(frame);
+          if (checkClasses && classes[frame] != lowestClass) {
+            return -1;
+          }
+          if (victims != null) {
+            victims.add(target.getPageId());
+          }
+          resident.remove(target.getPageId());
+          target.unloadPage();
+          algorithm.notifyPageUnloaded(frame);
+        }
+        frames.get(frame).loadPage("P1", page, t);
+        resident.put(page, frame);
+        algorithm.notifyPageLoaded(frame, "P1", page, t);
+      }
+      frames.get(frame).access(t, writes[t]);
+      algorithm.notifyPageAccess(frame, "P1", page, t);
+    }
+    return faults;
+  }
+
+  /**
+   * Clase de Segunda Oportunidad Mejorado medida antes de que el algoritmo toque los bits
+   */
+  private static int pageClass(PageFrame frame) {
+    return (frame.isReferenced() ? 2 : 0) + (frame.isDirty() ? 1 : 0);
+  }
+
+  /**
+   * Segunda oportunidad como cola: la pagina del frente con bit activo va al final
+   */
+  private static List<Integer> secondChanceQueue(int[] trace, int frameCount) {
+    Deque<Integer> queue = new ArrayDeque<>();
+    Map<Integer, Boolean> referenced = new HashMap<>();
+    List<Integer> victims = new ArrayList<>();
+    for (int page : trace) {
+      if (!referenced.containsKey(page)) {
+        if (queue.size() == frameCount) {
+          while (referenced.get(queue.peekFirst())) {
+            int second = queue.pollFirst();
+            referenced.put(second, false);
+            queue.addLast(second);
+          }
+          int victim = queue.pollFirst();
+          referenced.remove(victim);
+          victims.add(victim);
+        }
+        queue.addLast(page);
+      }
+      referenced.put(page, true);
+    }
+    return victims;
+  }
+
+  private static int[] localityTrace(int length, int pages, long seed) {
+    Random random = new Random(seed);
+    int[] trace = new int[length];
+    int base = 0;
+    for (int i = 0; i < length; i++) {
+      // Cambio de fase cada 5000 referencias; 80% dentro de la ventana activa
+      if (i % 5000 == 0) {
+        base = random.nextInt(pages);
+      }
+      trace[i] = random.nextInt(10) < 8 ? (base + random.nextInt(24)) % pages : random.nextInt(pages);
+    }
+    return trace;
+  }
+
+  private static boolean[] writeFlags(int length, double ratio, long seed) {
+    Random random = new Random(seed);
+    boolean[] writes = new boolean[length];
+    for (int i = 0; i < length; i++) {
+      writes[i] = random.nextDouble() < ratio;
+    }
+    return writes;
+  }
+}
@@ -141,7 +141,7 @@ public class TestCompleteSimulation {
       System.out.println("\n>> Probando " + name);
       
       // Clonar procesos
-      List<Process> processes = cloneProcesses(baseProcesses);
+      List<Process> processes = TestSupport.copies(baseProcesses);
       
       SchedulingAlgorithm scheduler;
       int quantum = 0;
@@ -197,7 +197,7 @@ public class TestCompleteSimulation {
     for (String alg : algorithms) {
       System.out.println("\n>> Probando " + alg);
       
-      List<Process> processes = cloneProcesses(baseProcesses);
+      List<Process> processes = TestSupport.copies(baseProcesses);
       
       PageReplacementAlgorithm pageAlgorithm;
       switch (alg) {
@@ -273,18 +273,4 @@ public class TestCompleteSimulation {
     List<Burst> bursts = Arrays.asList(new Burst(Burst.BurstType.CPU, cpuTime));
     return new Process(pid, arrival, bursts, 1, pages);
   }
-  
-  private static List<Process> cloneProcesses(List<Process> original) {
-    List<Process> clones = new ArrayList<>();
-    for (Process p : original) {
-      List<Burst> newBursts = new ArrayList<>();
-      for (Burst b : p.getBursts()) {
-        newBursts.add(new Burst(b.getType(), b.getDuration()));
-      }
-      Process clone = new Process(p.getPid(), p.getArrivalTime(), newBursts,
-          p.getPriority(), p.getRequiredPages());
-      clones.add(clone);
-    }
-    return clones;
-  }
 }
@@ -0,0 +1,111 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.util.*;
+
+/**
+ * Verifica que el motor por eventos discretos produzca el mismo diagrama de Gantt
+ * y las mismas métricas que el bucle por ticks
+ */
+public class TestEventDrivenSimulation {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST MOTOR POR EVENTOS").silenceLog();
+
+    String[] configFiles = {
+        "config/procesos.txt",
+        "config/caso_convoy.txt",
+        "config/caso_cpu_io.txt",
+        "config/caso_quantum.txt",
+        "config/caso_thrashing.txt",
+        "config/procesos_io.txt"
+    };
+    String[] schedulers = {"FCFS", "SJF", "RR"};
+    String[] memoryAlgorithms = {"FIFO", "LRU", "Optimal"};
+
+    for (String file : configFiles) {
+      List<Process> base;
+      try {
+        base = ProcessConfigParser.parseFromFile(file);
+      } catch (Exception e) {
+        System.out.println("(Se omite " + file + ": " + e.getMessage() + ")");
+        continue;
+      }
+      for (String sched : schedulers) {
+        for (String mem : memoryAlgorithms) {
+          compare(file + " " + sched + "+" + mem, base, sched, mem, 8, 300);
+        }
+      }
+    }
+
+    // Rafagas largas: el motor por eventos no debe iterar unidad por unidad
+    List<Process> longBursts = new ArrayList<>();
+    longBursts.add(new Process("L1", 0, Arrays.asList(
+        new Burst(Burst.BurstType.CPU, 50),
+        new Burst(Burst.BurstType.IO, 30),
+        new Burst(Burst.BurstType.CPU, 40)), 1, 3));
+    longBursts.add(new Process("L2", 5, Arrays.asList(
+        new Burst(Burst.BurstType.CPU, 35),
+        new Burst(Burst.BurstType.CPU, 10)), 1, 2));
+    longBursts.add(new Process("L3", 200, Arrays.asList(
+        new Burst(Burst.BurstType.IO, 4),
+        new Burst(Burst.BurstType.CPU, 7)), 1, 2));
+    compare("Rafagas largas RR", longBursts, "RR", "LRU", 4, 1000);
+    compare("Rafagas largas FCFS", longBursts, "FCFS", "FIFO", 4, 1000);
+    compare("Tiempo maximo alcanzado", longBursts, "RR", "LRU", 4, 60);
+
+    test.finish();
+  }
+
+  private static void compare(String name, List<Process> base, String sched, String mem,
+                              int frames, int maxTime) {
+    SimulationController tick = run(base, sched, mem, frames, maxTime, false);
+    SimulationController event = run(base, sched, mem, frames, maxTime, true);
+
+    List<String> diffs = new ArrayList<>();
+    if (!tick.getGanttChart().toString().equals(event.getGanttChart().toString())) {
+      diffs.add("Gantt");
+    }
+    if (!tick.getScheduler().getMetrics().equals(event.getScheduler().getMetrics())) {
+      diffs.add("Metricas");
+    }
+    if (tick.getMemoryManager().getPageFaults() != event.getMemoryManager().getPageFaults()
+        || tick.getMemoryManager().getPageReplacements() != event.getMemoryManager().getPageReplacements()) {
+      diffs.add("Memoria");
+    }
+    if (tick.getIOManager().getCompletedIOOperations() != event.getIOManager().getCompletedIOOperations()) {
+      diffs.add("E/S");
+    }
+
+    test.check(diffs.isEmpty() ? name : name + " (difiere en " + diffs + ")", diffs.isEmpty());
+  }
+
+  private static SimulationController run(List<Process> base, String sched, String mem,
+                                          int frames, int maxTime, boolean eventDriven) {
+    int quantum = sched.equals("RR") ? 3 : 0;
+    SchedulingAlgorithm scheduler = SchedulerFactory.createScheduler(sched, 3);
+    PageReplacementAlgorithm algorithm;
+    switch (mem) {
+      case "FIFO":
+        algorithm = new FIFOPageReplacement();
+        break;
+      case "Optimal":
+        algorithm = new OptimalPageReplacement();
+        break;
+      default:
+        algorithm = new LRUPageReplacement();
+    }
+
+    SimulationController controller = new SimulationController(
+        scheduler, new MemoryManager(frames, algorithm), new IOManager(), quantum, maxTime);
+    controller.setEventDriven(eventDriven);
+    return TestSupport.run(controller, base);
+  }
+}
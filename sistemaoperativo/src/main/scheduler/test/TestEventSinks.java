@@ -0,0 +1,121 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import log.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Verifica los destinos de eventos: la simulacion debe producir el mismo resultado
+ * con la salida deshabilitada, en binario o asincrona
+ */
+public class TestEventSinks {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws Exception {
+    test = TestSupport.begin("TEST DESTINOS DE EVENTOS");
+    SimulationEventSink original = test.getOriginalSink();
+
+    String reference = runAndCapture();
+
+    // 1. Salida deshabilitada
+    SimulationLog.disable();
+    String silent = runAndCapture();
+    SimulationLog.setSink(original);
+    test.check("Sin salida, mismo Gantt", reference.equals(silent));
+
+    // 2. Registro binario solo con eventos DEBUG o superiores
+    File binary = File.createTempFile("eventos", ".bin");
+    binary.deleteOnExit();
+    BinaryEventSink binarySink = new BinaryEventSink(binary.getPath(), LogLevel.DEBUG, true);
+    SimulationLog.setSink(binarySink);
+    String fromBinary = runAndCapture();
+    SimulationLog.setSink(original);
+    binarySink.close();
+    long written = binarySink.getRecordCount();
+    ByteArrayOutputStream dumped = new ByteArrayOutputStream();
+    long read = BinaryEventSink.dump(binary.getPath(), new PrintStream(dumped));
+    test.check("Binario, mismo Gantt", reference.equals(fromBinary));
+    test.check(String.format("Binario, registros escritos=%d leidos=%d", written, read),
+        written > 0 && written == read);
+    // Despachos y rafagas llevan el PID y un valor numerico, no solo el texto
+    boolean structured = false;
+    boolean anonymous = false;
+    for (String line : dumped.toString().split("\n")) {
+      if (line.contains("Ejecutando proceso") || line.contains("Restante burst")) {
+        structured = true;
+        anonymous |= line.contains("pid=-") || line.contains("value=-1 ");
+      }
+    }
+    test.check("Binario, despachos con PID y valor", structured && !anonymous);
+
+    // 3. Escritor asincrono a memoria
+    StringWriter buffer = new StringWriter();
+    AsyncTextEventSink asyncSink = new AsyncTextEventSink(buffer, LogLevel.INFO, 256);
+    SimulationLog.setSink(asyncSink);
+    runAndCapture();
+    SimulationLog.setSink(original);
+    asyncSink.close();
+    String text = buffer.toString();
+    test.check("Asincrono INFO contiene inicio", text.contains("INICIANDO SIMULACI"));
+    test.check("Asincrono INFO omite DEBUG", !text.contains("[CPU] Ejecutando"));
+
+    // 4. Escritor que falla: los eventos se descartan y close no se bloquea
+    Writer failing = new Writer() {
+      @Override
+      public void write(char[] chars, int offset, int length) throws IOException {
+        throw new IOException("disco lleno");
+      }
+
+      @Override
+      public void flush() throws IOException {
+        throw new IOException("disco lleno");
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    AsyncTextEventSink broken = new AsyncTextEventSink(new BufferedWriter(failing, 1), LogLevel.INFO, 16);
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < 1000; i++) {
+        broken.onEvent(LogLevel.INFO, EventCategory.SIMULATION, i, "P1", i, "evento " + i);
+      }
+      broken.close();
+    });
+    producer.setDaemon(true);
+    producer.start();
+    producer.join(10000);
+    test.check("Escritor con error: no bloquea y se deshabilita", !producer.isAlive()
+        && broken.getWriteError() != null && !broken.isEnabled(LogLevel.ERROR));
+
+    // 5. El sink de stdout se vacia al cerrarlo pero no cierra System.out
+    AsyncTextEventSink stdoutSink = AsyncTextEventSink.toStdout(LogLevel.INFO);
+    stdoutSink.onEvent(LogLevel.INFO, EventCategory.SIMULATION, 0, null, -1, "evento por stdout");
+    stdoutSink.close();
+    test.check("Cerrar el sink de stdout deja System.out abierto", !System.out.checkError());
+
+    test.finish();
+  }
+
+  private static String runAndCapture() {
+    List<Process> processes = new ArrayList<>();
+    processes.add(new Process("P1", 0, Arrays.asList(
+        new Burst(Burst.BurstType.CPU, 4),
+        new Burst(Burst.BurstType.IO, 2),
+        new Burst(Burst.BurstType.CPU, 2)), 1, 3));
+    processes.add(new Process("P2", 1, Arrays.asList(
+        new Burst(Burst.BurstType.CPU, 3)), 1, 2));
+
+    SimulationController controller = new SimulationController(
+        SchedulerFactory.createScheduler("RR", 2),
+        new MemoryManager(4, new LRUPageReplacement()), new IOManager(), 2, 100);
+    TestSupport.run(controller, processes);
+    return controller.getGanttChart().toString();
+  }
+}
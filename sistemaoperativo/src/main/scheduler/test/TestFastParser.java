@@ -0,0 +1,165 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import config.ArrivalProcess;
+import config.Distribution;
+import config.FastProcessParser;
+import config.ProcessConfigParser;
+import config.WorkloadGenerator;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Prueba de FastProcessParser: mismos procesos y mismos errores (con su
+ * numero de linea) que ProcessConfigParser, igual resultado en paralelo que
+ * secuencial y en flujo que en lista
+ */
+public class TestFastParser {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST PARSER RAPIDO");
+
+    // 1. Los archivos de ejemplo dan los mismos procesos
+    File[] configs = new File("config").listFiles((dir, name) -> name.endsWith(".txt"));
+    Arrays.sort(configs);
+    for (File config : configs) {
+      List<Process> expected = quiet(() -> ProcessConfigParser.parseFromFile(config.getPath()));
+      List<Process> parsed = quiet(() -> FastProcessParser.parseFile(config.getPath(), 1));
+      test.check("  " + config.getName(), same(expected, parsed));
+    }
+
+    // 2. Lineas invalidas: mismos mensajes y numeros de linea
+    File invalid = File.createTempFile("invalidos", ".txt");
+    invalid.deleteOnExit();
+    try (PrintWriter writer = new PrintWriter(invalid, "UTF-8")) {
+      writer.println("# comentario");
+      writer.println("P1 0 CPU(4),E/S(3),CPU(2) 1 4");
+      writer.println("P2 x CPU(4) 1 4");
+      writer.println("");
+      writer.println("DEVICE disco 100 fcfs");
+      writer.println("P3 2 CPU(4) 1");
+      writer.println("  P4 3 GPU(2) 1 4  ");
+      writer.println("P5\t4\tCPU(3),IO(2@disco:40)\t2\t3\tloop(0,2)");
+      writer.println("P6 5 CPU(99999999999) 1 4");
+      // Coma final: ProcessConfigParser la acepta
+      writer.println("P9 0 CPU(4),E/S(2),CPU(3), 1 4");
+      // Linea mas larga que la ventana de lectura del parser
+      writer.println("P8 6 " + String.join(",", Collections.nCopies(20000, "CPU(1),E/S(1)")) + " 1 2");
+      writer.print("P7 6 CPU(1),E/S(1@red),CPU(1) 1 2 seq(2)");
+    }
+    List<Process> expected = new ArrayList<>();
+    String expectedErrors = errors(() -> expected.addAll(ProcessConfigParser.parseFromFile(invalid.getPath())));
+    List<Process> parsed = new ArrayList<>();
+    String parsedErrors = errors(() -> parsed.addAll(FastProcessParser.parseFile(invalid.getPath(), 1)));
+    System.out.print(parsedErrors);
+    test.check("Mismos procesos validos", same(expected, parsed) && parsed.size() == 5);
+    test.check("Mismos errores y lineas", expectedErrors.equals(parsedErrors)
+        && parsedErrors.contains("línea 3:") && parsedErrors.contains("línea 9:"));
+
+    // 3. En paralelo igual que secuencial, con los numeros de linea globales
+    File large = File.createTempFile("grande", ".txt");
+    large.deleteOnExit();
+    WorkloadGenerator generator = new WorkloadGenerator(23);
+    generator.setArrivals(ArrivalProcess.poisson(1));
+    generator.setCpuBurstCount(Distribution.uniform(1, 4));
+    int total = 200000;
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(large), StandardCharsets.UTF_8))) {
+      generator.write(writer, total);
+      writer.write("MAL 1 CPU(1) 1\n");
+    }
+    List<Process> sequential = new ArrayList<>();
+    String sequentialErrors = errors(() -> sequential.addAll(FastProcessParser.parseFile(large.getPath(), 1)));
+    List<Process> parallel = new ArrayList<>();
+    String parallelErrors = errors(() -> parallel.addAll(FastProcessParser.parseFile(large.getPath(), 8)));
+    List<Process> original = new ArrayList<>();
+    errors(() -> original.addAll(ProcessConfigParser.parseFromFile(large.getPath())));
+    test.check("Paralelo igual a secuencial", same(sequential, parallel) && same(original, parallel)
+        && parallel.size() == total);
+    test.check("Error con numero de linea global", sequentialErrors.equals(parallelErrors)
+        && parallelErrors.startsWith("Error en línea " + (total + 3) + ":"));
+
+    // 4. En flujo igual que en lista
+    List<Process> streamed = new ArrayList<>();
+    String streamErrors = errors(() -> FastProcessParser.stream(large.getPath()).forEachRemaining(streamed::add));
+    test.check("Flujo igual a lista", same(sequential, streamed) && streamErrors.equals(sequentialErrors));
+
+    long start = System.nanoTime();
+    List<Process> timed = new ArrayList<>();
+    errors(() -> timed.addAll(FastProcessParser.parseFile(large.getPath(), 1)));
+    int count = timed.size();
+    double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.println(String.format("  %d lineas en %.3f s (%.0f lineas/s)", total + 3, seconds, (total + 3) / seconds));
+    test.check("Archivo grande parseado", count == total);
+
+    test.finish();
+  }
+
+  private interface Parse<T> {
+    T run() throws IOException;
+  }
+
+  private interface Action {
+    void run() throws IOException;
+  }
+
+  // Los parsers informan la cantidad leida por consola; se descarta
+  private static <T> T quiet(Parse<T> parse) throws IOException {
+    PrintStream stdout = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      return parse.run();
+    } finally {
+      System.setOut(stdout);
+    }
+  }
+
+  private static String errors(Action action) throws IOException {
+    PrintStream stderr = System.err;
+    ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    System.setErr(new PrintStream(captured, true, "UTF-8"));
+    try {
+      quiet(() -> {
+        action.run();
+        return null;
+      });
+    } finally {
+      System.setErr(stderr);
+    }
+    return captured.toString("UTF-8");
+  }
+
+  private static boolean same(List<Process> a, List<Process> b) {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    for (int i = 0; i < a.size(); i++) {
+      if (!same(a.get(i), b.get(i))) {
+        System.out.println("  Distinto: " + a.get(i).getPid() + " / " + b.get(i).getPid());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean same(Process a, Process b) {
+    if (!a.getPid().equals(b.getPid()) || a.getArrivalTime() != b.getArrivalTime()
+        || a.getPriority() != b.getPriority() || a.getRequiredPages() != b.getRequiredPages()
+        || a.getBursts().size() != b.getBursts().size()) {
+      return false;
+    }
+    for (int i = 0; i < a.getBursts().size(); i++) {
+      Burst x = a.getBursts().get(i);
+      Burst y = b.getBursts().get(i);
+      if (x.getType() != y.getType() || x.getDuration() != y.getDuration()
+          || !Objects.equals(x.getDevice(), y.getDevice()) || x.getPosition() != y.getPosition()) {
+        return false;
+      }
+    }
+    String patternA = a.getReferencePattern() == null ? null : a.getReferencePattern().spec();
+    String patternB = b.getReferencePattern() == null ? null : b.getReferencePattern().spec();
+    return Objects.equals(patternA, patternB);
+  }
+}
@@ -0,0 +1,83 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.*;
+import simulation.SimulationController;
+import java.util.*;
+
+/**
+ * Prueba de dispositivos de E/S: politicas de cola y contencion por canales
+ */
+public class TestIODevices {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST DISPOSITIVOS DE E/S").silenceLog();
+
+    // 1. Orden de atencion segun politica (cabezal en 60 tras la primera solicitud)
+    checkOrder(IOQueuePolicy.FIFO, "10 90 50 70");
+    checkOrder(IOQueuePolicy.SSTF, "50 70 90 10");
+    checkOrder(IOQueuePolicy.ELEVATOR, "70 90 50 10");
+
+    // 2. Contencion: tres procesos comparten un disco de un canal
+    SimulationController tick = runContention(false);
+    IODevice disk = tick.getIOManager().getDevice("disco");
+    System.out.println("\nMetricas del disco (por ticks):");
+    System.out.print(disk.getMetrics(SimulationClock.getTime()));
+    SimulationController event = runContention(true);
+    test.check("Espera p90 > 0 (hubo contencion)", disk.getWaitPercentile(90) > 0);
+    test.check("Cola maxima = 2", disk.getMaxQueueDepth() == 2);
+    test.check("Ticks y eventos coinciden con contencion",
+        tick.getGanttChart().toString().equals(event.getGanttChart().toString())
+            && tick.getScheduler().getMetrics().equals(event.getScheduler().getMetrics()));
+
+    test.finish();
+  }
+
+  private static void checkOrder(IOQueuePolicy policy, String expected) {
+    IOManager io = new IOManager();
+    io.registerDevice(new IODevice("disco", 1, policy));
+    int[] positions = {60, 10, 90, 50, 70};
+    for (int i = 0; i < positions.length; i++) {
+      Process p = create("P" + positions[i], positions[i]);
+      io.startIOOperation(p, p.getCurrentBurst(), 0);
+    }
+
+    StringBuilder order = new StringBuilder();
+    for (int t = 0; t <= 20; t++) {
+      for (Process p : io.drainCompletedUpTo(t)) {
+        if (!p.getPid().equals("P60")) {
+          order.append(p.getPid().substring(1)).append(" ");
+        }
+      }
+    }
+    String result = order.toString().trim();
+    test.check(String.format("%-8s atiende: %s (esperado %s)", policy, result, expected),
+        result.equals(expected));
+  }
+
+  private static Process create(String pid, int position) {
+    return new Process(pid, 0, Arrays.asList(
+        new Burst(Burst.BurstType.IO, 2, "disco", position)), 1, 1);
+  }
+
+  private static SimulationController runContention(boolean eventDriven) {
+    List<Process> processes = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      processes.add(new Process("P" + i, 0, Arrays.asList(
+          new Burst(Burst.BurstType.CPU, 1),
+          new Burst(Burst.BurstType.IO, 4, "disco", i * 10),
+          new Burst(Burst.BurstType.CPU, 1)), 1, 1));
+    }
+    IOManager io = new IOManager();
+    io.registerDevice(new IODevice("disco", 1, IOQueuePolicy.FIFO, IOServiceModel.linear(1, 0.0)));
+    SimulationController controller = new SimulationController(
+        SchedulerFactory.createScheduler("FCFS", 0),
+        new MemoryManager(4, new FIFOPageReplacement()), io, 0, 100);
+    controller.setEventDriven(eventDriven);
+    return TestSupport.run(controller, processes);
+  }
+}
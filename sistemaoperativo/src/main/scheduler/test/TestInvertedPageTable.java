@@ -0,0 +1,55 @@
+package scheduler.test;
+
+import memory.InvertedPageTable;
+import java.util.*;
+
+/**
+ * Compara la tabla de paginas invertida contra un HashMap con operaciones aleatorias
+ */
+public class TestInvertedPageTable {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST TABLA DE PAGINAS INVERTIDA");
+
+    int frames = 64;
+    InvertedPageTable table = new InvertedPageTable(frames);
+    Map<String, Integer> reference = new HashMap<>();
+    Random random = new Random(42);
+    int errors = 0;
+
+    for (int op = 0; op < 200000; op++) {
+      String pid = "P" + random.nextInt(12);
+      int page = random.nextInt(20);
+      String key = pid + ":" + page;
+
+      if (random.nextBoolean() && reference.size() < frames) {
+        int frame = random.nextInt(frames);
+        table.put(pid, page, frame);
+        reference.put(key, frame);
+      } else if (random.nextBoolean()) {
+        table.remove(pid, page);
+        reference.remove(key);
+      }
+
+      int expected = reference.getOrDefault(key, -1);
+      if (table.get(pid, page) != expected || table.size() != reference.size()) {
+        errors++;
+      }
+    }
+
+    // Verificacion completa del contenido al final
+    for (int p = 0; p < 12; p++) {
+      for (int page = 0; page < 20; page++) {
+        int expected = reference.getOrDefault("P" + p + ":" + page, -1);
+        if (table.get("P" + p, page) != expected) {
+          errors++;
+        }
+      }
+    }
+
+    System.out.println("Entradas finales: " + table.size());
+    test.check("Diferencias con HashMap: " + errors, errors == 0);
+    test.finish();
+  }
+}
@@ -0,0 +1,130 @@
+package scheduler.test;
+
+import model.Process;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Verifica que el LRU con lista enlazada elija las mismas victimas que un LRU
+ * de referencia que recorre todos los marcos, en el caso de thrashing
+ */
+public class TestLRUVictims {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST VICTIMAS LRU").silenceLog();
+    List<Process> base = ProcessConfigParser.parseFromFile("config/caso_thrashing.txt");
+
+    for (String sched : new String[]{"FCFS", "SJF", "RR"}) {
+      for (int frames : new int[]{3, 5, 8}) {
+        List<String> expected = new ArrayList<>();
+        List<String> actual = new ArrayList<>();
+        run(base, sched, frames, new RecordingAlgorithm(new ScanLRU(), expected));
+        run(base, sched, frames, new RecordingAlgorithm(new LRUPageReplacement(), actual));
+        test.check(String.format("%s con %d marcos: %d victimas", sched, frames, actual.size()),
+            expected.equals(actual));
+      }
+    }
+
+    test.finish();
+  }
+
+  private static void run(List<Process> base, String sched, int frames, PageReplacementAlgorithm algorithm) {
+    TestSupport.run(new SimulationController(
+        SchedulerFactory.createScheduler(sched, 3), new MemoryManager(frames, algorithm),
+        new IOManager(), sched.equals("RR") ? 3 : 0, 400), base);
+  }
+
+  /**
+   * LRU de referencia: recorre todos los marcos buscando el acceso mas antiguo
+   */
+  private static class ScanLRU implements PageReplacementAlgorithm {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Integer, Integer> lastAccess = new HashMap<>();
+
+    public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+      int victim = -1;
+      int oldest = Integer.MAX_VALUE;
+      for (int i = 0; i < frames.size(); i++) {
+        if (frames.get(i).isOccupied()) {
+          int time = lastAccess.getOrDefault(i, frames.get(i).getLoadTime());
+          if (time < oldest) {
+            oldest = time;
+            victim = i;
+          }
+        }
+      }
+      return victim;
+    }
+
+    public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+      lastAccess.put(frameIndex, currentTime);
+    }
+
+    public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+      lastAccess.put(frameIndex, currentTime);
+    }
+
+    public void notifyPageUnloaded(int frameIndex) {
+      lastAccess.remove(frameIndex);
+    }
+
+    public void reset() {
+      lastAccess.clear();
+    }
+
+    public String getName() {
+      return "LRU (recorrido)";
+    }
+  }
+
+  /**
+   * Envoltorio que registra cada victima elegida
+   */
+  private static class RecordingAlgorithm implements PageReplacementAlgorithm {
+    private static final long serialVersionUID = 1L;
+
+    private final PageReplacementAlgorithm delegate;
+    private final List<String> victims;
+
+    RecordingAlgorithm(PageReplacementAlgorithm delegate, List<String> victims) {
+      this.delegate = delegate;
+      this.victims = victims;
+    }
+
+    public int selectVictimFrame(List<PageFrame> frames, int currentTime) {
+      int victim = delegate.selectVictimFrame(frames, currentTime);
+      if (victim >= 0) {
+        PageFrame frame = frames.get(victim);
+        victims.add(currentTime + ":" + frame.getProcessId() + "-P" + frame.getPageId());
+      }
+      return victim;
+    }
+
+    public void notifyPageAccess(int frameIndex, String processId, int pageId, int currentTime) {
+      delegate.notifyPageAccess(frameIndex, processId, pageId, currentTime);
+    }
+
+    public void notifyPageLoaded(int frameIndex, String processId, int pageId, int currentTime) {
+      delegate.notifyPageLoaded(frameIndex, processId, pageId, currentTime);
+    }
+
+    public void notifyPageUnloaded(int frameIndex) {
+      delegate.notifyPageUnloaded(frameIndex);
+    }
+
+    public void reset() {
+      delegate.reset();
+    }
+
+    public String getName() {
+      return delegate.getName();
+    }
+  }
+}
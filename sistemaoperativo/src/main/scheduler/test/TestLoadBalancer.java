@@ -0,0 +1,174 @@
+package scheduler.test;
+
+import model.Process;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba del balanceo de carga entre nucleos: empuje periodico, robo por
+ * nucleos ociosos, afinidad y costo de migracion
+ */
+public class TestLoadBalancer {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST BALANCEO DE CARGA").silenceLog();
+
+    List<Process> mixed = ProcessConfigParser.parseFromFile("config/caso_multinucleo.txt");
+
+    // 1. Sin balanceo vs empuje, robo y ambos (costo de migracion 0)
+    SimulationController none = run(mixed, 0, false, 0, null);
+    SimulationController push = run(mixed, 4, false, 0, null);
+    SimulationController steal = run(mixed, 0, true, 0, null);
+    SimulationController both = run(mixed, 4, true, 0, null);
+    for (SimulationController controller : new SimulationController[]{none, push, steal, both}) {
+      String name = controller == none ? "Sin balanceo:" : controller == push ? "Empuje:"
+          : controller == steal ? "Robo:" : "Empuje + robo:";
+      LoadBalancer balancer = controller.getLoadBalancer();
+      System.out.println(String.format("%-15s fin=%d, ocioso con trabajo=%d, desbalance=%.2f, migraciones=%d%s",
+          name, lastCompletion(controller), controller.getIdleWithWaitingWork(),
+          controller.getAverageLoadImbalance(), controller.getMigrations(),
+          balancer == null ? "" : String.format(" (empuje=%d, robos=%d, ocio evitado=%d)",
+              balancer.getPushMigrations(), balancer.getSteals(), balancer.getIdleTimeRemoved())));
+      test.check("  Todos terminan y ningun proceso ocupa dos nucleos a la vez",
+          allTerminated(controller) && consistentLanes(controller));
+    }
+    test.check("El empuje reduce el desbalance", push.getLoadBalancer().getPushMigrations() > 0
+        && push.getAverageLoadImbalance() < none.getAverageLoadImbalance());
+    test.check("El robo reduce el tiempo ocioso con trabajo esperando",
+        steal.getLoadBalancer().getSteals() > 0 && steal.getLoadBalancer().getIdleTimeRemoved() > 0
+            && steal.getIdleWithWaitingWork() < none.getIdleWithWaitingWork());
+    test.check("Con balanceo termina antes", lastCompletion(both) < lastCompletion(none));
+
+    // 2. El costo de migracion se paga en el nucleo destino
+    SimulationController costly = run(mixed, 4, true, 3, null);
+    System.out.println(String.format("\nCosto de migracion 3: fin=%d, tiempo perdido=%d, migraciones por segundo=%.1f",
+        lastCompletion(costly), costly.getLoadBalancer().getPenaltyTime(), costly.getMigrationsPerSecond()));
+    test.check("El costo de migracion ocupa el nucleo sin avanzar procesos",
+        costly.getLoadBalancer().getPenaltyTime() >= 3 * costly.getMigrations()
+            && countLabel(costly, "MIG") == costly.getLoadBalancer().getPenaltyTime()
+            && costly.getCPUBusyTime() == both.getCPUBusyTime()
+            && allTerminated(costly) && consistentLanes(costly));
+
+    // 3. Afinidad: P2 y P4 solo pueden ejecutar en el nucleo 1
+    Map<String, Long> masks = new HashMap<>();
+    masks.put("P2", 0b10L);
+    masks.put("P4", 0b10L);
+    SimulationController pinned = run(mixed, 2, true, 1, masks);
+    boolean respected = true;
+    for (String pid : masks.keySet()) {
+      respected &= countProcess(pinned, 0, pid) == 0 && countProcess(pinned, 1, pid) > 0;
+    }
+    test.check("Los procesos con afinidad nunca ejecutan fuera de sus nucleos",
+        respected && allTerminated(pinned) && consistentLanes(pinned));
+
+    // 4. Parametros invalidos
+    LoadBalancer balancer = new LoadBalancer(SchedulerFactory.createPerCoreScheduler("RR", 3, 2));
+    boolean rejected = false;
+    try {
+      balancer.setMigrationCost(-1);
+    } catch (IllegalArgumentException e) {
+      rejected = true;
+    }
+    try {
+      new Process("X", 0, new ArrayList<>(), 1, 1).setAffinityMask(0);
+      rejected = false;
+    } catch (IllegalArgumentException e) {
+      rejected &= true;
+    }
+    SimulationController other = new SimulationController(SchedulerFactory.createPerCoreScheduler("RR", 3, 2),
+        new MemoryManager(16, new LRUPageReplacement()), new IOManager(), 3, 500);
+    try {
+      other.setLoadBalancer(balancer);
+      rejected = false;
+    } catch (IllegalArgumentException e) {
+      rejected &= true;
+    }
+    test.check("Rechaza costo negativo, afinidad vacia y balanceador de otro planificador", rejected);
+
+    test.finish();
+  }
+
+  private static SimulationController run(List<Process> base, int pushInterval, boolean stealing,
+                                          int migrationCost, Map<String, Long> masks) {
+    List<Process> masked = TestSupport.copies(base);
+    if (masks != null) {
+      for (Process p : masked) {
+        if (masks.containsKey(p.getPid())) {
+          p.setAffinityMask(masks.get(p.getPid()));
+        }
+      }
+    }
+    MultiQueueScheduler scheduler = SchedulerFactory.createPerCoreScheduler("RR", 3, 2);
+    SimulationController controller = new SimulationController(
+        scheduler, new MemoryManager(16, new LRUPageReplacement()), new IOManager(), 3, 500);
+    if (pushInterval > 0 || stealing) {
+      LoadBalancer balancer = new LoadBalancer(scheduler);
+      balancer.setPushInterval(pushInterval);
+      balancer.setStealing(stealing);
+      balancer.setMigrationCost(migrationCost);
+      balancer.setCacheWarmth(3, migrationCost == 0 ? 0 : 2);
+      controller.setLoadBalancer(balancer);
+    }
+    return TestSupport.run(controller, masked);
+  }
+
+  /**
+   * Ningun proceso aparece en dos carriles en el mismo instante
+   */
+  private static boolean consistentLanes(SimulationController controller) {
+    for (int t = 0; t < lastCompletion(controller); t++) {
+      Set<String> running = new HashSet<>();
+      for (int core = 0; core < controller.getCoreCount(); core++) {
+        String pid = controller.getCoreGanttChart(core).getProcessAt(t);
+        if (pid == null || pid.equals("IDLE") || pid.equals("MIG")) {
+          continue;
+        }
+        if (!running.add(pid)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static int countLabel(SimulationController controller, String label) {
+    int count = 0;
+    for (int core = 0; core < controller.getCoreCount(); core++) {
+      count += countProcess(controller, core, label);
+    }
+    return count;
+  }
+
+  private static int countProcess(SimulationController controller, int core, String pid) {
+    int count = 0;
+    for (int t = 0; t < lastCompletion(controller); t++) {
+      if (pid.equals(controller.getCoreGanttChart(core).getProcessAt(t))) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int lastCompletion(SimulationController controller) {
+    int last = 0;
+    for (Process p : controller.getAllProcesses()) {
+      last = Math.max(last, p.getCompletionTime());
+    }
+    return last;
+  }
+
+  private static boolean allTerminated(SimulationController controller) {
+    for (Process p : controller.getAllProcesses()) {
+      if (p.getState() != Process.ProcessState.TERMINATED) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
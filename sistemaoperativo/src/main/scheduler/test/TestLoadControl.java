@@ -0,0 +1,84 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba del control de carga y de la asignacion por conjunto de trabajo:
+ * con fallos que cuestan tiempo, suspender procesos debe bajar la tasa de fallos
+ * y subir la utilizacion de CPU en el caso de thrashing
+ */
+public class TestLoadControl {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST CONTROL DE CARGA").silenceLog();
+
+    // 1. Antes y despues en config/caso_thrashing_control.txt
+    List<Process> base = ProcessConfigParser.parseFromFile("config/caso_thrashing_control.txt");
+    SimulationController before = run(base, false, false);
+    SimulationController after = run(base, true, false);
+    double rateBefore = before.getMemoryManager().getFaultRate();
+    double rateAfter = after.getMemoryManager().getFaultRate();
+    System.out.println(String.format("Sin control: tasa de fallos=%.3f, CPU=%.1f%%",
+        rateBefore, before.getCPUUtilization() * 100));
+    System.out.println(String.format("Con control: tasa de fallos=%.3f, CPU=%.1f%%",
+        rateAfter, after.getCPUUtilization() * 100));
+    test.check("Menos fallos con control de carga", rateAfter < rateBefore);
+    test.check("Mas utilizacion de CPU con control de carga",
+        after.getCPUUtilization() > before.getCPUUtilization());
+    test.check("Todos los procesos terminan con control de carga", allTerminated(after));
+
+    // 2. Con fallos que cuestan tiempo, ticks y eventos siguen coincidiendo
+    SimulationController tick = run(base, false, false);
+    SimulationController event = run(base, false, true);
+    test.check("Ticks y eventos con tiempo de servicio de fallos",
+        tick.getGanttChart().toString().equals(event.getGanttChart().toString())
+        && tick.getMemoryManager().getPageFaults() == event.getMemoryManager().getPageFaults());
+
+    // 3. Conjunto de trabajo: el proceso no retiene paginas fuera de la ventana
+    MemoryManager memory = new MemoryManager(16, new LRUPageReplacement());
+    memory.setWorkingSetPolicy(3);
+    Process p = new Process("W1", 0, Arrays.asList(new Burst(Burst.BurstType.CPU, 40)), 1, 10);
+    memory.loadPagesForProcess(p);
+    int maxResident = 0;
+    for (int t = 0; t < 40; t++) {
+      int page = (t / 4) % 10; // Localidad que se desplaza cada 4 accesos
+      memory.ensurePageLoaded(p, page, t);
+      memory.accessPage("W1", page, t);
+      maxResident = Math.max(maxResident, p.getPageTable().getLoadedCount());
+    }
+    System.out.println("\nResidentes maximos con ventana 3: " + maxResident);
+    test.check("Conjunto residente acotado por la ventana", maxResident <= 2);
+
+    test.finish();
+  }
+
+  private static SimulationController run(List<Process> base, boolean loadControl, boolean eventDriven) {
+    MemoryManager memory = new MemoryManager(8, new LRUPageReplacement());
+    memory.setPageFaultServiceTime(4);
+    SimulationController controller = new SimulationController(
+        new RoundRobinScheduler(3), memory, new IOManager(), 3, 1000);
+    controller.setEventDriven(eventDriven);
+    if (loadControl) {
+      controller.setLoadController(new LoadController(memory, 4));
+    }
+    return TestSupport.run(controller, base);
+  }
+
+  private static boolean allTerminated(SimulationController controller) {
+    for (Process p : controller.getAllProcesses()) {
+      if (p.getState() != Process.ProcessState.TERMINATED) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,92 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import sync.ConcurrencyMode;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba del modo SINGLE_THREADED: mismos resultados que con locks y esperas
+ * rechazadas. El costo por tick de los locks se mide en benchmark.RunBenchmarks
+ */
+public class TestLockElision {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST SIMULACION SIN LOCKS").silenceLog();
+
+    // 1. Mismo resultado con y sin locks
+    String[] files = {"config/procesos.txt", "config/caso_thrashing.txt", "config/caso_multinucleo.txt"};
+    for (String file : files) {
+      List<Process> base = ProcessConfigParser.parseFromFile(file);
+      SimulationController safe = run(base, ConcurrencyMode.THREAD_SAFE, file.contains("multinucleo") ? 2 : 1, 12);
+      SimulationController fast = run(base, ConcurrencyMode.SINGLE_THREADED, file.contains("multinucleo") ? 2 : 1, 12);
+      test.check("  " + file + ": mismo diagrama y metricas",
+          safe.getGanttChart().toString().equals(fast.getGanttChart().toString())
+              && safe.getMemoryManager().getPageFaults() == fast.getMemoryManager().getPageFaults()
+              && safe.getScheduler().getMetrics().equals(fast.getScheduler().getMetrics()));
+    }
+
+    // 2. Sin locks no se puede esperar una condicion
+    Process process = new Process("X", 0, new ArrayList<>(), 1, 1);
+    process.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    ReadyQueue queue = new ReadyQueue(ConcurrencyMode.SINGLE_THREADED);
+    int rejected = 0;
+    try {
+      process.waitForMemory();
+    } catch (IllegalStateException | InterruptedException e) {
+      rejected++;
+    }
+    try {
+      queue.getNextProcess();
+    } catch (IllegalStateException | InterruptedException e) {
+      rejected++;
+    }
+    process.signalMemoryReady();
+    queue.addProcess(process);
+    test.check("Las esperas fallan en vez de bloquear y las senales se ignoran", rejected == 2 && queue.size() == 1);
+
+    // 3. La carga del benchmark de locks termina igual en ambos modos
+    // (el costo por tick se mide con: java benchmark.RunBenchmarks --mode MODO locks)
+    List<Process> load = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      load.add(new Process("L" + i, i, Arrays.asList(new Burst(Burst.BurstType.CPU, 40),
+          new Burst(Burst.BurstType.IO, 6), new Burst(Burst.BurstType.CPU, 40)), 1, 6));
+    }
+    SimulationController safe = run(load, ConcurrencyMode.THREAD_SAFE, 1, 384);
+    SimulationController fast = run(load, ConcurrencyMode.SINGLE_THREADED, 1, 384);
+    test.check("Carga sintetica: misma finalizacion en ambos modos",
+        lastCompletion(safe) > 0 && lastCompletion(safe) == lastCompletion(fast)
+            && safe.getScheduler().getMetrics().equals(fast.getScheduler().getMetrics()));
+
+    test.finish();
+  }
+
+  private static SimulationController run(List<Process> base, ConcurrencyMode mode, int cores, int frames) {
+    SchedulingAlgorithm scheduler = cores > 1
+        ? SchedulerFactory.createPerCoreScheduler("RR", 3, cores)
+        : new RoundRobinScheduler(3);
+    MemoryManager memory = new MemoryManager(frames, new LRUPageReplacement());
+    memory.setPageFaultServiceTime(2);
+    SimulationController controller = new SimulationController(scheduler, memory, new IOManager(), 3, 100000);
+    controller.setConcurrencyMode(mode);
+    controller.setReportEnabled(false);
+    controller.addProcesses(TestSupport.copies(base));
+    controller.runSimulation();
+    return controller;
+  }
+
+  private static int lastCompletion(SimulationController controller) {
+    int last = 0;
+    for (Process p : controller.getAllProcesses()) {
+      last = Math.max(last, p.getCompletionTime());
+    }
+    return last;
+  }
+}
@@ -0,0 +1,126 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba de la simulacion con varios nucleos: cola global y colas por nucleo,
+ * utilizacion por nucleo, migraciones y desbalance de carga
+ */
+public class TestMultiCore {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST MULTINUCLEO").silenceLog();
+
+    // 1. Un nucleo con colas por nucleo se comporta igual que el planificador solo
+    List<Process> base = ProcessConfigParser.parseFromFile("config/procesos.txt");
+    SimulationController single = run(base, new RoundRobinScheduler(3), 1);
+    SimulationController oneQueue = run(base, SchedulerFactory.createPerCoreScheduler("RR", 3, 1), 1);
+    test.check("Un nucleo: mismo diagrama con cola unica y con colas por nucleo",
+        single.getGanttChart().toString().equals(oneQueue.getGanttChart().toString()));
+
+    // 2. Procesos de CPU identicos: el tiempo total se divide entre los nucleos
+    List<Process> cpuBound = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      cpuBound.add(new Process("C" + i, 0, Arrays.asList(new Burst(Burst.BurstType.CPU, 12)), 1, 2));
+    }
+    for (int cores : new int[]{1, 2, 4}) {
+      SimulationController controller = run(cpuBound, new RoundRobinScheduler(3), cores);
+      int makespan = lastCompletion(controller);
+      System.out.println(String.format("  %d nucleo(s): fin=%d, utilizacion=%.1f%%",
+          cores, makespan, controller.getCPUUtilization() * 100));
+      test.check("  Fin en 48/" + cores + " unidades", makespan == 48 / cores
+          && controller.getCPUBusyTime() == 48 && consistentLanes(controller));
+    }
+
+    // 3. Cola global vs colas por nucleo en config/caso_multinucleo.txt
+    List<Process> mixed = ProcessConfigParser.parseFromFile("config/caso_multinucleo.txt");
+    SimulationController global = run(mixed, new RoundRobinScheduler(3), 2);
+    SimulationController perCore = run(mixed, SchedulerFactory.createPerCoreScheduler("RR", 3, 2), 2);
+    System.out.println();
+    for (SimulationController controller : new SimulationController[]{global, perCore}) {
+      System.out.println(String.format("%-16s fin=%d, nucleo0=%.1f%%, nucleo1=%.1f%%, migraciones=%d, desbalance=%.2f",
+          controller == global ? "Cola global:" : "Colas por nucleo:", lastCompletion(controller),
+          controller.getCoreUtilization(0) * 100, controller.getCoreUtilization(1) * 100,
+          controller.getMigrations(), controller.getAverageLoadImbalance()));
+      test.check("  Todos terminan y ningun proceso ocupa dos nucleos a la vez",
+          allTerminated(controller) && consistentLanes(controller));
+    }
+    test.check("Las colas por nucleo respetan la afinidad (sin migraciones)", perCore.getMigrations() == 0);
+    test.check("La cola global migra procesos y reduce el desbalance",
+        global.getMigrations() > 0 && global.getAverageLoadImbalance() < perCore.getAverageLoadImbalance());
+
+    // 4. readyCount coincide con el tamaño de la cola copiada en todos los planificadores
+    boolean counts = true;
+    for (String type : new String[]{"FCFS", "SJF", "RR"}) {
+      MultiQueueScheduler queues = SchedulerFactory.createPerCoreScheduler(type, 3, 2);
+      SchedulingAlgorithm alone = SchedulerFactory.createScheduler(type, 3);
+      for (Process p : TestSupport.copies(mixed)) {
+        queues.addProcess(p);
+        alone.addProcess(p);
+      }
+      counts &= alone.readyCount() == alone.getReadyQueue().size()
+          && queues.readyCount() == queues.getReadyQueue().size()
+          && queues.getReadyCount(0) == queues.getReadyQueue(0).size()
+          && queues.getReadyCount(1) == queues.getReadyQueue(1).size();
+    }
+    test.check("readyCount igual al tamaño de la cola de listos", counts);
+
+    test.finish();
+  }
+
+  private static SimulationController run(List<Process> base, SchedulingAlgorithm scheduler, int cores) {
+    SimulationController controller = new SimulationController(
+        scheduler, new MemoryManager(16, new LRUPageReplacement()), new IOManager(), 3, 500);
+    controller.setCoreCount(cores);
+    return TestSupport.run(controller, base);
+  }
+
+  /**
+   * Ningun proceso aparece en dos carriles en el mismo instante ni ejecuta antes de llegar
+   */
+  private static boolean consistentLanes(SimulationController controller) {
+    Map<String, Integer> arrivals = new HashMap<>();
+    for (Process p : controller.getAllProcesses()) {
+      arrivals.put(p.getPid(), p.getArrivalTime());
+    }
+    for (int t = 0; t < lastCompletion(controller); t++) {
+      Set<String> running = new HashSet<>();
+      for (int core = 0; core < controller.getCoreCount(); core++) {
+        String pid = controller.getCoreGanttChart(core).getProcessAt(t);
+        if (pid == null || pid.equals("IDLE")) {
+          continue;
+        }
+        if (!running.add(pid) || arrivals.get(pid) > t) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static int lastCompletion(SimulationController controller) {
+    int last = 0;
+    for (Process p : controller.getAllProcesses()) {
+      last = Math.max(last, p.getCompletionTime());
+    }
+    return last;
+  }
+
+  private static boolean allTerminated(SimulationController controller) {
+    for (Process p : controller.getAllProcesses()) {
+      if (p.getState() != Process.ProcessState.TERMINATED) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
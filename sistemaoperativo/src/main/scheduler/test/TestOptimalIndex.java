@@ -0,0 +1,112 @@
+package scheduler.test;
+
+import memory.*;
+import java.util.*;
+
+/**
+ * Prueba del algoritmo Optimal con indice de proximo uso: debe lograr el minimo
+ * de fallos (Belady) y procesar trazas de millones de referencias
+ */
+public class TestOptimalIndex {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST OPTIMAL CON INDICE DE PROXIMO USO");
+
+    // 1. Fallos iguales al calculo directo de Belady en trazas cortas
+    for (int seed = 1; seed <= 5; seed++) {
+      int[] trace = randomTrace(20000, 40, seed);
+      int indexed = simulate(trace, 12);
+      int belady = beladyFaults(trace, 12);
+      test.check(String.format("Semilla %d: fallos=%d, Belady=%d", seed, indexed, belady), indexed == belady);
+    }
+
+    // 2. Traza larga
+    int[] longTrace = randomTrace(2000000, 2000, 99);
+    long start = System.nanoTime();
+    int faults = simulate(longTrace, 256);
+    long millis = (System.nanoTime() - start) / 1000000;
+    System.out.println(String.format("\nTraza de %d referencias, 256 marcos: %d fallos en %d ms",
+        longTrace.length, faults, millis));
+
+    test.finish();
+  }
+
+  /**
+   * Ejecuta la traza de un proceso contra el algoritmo, como lo haria MemoryManager
+   */
+  private static int simulate(int[] trace, int frameCount) {
+    OptimalPageReplacement optimal = new OptimalPageReplacement();
+    optimal.setFutureAccesses("P1", trace);
+    List<PageFrame> frames = new ArrayList<>();
+    for (int i = 0; i < frameCount; i++) {
+      frames.add(new PageFrame(i));
+    }
+    Map<Integer, Integer> resident = new HashMap<>();
+    int faults = 0;
+
+    for (int t = 0; t < trace.length; t++) {
+      int page = trace[t];
+      Integer frame = resident.get(page);
+      if (frame == null) {
+        faults++;
+        frame = resident.size() < frameCount ? resident.size() : optimal.selectVictimFrame(frames, t);
+        PageFrame target = frames.get(frame);
+        if (target.isOccupied()) {
+          resident.remove(target.getPageId());
+          target.unloadPage();
+          optimal.notifyPageUnloaded(frame);
+        }
+        target.loadPage("P1", page, t);
+        resident.put(page, frame);
+        optimal.notifyPageLoaded(frame, "P1", page, t);
+      }
+      optimal.notifyPageAccess(frame, "P1", page, t);
+    }
+    return faults;
+  }
+
+  /**
+   * Belady directo: en cada fallo busca hacia adelante la pagina usada mas tarde
+   */
+  private static int beladyFaults(int[] trace, int frameCount) {
+    Set<Integer> resident = new HashSet<>();
+    int faults = 0;
+    for (int t = 0; t < trace.length; t++) {
+      if (resident.contains(trace[t])) {
+        continue;
+      }
+      faults++;
+      if (resident.size() == frameCount) {
+        int victim = -1;
+        int farthest = -1;
+        for (int page : resident) {
+          int next = trace.length;
+          for (int j = t + 1; j < trace.length; j++) {
+            if (trace[j] == page) {
+              next = j;
+              break;
+            }
+          }
+          if (next > farthest) {
+            farthest = next;
+            victim = page;
+          }
+        }
+        resident.remove(victim);
+      }
+      resident.add(trace[t]);
+    }
+    return faults;
+  }
+
+  private static int[] randomTrace(int length, int pages, long seed) {
+    Random random = new Random(seed);
+    int[] trace = new int[length];
+    for (int i = 0; i < length; i++) {
+      // Mezcla de localidad: 70% en un conjunto caliente pequeño
+      trace[i] = random.nextInt(10) < 7 ? random.nextInt(Math.max(1, pages / 8)) : random.nextInt(pages);
+    }
+    return trace;
+  }
+}
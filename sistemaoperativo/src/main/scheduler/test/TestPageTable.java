@@ -0,0 +1,77 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import memory.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Prueba de la tabla de paginas plana: los fallos por proceso se cuentan en la
+ * tabla y el camino de fallo (reemplazo incluido) no asigna memoria por fallo
+ */
+public class TestPageTable {
+  private static TestSupport test;
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST TABLA DE PAGINAS").silenceLog();
+
+    // 1. Fallos por proceso, antes y despues de liberar al proceso
+    MemoryManager memory = new MemoryManager(4, new FIFOPageReplacement());
+    Process a = process("A", 8);
+    Process b = process("B", 8);
+    for (int page = 0; page < 6; page++) {
+      memory.reference(a, page, page, false);
+    }
+    for (int page = 0; page < 3; page++) {
+      memory.reference(b, page, 6 + page, false);
+    }
+    memory.reference(a, 5, 9, false); // Acierto: no cuenta
+    Map<String, Integer> faults = memory.getProcessPageFaults();
+    System.out.println("Fallos por proceso: " + faults);
+    test.check("Fallos contados en la tabla de cada proceso",
+        faults.get("A") == 6 && faults.get("B") == 3 && memory.getPageFaults() == 9);
+    memory.freePagesForProcess(b);
+    test.check("Los fallos se conservan al liberar el proceso",
+        memory.getProcessPageFaults().get("B") == 3);
+
+    // 2. El camino de fallo no asigna por fallo una vez registrado el proceso
+    int faultCount = 200000;
+    MemoryManager busy = new MemoryManager(64, new LRUPageReplacement());
+    Process p = process("P", 256);
+    Process q = process("Q", 256);
+    int time = 0;
+    for (int i = 0; i < 1000; i++) { // calentamiento
+      busy.reference(p, i % 256, time++, false);
+      busy.reference(q, (i * 7) % 256, time++, false);
+    }
+    int before = busy.getPageFaults();
+    long allocatedBefore = allocatedBytes();
+    for (int i = 0; i < faultCount / 2; i++) {
+      busy.reference(p, i % 256, time++, false);
+      busy.reference(q, (i * 7) % 256, time++, false);
+    }
+    long allocated = allocatedBytes() - allocatedBefore;
+    int measured = busy.getPageFaults() - before;
+    System.out.println(String.format("\nFallos medidos: %d", measured));
+    test.check("Cada referencia fue un fallo", measured == faultCount);
+    if (allocatedBefore >= 0) {
+      System.out.println("Bytes asignados durante los fallos: " + allocated);
+      test.check("Fallos sin asignaciones por fallo", allocated < faultCount / 10);
+    }
+
+    test.finish();
+  }
+
+  private static Process process(String pid, int pages) {
+    return new Process(pid, 0, Arrays.asList(new Burst(Burst.BurstType.CPU, 1)), 1, pages);
+  }
+
+  private static long allocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported()) {
+      return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,105 @@
+package scheduler.test;
+
+import model.Process;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import log.SimulationLog;
+import simulation.ParameterSweep;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba del barrido de parametros: las ejecuciones en paralelo dan los
+ * mismos resultados que en secuencia y que una simulacion suelta, sin tocar
+ * el reloj global
+ */
+public class TestParameterSweep {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST BARRIDO DE PARAMETROS");
+
+    ParameterSweep sweep = ParameterSweep.fromFile("config/caso_cpu_io.txt");
+    sweep.setQuanta(ParameterSweep.parseIntRange("2-4"));
+    sweep.setFrames(ParameterSweep.parseIntRange("4-12:4"));
+    sweep.setReplacements(Arrays.asList("FIFO", "LRU", "CLOCK", "ARC"));
+
+    // 1. Cantidad de combinaciones: RR varia el quantum, FCFS y SJF no
+    SimulationClock.setTime(777);
+    sweep.setParallelism(1);
+    List<ParameterSweep.Result> sequential = sweep.run();
+    sweep.setParallelism(4);
+    long start = System.nanoTime();
+    List<ParameterSweep.Result> parallel = sweep.run();
+    long millis = (System.nanoTime() - start) / 1000000;
+    System.out.println(String.format("%d combinaciones en paralelo en %d ms", parallel.size(), millis));
+    test.check("(1 + 1 + 3 quantums) x 3 marcos x 4 algoritmos = 60 combinaciones",
+        sequential.size() == 60 && parallel.size() == 60);
+
+    // 2. Paralelo == secuencial, y todas las simulaciones terminan
+    boolean same = true;
+    boolean finished = true;
+    for (int i = 0; i < sequential.size(); i++) {
+      same &= sequential.get(i).sameOutcome(parallel.get(i));
+      finished &= parallel.get(i).completed == 4;
+    }
+    test.check("Resultados en paralelo iguales a los secuenciales", same);
+    test.check("Todas las simulaciones terminan sus procesos", finished);
+    test.check("El reloj global no se modifica", SimulationClock.getTime() == 777);
+    test.check("El log se restaura al terminar", SimulationLog.getSink() == test.getOriginalSink());
+
+    // 3. Una combinacion coincide con la misma simulacion ejecutada sola
+    ParameterSweep.Result rr = null;
+    for (ParameterSweep.Result r : parallel) {
+      if (r.scheduler.equals("RR") && r.quantum == 3 && r.frames == 8 && r.replacement.equals("LRU")) {
+        rr = r;
+      }
+    }
+    test.silenceLog();
+    List<Process> processes = ProcessConfigParser.parseFromFile("config/caso_cpu_io.txt");
+    MemoryManager memory = new MemoryManager(8, new LRUPageReplacement());
+    SimulationController controller = TestSupport.run(new SimulationController(
+        new RoundRobinScheduler(3), memory, new IOManager(), 3, 1000), processes);
+    int makespan = 0;
+    for (Process p : controller.getAllProcesses()) {
+      makespan = Math.max(makespan, p.getCompletionTime());
+    }
+    test.check("RR q=3, 8 marcos, LRU igual a la simulacion suelta", rr != null && rr.makespan == makespan
+        && rr.pageFaults == memory.getPageFaults()
+        && rr.averageWaitingTime == controller.getScheduler().getPerformanceMetrics().getAverageWaitingTime()
+        && rr.cpuUtilization == controller.getCPUUtilization());
+
+    // 4. Tablas CSV y JSON con una fila por combinacion
+    String csv = ParameterSweep.toCSV(parallel);
+    String json = ParameterSweep.toJSON(parallel);
+    System.out.println("\nPrimeras filas del CSV:");
+    String[] lines = csv.split("\n");
+    for (int i = 0; i < 4; i++) {
+      System.out.println("  " + lines[i].substring(0, lines[i].lastIndexOf(',')));
+    }
+    test.check("CSV con encabezado y 60 filas", lines.length == 61 && lines[0].startsWith("scheduler,quantum"));
+    test.check("JSON con 60 objetos", json.split("\\{").length - 1 == 60 && json.trim().endsWith("]"));
+
+    // 5. Rangos y nombres invalidos
+    boolean rejected = true;
+    for (Runnable invalid : new Runnable[]{
+        () -> ParameterSweep.parseIntRange("6-2"),
+        () -> sweep.setFrames(new int[]{0}),
+        () -> sweep.setSchedulers(Arrays.asList("XYZ")),
+        () -> sweep.setReplacements(Arrays.asList("MRU"))}) {
+      try {
+        invalid.run();
+        rejected = false;
+      } catch (IllegalArgumentException e) {
+        // esperado
+      }
+    }
+    test.check("Rechaza rangos invalidos y nombres desconocidos", rejected
+        && Arrays.equals(ParameterSweep.parseIntRange("1,4-8:2"), new int[]{1, 4, 6, 8}));
+
+    test.finish();
+  }
+}
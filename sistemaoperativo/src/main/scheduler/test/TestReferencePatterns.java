@@ -0,0 +1,145 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import model.ReferencePattern;
+import memory.*;
+import scheduler.SchedulerFactory;
+import io.IOManager;
+import simulation.SimulationController;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Prueba de los patrones de referencias por proceso: deterministas por semilla,
+ * sin asignaciones por acceso, y compartidos entre el gestor de memoria y Optimal
+ */
+public class TestReferencePatterns {
+  private static TestSupport test;
+
+  private static final String[] SPECS = {
+      "seq", "seq(3)", "loop(5)", "zipf(1.2,42)", "phase(3,12,7)", "trace(0,1,2,0,3,0,4,1,5)"
+  };
+
+  public static void main(String[] args) {
+    test = TestSupport.begin("TEST PATRONES DE REFERENCIAS");
+
+    // 1. Misma semilla -> misma secuencia; spec() se puede volver a parsear
+    for (String spec : SPECS) {
+      ReferencePattern a = ReferencePattern.parse(spec, 8);
+      ReferencePattern b = ReferencePattern.parse(a.spec(), 8);
+      boolean same = true;
+      boolean inRange = true;
+      for (int i = 0; i < 10000; i++) {
+        same &= a.pageAt(i) == b.pageAt(i);
+        inRange &= a.pageAt(i) >= 0 && a.pageAt(i) < 8;
+      }
+      test.check(String.format("%-26s determinista y en rango", spec), same && inRange);
+    }
+    test.check("Semillas distintas dan secuencias distintas",
+        !Arrays.equals(sample(ReferencePattern.zipf(8, 1.2, 1), 200),
+            sample(ReferencePattern.zipf(8, 1.2, 2), 200)));
+    test.check("seq coincide con el recorrido original i % paginas",
+        Arrays.equals(sample(ReferencePattern.sequential(5), 50), modulo(5, 50)));
+    boolean rejected = false;
+    try {
+      ReferencePattern.parse("trace(0,9)", 4);
+    } catch (IllegalArgumentException e) {
+      rejected = true;
+    }
+    test.check("Rechaza patrones con paginas fuera del proceso", rejected);
+
+    // 2. Zipf concentra los accesos en las primeras paginas
+    int[] counts = new int[16];
+    ReferencePattern zipf = ReferencePattern.zipf(16, 1.2, 42);
+    for (int i = 0; i < 100000; i++) {
+      counts[zipf.pageAt(i)]++;
+    }
+    test.check("Zipf: la pagina 0 es la mas usada", counts[0] > counts[1] && counts[1] > counts[8]);
+
+    // La copia de un proceso conserva su patron y su afinidad, sin progreso
+    Process source = new Process("C1", 0, Arrays.asList(new Burst(Burst.BurstType.CPU, 6)), 1, 8);
+    source.setReferencePattern(ReferencePattern.parse("zipf(1.2,42)", 8));
+    source.setAffinityMask(0b10L);
+    source.executeBurst(4);
+    Process copy = source.copy();
+    test.check("Process.copy conserva patron y afinidad",
+        copy.getReferencePattern() == source.getReferencePattern()
+        && copy.getAffinityMask() == 0b10L && copy.getRemainingCPUTime() == 6);
+
+    // 3. pageAt no asigna memoria
+    long allocated = allocatedBytes(ReferencePattern.phases(64, 8, 100, 3), 1000000);
+    if (allocated >= 0) {
+      System.out.println("\nBytes asignados en 1000000 accesos: " + allocated);
+      test.check("Generacion sin asignaciones", allocated < 4096);
+    }
+
+    // 4. Optimal deriva sus accesos futuros del mismo patron: nunca supera a los demas
+    test.silenceLog();
+    System.out.println("\nFallos por patron (RR, 4 marcos):");
+    for (String spec : SPECS) {
+      StringBuilder line = new StringBuilder(String.format("  %-26s", spec));
+      int optimalFaults = run(spec, "Optimal");
+      boolean bounded = true;
+      line.append(" Optimal=").append(optimalFaults);
+      for (String name : new String[]{"FIFO", "LRU", "CLOCK", "ARC"}) {
+        int faults = run(spec, name);
+        bounded &= faults >= optimalFaults;
+        line.append(" ").append(name).append("=").append(faults);
+      }
+      test.record(bounded);
+      System.out.println(line + " -> " + (bounded ? "OK" : "ERROR"));
+    }
+    test.finish();
+  }
+
+  /**
+   * Un solo proceso sin E/S para que el orden de accesos sea exactamente el
+   * del patron y Optimal pueda ser comparado con el resto
+   */
+  private static int run(String spec, String algorithmName) {
+    Process process = new Process("P1", 0, Arrays.asList(new Burst(Burst.BurstType.CPU, 120)), 1, 8);
+    process.setReferencePattern(ReferencePattern.parse(spec, 8));
+    MemoryManager memory = new MemoryManager(4, PageReplacementFactory.createAlgorithm(algorithmName));
+    TestSupport.run(new SimulationController(
+        SchedulerFactory.createScheduler("RR", 3), memory, new IOManager(), 3, 400), Arrays.asList(process));
+    return memory.getPageFaults();
+  }
+
+  /**
+   * Bytes asignados por el hilo al generar accesos, o -1 si la JVM no lo informa
+   */
+  private static long allocatedBytes(ReferencePattern pattern, int accesses) {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+        || !bean.isThreadAllocatedMemorySupported()) {
+      return -1;
+    }
+    long id = Thread.currentThread().getId();
+    long sink = 0;
+    for (int i = 0; i < accesses; i++) {
+      sink += pattern.pageAt(i); // calentamiento
+    }
+    long before = bean.getThreadAllocatedBytes(id);
+    for (int i = 0; i < accesses; i++) {
+      sink += pattern.pageAt(i);
+    }
+    long after = bean.getThreadAllocatedBytes(id);
+    return sink < 0 ? -1 : after - before;
+  }
+
+  private static int[] sample(ReferencePattern pattern, int length) {
+    int[] result = new int[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = pattern.pageAt(i);
+    }
+    return result;
+  }
+
+  private static int[] modulo(int pages, int length) {
+    int[] result = new int[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = i % pages;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,144 @@
+package scheduler.test;
+
+import model.Process;
+import memory.*;
+import scheduler.SchedulerFactory;
+import io.IOManager;
+import log.SimulationLog;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Compara ARC y LIRS contra LRU en una traza con recorridos secuenciales que
+ * interrumpen un conjunto caliente, y en los escenarios incluidos en config/
+ */
+public class TestScanResistance {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST ARC / LIRS RESISTENTES A RECORRIDOS");
+
+    // 1. Traza sintetica: conjunto caliente de 8 paginas y recorridos de 40 paginas nuevas
+    int[] trace = scanTrace(50);
+    int frameCount = 12;
+    System.out.println("Traza con recorridos (" + trace.length + " referencias, "
+        + frameCount + " marcos):");
+    double lruRatio = 0;
+    for (String name : new String[]{"LRU", "ARC", "LIRS"}) {
+      PageReplacementAlgorithm algorithm = PageReplacementFactory.createAlgorithm(name);
+      int faults = simulate(algorithm, trace, frameCount);
+      double ratio = 1.0 - faults / (double) trace.length;
+      if (name.equals("LRU")) {
+        lruRatio = ratio;
+      } else {
+        HitRatioTracker tracker = ((HitRatioReporter) algorithm).getHitRatioTracker();
+        boolean consistent = tracker.getMisses() == faults
+            && tracker.getHits() == trace.length - faults;
+        test.check(String.format("  %-5s aciertos=%.1f%%", name, ratio * 100), consistent && ratio > lruRatio);
+        continue;
+      }
+      System.out.println(String.format("  %-5s aciertos=%.1f%%", name, ratio * 100));
+    }
+
+    // 2. Escenarios incluidos: fallos por algoritmo y linea de tiempo de aciertos
+    SimulationLog.disable();
+    for (String file : new String[]{"config/caso_thrashing.txt", "config/procesos.txt"}) {
+      System.out.println("\n" + file + " (RR, 4 marcos):");
+      for (String name : new String[]{"LRU", "ARC", "LIRS"}) {
+        PageReplacementAlgorithm algorithm = PageReplacementFactory.createAlgorithm(name);
+        MemoryManager memory = run(file, algorithm, 4);
+        String line = String.format("  %-5s fallos=%d", name, memory.getPageFaults());
+        if (algorithm instanceof HitRatioReporter reporter) {
+          HitRatioTracker tracker = reporter.getHitRatioTracker();
+          test.check(line + String.format(", aciertos=%.1f%%, ventanas=%d", tracker.getHitRatio() * 100,
+              tracker.getWindowCount()), tracker.getMisses() == memory.getPageFaults());
+        } else {
+          System.out.println(line);
+        }
+      }
+    }
+    SimulationLog.setSink(test.getOriginalSink());
+
+    // 3. Marcas de tiempo grandes y dispersas: las ventanas no crecen con el tiempo
+    HitRatioTracker sparse = new HitRatioTracker();
+    sparse.recordMiss(0);
+    sparse.recordHit(1500000000);
+    sparse.recordHit(1500000003);
+    boolean bounded = sparse.getHits() == 2 && sparse.getMisses() == 1
+        && sparse.getWindowCount() <= 1024 && sparse.getWindowHitRatio(0) == -1
+        && sparse.formatTimeline().contains("t=1500000000-1500000009: 100.0% (2 accesos)");
+    test.check("\nTiempos dispersos, ventanas=" + sparse.getWindowCount(), bounded);
+
+    test.finish();
+  }
+
+  private static MemoryManager run(String file, PageReplacementAlgorithm algorithm, int frames)
+      throws IOException {
+    List<Process> processes = ProcessConfigParser.parseFromFile(file);
+    MemoryManager memory = new MemoryManager(frames, algorithm);
+    TestSupport.run(new SimulationController(
+        SchedulerFactory.createScheduler("RR", 3), memory, new IOManager(), 3, 400), processes);
+    return memory;
+  }
+
+  /**
+   * Ejecuta la traza de un proceso contra el algoritmo, como lo haria MemoryManager
+   */
+  private static int simulate(PageReplacementAlgorithm algorithm, int[] trace, int frameCount) {
+    List<PageFrame> frames = new ArrayList<>();
+    for (int i = 0; i < frameCount; i++) {
+      frames.add(new PageFrame(i));
+    }
+    Map<Integer, Integer> resident = new HashMap<>();
+    int faults = 0;
+
+    for (int t = 0; t < trace.length; t++) {
+      int page = trace[t];
+      Integer frame = resident.get(page);
+      if (frame == null) {
+        faults++;
+        if (resident.size() < frameCount) {
+          frame = resident.size();
+        } else {
+          frame = algorithm.selectVictimFrame(frames, t);
+          PageFrame target = frames.get(frame);
+          resident.remove(target.getPageId());
+          target.unloadPage();
+          algorithm.notifyPageUnloaded(frame);
+        }
+        frames.get(frame).loadPage("P1", page, t);
+        resident.put(page, frame);
+        algorithm.notifyPageLoaded(frame, "P1", page, t);
+      }
+      frames.get(frame).access(t);
+      algorithm.notifyPageAccess(frame, "P1", page, t);
+    }
+    return faults;
+  }
+
+  /**
+   * Rondas de accesos al conjunto caliente (paginas 0-7) separadas por
+   * recorridos de 40 paginas que no se repiten
+   */
+  private static int[] scanTrace(int rounds) {
+    List<Integer> trace = new ArrayList<>();
+    int nextScanPage = 100;
+    for (int r = 0; r < rounds; r++) {
+      for (int repeat = 0; repeat < 10; repeat++) {
+        for (int page = 0; page < 8; page++) {
+          trace.add(page);
+        }
+      }
+      for (int i = 0; i < 40; i++) {
+        trace.add(nextScanPage++);
+      }
+    }
+    int[] result = new int[trace.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = trace.get(i);
+    }
+    return result;
+  }
+}
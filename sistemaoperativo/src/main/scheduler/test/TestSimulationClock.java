@@ -0,0 +1,85 @@
+package scheduler.test;
+
+import model.Process;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import config.ProcessConfigParser;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba de los relojes por simulacion: dos simulaciones en hilos distintos
+ * dan el mismo resultado que por separado y no tocan el reloj compartido
+ */
+public class TestSimulationClock {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws Exception {
+    test = TestSupport.begin("TEST RELOJ POR SIMULACION").silenceLog();
+    List<Process> base = ProcessConfigParser.parseFromFile("config/caso_cpu_io.txt");
+    PrintStream stdout = System.out;
+    // El reporte final se imprime siempre por consola; se descarta aqui
+    System.setOut(new PrintStream(new ByteArrayOutputStream()));
+
+    // 1. Cada simulacion por separado
+    SimulationClock.setTime(42);
+    SimulationController rrAlone = create(base, new RoundRobinScheduler(2), "LRU");
+    SimulationController fcfsAlone = create(base, new FCFSScheduler(), "FIFO");
+    rrAlone.runSimulation();
+    fcfsAlone.runSimulation();
+
+    // 2. Las mismas dos a la vez, varias veces, con un hilo que lee el reloj publicado
+    boolean same = true;
+    boolean monotonic = true;
+    for (int round = 0; round < 20; round++) {
+      SimulationController rr = create(base, new RoundRobinScheduler(2), "LRU");
+      SimulationController fcfs = create(base, new FCFSScheduler(), "FIFO");
+      Thread first = new Thread(rr::runSimulation);
+      Thread second = new Thread(fcfs::runSimulation);
+      boolean[] increasing = {true};
+      Thread reader = new Thread(() -> {
+        int last = 0;
+        while (first.isAlive() || first.getState() == Thread.State.NEW) {
+          int now = rr.getClock().snapshot();
+          increasing[0] &= now >= last;
+          last = now;
+        }
+      });
+      reader.start();
+      first.start();
+      second.start();
+      first.join();
+      second.join();
+      reader.join();
+      monotonic &= increasing[0];
+      same &= rr.getGanttChart().toString().equals(rrAlone.getGanttChart().toString())
+          && fcfs.getGanttChart().toString().equals(fcfsAlone.getGanttChart().toString())
+          && rr.getMemoryManager().getPageFaults() == rrAlone.getMemoryManager().getPageFaults()
+          && rr.getScheduler().getPerformanceMetrics().getAverageWaitingTime()
+              == rrAlone.getScheduler().getPerformanceMetrics().getAverageWaitingTime()
+          && rr.getClock().snapshot() == rrAlone.getClock().now();
+    }
+    System.setOut(stdout);
+
+    test.check("Simulaciones simultaneas iguales a las ejecutadas por separado (20 rondas)", same);
+    test.check("El reloj publicado solo avanza mientras corre la simulacion", monotonic);
+    test.check("Las simulaciones no modifican el reloj compartido", SimulationClock.getTime() == 42);
+    test.check("Cada simulacion entrega su reloj a memoria", rrAlone.getMemoryManager().getClock() == rrAlone.getClock()
+        && rrAlone.getClock() != fcfsAlone.getClock());
+
+    // 3. Componentes sin simulacion siguen usando el reloj compartido
+    MemoryManager standalone = new MemoryManager(4, new LRUPageReplacement());
+    test.check("Sin simulacion se usa el reloj compartido", standalone.getClock() == SimulationClock.shared());
+
+    test.finish();
+  }
+
+  private static SimulationController create(List<Process> base, SchedulingAlgorithm scheduler, String algorithm) {
+    SimulationController controller = new SimulationController(scheduler,
+        new MemoryManager(5, PageReplacementFactory.createAlgorithm(algorithm)), new IOManager(), 2, 500);
+    controller.addProcesses(TestSupport.copies(base));
+    return controller;
+  }
+}
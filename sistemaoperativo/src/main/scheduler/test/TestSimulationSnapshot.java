@@ -0,0 +1,197 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IODevice;
+import io.IOManager;
+import simulation.ParameterSweep;
+import simulation.SimulationController;
+import simulation.SimulationSnapshot;
+import sync.ConcurrencyMode;
+import config.ArrivalProcess;
+import config.ProcessConfigParser;
+import config.WorkloadGenerator;
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Prueba de las instantaneas binarias: por filas y por columnas se recupera
+ * lo mismo que mostro la simulacion (procesos, Gantt, eventos, metricas),
+ * los procesos guardados reproducen la simulacion, los archivos dañados se
+ * rechazan y el barrido guarda una instantanea por combinacion
+ */
+public class TestSimulationSnapshot {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST INSTANTANEAS").silenceLog();
+    Path dir = Files.createTempDirectory("instantaneas");
+
+    // 1. Ida y vuelta en las dos disposiciones, uno y dos nucleos
+    String config = "config/caso_dispositivos.txt";
+    List<Process> base = ProcessConfigParser.parseFromFile(config);
+    List<IODevice> devices = ProcessConfigParser.parseDevicesFromFile(config);
+    for (int cores : new int[]{1, 2}) {
+      SimulationController controller = run(base, devices, cores);
+      SimulationSnapshot captured = SimulationSnapshot.capture(controller);
+      for (boolean columnar : new boolean[]{false, true}) {
+        Path file = dir.resolve("caso-" + cores + (columnar ? "-col.snap" : ".snap"));
+        captured.save(file, columnar);
+        SimulationSnapshot loaded = SimulationSnapshot.load(file);
+        test.check(String.format("  %d nucleo(s), %s: igual a la simulacion", cores, columnar ? "columnas" : "filas"),
+            matches(loaded, controller) && sameDefinitions(base, loaded.toProcesses()));
+      }
+    }
+
+    // 2. Los procesos guardados reproducen la misma simulacion
+    Path set = dir.resolve("procesos.snap");
+    SimulationSnapshot.of(base).save(set);
+    SimulationSnapshot processesOnly = SimulationSnapshot.load(set);
+    SimulationController again = run(processesOnly.toProcesses(), devices, 1);
+    test.check("Procesos guardados reproducen la simulacion", processesOnly.getLaneCount() == 0
+        && run(base, devices, 1).getGanttChart().toString().equals(again.getGanttChart().toString()));
+
+    // 3. Carga grande: la variante por columnas ocupa menos
+    WorkloadGenerator generator = new WorkloadGenerator(24);
+    generator.setArrivals(ArrivalProcess.poisson(0.04));
+    SimulationController large = new SimulationController(new RoundRobinScheduler(4),
+        new MemoryManager(64, new LRUPageReplacement()), new IOManager(), 4, 5000000);
+    large.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    large.setReportEnabled(false);
+    large.setEventDriven(true);
+    large.addProcesses(generator.generate(20000));
+    large.runSimulation();
+    SimulationSnapshot big = SimulationSnapshot.capture(large);
+    Path rows = dir.resolve("grande.snap");
+    Path columns = dir.resolve("grande-col.snap");
+    long start = System.nanoTime();
+    big.save(rows, false);
+    long rowsSave = System.nanoTime() - start;
+    start = System.nanoTime();
+    big.save(columns, true);
+    long columnsSave = System.nanoTime() - start;
+    start = System.nanoTime();
+    SimulationSnapshot bigRows = SimulationSnapshot.load(rows);
+    long rowsLoad = System.nanoTime() - start;
+    start = System.nanoTime();
+    SimulationSnapshot bigColumns = SimulationSnapshot.load(columns);
+    long columnsLoad = System.nanoTime() - start;
+    System.out.println(String.format("  filas: %d bytes (guardar %d ms, cargar %d ms)",
+        Files.size(rows), rowsSave / 1000000, rowsLoad / 1000000));
+    System.out.println(String.format("  columnas: %d bytes (guardar %d ms, cargar %d ms)",
+        Files.size(columns), columnsSave / 1000000, columnsLoad / 1000000));
+    test.check("Carga grande igual en las dos disposiciones", matches(bigRows, large) && matches(bigColumns, large));
+    test.check("Por columnas ocupa menos de la cuarta parte", Files.size(columns) * 4 < Files.size(rows));
+
+    // 4. Archivos dañados o ajenos
+    test.check("Byte alterado rechazado", rejected(corrupt(rows, dir.resolve("alterado.snap"), 5000)));
+    test.check("Comprimido alterado rechazado", rejected(corrupt(columns, dir.resolve("alterado-col.snap"), 5000)));
+    test.check("Archivo truncado rechazado", rejected(truncate(columns, dir.resolve("corto.snap"))));
+    test.check("Archivo ajeno rechazado", rejected(Paths.get(config)));
+
+    // 5. El barrido guarda una instantanea por combinacion
+    ParameterSweep sweep = ParameterSweep.fromFile("config/caso_cpu_io.txt");
+    sweep.setSchedulers(Arrays.asList("FCFS", "RR"));
+    sweep.setReplacements(Arrays.asList("FIFO", "LRU"));
+    Path sweepDir = Files.createDirectories(dir.resolve("barrido"));
+    sweep.setSnapshotDirectory(sweepDir);
+    boolean same = true;
+    List<ParameterSweep.Result> results = sweep.run();
+    for (ParameterSweep.Result result : results) {
+      SimulationSnapshot snapshot = SimulationSnapshot.load(sweepDir.resolve(ParameterSweep.snapshotFileName(result)));
+      same &= snapshot.getCompletedProcessCount() == result.completed
+          && snapshot.getAverageWaitingTime() == result.averageWaitingTime
+          && snapshot.getAverageTurnaroundTime() == result.averageTurnaroundTime
+          && snapshot.getAverageResponseTime() == result.averageResponseTime
+          && snapshot.getPageFaults() == result.pageFaults;
+    }
+    test.check("Barrido: " + results.size() + " instantaneas con las metricas del resultado", results.size() == 4 && same);
+
+    test.finish();
+  }
+
+  private static SimulationController run(List<Process> base, List<IODevice> devices, int cores) {
+    IOManager io = new IOManager();
+    for (IODevice device : devices) {
+      io.registerDevice(device.copy());
+    }
+    SimulationController controller = new SimulationController(
+        new RoundRobinScheduler(3), new MemoryManager(8, new LRUPageReplacement()), io, 3, 1000);
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    controller.setReportEnabled(false);
+    controller.setCoreCount(cores);
+    controller.addProcesses(TestSupport.copies(base));
+    controller.runSimulation();
+    return controller;
+  }
+
+  private static boolean matches(SimulationSnapshot snapshot, SimulationController controller) {
+    boolean same = snapshot.getLaneCount() == controller.getCoreCount();
+    for (int lane = 0; lane < controller.getCoreCount(); lane++) {
+      same &= snapshot.getGanttChart(lane).toString().equals(controller.getCoreGanttChart(lane).toString());
+    }
+    PerformanceMetrics metrics = controller.getScheduler().getPerformanceMetrics();
+    MemoryManager memory = controller.getMemoryManager();
+    return same && snapshot.getCompletedProcessCount() == metrics.getCompletedProcessCount()
+        && snapshot.getAverageWaitingTime() == metrics.getAverageWaitingTime()
+        && snapshot.getAverageTurnaroundTime() == metrics.getAverageTurnaroundTime()
+        && snapshot.getAverageResponseTime() == metrics.getAverageResponseTime()
+        && snapshot.getFinalTime() == controller.getClock().now()
+        && snapshot.getCPUBusyTime() == controller.getCPUBusyTime()
+        && snapshot.getPageFaults() == memory.getPageFaults()
+        && snapshot.getMemoryAccesses() == memory.getMemoryAccesses()
+        && snapshot.getReplacementName().equals(memory.getReplacementAlgorithm().getName())
+        && snapshot.getProcessCount() == controller.getAllProcesses().size();
+  }
+
+  private static boolean sameDefinitions(List<Process> a, List<Process> b) {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    for (int i = 0; i < a.size(); i++) {
+      Process x = a.get(i);
+      Process y = b.get(i);
+      boolean same = x.getPid().equals(y.getPid()) && x.getArrivalTime() == y.getArrivalTime()
+          && x.getPriority() == y.getPriority() && x.getRequiredPages() == y.getRequiredPages()
+          && x.getReferencePattern().spec().equals(y.getReferencePattern().spec())
+          && x.getBursts().size() == y.getBursts().size();
+      for (int k = 0; same && k < x.getBursts().size(); k++) {
+        Burst p = x.getBursts().get(k);
+        Burst q = y.getBursts().get(k);
+        same = p.getType() == q.getType() && p.getDuration() == q.getDuration()
+            && Objects.equals(p.getDevice(), q.getDevice()) && p.getPosition() == q.getPosition();
+      }
+      if (!same) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Path corrupt(Path source, Path target, int offset) throws IOException {
+    byte[] data = Files.readAllBytes(source);
+    data[Math.min(offset, data.length - 1)] ^= 0x5A;
+    return Files.write(target, data);
+  }
+
+  private static Path truncate(Path source, Path target) throws IOException {
+    Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() / 2);
+    }
+    return target;
+  }
+
+  private static boolean rejected(Path file) {
+    try {
+      SimulationSnapshot.load(file);
+      return false;
+    } catch (IOException e) {
+      return true;
+    }
+  }
+}
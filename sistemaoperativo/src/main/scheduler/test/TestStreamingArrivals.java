@@ -0,0 +1,167 @@
+package scheduler.test;
+
+import model.Process;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import sync.ConcurrencyMode;
+import config.ArrivalProcess;
+import config.ProcessConfigParser;
+import config.WorkloadGenerator;
+import java.io.*;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Prueba de llegadas desde un flujo: mismo resultado que con la lista en los
+ * tres bucles (con y sin historial), lectura perezosa de archivos, rechazo de
+ * llegadas fuera de orden y liberacion de los procesos terminados
+ */
+public class TestStreamingArrivals {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST LLEGADAS EN FLUJO").silenceLog();
+
+    // 1. Lista y flujo dan la misma simulacion
+    String[] modes = {"ticks", "eventos", "2 nucleos"};
+    for (String mode : modes) {
+      SimulationController list = create(mode);
+      list.addProcesses(generator().generate(3000));
+      list.runSimulation();
+      SimulationController stream = create(mode);
+      stream.setArrivalSource(generator().stream(3000));
+      stream.setKeepHistory(true);
+      stream.runSimulation();
+      test.check("  " + mode + ": flujo igual a lista", same(list, stream)
+          && stream.getStreamedProcessCount() == 3000 && stream.getAllProcesses().isEmpty());
+      SimulationController summary = create(mode);
+      summary.setArrivalSource(generator().stream(3000));
+      summary.runSimulation();
+      test.check("  " + mode + ": sin historial, mismos totales", sameTotals(list, summary)
+          && summary.getGanttChart().getEntryCount() == 0);
+    }
+
+    // 2. Desde un archivo, leyendo una linea por vez
+    File file = File.createTempFile("flujo", ".txt");
+    file.deleteOnExit();
+    generator().writeToFile(file.getPath(), 3000);
+    SimulationController fromList = create("ticks");
+    fromList.addProcesses(generator().generate(3000));
+    fromList.runSimulation();
+    SimulationController fromFile = create("ticks");
+    ProcessConfigParser.ProcessStream lines = ProcessConfigParser.stream(file.getPath());
+    fromFile.setArrivalSource(lines);
+    fromFile.setKeepHistory(true);
+    fromFile.runSimulation();
+    test.check("Archivo leido en flujo igual a lista", same(fromList, fromFile) && lines.getCount() == 3000);
+
+    // 3. Errores de uso
+    List<Process> unordered = generator().generate(10);
+    Collections.reverse(unordered);
+    SimulationController backwards = create("ticks");
+    backwards.setArrivalSource(unordered.iterator());
+    boolean rejected = false;
+    try {
+      backwards.runSimulation();
+    } catch (IllegalStateException e) {
+      rejected = true;
+    }
+    test.check("Llegadas fuera de orden rechazadas", rejected);
+    SimulationController mixed = create("ticks");
+    mixed.addProcesses(generator().generate(5));
+    rejected = false;
+    try {
+      mixed.setArrivalSource(generator().stream(5));
+    } catch (IllegalStateException e) {
+      rejected = true;
+    }
+    test.check("No se mezclan lista y flujo", rejected);
+
+    // 4. Los procesos terminados se liberan
+    int total = 100000;
+    List<WeakReference<Process>> sampled = new ArrayList<>();
+    Iterator<Process> source = generator().stream(total);
+    Iterator<Process> tracked = new Iterator<Process>() {
+      private int read;
+
+      @Override
+      public boolean hasNext() {
+        return source.hasNext();
+      }
+
+      @Override
+      public Process next() {
+        Process p = source.next();
+        if (read++ % 100 == 0) {
+          sampled.add(new WeakReference<>(p));
+        }
+        return p;
+      }
+    };
+    SimulationController large = create("eventos");
+    large.setArrivalSource(tracked);
+    large.runSimulation();
+    System.gc();
+    int released = 0;
+    for (WeakReference<Process> ref : sampled) {
+      released += ref.get() == null ? 1 : 0;
+    }
+    System.out.println(String.format("  %d procesos en flujo, %d de %d muestras liberadas",
+        large.getStreamedProcessCount(), released, sampled.size()));
+    test.check("Procesos terminados liberados", large.getStreamedProcessCount() == total
+        && large.getAllProcesses().isEmpty() && released == sampled.size()
+        && large.getScheduler().getPerformanceMetrics().getCompletedProcessCount() == total);
+    int[] retained = {0};
+    large.getScheduler().getPerformanceMetrics().forEachProcess((pid, a, f, c, w, t, r) -> retained[0]++);
+    GanttChart chart = large.getGanttChart();
+    System.out.println(String.format("  Retenido: %d entradas de Gantt, %d eventos, %d fallos por proceso, %d metricas",
+        chart.getEntryCount(), chart.getEventCount(), large.getMemoryManager().getProcessPageFaults().size(),
+        retained[0]));
+    test.check("Sin historial de los procesos terminados", chart.getEntryCount() == 0
+        && chart.getEventCount() == 0 && large.getMemoryManager().getProcessPageFaults().isEmpty()
+        && retained[0] == 0 && large.getMemoryManager().getPageFaults() > 0);
+
+    test.finish();
+  }
+
+  private static WorkloadGenerator generator() {
+    WorkloadGenerator generator = new WorkloadGenerator(21);
+    generator.setArrivals(ArrivalProcess.poisson(0.04));
+    return generator;
+  }
+
+  private static SimulationController create(String mode) {
+    SchedulingAlgorithm scheduler = mode.contains("nucleos")
+        ? SchedulerFactory.createPerCoreScheduler("RR", 4, 2)
+        : new RoundRobinScheduler(4);
+    MemoryManager memory = new MemoryManager(64, new LRUPageReplacement());
+    memory.setPageFaultServiceTime(2);
+    SimulationController controller = new SimulationController(scheduler, memory, new IOManager(), 4, 5000000);
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    controller.setReportEnabled(false);
+    controller.setEventDriven(mode.equals("eventos"));
+    return controller;
+  }
+
+  private static boolean same(SimulationController a, SimulationController b) {
+    return a.getGanttChart().toString().equals(b.getGanttChart().toString())
+        && a.getScheduler().getMetrics().equals(b.getScheduler().getMetrics())
+        && a.getMemoryManager().getPageFaults() == b.getMemoryManager().getPageFaults()
+        && a.getCPUBusyTime() == b.getCPUBusyTime()
+        && a.getClock().now() == b.getClock().now();
+  }
+
+  private static boolean sameTotals(SimulationController a, SimulationController b) {
+    PerformanceMetrics ma = a.getScheduler().getPerformanceMetrics();
+    PerformanceMetrics mb = b.getScheduler().getPerformanceMetrics();
+    return ma.getCompletedProcessCount() == mb.getCompletedProcessCount()
+        && ma.getAverageWaitingTime() == mb.getAverageWaitingTime()
+        && ma.getAverageTurnaroundTime() == mb.getAverageTurnaroundTime()
+        && ma.getAverageResponseTime() == mb.getAverageResponseTime()
+        && a.getMemoryManager().getPageFaults() == b.getMemoryManager().getPageFaults()
+        && a.getCPUBusyTime() == b.getCPUBusyTime()
+        && a.getClock().now() == b.getClock().now();
+  }
+}
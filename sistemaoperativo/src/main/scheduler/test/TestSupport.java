@@ -0,0 +1,99 @@
+package scheduler.test;
+
+import model.Process;
+import log.SimulationEventSink;
+import log.SimulationLog;
+import simulation.SimulationController;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Soporte comun de las pruebas: encabezado y resultado, verificaciones
+ * acumuladas, registro de eventos apagado mientras corre la prueba y
+ * simulaciones sobre copias de los procesos base
+ */
+public class TestSupport {
+  private final String name;
+  private final SimulationEventSink originalSink;
+  private boolean ok;
+
+  private TestSupport(String name) {
+    this.name = name;
+    this.originalSink = SimulationLog.getSink();
+    this.ok = true;
+  }
+
+  /**
+   * Imprime el encabezado de la prueba y guarda el destino de eventos actual
+   * @param name Nombre de la prueba, por ejemplo "TEST MULTINUCLEO"
+   */
+  public static TestSupport begin(String name) {
+    System.out.println("=== " + name + " ===\n");
+    return new TestSupport(name);
+  }
+
+  //Apaga el registro de eventos hasta finish()
+  public TestSupport silenceLog() {
+    SimulationLog.disable();
+    return this;
+  }
+
+  public SimulationEventSink getOriginalSink() {
+    return originalSink;
+  }
+
+  /**
+   * Imprime el resultado de una verificacion y lo acumula
+   * @return La condicion verificada
+   */
+  public boolean check(String name, boolean condition) {
+    ok &= condition;
+    System.out.println(name + " -> " + (condition ? "OK" : "ERROR"));
+    return condition;
+  }
+
+  //Acumula un resultado ya informado por la prueba
+  public void record(boolean condition) {
+    ok &= condition;
+  }
+
+  public boolean passed() {
+    return ok;
+  }
+
+  /**
+   * Restaura el destino de eventos e imprime si la prueba paso
+   */
+  public boolean finish() {
+    SimulationLog.setSink(originalSink);
+    System.out.println(ok ? "\n" + name + " COMPLETADO" : "\n" + name + " FALLO");
+    return ok;
+  }
+
+  /**
+   * Copias sin progreso de los procesos base (patron de referencias y afinidad incluidos)
+   */
+  public static List<Process> copies(List<Process> base) {
+    List<Process> clones = new ArrayList<>(base.size());
+    for (Process p : base) {
+      clones.add(p.copy());
+    }
+    return clones;
+  }
+
+  /**
+   * Agrega copias de los procesos base y ejecuta la simulacion descartando
+   * el reporte final, que siempre se imprime por consola
+   */
+  public static SimulationController run(SimulationController controller, List<Process> base) {
+    PrintStream stdout = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      controller.addProcesses(copies(base));
+      controller.runSimulation();
+    } finally {
+      System.setOut(stdout);
+    }
+    return controller;
+  }
+}
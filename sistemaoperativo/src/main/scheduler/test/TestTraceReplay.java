@@ -0,0 +1,206 @@
+package scheduler.test;
+
+import model.Process;
+import memory.*;
+import config.PageTraceConverter;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Prueba de las trazas binarias: conversion desde texto, lectura mapeada sin
+ * asignaciones por registro y reproduccion en MemoryManager con cada algoritmo
+ */
+public class TestTraceReplay {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST REPRODUCCION DE TRAZAS BINARIAS").silenceLog();
+    Path dir = Files.createTempDirectory("trazas");
+
+    // 1. Texto -> binario produce el mismo archivo que el escritor directo
+    Random random = new Random(5);
+    int count = 50000;
+    int[] pids = new int[count];
+    int[] pages = new int[count];
+    boolean[] writes = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      pids[i] = random.nextInt(3);
+      // Localidad por proceso: 80% en 6 paginas calientes de 24
+      pages[i] = random.nextInt(10) < 8 ? random.nextInt(6) : random.nextInt(24);
+      writes[i] = random.nextInt(4) == 0;
+    }
+    Path text = dir.resolve("traza.txt");
+    try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(text))) {
+      out.println("# PID Pagina Tiempo [R|W]");
+      for (int i = 0; i < count; i++) {
+        out.println("P" + (pids[i] + 1) + " " + pages[i] + " " + i + (writes[i] ? " W" : " R"));
+      }
+    }
+    Path converted = dir.resolve("convertida.bin");
+    long records = PageTraceConverter.convert(text, converted);
+    Path direct = dir.resolve("directa.bin");
+    try (PageTraceWriter writer = new PageTraceWriter(direct)) {
+      for (int i = 0; i < count; i++) {
+        writer.write("P" + (pids[i] + 1), pages[i], i, writes[i]);
+      }
+    }
+    test.check("Conversion de " + records + " referencias igual al escritor directo",
+        records == count && Arrays.equals(Files.readAllBytes(converted), Files.readAllBytes(direct)));
+
+    // 2. La lectura devuelve exactamente los registros escritos
+    try (PageTraceReader reader = new PageTraceReader(converted)) {
+      int[] position = {0};
+      boolean[] same = {true};
+      reader.forEach((process, page, time, write) -> {
+        int i = position[0]++;
+        same[0] &= reader.getProcessId(process).equals("P" + (pids[i] + 1))
+            && page == pages[i] && time == i && write == writes[i];
+      });
+      test.check("Registros leidos iguales a los escritos", same[0] && position[0] == count
+          && reader.getProcessCount() == 3 && reader.getPageCount(0) == 24);
+    }
+
+    // 3. Reproduccion: mismos fallos que accediendo directo a MemoryManager, Optimal es el minimo
+    System.out.println("\nFallos por algoritmo (8 marcos):");
+    int optimalFaults;
+    try (PageTraceReader reader = new PageTraceReader(converted)) {
+      MemoryManager optimalMemory = new MemoryManager(8, PageReplacementFactory.createAlgorithm("Optimal"));
+      reader.replay(optimalMemory);
+      optimalFaults = optimalMemory.getPageFaults();
+      for (String name : PageReplacementFactory.ALGORITHMS) {
+        MemoryManager replayed = new MemoryManager(8, PageReplacementFactory.createAlgorithm(name));
+        reader.replay(replayed);
+        int expected = name.equals("Optimal") ? optimalFaults : directFaults(name, pids, pages, writes);
+        boolean passed = replayed.getPageFaults() == expected && expected >= optimalFaults;
+        test.record(passed);
+        System.out.println(String.format("  %-14s fallos=%d -> %s", name, replayed.getPageFaults(),
+            passed ? "OK" : "ERROR"));
+      }
+    }
+
+    // 3b. Traza sesgada: B usa una pagina dos veces entre dos rachas largas de A.
+    // Optimal debe comparar proximos usos en el orden global de la traza
+    Path skewed = dir.resolve("sesgada.bin");
+    try (PageTraceWriter writer = new PageTraceWriter(skewed)) {
+      int time = 0;
+      for (int round = 0; round < 2; round++) {
+        writer.write("B", 0, time++, false);
+        for (int i = 0; i < 1000; i++) {
+          writer.write("A", 0, time++, false);
+          writer.write("A", 1, time++, false);
+        }
+      }
+    }
+    try (PageTraceReader reader = new PageTraceReader(skewed)) {
+      MemoryManager optimalMemory = new MemoryManager(2, PageReplacementFactory.createAlgorithm("Optimal"));
+      reader.replay(optimalMemory);
+      int skewedOptimal = optimalMemory.getPageFaults();
+      StringBuilder line = new StringBuilder("\nTraza sesgada (2 marcos): Optimal=" + skewedOptimal);
+      boolean minimal = true;
+      for (String name : PageReplacementFactory.ALGORITHMS) {
+        MemoryManager replayed = new MemoryManager(2, PageReplacementFactory.createAlgorithm(name));
+        reader.replay(replayed);
+        minimal &= skewedOptimal <= replayed.getPageFaults();
+        line.append(" ").append(name).append("=").append(replayed.getPageFaults());
+      }
+      System.out.println(line);
+      test.check("Optimal no supera a ningun algoritmo con procesos desbalanceados", minimal);
+    }
+
+    // 3c. Ids de pagina dispersos (direcciones): las tablas se dimensionan por
+    // las paginas distintas, no por el id maximo
+    Path sparse = dir.resolve("dispersa.bin");
+    int[] sparsePages = {0x7ffd1234, 0x10, 0x7ffd1234, Integer.MAX_VALUE};
+    try (PageTraceWriter writer = new PageTraceWriter(sparse)) {
+      for (int i = 0; i < sparsePages.length; i++) {
+        writer.write("A", sparsePages[i], i, false);
+      }
+    }
+    try (PageTraceReader reader = new PageTraceReader(sparse)) {
+      int[] position = {0};
+      boolean[] same = {true};
+      reader.forEach((process, page, time, write) -> same[0] &= page == sparsePages[position[0]++]);
+      boolean replayed = same[0] && reader.getPageCount(0) == 3;
+      for (String name : PageReplacementFactory.ALGORITHMS) {
+        MemoryManager memory = new MemoryManager(4, PageReplacementFactory.createAlgorithm(name));
+        List<Process> processes = reader.replay(memory);
+        replayed &= processes.get(0).getRequiredPages() == 3 && memory.getPageFaults() == 3
+            && memory.getMemoryAccesses() == sparsePages.length;
+      }
+      test.check("Paginas dispersas (0x7ffd1234) con tablas de 3 paginas", replayed);
+    }
+
+    // 4. Lectura mapeada de una traza grande sin asignaciones por registro
+    Path large = dir.resolve("grande.bin");
+    int largeCount = 5000000;
+    try (PageTraceWriter writer = new PageTraceWriter(large)) {
+      for (int i = 0; i < largeCount; i++) {
+        writer.write((i & 1) == 0 ? "A" : "B", (i >> 2) % 4096, i, false);
+      }
+    }
+    try (PageTraceReader reader = new PageTraceReader(large)) {
+      long[] sum = {0};
+      PageTraceVisitor visitor = (process, page, time, write) -> sum[0] += page;
+      reader.forEach(visitor); // calentamiento
+      long allocatedBefore = allocatedBytes();
+      long start = System.nanoTime();
+      reader.forEach(visitor);
+      long millis = (System.nanoTime() - start) / 1000000;
+      long allocated = allocatedBytes() - allocatedBefore;
+      System.out.println(String.format("\nLectura de %d registros en %d ms", largeCount, millis));
+      if (allocatedBefore >= 0) {
+        System.out.println("Bytes asignados durante la lectura: " + allocated);
+        test.check("Lectura sin asignaciones por registro", allocated < largeCount / 100);
+      }
+
+      MemoryManager memory = new MemoryManager(256, PageReplacementFactory.createAlgorithm("CLOCK"));
+      start = System.nanoTime();
+      reader.replay(memory);
+      millis = (System.nanoTime() - start) / 1000000;
+      System.out.println(String.format("Reproduccion con CLOCK: %d fallos en %d ms",
+          memory.getPageFaults(), millis));
+      test.check("Todas las referencias llegan a memoria", memory.getMemoryAccesses() == largeCount);
+    }
+
+    // 5. Archivos que no son trazas se rechazan
+    boolean rejected = false;
+    try (PageTraceReader reader = new PageTraceReader(text)) {
+      reader.getRecordCount();
+    } catch (IOException e) {
+      rejected = true;
+    }
+    test.check("Rechaza archivos que no son trazas", rejected);
+
+    for (Path file : new Path[]{text, converted, direct, skewed, sparse, large}) {
+      Files.deleteIfExists(file);
+    }
+    Files.deleteIfExists(dir);
+    test.finish();
+  }
+
+  /**
+   * Misma secuencia enviada directamente a MemoryManager, sin pasar por el archivo
+   */
+  private static int directFaults(String name, int[] pids, int[] pages, boolean[] writes) {
+    MemoryManager memory = new MemoryManager(8, PageReplacementFactory.createAlgorithm(name));
+    Process[] processes = new Process[3];
+    for (int i = 0; i < processes.length; i++) {
+      processes[i] = new Process("P" + (i + 1), 0, new ArrayList<>(), 1, 24);
+    }
+    for (int i = 0; i < pids.length; i++) {
+      memory.ensurePageLoaded(processes[pids[i]], pages[i], i);
+      memory.accessPage(processes[pids[i]].getPid(), pages[i], i, writes[i]);
+    }
+    return memory.getPageFaults();
+  }
+
+  private static long allocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported()) {
+      return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,198 @@
+package scheduler.test;
+
+import model.Process;
+import model.Burst;
+import scheduler.*;
+import memory.*;
+import io.IOManager;
+import simulation.SimulationController;
+import sync.ConcurrencyMode;
+import config.ArrivalProcess;
+import config.Distribution;
+import config.ProcessConfigParser;
+import config.WorkloadGenerator;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Prueba del generador de cargas: reproducible por semilla, legible por
+ * ProcessConfigParser, distribuciones con los parametros pedidos y escritura
+ * de un millon de procesos sin guardarlos en memoria
+ */
+public class TestWorkloadGenerator {
+  private static TestSupport test;
+
+  public static void main(String[] args) throws IOException {
+    test = TestSupport.begin("TEST GENERADOR DE CARGAS");
+
+    // 1. Reproducible por semilla
+    String first = write(mixed(7), 2000);
+    String again = write(mixed(7), 2000);
+    String other = write(mixed(8), 2000);
+    test.check("Misma semilla, misma carga", first.equals(again));
+    test.check("Otra semilla, otra carga", !first.equals(other));
+
+    // 2. El archivo se lee con ProcessConfigParser y coincide con lo generado
+    File file = File.createTempFile("carga", ".txt");
+    file.deleteOnExit();
+    mixed(7).writeToFile(file.getPath(), 2000);
+    List<Process> parsed = ProcessConfigParser.parseFromFile(file.getPath());
+    List<Process> generated = mixed(7).generate(2000);
+    boolean same = parsed.size() == generated.size();
+    for (int i = 0; same && i < parsed.size(); i++) {
+      same = describe(parsed.get(i)).equals(describe(generated.get(i)));
+    }
+    test.check("Archivo leido igual a los procesos generados", same);
+    boolean ordered = true;
+    for (int i = 1; i < generated.size(); i++) {
+      ordered &= generated.get(i).getArrivalTime() >= generated.get(i - 1).getArrivalTime();
+    }
+    test.check("Llegadas no decrecientes", ordered);
+
+    // 3. Poisson: tiempo medio entre llegadas 1/tasa
+    int n = 200000;
+    WorkloadGenerator poisson = new WorkloadGenerator(1);
+    poisson.setArrivals(ArrivalProcess.poisson(0.5));
+    List<Process> poissonLoad = poisson.generate(n);
+    double meanGap = poissonLoad.get(n - 1).getArrivalTime() / (double) n;
+    System.out.println(String.format("  Poisson(0.5): media entre llegadas %.3f", meanGap));
+    test.check("Poisson con la tasa pedida", Math.abs(meanGap - 2.0) < 0.05);
+
+    // 4. MMPP: mas dispersion de llegadas por ventana que Poisson de igual media
+    WorkloadGenerator bursty = new WorkloadGenerator(1);
+    bursty.setArrivals(ArrivalProcess.mmpp(0.1, 2.0, 400, 40));
+    double poissonDispersion = dispersion(poissonLoad, 100);
+    double mmppDispersion = dispersion(bursty.generate(n), 100);
+    System.out.println(String.format("  Dispersion por ventana: Poisson %.2f, MMPP %.2f",
+        poissonDispersion, mmppDispersion));
+    test.check("MMPP produce rafagas de llegadas", poissonDispersion < 1.5 && mmppDispersion > 10);
+
+    // 5. Rafagas: exponencial, Pareto y empirica
+    Random random = new Random(3);
+    Distribution pareto = Distribution.parse("pareto(2.5,4)");
+    Distribution exponential = Distribution.parse("exp(10)");
+    long paretoSum = 0;
+    long exponentialSum = 0;
+    int paretoMin = Integer.MAX_VALUE;
+    int paretoMax = 0;
+    for (int i = 0; i < n; i++) {
+      int value = pareto.sample(random);
+      paretoSum += value;
+      paretoMin = Math.min(paretoMin, value);
+      paretoMax = Math.max(paretoMax, value);
+      exponentialSum += exponential.sample(random);
+    }
+    double paretoMean = paretoSum / (double) n;
+    double exponentialMean = exponentialSum / (double) n;
+    System.out.println(String.format("  Pareto(2.5,4): media %.2f, min %d, max %d; exp(10): media %.2f",
+        paretoMean, paretoMin, paretoMax, exponentialMean));
+    test.check("Pareto con minimo, media y cola esperados",
+        paretoMin == 4 && Math.abs(paretoMean - 6.67) < 0.2 && paretoMax > 100);
+    // Redondeo hacia arriba: la media queda en ~media + 0.5
+    test.check("Exponencial con la media pedida", Math.abs(exponentialMean - 10.5) < 0.2);
+
+    int[] priorities = new int[4];
+    for (Process p : mixed(11).generate(n)) {
+      priorities[p.getPriority()]++;
+    }
+    test.check("Mezcla de prioridades 60/30/10",
+        Math.abs(priorities[1] / (double) n - 0.6) < 0.01
+            && Math.abs(priorities[2] / (double) n - 0.3) < 0.01
+            && Math.abs(priorities[3] / (double) n - 0.1) < 0.01);
+
+    // 6. Un millon de procesos escritos de a uno
+    CountingWriter counter = new CountingWriter();
+    long start = System.nanoTime();
+    long written = mixed(5).write(counter, 1000000);
+    long millis = (System.nanoTime() - start) / 1000000;
+    System.out.println(String.format("  1.000.000 procesos escritos en %d ms (%d MB de texto)",
+        millis, counter.chars / (1024 * 1024)));
+    test.check("Se escribe un millon de procesos", written == 1000000 && counter.lines == 1000002);
+
+    // 7. Directo al simulador
+    test.silenceLog();
+    WorkloadGenerator direct = mixed(9);
+    direct.setArrivals(ArrivalProcess.poisson(0.05));
+    List<Process> load = direct.generate(3000);
+    SimulationController controller = new SimulationController(new RoundRobinScheduler(4),
+        new MemoryManager(256, new LRUPageReplacement()), new IOManager(), 4, 1000000);
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    controller.setReportEnabled(false);
+    controller.addProcesses(load);
+    controller.runSimulation();
+    int completed = 0;
+    for (Process p : controller.getAllProcesses()) {
+      completed += p.getState() == Process.ProcessState.TERMINATED ? 1 : 0;
+    }
+    test.check("La carga generada se simula completa (" + completed + "/3000)", completed == 3000);
+
+    test.finish();
+  }
+
+  private static WorkloadGenerator mixed(long seed) {
+    WorkloadGenerator generator = new WorkloadGenerator(seed);
+    generator.setArrivals(ArrivalProcess.parse("mmpp(0.05,1,500,50)"));
+    generator.setCpuBurst(Distribution.parse("pareto(1.5,2)"));
+    generator.setIoBurst(Distribution.parse("exp(4)"));
+    generator.setCpuBurstCount(Distribution.parse("uniform(1,4)"));
+    generator.setPriority(Distribution.parse("emp(1:6,2:3,3:1)"));
+    generator.setPages(Distribution.parse("emp(2,4,8)"));
+    return generator;
+  }
+
+  private static String write(WorkloadGenerator generator, int count) throws IOException {
+    StringWriter out = new StringWriter();
+    generator.write(out, count);
+    return out.toString();
+  }
+
+  private static String describe(Process p) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(p.getPid()).append(' ').append(p.getArrivalTime()).append(' ')
+        .append(p.getPriority()).append(' ').append(p.getRequiredPages());
+    for (Burst b : p.getBursts()) {
+      sb.append(' ').append(b.getType()).append(b.getDuration());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Varianza sobre media de las llegadas por ventana (1 para Poisson)
+   */
+  private static double dispersion(List<Process> load, int window) {
+    int windows = load.get(load.size() - 1).getArrivalTime() / window + 1;
+    long[] counts = new long[windows];
+    for (Process p : load) {
+      counts[p.getArrivalTime() / window]++;
+    }
+    double mean = load.size() / (double) windows;
+    double variance = 0;
+    for (long count : counts) {
+      variance += (count - mean) * (count - mean);
+    }
+    return variance / windows / mean;
+  }
+
+  private static class CountingWriter extends Writer {
+    long chars;
+    long lines;
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {
+      chars += length;
+      for (int i = offset; i < offset + length; i++) {
+        if (buffer[i] == '\n') {
+          lines++;
+        }
+      }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
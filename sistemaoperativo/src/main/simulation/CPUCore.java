@@ -0,0 +1,39 @@
+package simulation;
+
+import model.Process;
+import scheduler.GanttChart;
+import java.io.Serializable;
+
+/**
+ * Estado de un nucleo simulado: proceso en ejecucion, quantum restante,
+ * costo de migracion pendiente, tiempo ocupado y su propio carril del
+ * diagrama de Gantt
+ */
+class CPUCore implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  final int id;
+  final GanttChart lane;
+  Process currentProcess;
+  int quantumRemaining;
+  int busyTime;
+  int dispatches;
+  int overheadRemaining; // Unidades de costo de migracion antes de ejecutar
+  boolean stolenDispatch; // El proceso actual se obtuvo robandolo de otra cola
+
+  CPUCore(int id, GanttChart lane) {
+    this.id = id;
+    this.lane = lane;
+  }
+
+  boolean isRunning() {
+    return currentProcess != null && currentProcess.getState() == Process.ProcessState.RUNNING;
+  }
+
+  /**
+   * Etiqueta para los mensajes de log
+   */
+  String tag() {
+    return "[CPU" + id + "]";
+  }
+}
@@ -0,0 +1,369 @@
+package simulation;
+
+import model.Process;
+import scheduler.SchedulerFactory;
+import scheduler.SchedulingAlgorithm;
+import scheduler.PerformanceMetrics;
+import memory.MemoryManager;
+import memory.PageReplacementFactory;
+import io.IODevice;
+import io.IOManager;
+import config.ProcessConfigParser;
+import log.SimulationEventSink;
+import log.SimulationLog;
+import sync.ConcurrencyMode;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Barrido de parametros: ejecuta todas las combinaciones de planificador,
+ * quantum, marcos y algoritmo de reemplazo en paralelo (ForkJoinPool).
+ * Cada combinacion usa sus propios procesos, componentes y reloj, asi que
+ * las ejecuciones no comparten estado. El quantum solo se varia para RR;
+ * FCFS y SJF se ejecutan una vez por combinacion de memoria.
+ * Cada simulacion corre en un solo hilo y sin locks (SINGLE_THREADED).
+ * Durante el barrido el log de eventos queda desactivado. Con un directorio
+ * de instantaneas cada combinacion guarda su SimulationSnapshot comprimida.
+ */
+public class ParameterSweep {
+  private final List<Process> baseProcesses;
+  private final List<IODevice> baseDevices;
+  private List<String> schedulers;
+  private int[] quanta;
+  private int[] frames;
+  private List<String> replacements;
+  private int maxSimulationTime;
+  private int parallelism;
+  private Path snapshotDirectory;
+
+  /**
+   * Resultado de una combinacion
+   */
+  public static final class Result {
+    public final String scheduler;
+    public final int quantum; // 0 si el planificador no usa quantum
+    public final int frames;
+    public final String replacement;
+    public final int completed;
+    public final int makespan;
+    public final double averageWaitingTime;
+    public final double averageTurnaroundTime;
+    public final double averageResponseTime;
+    public final double cpuUtilization;
+    public final int pageFaults;
+    public final double faultRate;
+    public final long millis;
+
+    Result(String scheduler, int quantum, int frames, String replacement, SimulationController controller,
+           long millis) {
+      this.scheduler = scheduler;
+      this.quantum = quantum;
+      this.frames = frames;
+      this.replacement = replacement;
+      int done = 0;
+      int last = 0;
+      for (Process p : controller.getAllProcesses()) {
+        if (p.getState() == Process.ProcessState.TERMINATED) {
+          done++;
+          last = Math.max(last, p.getCompletionTime());
+        }
+      }
+      this.completed = done;
+      this.makespan = last;
+      PerformanceMetrics metrics = controller.getScheduler().getPerformanceMetrics();
+      this.averageWaitingTime = metrics.getAverageWaitingTime();
+      this.averageTurnaroundTime = metrics.getAverageTurnaroundTime();
+      this.averageResponseTime = metrics.getAverageResponseTime();
+      this.cpuUtilization = controller.getCPUUtilization();
+      this.pageFaults = controller.getMemoryManager().getPageFaults();
+      this.faultRate = controller.getMemoryManager().getFaultRate();
+      this.millis = millis;
+    }
+
+    /**
+     * Misma combinacion y mismas metricas (sin contar el tiempo real)
+     */
+    public boolean sameOutcome(Result other) {
+      return scheduler.equals(other.scheduler) && quantum == other.quantum && frames == other.frames
+          && replacement.equals(other.replacement) && completed == other.completed
+          && makespan == other.makespan && averageWaitingTime == other.averageWaitingTime
+          && averageTurnaroundTime == other.averageTurnaroundTime
+          && averageResponseTime == other.averageResponseTime && cpuUtilization == other.cpuUtilization
+          && pageFaults == other.pageFaults && faultRate == other.faultRate;
+    }
+  }
+
+  public ParameterSweep(List<Process> baseProcesses, List<IODevice> baseDevices) {
+    this.baseProcesses = new ArrayList<>(baseProcesses);
+    this.baseDevices = new ArrayList<>(baseDevices);
+    this.schedulers = Arrays.asList("FCFS", "SJF", "RR");
+    this.quanta = new int[]{3};
+    this.frames = new int[]{10};
+    this.replacements = Arrays.asList(PageReplacementFactory.ALGORITHMS);
+    this.maxSimulationTime = 1000;
+    this.parallelism = Runtime.getRuntime().availableProcessors();
+  }
+
+  public static ParameterSweep fromFile(String configFile) throws IOException {
+    return new ParameterSweep(ProcessConfigParser.parseFromFile(configFile),
+        ProcessConfigParser.parseDevicesFromFile(configFile));
+  }
+
+  public void setSchedulers(List<String> schedulers) {
+    for (String type : schedulers) {
+      SchedulerFactory.createScheduler(type, 1); // valida el nombre
+    }
+    this.schedulers = new ArrayList<>(schedulers);
+  }
+
+  public void setQuanta(int[] quanta) {
+    for (int quantum : quanta) {
+      if (quantum <= 0) {
+        throw new IllegalArgumentException("Quantum debe ser mayor a 0: " + quantum);
+      }
+    }
+    this.quanta = quanta.clone();
+  }
+
+  public void setFrames(int[] frames) {
+    for (int count : frames) {
+      if (count <= 0) {
+        throw new IllegalArgumentException("La cantidad de marcos debe ser mayor a 0: " + count);
+      }
+    }
+    this.frames = frames.clone();
+  }
+
+  public void setReplacements(List<String> replacements) {
+    for (String name : replacements) {
+      PageReplacementFactory.createAlgorithm(name); // valida el nombre
+    }
+    this.replacements = new ArrayList<>(replacements);
+  }
+
+  public void setMaxSimulationTime(int maxSimulationTime) {
+    this.maxSimulationTime = maxSimulationTime;
+  }
+
+  /**
+   * @param parallelism Hilos del ForkJoinPool (1 = secuencial)
+   */
+  public void setParallelism(int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("El paralelismo debe ser mayor a 0");
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Directorio donde guardar una instantanea por combinacion (null = ninguna)
+   */
+  public void setSnapshotDirectory(Path snapshotDirectory) {
+    this.snapshotDirectory = snapshotDirectory;
+  }
+
+  /**
+   * Archivo de instantanea de una combinacion, p. ej. RR-q3-f10-LRU.snap
+   */
+  public static String snapshotFileName(Result result) {
+    return String.format("%s-q%d-f%d-%s.snap", result.scheduler, result.quantum, result.frames, result.replacement);
+  }
+
+  /**
+   * Ejecuta todas las combinaciones
+   * @return Resultados en orden: planificador, quantum, marcos, reemplazo
+   */
+  public List<Result> run() {
+    List<Callable<Result>> tasks = new ArrayList<>();
+    for (String type : schedulers) {
+      boolean usesQuantum = type.equalsIgnoreCase("RR");
+      for (int quantum : usesQuantum ? quanta : new int[]{0}) {
+        for (int frameCount : frames) {
+          for (String replacement : replacements) {
+            tasks.add(() -> runOne(type, quantum, frameCount, replacement));
+          }
+        }
+      }
+    }
+
+    SimulationEventSink sink = SimulationLog.getSink();
+    SimulationLog.disable();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<Result> results = new ArrayList<>();
+      for (Future<Result> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Barrido interrumpido", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Fallo una simulacion del barrido: " + e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdown();
+      SimulationLog.setSink(sink);
+    }
+  }
+
+  /**
+   * Una simulacion completa con componentes y reloj nuevos
+   */
+  private Result runOne(String type, int quantum, int frameCount, String replacement) throws IOException {
+    SchedulingAlgorithm scheduler = SchedulerFactory.createScheduler(type, Math.max(quantum, 1));
+    MemoryManager memoryManager = new MemoryManager(frameCount, PageReplacementFactory.createAlgorithm(replacement));
+    IOManager ioManager = new IOManager();
+    for (IODevice device : baseDevices) {
+      ioManager.registerDevice(device.copy());
+    }
+    SimulationController controller = new SimulationController(
+        scheduler, memoryManager, ioManager, quantum, maxSimulationTime);
+    controller.setReportEnabled(false);
+    controller.setConcurrencyMode(ConcurrencyMode.SINGLE_THREADED);
+    controller.addProcesses(cloneProcesses());
+    long start = System.nanoTime();
+    controller.runSimulation();
+    Result result = new Result(type.toUpperCase(), quantum, frameCount, replacement, controller,
+        (System.nanoTime() - start) / 1000000);
+    if (snapshotDirectory != null) {
+      SimulationSnapshot.capture(controller).save(snapshotDirectory.resolve(snapshotFileName(result)), true);
+    }
+    return result;
+  }
+
+  private List<Process> cloneProcesses() {
+    List<Process> clones = new ArrayList<>();
+    for (Process p : baseProcesses) {
+      clones.add(p.copy());
+    }
+    return clones;
+  }
+
+  /**
+   * Tabla CSV con una fila por combinacion
+   */
+  public static String toCSV(List<Result> results) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("scheduler,quantum,frames,replacement,completed,makespan,avg_waiting,avg_turnaround,"
+        + "avg_response,cpu_utilization,page_faults,fault_rate,millis\n");
+    for (Result r : results) {
+      sb.append(String.format(Locale.ROOT, "%s,%d,%d,%s,%d,%d,%.2f,%.2f,%.2f,%.4f,%d,%.4f,%d\n",
+          r.scheduler, r.quantum, r.frames, r.replacement, r.completed, r.makespan,
+          r.averageWaitingTime, r.averageTurnaroundTime, r.averageResponseTime,
+          r.cpuUtilization, r.pageFaults, r.faultRate, r.millis));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Arreglo JSON con un objeto por combinacion
+   */
+  public static String toJSON(List<Result> results) {
+    StringBuilder sb = new StringBuilder("[\n");
+    for (int i = 0; i < results.size(); i++) {
+      Result r = results.get(i);
+      sb.append(String.format(Locale.ROOT,
+          "  {\"scheduler\": \"%s\", \"quantum\": %d, \"frames\": %d, \"replacement\": \"%s\", "
+              + "\"completed\": %d, \"makespan\": %d, \"avg_waiting\": %.2f, \"avg_turnaround\": %.2f, "
+              + "\"avg_response\": %.2f, \"cpu_utilization\": %.4f, \"page_faults\": %d, "
+              + "\"fault_rate\": %.4f, \"millis\": %d}",
+          r.scheduler, r.quantum, r.frames, r.replacement, r.completed, r.makespan,
+          r.averageWaitingTime, r.averageTurnaroundTime, r.averageResponseTime,
+          r.cpuUtilization, r.pageFaults, r.faultRate, r.millis));
+      sb.append(i < results.size() - 1 ? ",\n" : "\n");
+    }
+    return sb.append("]\n").toString();
+  }
+
+  /**
+   * Lista de enteros: "4,8,16", rango "2-6" o rango con paso "4-32:4"
+   */
+  public static int[] parseIntRange(String spec) {
+    List<Integer> values = new ArrayList<>();
+    for (String part : spec.split(",")) {
+      part = part.trim();
+      int dash = part.indexOf('-');
+      if (dash < 0) {
+        values.add(Integer.parseInt(part));
+        continue;
+      }
+      int colon = part.indexOf(':');
+      int from = Integer.parseInt(part.substring(0, dash).trim());
+      int to = Integer.parseInt(part.substring(dash + 1, colon < 0 ? part.length() : colon).trim());
+      int step = colon < 0 ? 1 : Integer.parseInt(part.substring(colon + 1).trim());
+      if (step <= 0 || to < from) {
+        throw new IllegalArgumentException("Rango invalido: " + part);
+      }
+      for (int value = from; value <= to; value += step) {
+        values.add(value);
+      }
+    }
+    int[] result = new int[values.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values.get(i);
+    }
+    return result;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0 || args.length % 2 == 0) {
+      System.out.println("USO: java simulation.ParameterSweep <procesos.txt> [--schedulers FCFS,SJF,RR]"
+          + " [--quantum 2-6] [--frames 4,8,16] [--replacement FIFO,LRU] [--threads n]"
+          + " [--format csv|json] [--out archivo] [--snapshots directorio]");
+      return;
+    }
+    ParameterSweep sweep = fromFile(args[0]);
+    String format = "csv";
+    String output = null;
+    for (int i = 1; i < args.length; i += 2) {
+      String value = args[i + 1];
+      switch (args[i]) {
+        case "--schedulers":
+          sweep.setSchedulers(Arrays.asList(value.split(",")));
+          break;
+        case "--quantum":
+          sweep.setQuanta(parseIntRange(value));
+          break;
+        case "--frames":
+          sweep.setFrames(parseIntRange(value));
+          break;
+        case "--replacement":
+          sweep.setReplacements(Arrays.asList(value.split(",")));
+          break;
+        case "--threads":
+          sweep.setParallelism(Integer.parseInt(value));
+          break;
+        case "--format":
+          format = value.toLowerCase();
+          break;
+        case "--out":
+          output = value;
+          break;
+        case "--snapshots":
+          Files.createDirectories(Paths.get(value));
+          sweep.setSnapshotDirectory(Paths.get(value));
+          break;
+        default:
+          throw new IllegalArgumentException("Opcion desconocida: " + args[i]);
+      }
+    }
+    List<Result> results = sweep.run();
+    String table = format.equals("json") ? toJSON(results) : toCSV(results);
+    if (output == null) {
+      System.out.print(table);
+    } else {
+      try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(output)))) {
+        out.print(table);
+      }
+      System.out.println(String.format("%d combinaciones escritas en %s", results.size(), output));
+    }
+  }
+}
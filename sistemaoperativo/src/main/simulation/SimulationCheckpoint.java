@@ -0,0 +1,206 @@
+package simulation;
+
+import log.SimulationEventSink;
+import log.SimulationLog;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Estado completo de una simulacion pausada, guardado con la serializacion
+ * de Java: el grafo del controlador (reloj, procesos y sus rafagas, colas del
+ * planificador, marcos y tablas de paginas, estructuras del algoritmo de
+ * reemplazo, operaciones de E/S, eventos pendientes y diagrama de Gantt) se
+ * escribe una sola vez en un arreglo de bytes. Cada restore lo lee y devuelve
+ * un controlador nuevo e independiente, asi que desde un mismo checkpoint se
+ * pueden bifurcar muchas ramas en paralelo.
+ *
+ * No se guarda el sink del log (es global); un flujo de llegadas solo se
+ * guarda si su iterador es serializable. Un checkpoint tomado en memoria
+ * acepta al restaurar la clase de ese iterador aunque sea ajena al
+ * simulador; uno cargado con load no.
+ *
+ * restore solo acepta clases del simulador y las de java.util y
+ * java.util.concurrent.locks que usa su estado (STATE_FILTER), con
+ * profundidad y largo de arreglos acotados: un archivo cargado con load
+ * no puede instanciar otras clases serializables del classpath.
+ *
+ * Archivo (little-endian): int magico "SCKP", short version, short reservado,
+ * int tiempo, long largo, int CRC32, y los bytes serializados.
+ */
+public final class SimulationCheckpoint {
+  private static final int MAGIC = 0x504B4353; // "SCKP" leido en little-endian
+  private static final short VERSION = 1;
+  private static final int HEADER_SIZE = 24;
+
+  // Paquetes del simulador, colecciones y locks del estado, boxing de los
+  // argumentos capturados por lambdas serializables (IOServiceModel); el resto se rechaza
+  private static final ObjectInputFilter STATE_FILTER = ObjectInputFilter.Config.createFilter(
+      "maxdepth=64;maxarray=16777216;"
+      + "config.*;io.*;memory.*;model.*;scheduler.*;simulation.*;sync.*;"
+      + "java.util.ArrayList;java.util.ArrayDeque;java.util.LinkedList;java.util.PriorityQueue;"
+      + "java.util.HashMap;java.util.LinkedHashMap;java.util.HashSet;java.util.LinkedHashSet;"
+      + "java.util.Map$Entry;java.util.BitSet;"
+      + "java.util.concurrent.locks.ReentrantLock;java.util.concurrent.locks.ReentrantLock$*;"
+      + "java.util.concurrent.locks.AbstractQueuedSynchronizer;"
+      + "java.util.concurrent.locks.AbstractQueuedSynchronizer$ConditionObject;"
+      + "java.util.concurrent.locks.AbstractOwnableSynchronizer;"
+      + "java.lang.invoke.SerializedLambda;java.lang.Enum;java.lang.Number;java.lang.String;"
+      + "java.lang.Integer;java.lang.Long;java.lang.Double;java.lang.Boolean;java.lang.Object;"
+      + "!*");
+
+  private final byte[] state;
+  private final int time;
+  private final ObjectInputFilter filter;
+
+  private SimulationCheckpoint(byte[] state, int time, ObjectInputFilter filter) {
+    this.state = state;
+    this.time = time;
+    this.filter = filter;
+  }
+
+  static SimulationCheckpoint of(SimulationController controller) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(controller);
+    } catch (NotSerializableException e) {
+      throw new IllegalStateException("La simulacion tiene un componente que no se puede guardar: " + e.getMessage(), e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Class<?> arrivalSource = controller.getArrivalSourceClass();
+    ObjectInputFilter filter = arrivalSource == null ? STATE_FILTER : info ->
+        info.serialClass() == arrivalSource ? ObjectInputFilter.Status.ALLOWED : STATE_FILTER.checkInput(info);
+    return new SimulationCheckpoint(bytes.toByteArray(), controller.getClock().now(), filter);
+  }
+
+  /**
+   * Tiempo de simulacion en que se tomo el checkpoint
+   */
+  public int getTime() {
+    return time;
+  }
+
+  /**
+   * Bytes del estado serializado
+   */
+  public int getSize() {
+    return state.length;
+  }
+
+  /**
+   * Controlador nuevo con el estado guardado; si estaba pausado,
+   * runSimulation o runUntil lo continuan desde la pausa
+   */
+  public SimulationController restore() {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+      in.setObjectInputFilter(filter);
+      return (SimulationController) in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new IllegalStateException("Checkpoint invalido: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Ejecuta cada rama sobre su propia copia restaurada, en paralelo
+   * (ForkJoinPool). Durante las ramas el log de eventos queda desactivado.
+   *
+   * @param parallelism Hilos (1 = secuencial)
+   * @return Resultado de cada rama, en el mismo orden
+   */
+  public <T> List<T> fork(List<? extends Function<SimulationController, T>> branches, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("El paralelismo debe ser mayor a 0");
+    }
+    List<Callable<T>> tasks = new ArrayList<>();
+    for (Function<SimulationController, T> branch : branches) {
+      tasks.add(() -> branch.apply(restore()));
+    }
+
+    SimulationEventSink sink = SimulationLog.getSink();
+    SimulationLog.disable();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Ramas interrumpidas", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Fallo una rama del checkpoint: " + e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdown();
+      SimulationLog.setSink(sink);
+    }
+  }
+
+  public void save(Path path) throws IOException {
+    CRC32 crc = new CRC32();
+    crc.update(state);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(time)
+        .putLong(state.length).putInt((int) crc.getValue());
+    header.flip();
+    ByteBuffer[] data = {header, ByteBuffer.wrap(state)};
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      while (data[1].hasRemaining()) {
+        channel.write(data);
+      }
+    }
+  }
+
+  /**
+   * @throws IOException Si el archivo no es un checkpoint o esta dañado
+   */
+  public static SimulationCheckpoint load(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        throw new IOException("No es un checkpoint de simulacion: " + path);
+      }
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(channel, header);
+      if (header.getInt(0) != MAGIC) {
+        throw new IOException("No es un checkpoint de simulacion: " + path);
+      }
+      short version = header.getShort(4);
+      if (version != VERSION) {
+        throw new IOException("Version de checkpoint no soportada: " + version);
+      }
+      long length = header.getLong(12);
+      if (length != channel.size() - HEADER_SIZE) {
+        throw new IOException("Checkpoint truncado o cabecera inconsistente: " + path);
+      }
+      byte[] state = new byte[(int) length];
+      readFully(channel, ByteBuffer.wrap(state));
+      CRC32 crc = new CRC32();
+      crc.update(state);
+      if ((int) crc.getValue() != header.getInt(20)) {
+        throw new IOException("Checkpoint dañado (CRC incorrecto): " + path);
+      }
+      return new SimulationCheckpoint(state, header.getInt(8), STATE_FILTER);
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("Fin de archivo inesperado en el checkpoint");
+      }
+    }
+  }
+}
@@ -6,33 +6,110 @@ import model.Burst;
 import scheduler.SchedulingAlgorithm;
 import scheduler.SimulationClock;
 import scheduler.GanttChart;
+import scheduler.ArrivalIndex;
+import scheduler.MultiQueueScheduler;
+import scheduler.LoadBalancer;
+import memory.LoadController;
 import memory.MemoryManager;
 import io.IOManager;
+import sync.ConcurrencyMode;
 import sync.SynchronizationCoordinator;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
 import java.util.*;
+import java.io.Serializable;
 
 /**
  * Controlador principal de la simulacion del sistema operativo
  * Coordina todos los modulos y ejecuta la simulacion paso a paso
  */
-public class SimulationController {
+public class SimulationController implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private List<Process> allProcesses;
   private SchedulingAlgorithm scheduler;
   private MemoryManager memoryManager;
   private IOManager ioManager;
   private SynchronizationCoordinator coordinator;
   private GanttChart ganttChart;
+  private final SimulationClock clock;
   
   private int quantum; // Para Round Robin
   private boolean running;
   private int maxSimulationTime;
   
+  // Llegadas ordenadas y contador de procesos no terminados (evitan recorrer
+  // allProcesses en cada tick)
+  private ArrivalIndex arrivals;
+  private int activeProcesses;
+  
+  // Llegadas desde un flujo: solo se guardan los procesos en curso. El
+  // iterador pasa a ArrivalIndex al empezar; streamingArrivals sigue marcando
+  // el modo
+  private Iterator<Process> arrivalSource;
+  private boolean streamingArrivals;
+  private Set<Process> liveProcesses;
+  private long streamedProcesses;
+  private boolean keepHistory;
+  
+  // Modo por eventos discretos
+  private boolean eventDriven;
+  private final PriorityQueue<SimulationEvent> eventQueue;
+  private long eventSequence;
+  private final Set<Integer> scheduledIOCompletions;
+  
+  // Tiempo de CPU ocupada, para la utilizacion reportada con control de carga
+  private int cpuBusyTime;
+  private int elapsedTime;
+  
+  // Multinucleo: estado por nucleo, migraciones y desbalance de carga
+  private int coreCount;
+  private final List<CPUCore> cores;
+  private final Map<String, Integer> lastCoreOf;
+  private int migrations;
+  private long imbalanceSum;
+  private int maxImbalance;
+  private int imbalanceSamples;
+  private int idleWithWaitingWork;
+  private LoadBalancer loadBalancer;
+  
+  // Locks de los componentes (THREAD_SAFE por defecto, por la GUI)
+  private ConcurrencyMode concurrencyMode;
+  
+  // Reporte final por consola al terminar (se desactiva en barridos en paralelo)
+  private boolean reportEnabled;
+  
+  // Pausa con runUntil: el bucle se detiene al llegar a pauseAt y guarda aqui
+  // el proceso en CPU y su quantum para continuar (o guardar un checkpoint)
+  private int pauseAt;
+  private boolean paused;
+  private Process pausedProcess;
+  private int pausedQuantum;
+  
   public SimulationController(SchedulingAlgorithm scheduler,
                               MemoryManager memoryManager,
                               IOManager ioManager,
                               int quantum,
                               int maxSimulationTime) {
+    this(scheduler, memoryManager, ioManager, quantum, maxSimulationTime, new SimulationClock());
+  }
+  
+  /**
+   * @param clock Reloj de esta simulacion; se entrega al planificador, a la
+   *              memoria y a la E/S, que no deben compartirse con otra simulacion
+   */
+  public SimulationController(SchedulingAlgorithm scheduler,
+                              MemoryManager memoryManager,
+                              IOManager ioManager,
+                              int quantum,
+                              int maxSimulationTime,
+                              SimulationClock clock) {
     this.allProcesses = new ArrayList<>();
+    this.clock = clock;
+    scheduler.setClock(clock);
+    memoryManager.setClock(clock);
+    ioManager.setClock(clock);
     this.scheduler = scheduler;
     this.memoryManager = memoryManager;
     this.ioManager = ioManager;
@@ -42,43 +119,203 @@ public class SimulationController {
     this.coordinator = new SynchronizationCoordinator(memoryManager, scheduler, ioManager);
     this.ganttChart = new GanttChart();
     this.running = false;
+    this.eventDriven = false;
+    this.eventQueue = new PriorityQueue<>();
+    this.eventSequence = 0;
+    this.scheduledIOCompletions = new HashSet<>();
+    this.cpuBusyTime = 0;
+    this.elapsedTime = 0;
+    this.coreCount = scheduler instanceof MultiQueueScheduler mq ? mq.getCoreCount() : 1;
+    this.cores = new ArrayList<>();
+    this.lastCoreOf = new HashMap<>();
+    this.reportEnabled = true;
+    this.concurrencyMode = ConcurrencyMode.THREAD_SAFE;
+    this.pauseAt = Integer.MAX_VALUE;
+    this.keepHistory = true;
     
-    System.out.println("\n=== SIMULADOR DE SISTEMA OPERATIVO ===");
-    System.out.println("Algoritmo de planificacion: " + scheduler.getClass().getSimpleName());
-    System.out.println("Algoritmo de reemplazo: " + memoryManager.getReplacementAlgorithm().getName());
-    System.out.println("Marcos de memoria: " + memoryManager.getTotalFrames());
-    System.out.println("Quantum: " + (quantum > 0 ? quantum : "N/A"));
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== SIMULADOR DE SISTEMA OPERATIVO ===");
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Algoritmo de planificacion: " + scheduler.getClass().getSimpleName());
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Algoritmo de reemplazo: " + memoryManager.getReplacementAlgorithm().getName());
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Marcos de memoria: " + memoryManager.getTotalFrames());
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "Quantum: " + (quantum > 0 ? quantum : "N/A"));
   }
   
   /**
    * Agrega procesos a la simulacion
    */
   public void addProcesses(List<Process> processes) {
+    if (streamingArrivals) {
+      throw new IllegalStateException("La simulacion ya toma sus procesos de un flujo de llegadas");
+    }
     allProcesses.addAll(processes);
-    System.out.println(String.format("\nProcesos agregados: %d", processes.size()));
+    if (concurrencyMode != ConcurrencyMode.THREAD_SAFE) {
+      for (Process p : processes) {
+        p.setConcurrencyMode(concurrencyMode);
+      }
+    }
+    SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, String.format("\nProcesos agregados: %d", processes.size()));
+    if (!SimulationLog.isEnabled(LogLevel.INFO)) {
+      return;
+    }
     for (Process p : processes) {
-      System.out.println(String.format("  %s: Llegada=%d, CPU=%d, Paginas=%d, Rafagas=%d",
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, String.format("  %s: Llegada=%d, CPU=%d, Paginas=%d, Rafagas=%d",
           p.getPid(), p.getArrivalTime(), p.getTotalCPUTime(), 
           p.getRequiredPages(), p.getBursts().size()));
     }
   }
   
   /**
-   * Ejecuta la simulacion completa
+   * Toma los procesos de un flujo ordenado por tiempo de llegada en lugar de
+   * una lista: cada proceso se lee justo antes de su llegada y se suelta al
+   * terminar, asi la memoria depende de los procesos en curso y no del total.
+   * Con un flujo, getAllProcesses devuelve solo los procesos no terminados, y
+   * tampoco se guarda historial (ver setKeepHistory).
+   */
+  public void setArrivalSource(Iterator<Process> source) {
+    if (!allProcesses.isEmpty()) {
+      throw new IllegalStateException("La simulacion ya tiene procesos agregados con addProcesses");
+    }
+    this.arrivalSource = source;
+    this.streamingArrivals = true;
+    this.keepHistory = false;
+  }
+  
+  /**
+   * Historial de lo que ocurre con cada proceso: diagrama de Gantt, eventos,
+   * metricas y fallos de pagina por proceso. Sin historial los procesos
+   * terminados solo suman a los totales y promedios. Por defecto se guarda,
+   * salvo con un flujo de llegadas; llamar despues de setArrivalSource.
+   */
+  public void setKeepHistory(boolean keep) {
+    this.keepHistory = keep;
+  }
+  
+  /**
+   * Procesos leidos del flujo de llegadas hasta ahora
+   */
+  public long getStreamedProcessCount() {
+    return streamedProcesses;
+  }
+  
+  /**
+   * Ejecuta la simulacion completa; si estaba pausada con runUntil, la
+   * continua desde la pausa hasta el final
    */
   public void runSimulation() {
+    pauseAt = Integer.MAX_VALUE;
+    run();
+  }
+  
+  /**
+   * Ejecuta (o continua) la simulacion y la pausa al llegar al instante time,
+   * sin reporte final. runSimulation o runUntil la continuan desde ahi, y
+   * checkpoint guarda su estado. Por eventos la pausa cae en el primer
+   * instante procesado que alcanza time.
+   * @return true si quedo pausada, false si termino antes de time
+   */
+  public boolean runUntil(int time) {
+    pauseAt = time;
+    try {
+      run();
+    } finally {
+      pauseAt = Integer.MAX_VALUE;
+    }
+    return paused;
+  }
+  
+  public boolean isPaused() {
+    return paused;
+  }
+  
+  /**
+   * Guarda el estado completo de la simulacion (reloj, procesos, colas,
+   * memoria, algoritmo de reemplazo, E/S y diagrama de Gantt)
+   * @throws IllegalStateException si la simulacion esta en ejecucion
+   */
+  public SimulationCheckpoint checkpoint() {
+    if (running) {
+      throw new IllegalStateException("Solo se guarda una simulacion pausada, terminada o sin iniciar");
+    }
+    return SimulationCheckpoint.of(this);
+  }
+  
+  /**
+   * Clase del iterador de llegadas que guarda el checkpoint, o null si la
+   * simulacion no toma sus procesos de un flujo
+   */
+  Class<?> getArrivalSourceClass() {
+    if (!streamingArrivals) {
+      return null;
+    }
+    return arrivalSource != null ? arrivalSource.getClass() : arrivals.getSourceClass();
+  }
+  
+  private void run() {
+    if (coreCount > 1) {
+      runMultiCoreSimulation();
+    } else if (eventDriven) {
+      runEventDrivenSimulation();
+    } else {
+      runTickSimulation();
+    }
+  }
+  
+  /**
+   * Retoma una simulacion pausada
+   * @return false si no estaba pausada y hay que iniciarla
+   */
+  private boolean resumePaused() {
+    if (!paused) {
+      return false;
+    }
+    paused = false;
     running = true;
-    SimulationClock.reset();
-    
-    System.out.println("\n=== INICIANDO SIMULACIoN ===\n");
+    return true;
+  }
+  
+  // Una pausa continua en el mismo bucle en que se detuvo
+  private void requireNotPaused() {
+    if (paused) {
+      throw new IllegalStateException("No se puede cambiar el modo de una simulacion pausada");
+    }
+  }
+  
+  private void pause(Process currentProcess, int quantumRemaining) {
+    pausedProcess = currentProcess;
+    pausedQuantum = quantumRemaining;
+    paused = true;
+    running = false;
+  }
+  
+  /**
+   * Bucle por ticks de un nucleo
+   */
+  private void runTickSimulation() {
+    boolean resume = resumePaused();
+    SimulationLog.setClock(clock);
+    if (!resume) {
+      running = true;
+      clock.restart();
+      prepareProcessTracking();
+      cpuBusyTime = 0;
+      
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== INICIANDO SIMULACIoN ===\n");
+    }
     
-    Process currentProcess = null;
-    int quantumRemaining = 0;
+    Process currentProcess = resume ? pausedProcess : null;
+    int quantumRemaining = resume ? pausedQuantum : 0;
+    pausedProcess = null;
     
-    while (running && SimulationClock.getTime() < maxSimulationTime) {
-      int currentTime = SimulationClock.getTime();
+    while (running && clock.now() < maxSimulationTime) {
+      int currentTime = clock.now();
+      if (currentTime >= pauseAt) {
+        pause(currentProcess, quantumRemaining);
+        return;
+      }
       
-      System.out.println(String.format("\n--- Tiempo: %d ---", currentTime));
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, String.format("\n--- Tiempo: %d ---", currentTime));
+      }
       
       // 1. Verificar llegada de nuevos procesos
       checkNewArrivals(currentTime);
@@ -89,6 +326,10 @@ public class SimulationController {
         coordinator.notifyIOComplete(p);
       }
       
+      // Fin de servicio de fallos de pagina y reanudacion de suspendidos
+      coordinator.completePageFaultsUpTo(currentTime);
+      coordinator.resumeSuspendedProcesses(currentTime);
+      
       // 3. Seleccionar proceso a ejecutar
       if (currentProcess == null || currentProcess.getState() != Process.ProcessState.RUNNING) {
         currentProcess = scheduler.getNextProcess();
@@ -107,13 +348,22 @@ public class SimulationController {
             
             quantumRemaining = scheduler.isPreemptive() ? quantum : Integer.MAX_VALUE;
             
-            System.out.println(String.format("[CPU] Ejecutando proceso %s", currentProcess.getPid()));
+            if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+              SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, currentProcess.getPid(), quantumRemaining,
+                  String.format("[CPU] Ejecutando proceso %s", currentProcess.getPid()));
+            }
           } else {
             currentProcess = null;
           }
         }
       }
       
+      // La proxima pagina no esta en memoria y los fallos cuestan tiempo: bloquear
+      if (currentProcess != null && handlePageFault(currentProcess, currentTime)) {
+        currentProcess = null;
+        quantumRemaining = 0;
+      }
+      
       // 4. Ejecutar proceso actual
       if (currentProcess != null) {
         Burst currentBurst = currentProcess.getCurrentBurst();
@@ -121,8 +371,7 @@ public class SimulationController {
         // Verificar si la rafaga actual es de E/S (puede ocurrir al inicio)
         if (currentBurst != null && currentBurst.getType() == Burst.BurstType.IO) {
           // Bloquear por E/S inmediatamente
-          int ioDuration = currentBurst.getDuration();
-          coordinator.handleIOBlocking(currentProcess, ioDuration);
+          coordinator.handleIOBlocking(currentProcess, currentBurst, currentTime);
           currentProcess.completeCurrentBurst();
           ganttChart.addEvent(currentTime,
               currentProcess.getPid() + " -> E/S");
@@ -135,13 +384,17 @@ public class SimulationController {
           
           int executed = currentProcess.executeBurst(timeToExecute);
           quantumRemaining -= executed;
+          cpuBusyTime += executed;
           
           scheduler.recordCPUExecution(currentProcess, executed);
           memoryManager.notifyProcessCPUUsage(currentProcess, executed);
           ganttChart.addExecution(currentProcess.getPid(), currentTime, currentTime + executed);
           
-          System.out.println(String.format("[CPU] %s ejecuto %d unidad(es). Restante burst: %d",
-              currentProcess.getPid(), executed, currentBurst.getRemainingTime()));
+          if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+            SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, currentProcess.getPid(), currentBurst.getRemainingTime(),
+                String.format("[CPU] %s ejecuto %d unidad(es). Restante burst: %d",
+                currentProcess.getPid(), executed, currentBurst.getRemainingTime()));
+          }
           
           // Verificar si completo la rafaga
           if (currentBurst.getRemainingTime() <= 0) {
@@ -149,7 +402,7 @@ public class SimulationController {
             if (currentProcess.isCompleted()) {
               // Proceso terminado
               currentProcess.setCompletionTime(currentTime + executed);
-              coordinator.notifyProcessComplete(currentProcess);
+              completeProcess(currentProcess);
               ganttChart.addEvent(currentTime + executed, 
                   currentProcess.getPid() + " TERMINADO");
               currentProcess = null;
@@ -159,8 +412,7 @@ public class SimulationController {
               Burst nextBurst = currentProcess.getCurrentBurst();
               if (nextBurst != null && nextBurst.getType() == Burst.BurstType.IO) {
                 // Bloquear por E/S
-                int ioDuration = nextBurst.getDuration();
-                coordinator.handleIOBlocking(currentProcess, ioDuration);
+                coordinator.handleIOBlocking(currentProcess, nextBurst, currentTime);
                 currentProcess.completeCurrentBurst();
                 ganttChart.addEvent(currentTime + executed,
                     currentProcess.getPid() + " -> E/S");
@@ -170,15 +422,19 @@ public class SimulationController {
             }
           } else if (quantumRemaining <= 0 && scheduler.isPreemptive()) {
             // Quantum agotado en Round Robin
-            System.out.println(String.format("[CPU] Quantum agotado para %s, reinsertando",
-                currentProcess.getPid()));
+            if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+              SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, currentProcess.getPid(), currentProcess.getRemainingCPUTime(),
+                  String.format("[CPU] Quantum agotado para %s, reinsertando", currentProcess.getPid()));
+            }
+            int readyBefore = scheduler.readyCount();
             scheduler.onProcessInterrupted(currentProcess);
             // Comprobación de advertencia: si el scheduler es preemptive, debería
-            // reinsertar el proceso en su propia cola.
+            // reinsertar el proceso en su propia cola (comparando tamaños, sin
+            // recorrer la cola).
             if (currentProcess.getRemainingCPUTime() > 0) {
-              List<Process> rq = scheduler.getReadyQueue();
-              if (!rq.contains(currentProcess)) {
-                System.out.println(String.format("[WARN] El scheduler %s NO reinsertó %s tras la interrupción (isPreemptive=true).",
+              if (scheduler.readyCount() <= readyBefore) {
+                SimulationLog.log(LogLevel.WARN, EventCategory.SIMULATION, currentProcess.getPid(), -1,
+                    String.format("[WARN] El scheduler %s NO reinsertó %s tras la interrupción (isPreemptive=true).",
                     scheduler.getClass().getSimpleName(), currentProcess.getPid()));
               }
             }
@@ -192,62 +448,729 @@ public class SimulationController {
       } else {
         // CPU inactiva
         ganttChart.addExecution("IDLE", currentTime, currentTime + 1);
-        System.out.println("[CPU] IDLE - No hay procesos listos");
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, "[CPU] IDLE - No hay procesos listos");
+        }
       }
       
       // 5. Avanzar el reloj
-      SimulationClock.incrementTime();
+      clock.advance();
       
       // 6. Verificar si todos los procesos terminaron
       if (allProcessesCompleted()) {
-        System.out.println("\n=== TODOS LOS PROCESOS COMPLETADOS ===");
+        SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== TODOS LOS PROCESOS COMPLETADOS ===");
         running = false;
       }
     }
     
-    if (SimulationClock.getTime() >= maxSimulationTime) {
-      System.out.println("\n=== TIEMPO MaXIMO DE SIMULACIoN ALCANZADO ===");
+    if (clock.now() >= maxSimulationTime) {
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== TIEMPO MaXIMO DE SIMULACIoN ALCANZADO ===");
     }
     
+    elapsedTime = clock.now();
     printFinalReport();
   }
   
+  /**
+   * Ejecuta la simulacion con varios nucleos, unidad por unidad. En cada
+   * instante todos los nucleos eligen proceso antes de ejecutar, para que un
+   * proceso liberado en ese instante no ejecute dos veces en la misma unidad.
+   * Con un MultiQueueScheduler cada nucleo toma de su propia cola; con
+   * cualquier otro planificador todos comparten una cola global.
+   * El modo por eventos no aplica aqui: se usa siempre el bucle por ticks.
+   */
+  private void runMultiCoreSimulation() {
+    boolean resume = resumePaused();
+    SimulationLog.setClock(clock);
+    if (!resume) {
+      running = true;
+      clock.restart();
+      prepareProcessTracking();
+      cpuBusyTime = 0;
+      prepareCores();
+      
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, String.format(
+          "\n=== INICIANDO SIMULACIoN (%d nucleos, %s) ===\n", coreCount,
+          scheduler instanceof MultiQueueScheduler ? "colas por nucleo" : "cola global"));
+    }
+    
+    while (running && clock.now() < maxSimulationTime) {
+      int currentTime = clock.now();
+      if (currentTime >= pauseAt) {
+        // El estado de cada nucleo ya vive en CPUCore
+        pause(null, 0);
+        return;
+      }
+      
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, String.format("\n--- Tiempo: %d ---", currentTime));
+      }
+      
+      checkNewArrivals(currentTime);
+      
+      List<Process> completedIO = ioManager.updateIOOperations(allProcesses);
+      for (Process p : completedIO) {
+        coordinator.notifyIOComplete(p);
+      }
+      coordinator.completePageFaultsUpTo(currentTime);
+      coordinator.resumeSuspendedProcesses(currentTime);
+      
+      if (loadBalancer != null) {
+        loadBalancer.balance(currentTime, busyCores());
+      }
+      for (CPUCore core : cores) {
+        dispatchOnCore(core, currentTime);
+      }
+      sampleCoreLoad();
+      for (CPUCore core : cores) {
+        executeOnCore(core, currentTime);
+      }
+      
+      clock.advance();
+      
+      if (allProcessesCompleted()) {
+        SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== TODOS LOS PROCESOS COMPLETADOS ===");
+        running = false;
+      }
+    }
+    
+    if (clock.now() >= maxSimulationTime) {
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== TIEMPO MaXIMO DE SIMULACIoN ALCANZADO ===");
+    }
+    
+    elapsedTime = clock.now();
+    printFinalReport();
+  }
+  
+  /**
+   * Crea los nucleos; el carril del nucleo 0 es el diagrama principal
+   */
+  private void prepareCores() {
+    cores.clear();
+    lastCoreOf.clear();
+    migrations = 0;
+    imbalanceSum = 0;
+    maxImbalance = 0;
+    imbalanceSamples = 0;
+    idleWithWaitingWork = 0;
+    if (loadBalancer != null) {
+      loadBalancer.reset();
+    }
+    for (int i = 0; i < coreCount; i++) {
+      GanttChart lane = i == 0 ? ganttChart : new GanttChart();
+      lane.setRecording(keepHistory);
+      cores.add(new CPUCore(i, lane));
+    }
+  }
+  
+  private boolean[] busyCores() {
+    boolean[] busy = new boolean[coreCount];
+    for (CPUCore core : cores) {
+      busy[core.id] = core.isRunning();
+    }
+    return busy;
+  }
+  
+  /**
+   * Si el nucleo esta libre toma el siguiente proceso de su cola (o de la global);
+   * con balanceador, si su cola esta vacia intenta robar de otra
+   */
+  private void dispatchOnCore(CPUCore core, int currentTime) {
+    if (!core.isRunning()) {
+      core.stolenDispatch = false;
+      if (loadBalancer != null && loadBalancer.getScheduler().getReadyCount(core.id) == 0) {
+        core.stolenDispatch = loadBalancer.steal(core.id, currentTime, busyCores());
+      }
+      Process next = scheduler instanceof MultiQueueScheduler mq
+          ? mq.getNextProcess(core.id)
+          : scheduler.getNextProcess();
+      core.currentProcess = null;
+      
+      if (next != null && coordinator.prepareProcessForExecution(next)) {
+        next.setState(Process.ProcessState.RUNNING);
+        if (next.getFirstExecutionTime() == -1) {
+          next.setFirstExecutionTime(currentTime);
+          scheduler.onProcessStarted(next);
+        }
+        core.currentProcess = next;
+        core.quantumRemaining = scheduler.isPreemptive() ? quantum : Integer.MAX_VALUE;
+        core.dispatches++;
+        Integer previousCore = lastCoreOf.put(next.getPid(), core.id);
+        if (previousCore != null && previousCore != core.id) {
+          migrations++;
+          core.lane.addEvent(currentTime, String.format("%s migra del nucleo %d al %d",
+              next.getPid(), previousCore, core.id));
+          if (loadBalancer != null) {
+            core.overheadRemaining = loadBalancer.migrationPenalty(next, currentTime);
+          }
+        }
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, next.getPid(), core.id,
+              String.format("%s Ejecutando proceso %s", core.tag(), next.getPid()));
+        }
+      }
+    }
+    
+    if (core.currentProcess != null && handlePageFault(core.currentProcess, currentTime, core.lane)) {
+      core.currentProcess = null;
+      core.quantumRemaining = 0;
+    }
+  }
+  
+  /**
+   * Ejecuta una unidad en el nucleo, con las mismas reglas que el bucle de un nucleo
+   */
+  private void executeOnCore(CPUCore core, int currentTime) {
+    Process process = core.currentProcess;
+    if (process == null) {
+      core.lane.addExecution("IDLE", currentTime, currentTime + 1);
+      return;
+    }
+    if (core.overheadRemaining > 0) {
+      // Costo de migracion: el nucleo esta ocupado pero el proceso no avanza
+      core.overheadRemaining--;
+      core.lane.addExecution("MIG", currentTime, currentTime + 1);
+      return;
+    }
+    
+    Burst currentBurst = process.getCurrentBurst();
+    if (currentBurst != null && currentBurst.getType() == Burst.BurstType.IO) {
+      coordinator.handleIOBlocking(process, currentBurst, currentTime);
+      process.completeCurrentBurst();
+      core.lane.addEvent(currentTime, process.getPid() + " -> E/S");
+      releaseCore(core);
+      return;
+    }
+    if (currentBurst == null) {
+      return;
+    }
+    
+    int executed = process.executeBurst(Math.min(1, Math.min(core.quantumRemaining, currentBurst.getRemainingTime())));
+    core.quantumRemaining -= executed;
+    core.busyTime += executed;
+    cpuBusyTime += executed;
+    
+    scheduler.recordCPUExecution(process, executed);
+    memoryManager.notifyProcessCPUUsage(process, executed);
+    core.lane.addExecution(process.getPid(), currentTime, currentTime + executed);
+    if (loadBalancer != null) {
+      loadBalancer.recordRun(process, currentTime + executed);
+      if (core.stolenDispatch) {
+        loadBalancer.recordIdleTimeRemoved(executed);
+      }
+    }
+    
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, process.getPid(), currentBurst.getRemainingTime(),
+          String.format("%s %s ejecuto %d unidad(es). Restante burst: %d",
+          core.tag(), process.getPid(), executed, currentBurst.getRemainingTime()));
+    }
+    
+    if (currentBurst.getRemainingTime() <= 0) {
+      if (process.isCompleted()) {
+        process.setCompletionTime(currentTime + executed);
+        completeProcess(process);
+        core.lane.addEvent(currentTime + executed, process.getPid() + " TERMINADO");
+        releaseCore(core);
+      } else {
+        Burst nextBurst = process.getCurrentBurst();
+        if (nextBurst != null && nextBurst.getType() == Burst.BurstType.IO) {
+          coordinator.handleIOBlocking(process, nextBurst, currentTime);
+          process.completeCurrentBurst();
+          core.lane.addEvent(currentTime + executed, process.getPid() + " -> E/S");
+          releaseCore(core);
+        }
+      }
+    } else if (core.quantumRemaining <= 0 && scheduler.isPreemptive()) {
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, process.getPid(), process.getRemainingCPUTime(),
+            String.format("%s Quantum agotado para %s, reinsertando", core.tag(), process.getPid()));
+      }
+      scheduler.onProcessInterrupted(process);
+      process.setState(Process.ProcessState.READY);
+      core.lane.addEvent(currentTime + executed, process.getPid() + " -> QUANTUM");
+      releaseCore(core);
+    }
+  }
+  
+  private void releaseCore(CPUCore core) {
+    core.currentProcess = null;
+    core.quantumRemaining = 0;
+    core.overheadRemaining = 0;
+  }
+  
+  /**
+   * Muestrea la carga de cada nucleo (proceso en ejecucion + su cola propia) y
+   * cuenta los nucleos ociosos mientras hay procesos esperando en otra cola
+   */
+  private void sampleCoreLoad() {
+    MultiQueueScheduler perCore = scheduler instanceof MultiQueueScheduler mq ? mq : null;
+    int waitingGlobal = perCore == null ? scheduler.readyCount() : 0;
+    int min = Integer.MAX_VALUE;
+    int max = 0;
+    int totalQueued = 0;
+    int[] queued = new int[coreCount];
+    for (CPUCore core : cores) {
+      queued[core.id] = perCore != null ? perCore.getReadyCount(core.id) : 0;
+      totalQueued += queued[core.id];
+      int load = (core.currentProcess != null ? 1 : 0) + queued[core.id];
+      min = Math.min(min, load);
+      max = Math.max(max, load);
+    }
+    for (CPUCore core : cores) {
+      boolean waitingElsewhere = perCore != null ? totalQueued - queued[core.id] > 0 : waitingGlobal > 0;
+      if (core.currentProcess == null && waitingElsewhere) {
+        idleWithWaitingWork++;
+      }
+    }
+    imbalanceSum += max - min;
+    maxImbalance = Math.max(maxImbalance, max - min);
+    imbalanceSamples++;
+  }
+  
+  /**
+   * Ejecuta la simulacion por eventos discretos.
+   * El reloj salta directamente al siguiente evento (llegada, fin de rafaga,
+   * fin de quantum o fin de E/S) y la CPU ejecuta tramos completos en vez de
+   * una unidad por iteracion. Produce el mismo diagrama de Gantt y las mismas
+   * métricas que el bucle por ticks.
+   */
+  private void runEventDrivenSimulation() {
+    boolean resume = resumePaused();
+    SimulationLog.setClock(clock);
+    if (!resume) {
+      running = true;
+      clock.restart();
+      eventQueue.clear();
+      eventSequence = 0;
+      scheduledIOCompletions.clear();
+      prepareProcessTracking();
+      cpuBusyTime = 0;
+      
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== INICIANDO SIMULACIoN (POR EVENTOS) ===\n");
+      
+      // Solo se mantiene en la cola el evento de la proxima llegada
+      scheduleNextArrival();
+    }
+    
+    Process currentProcess = resume ? pausedProcess : null;
+    int quantumRemaining = resume ? pausedQuantum : 0;
+    int currentTime = resume ? clock.now() : 0;
+    pausedProcess = null;
+    
+    while (running && currentTime < maxSimulationTime) {
+      clock.moveTo(currentTime);
+      if (currentTime >= pauseAt) {
+        pause(currentProcess, quantumRemaining);
+        return;
+      }
+      
+      // 1. Procesar los eventos ocurridos durante el tramo anterior y en este instante
+      //    (cierre del tramo, llegadas, E/S), cada uno con el reloj en su propio tiempo
+      while (!eventQueue.isEmpty() && eventQueue.peek().getTime() <= currentTime) {
+        SimulationEvent event = eventQueue.poll();
+        int eventTime = event.getTime();
+        clock.moveTo(eventTime);
+        switch (event.getType()) {
+          case BURST_COMPLETION:
+            if (handleBurstCompletion(event.getProcess(), eventTime, eventTime - 1)) {
+              currentProcess = null;
+            }
+            break;
+          case QUANTUM_EXPIRY:
+            handleQuantumExpiry(event.getProcess(), eventTime);
+            currentProcess = null;
+            break;
+          case ARRIVAL:
+            Process arrived;
+            while ((arrived = arrivals.pollArrivalAt(eventTime)) != null) {
+              admitProcess(arrived, eventTime);
+            }
+            scheduleNextArrival();
+            break;
+          case IO_COMPLETION:
+            scheduledIOCompletions.remove(eventTime);
+            List<Process> completedIO = ioManager.drainCompletedUpTo(eventTime);
+            for (Process p : completedIO) {
+              coordinator.notifyIOComplete(p);
+            }
+            // Operaciones que salieron de la cola de un dispositivo al liberarse un canal
+            int nextIO = ioManager.nextCompletionTime();
+            if (nextIO != Integer.MAX_VALUE) {
+              scheduleIOCompletion(Math.max(nextIO, eventTime + 1));
+            }
+            break;
+          case PAGE_FAULT_COMPLETION:
+            coordinator.completePageFaultsUpTo(eventTime);
+            break;
+        }
+      }
+      clock.moveTo(currentTime);
+      coordinator.resumeSuspendedProcesses(currentTime);
+      
+      // 2. Verificar si todos los procesos terminaron
+      if (currentTime > 0 && allProcessesCompleted()) {
+        SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== TODOS LOS PROCESOS COMPLETADOS ===");
+        running = false;
+        break;
+      }
+      
+      // 3. Seleccionar proceso a ejecutar
+      boolean dispatchFailed = false;
+      if (currentProcess == null) {
+        currentProcess = scheduler.getNextProcess();
+        
+        if (currentProcess != null) {
+          if (coordinator.prepareProcessForExecution(currentProcess)) {
+            currentProcess.setState(Process.ProcessState.RUNNING);
+            
+            if (currentProcess.getFirstExecutionTime() == -1) {
+              currentProcess.setFirstExecutionTime(currentTime);
+              scheduler.onProcessStarted(currentProcess);
+            }
+            
+            quantumRemaining = scheduler.isPreemptive() ? quantum : Integer.MAX_VALUE;
+            
+            if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+              SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, currentProcess.getPid(), quantumRemaining,
+                  String.format("[T=%d] [CPU] Ejecutando proceso %s", currentTime, currentProcess.getPid()));
+            }
+          } else {
+            currentProcess = null;
+            dispatchFailed = true;
+          }
+        }
+      }
+      
+      // Fallo de pagina con tiempo de servicio: el instante se pierde como en el bucle por ticks
+      if (currentProcess != null && handlePageFault(currentProcess, currentTime)) {
+        currentProcess = null;
+        dispatchFailed = true;
+      }
+      
+      // 4. CPU inactiva: saltar hasta el proximo evento
+      if (currentProcess == null) {
+        int idleUntil = nextIdleEnd(currentTime, dispatchFailed);
+        ganttChart.addExecution("IDLE", currentTime, idleUntil);
+        if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+          SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, String.format("[T=%d] [CPU] IDLE hasta t=%d", currentTime, idleUntil));
+        }
+        currentTime = idleUntil;
+        continue;
+      }
+      
+      Burst currentBurst = currentProcess.getCurrentBurst();
+      if (currentBurst == null) {
+        currentTime++;
+        continue;
+      }
+      
+      // 5. Rafaga de E/S al despachar: bloquear y consumir el instante
+      if (currentBurst.getType() == Burst.BurstType.IO) {
+        startIO(currentProcess, currentBurst, currentTime);
+        currentProcess.completeCurrentBurst();
+        ganttChart.addEvent(currentTime, currentProcess.getPid() + " -> E/S");
+        currentProcess = null;
+        currentTime++;
+        continue;
+      }
+      
+      // 6. Ejecutar el tramo completo: hasta fin de rafaga, fin de quantum o tiempo maximo
+      int slice = Math.min(quantumRemaining, currentBurst.getRemainingTime());
+      slice = Math.min(slice, maxSimulationTime - currentTime);
+      if (memoryManager.getPageFaultServiceTime() > 0) {
+        // El tramo se corta antes de la primera pagina no residente
+        slice = memoryManager.countResidentRun(currentProcess, slice);
+      }
+      
+      int executed = currentProcess.executeBurst(slice);
+      quantumRemaining -= executed;
+      cpuBusyTime += executed;
+      
+      scheduler.recordCPUExecution(currentProcess, executed);
+      memoryManager.notifyProcessCPUUsage(currentProcess, executed, currentTime);
+      ganttChart.addExecution(currentProcess.getPid(), currentTime, currentTime + executed);
+      
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, currentProcess.getPid(), currentBurst.getRemainingTime(),
+            String.format("[T=%d] [CPU] %s ejecuto %d unidad(es). Restante burst: %d",
+            currentTime, currentProcess.getPid(), executed, currentBurst.getRemainingTime()));
+      }
+      
+      boolean burstDone = currentBurst.getRemainingTime() <= 0;
+      boolean quantumExpired = !burstDone && quantumRemaining <= 0 && scheduler.isPreemptive();
+      
+      if (executed == 0) {
+        // Tramo vacío (quantum agotado justo al cerrar la rafaga anterior):
+        // el bucle por ticks lo resuelve dentro del mismo instante
+        if (burstDone && handleBurstCompletion(currentProcess, currentTime, currentTime)) {
+          currentProcess = null;
+        } else if (quantumExpired) {
+          handleQuantumExpiry(currentProcess, currentTime);
+          currentProcess = null;
+        }
+        currentTime++;
+        continue;
+      }
+      
+      int sliceEnd = currentTime + executed;
+      if (burstDone) {
+        scheduleEvent(SimulationEvent.EventType.BURST_COMPLETION, sliceEnd, currentProcess);
+      } else if (quantumExpired) {
+        scheduleEvent(SimulationEvent.EventType.QUANTUM_EXPIRY, sliceEnd, currentProcess);
+      }
+      currentTime = sliceEnd;
+    }
+    
+    // Un tramo que termina justo en el tiempo maximo se cierra dentro del último tick
+    SimulationEvent pending = eventQueue.peek();
+    if (pending != null && pending.getTime() == currentTime) {
+      if (pending.getType() == SimulationEvent.EventType.BURST_COMPLETION) {
+        handleBurstCompletion(pending.getProcess(), currentTime, currentTime - 1);
+      } else if (pending.getType() == SimulationEvent.EventType.QUANTUM_EXPIRY) {
+        handleQuantumExpiry(pending.getProcess(), currentTime);
+      }
+    }
+    
+    clock.moveTo(currentTime);
+    if (currentTime >= maxSimulationTime) {
+      SimulationLog.log(LogLevel.INFO, EventCategory.SIMULATION, "\n=== TIEMPO MaXIMO DE SIMULACIoN ALCANZADO ===");
+    }
+    
+    elapsedTime = clock.now();
+    printFinalReport();
+  }
+  
+  /**
+   * Cierra una rafaga de CPU completada
+   * @param eventTime Tiempo en que termino la rafaga
+   * @param ioStartTime Tiempo de inicio de la E/S siguiente (instante de la última unidad ejecutada)
+   * @return true si el proceso deja la CPU (terminado o bloqueado por E/S)
+   */
+  private boolean handleBurstCompletion(Process process, int eventTime, int ioStartTime) {
+    if (process.isCompleted()) {
+      process.setCompletionTime(eventTime);
+      completeProcess(process);
+      ganttChart.addEvent(eventTime, process.getPid() + " TERMINADO");
+      return true;
+    }
+    
+    Burst nextBurst = process.getCurrentBurst();
+    if (nextBurst != null && nextBurst.getType() == Burst.BurstType.IO) {
+      startIO(process, nextBurst, ioStartTime);
+      process.completeCurrentBurst();
+      ganttChart.addEvent(eventTime, process.getPid() + " -> E/S");
+      return true;
+    }
+    
+    // La siguiente rafaga también es de CPU: el proceso conserva la CPU
+    return false;
+  }
+  
+  /**
+   * Si los fallos de pagina tienen tiempo de servicio y la pagina de la proxima
+   * unidad de CPU no esta cargada, la carga y bloquea al proceso hasta que termine
+   * el servicio
+   * @return true si el proceso se bloqueo y deja la CPU
+   */
+  private boolean handlePageFault(Process process, int currentTime) {
+    return handlePageFault(process, currentTime, ganttChart);
+  }
+  
+  private boolean handlePageFault(Process process, int currentTime, GanttChart lane) {
+    int serviceTime = memoryManager.getPageFaultServiceTime();
+    if (serviceTime <= 0) {
+      return false;
+    }
+    Burst burst = process.getCurrentBurst();
+    if (burst == null || burst.getType() != Burst.BurstType.CPU
+        || memoryManager.countResidentRun(process, 1) > 0) {
+      return false;
+    }
+    memoryManager.ensurePageLoaded(process, memoryManager.nextPageOf(process), currentTime);
+    coordinator.handlePageFaultBlocking(process, currentTime + serviceTime);
+    if (eventDriven) {
+      scheduleEvent(SimulationEvent.EventType.PAGE_FAULT_COMPLETION, currentTime + serviceTime, process);
+    }
+    lane.addEvent(currentTime, process.getPid() + " -> FALLO PAG");
+    return true;
+  }
+  
+  /**
+   * Reinserta un proceso cuyo quantum se agoto
+   */
+  private void handleQuantumExpiry(Process process, int eventTime) {
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, process.getPid(), process.getRemainingCPUTime(),
+          String.format("[CPU] Quantum agotado para %s, reinsertando", process.getPid()));
+    }
+    int readyBefore = scheduler.readyCount();
+    scheduler.onProcessInterrupted(process);
+    if (process.getRemainingCPUTime() > 0) {
+      if (scheduler.readyCount() <= readyBefore) {
+        SimulationLog.log(LogLevel.WARN, EventCategory.SIMULATION, process.getPid(), -1,
+            String.format("[WARN] El scheduler %s NO reinsertó %s tras la interrupción (isPreemptive=true).",
+            scheduler.getClass().getSimpleName(), process.getPid()));
+      }
+    }
+    process.setState(Process.ProcessState.READY);
+    ganttChart.addEvent(eventTime, process.getPid() + " -> QUANTUM");
+  }
+  
+  /**
+   * Inicia la E/S de un proceso y agenda su finalizacion. Como en el bucle por
+   * ticks, la E/S no puede completarse antes del instante siguiente a su inicio.
+   * Si la solicitud queda en la cola de un dispositivo, su fin se agenda cuando
+   * se libera un canal.
+   */
+  private void startIO(Process process, Burst ioBurst, int startTime) {
+    int endTime = coordinator.handleIOBlocking(process, ioBurst, startTime);
+    if (endTime >= 0) {
+      scheduleIOCompletion(Math.max(endTime, startTime + 1));
+    }
+  }
+  
+  /**
+   * Agenda una revision de E/S en time, una sola vez por instante
+   */
+  private void scheduleIOCompletion(int time) {
+    if (scheduledIOCompletions.add(time)) {
+      scheduleEvent(SimulationEvent.EventType.IO_COMPLETION, time, null);
+    }
+  }
+  
+  /**
+   * Admite un proceso que llega al sistema
+   */
+  private void admitProcess(Process p, int currentTime) {
+    if (p.getState() == Process.ProcessState.NEW) {
+      if (streamingArrivals) {
+        if (concurrencyMode != ConcurrencyMode.THREAD_SAFE) {
+          p.setConcurrencyMode(concurrencyMode);
+        }
+        liveProcesses.add(p);
+        activeProcesses++;
+        streamedProcesses++;
+      }
+      p.setState(Process.ProcessState.READY);
+      scheduler.addProcess(p);
+      ganttChart.addEvent(currentTime, p.getPid() + " LLEGA");
+      if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+        SimulationLog.log(LogLevel.DEBUG, EventCategory.SIMULATION, p.getPid(), p.getArrivalTime(),
+            String.format("[LLEGADA] Proceso %s llego al sistema", p.getPid()));
+      }
+    }
+  }
+  
+  /**
+   * Calcula hasta cuándo queda inactiva la CPU: el proximo evento, o el tiempo
+   * maximo si ya no queda ninguno pendiente
+   */
+  private int nextIdleEnd(int currentTime, boolean dispatchFailed) {
+    if (dispatchFailed) {
+      return currentTime + 1;
+    }
+    if (!eventQueue.isEmpty()) {
+      return Math.min(eventQueue.peek().getTime(), maxSimulationTime);
+    }
+    return allProcessesCompleted() ? currentTime + 1 : maxSimulationTime;
+  }
+  
+  /**
+   * Programa un unico evento ARRIVAL para el siguiente tiempo de llegada pendiente.
+   * Las llegadas con tiempo negativo nunca se admiten; pollArrivalAt las descarta en t=0.
+   */
+  private void scheduleNextArrival() {
+    if (arrivals.hasPending()) {
+      scheduleEvent(SimulationEvent.EventType.ARRIVAL, Math.max(arrivals.nextArrivalTime(), 0), null);
+    }
+  }
+  
+  private void scheduleEvent(SimulationEvent.EventType type, int time, Process process) {
+    eventQueue.offer(new SimulationEvent(time, type, process, eventSequence++));
+  }
+  
   /**
    * Verifica la llegada de nuevos procesos
    */
   private void checkNewArrivals(int currentTime) {
-    for (Process p : allProcesses) {
-      if (p.getArrivalTime() == currentTime && p.getState() == Process.ProcessState.NEW) {
-        p.setState(Process.ProcessState.READY);
-        scheduler.addProcess(p);
-        ganttChart.addEvent(currentTime, p.getPid() + " LLEGA");
-        System.out.println(String.format("[LLEGADA] Proceso %s llego al sistema", p.getPid()));
-      }
+    Process p;
+    while ((p = arrivals.pollArrivalAt(currentTime)) != null) {
+      admitProcess(p, currentTime);
     }
   }
   
   /**
-   * Verifica si todos los procesos completaron su ejecucion
+   * Ordena las llegadas y cuenta los procesos no terminados al iniciar la simulacion
    */
-  private boolean allProcessesCompleted() {
+  private void prepareProcessTracking() {
+    activeProcesses = 0;
+    ganttChart.setRecording(keepHistory);
+    memoryManager.setKeepFinishedProcessFaults(keepHistory);
+    if (scheduler instanceof MultiQueueScheduler mq) {
+      mq.setKeepFinishedProcesses(keepHistory);
+    } else {
+      scheduler.getPerformanceMetrics().setKeepFinishedProcesses(keepHistory);
+    }
+    if (streamingArrivals) {
+      // Los activos se cuentan al llegar; un flujo se consume una sola vez
+      arrivals = arrivalSource != null ? new ArrivalIndex(arrivalSource) : new ArrivalIndex(Collections.<Process>emptyList());
+      arrivalSource = null;
+      liveProcesses = new LinkedHashSet<>();
+      streamedProcesses = 0;
+      return;
+    }
+    arrivals = new ArrivalIndex(allProcesses);
     for (Process p : allProcesses) {
       if (p.getState() != Process.ProcessState.TERMINATED) {
-        return false;
+        activeProcesses++;
       }
     }
-    return true;
+  }
+  
+  /**
+   * Marca un proceso como terminado y descuenta el contador de activos
+   */
+  private void completeProcess(Process process) {
+    if (process.getState() != Process.ProcessState.TERMINATED) {
+      activeProcesses--;
+    }
+    coordinator.notifyProcessComplete(process);
+    if (liveProcesses != null) {
+      liveProcesses.remove(process);
+    }
+    if (!keepHistory) {
+      lastCoreOf.remove(process.getPid());
+    }
+  }
+  
+  /**
+   * Verifica si todos los procesos completaron su ejecucion
+   */
+  private boolean allProcessesCompleted() {
+    return activeProcesses == 0 && (liveProcesses == null || !arrivals.hasPending());
   }
   
   /**
    * Imprime el reporte final de la simulacion
    */
   private void printFinalReport() {
+    if (!reportEnabled) {
+      return;
+    }
     System.out.println("\n" + "=".repeat(60));
     System.out.println("           REPORTE FINAL DE SIMULACIoN");
     System.out.println("=".repeat(60));
     
-    // Diagrama de Gantt
-    System.out.println("\n" + ganttChart.toString());
+    // Diagrama de Gantt (un carril por nucleo)
+    if (coreCount > 1) {
+      for (CPUCore core : cores) {
+        System.out.println("\n--- Nucleo " + core.id + " ---");
+        System.out.println(core.lane.toString());
+      }
+    } else {
+      System.out.println("\n" + ganttChart.toString());
+    }
     
     // Métricas del planificador
     System.out.println(scheduler.getMetrics());
@@ -261,9 +1184,50 @@ public class SimulationController {
     // Estado final de memoria
     System.out.println(memoryManager.getMemoryState());
     
-    // Resumen de procesos
+    // Control de carga (solo si se configuro)
+    LoadController loadController = coordinator.getLoadController();
+    if (loadController != null || memoryManager.getPageFaultServiceTime() > 0) {
+      System.out.println("=== CONTROL DE CARGA ===");
+      System.out.println(String.format("Utilizacion de CPU: %.1f%% (%d de %d unidades)",
+          getCPUUtilization() * 100, cpuBusyTime, elapsedTime));
+      System.out.println(String.format("Tasa de fallos: %.3f fallos por acceso",
+          memoryManager.getFaultRate()));
+      System.out.println("Bloqueos por fallo de pagina: " + coordinator.getPageFaultBlocks());
+      if (loadController != null) {
+        System.out.println(String.format("Suspensiones: %d, Reanudaciones: %d (ventana=%d)",
+            loadController.getSuspensions(), loadController.getResumptions(), loadController.getWindow()));
+      }
+    }
+    
+    // Nucleos (solo con mas de uno)
+    if (coreCount > 1) {
+      System.out.println("=== NUCLEOS ===");
+      System.out.println(String.format("Nucleos: %d (%s)", coreCount,
+          scheduler instanceof MultiQueueScheduler ? "colas por nucleo" : "cola global"));
+      for (CPUCore core : cores) {
+        System.out.println(String.format("Nucleo %d: Utilizacion=%.1f%% (%d de %d unidades), Despachos=%d",
+            core.id, getCoreUtilization(core.id) * 100, core.busyTime, elapsedTime, core.dispatches));
+      }
+      System.out.println(String.format("Utilizacion total: %.1f%%", getCPUUtilization() * 100));
+      System.out.println("Migraciones: " + migrations);
+      System.out.println(String.format("Desbalance de carga: promedio=%.2f, maximo=%d procesos",
+          getAverageLoadImbalance(), maxImbalance));
+      System.out.println("Nucleo ocioso con procesos esperando en otra cola: " + idleWithWaitingWork);
+      if (loadBalancer != null) {
+        System.out.println(loadBalancer.getReport());
+        System.out.println(String.format("Migraciones por segundo (1 unidad = 1 ms): %.1f",
+            getMigrationsPerSecond()));
+        System.out.println("Tiempo ocioso evitado por robo: " + loadBalancer.getIdleTimeRemoved());
+      }
+    }
+    
+    // Resumen de procesos (con un flujo, solo los que no terminaron)
     System.out.println("\n=== RESUMEN DE PROCESOS ===");
-    for (Process p : allProcesses) {
+    if (liveProcesses != null) {
+      System.out.println(String.format("Procesos leidos del flujo: %d, terminados y liberados: %d",
+          streamedProcesses, streamedProcesses - liveProcesses.size()));
+    }
+    for (Process p : getAllProcesses()) {
       System.out.println(String.format("%s: Estado=%s, Llegada=%d, Primera Ejecucion=%d, Finalizacion=%d",
           p.getPid(), p.getState(), p.getArrivalTime(), 
           p.getFirstExecutionTime(), p.getCompletionTime()));
@@ -274,6 +1238,146 @@ public class SimulationController {
     System.out.println("=".repeat(60));
   }
   
+  /**
+   * Activa el modo por eventos discretos (salta el reloj al siguiente evento)
+   */
+  public void setEventDriven(boolean eventDriven) {
+    requireNotPaused();
+    this.eventDriven = eventDriven;
+  }
+  
+  public boolean isEventDriven() {
+    return eventDriven;
+  }
+  
+  /**
+   * Modo de concurrencia de los componentes de la simulacion. SINGLE_THREADED
+   * quita los locks de planificador, memoria, E/S, coordinador y procesos;
+   * solo es valido si ningun otro hilo (como la GUI) los usa mientras corre.
+   * Se aplica tambien a los procesos que se agreguen despues.
+   */
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.concurrencyMode = mode;
+    scheduler.setConcurrencyMode(mode);
+    memoryManager.setConcurrencyMode(mode);
+    ioManager.setConcurrencyMode(mode);
+    coordinator.setConcurrencyMode(mode);
+    for (Process p : getAllProcesses()) {
+      p.setConcurrencyMode(mode);
+    }
+  }
+  
+  public ConcurrencyMode getConcurrencyMode() {
+    return concurrencyMode;
+  }
+  
+  /**
+   * Activa o desactiva el reporte final por consola
+   */
+  public void setReportEnabled(boolean reportEnabled) {
+    this.reportEnabled = reportEnabled;
+  }
+  
+  /**
+   * Activa el control de carga: suspende procesos cuando sus conjuntos de
+   * trabajo no caben en memoria
+   */
+  public void setLoadController(LoadController loadController) {
+    coordinator.setLoadController(loadController);
+  }
+  
+  /**
+   * @return Fraccion del tiempo simulado en que la CPU ejecuto procesos
+   *         (promedio entre nucleos si hay mas de uno)
+   */
+  public double getCPUUtilization() {
+    return elapsedTime == 0 ? 0.0 : cpuBusyTime / ((double) elapsedTime * coreCount);
+  }
+  
+  /**
+   * Define la cantidad de nucleos. Con un MultiQueueScheduler debe coincidir
+   * con sus colas; con otro planificador los nucleos comparten su cola.
+   */
+  public void setCoreCount(int coreCount) {
+    if (coreCount <= 0) {
+      throw new IllegalArgumentException("La cantidad de nucleos debe ser mayor a 0");
+    }
+    requireNotPaused();
+    if (scheduler instanceof MultiQueueScheduler mq && mq.getCoreCount() != coreCount) {
+      throw new IllegalArgumentException(String.format(
+          "El planificador tiene %d colas y se pidieron %d nucleos", mq.getCoreCount(), coreCount));
+    }
+    this.coreCount = coreCount;
+  }
+  
+  public int getCoreCount() {
+    return coreCount;
+  }
+  
+  /**
+   * @return Fraccion del tiempo simulado en que el nucleo ejecuto procesos
+   */
+  public double getCoreUtilization(int core) {
+    int busy = coreCount > 1 ? cores.get(core).busyTime : cpuBusyTime;
+    return elapsedTime == 0 ? 0.0 : busy / (double) elapsedTime;
+  }
+  
+  /**
+   * Carril del diagrama de Gantt de un nucleo (el 0 es getGanttChart())
+   */
+  public GanttChart getCoreGanttChart(int core) {
+    return coreCount > 1 ? cores.get(core).lane : ganttChart;
+  }
+  
+  /**
+   * Despachos de un proceso en un nucleo distinto al de su ejecucion anterior
+   */
+  public int getMigrations() {
+    return migrations;
+  }
+  
+  /**
+   * @return Promedio por instante de la diferencia entre el nucleo mas cargado
+   *         y el menos cargado (proceso en ejecucion + cola propia)
+   */
+  public double getAverageLoadImbalance() {
+    return imbalanceSamples == 0 ? 0.0 : imbalanceSum / (double) imbalanceSamples;
+  }
+  
+  public int getMaxLoadImbalance() {
+    return maxImbalance;
+  }
+  
+  public int getIdleWithWaitingWork() {
+    return idleWithWaitingWork;
+  }
+  
+  /**
+   * Activa el balanceo de carga entre nucleos; el balanceador debe trabajar
+   * sobre el MultiQueueScheduler de esta simulacion
+   */
+  public void setLoadBalancer(LoadBalancer loadBalancer) {
+    if (loadBalancer != null && loadBalancer.getScheduler() != scheduler) {
+      throw new IllegalArgumentException("El balanceador debe usar el planificador de la simulacion");
+    }
+    this.loadBalancer = loadBalancer;
+  }
+  
+  public LoadBalancer getLoadBalancer() {
+    return loadBalancer;
+  }
+  
+  /**
+   * Migraciones por segundo simulado, tomando cada unidad de tiempo como 1 ms
+   */
+  public double getMigrationsPerSecond() {
+    return elapsedTime == 0 ? 0.0 : migrations * 1000.0 / elapsedTime;
+  }
+  
+  public int getCPUBusyTime() {
+    return cpuBusyTime;
+  }
+  
   /**
    * Detiene la simulacion
    */
@@ -283,7 +1387,7 @@ public class SimulationController {
   
   // Getters
   public List<Process> getAllProcesses() {
-    return new ArrayList<>(allProcesses);
+    return new ArrayList<>(liveProcesses != null ? liveProcesses : allProcesses);
   }
   
   public SchedulingAlgorithm getScheduler() {
@@ -302,6 +1406,13 @@ public class SimulationController {
     return ganttChart;
   }
   
+  /**
+   * Reloj de la simulacion; desde otro hilo leer con snapshot()
+   */
+  public SimulationClock getClock() {
+    return clock;
+  }
+  
   public boolean isRunning() {
     return running;
   }
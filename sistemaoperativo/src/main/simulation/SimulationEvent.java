@@ -0,0 +1,64 @@
+package simulation;
+
+import model.Process;
+import java.io.Serializable;
+
+/**
+ * Evento del motor de simulacion por eventos discretos
+ * Se ordena por tiempo; en un mismo instante, por tipo (mismo orden que los pasos
+ * del bucle por ticks) y finalmente por orden de insercion
+ */
+public class SimulationEvent implements Comparable<SimulationEvent>, Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final int time;
+  private final EventType type;
+  private final Process process;
+  private final long sequence;
+
+  /**
+   * Tipos de evento. El orden de declaracion define la prioridad en un mismo instante:
+   * primero se cierra el tramo de CPU anterior, luego llegadas, fin de E/S y fin
+   * de servicio de fallos de pagina.
+   */
+  public enum EventType {
+    BURST_COMPLETION, QUANTUM_EXPIRY, ARRIVAL, IO_COMPLETION, PAGE_FAULT_COMPLETION
+  }
+
+  public SimulationEvent(int time, EventType type, Process process, long sequence) {
+    this.time = time;
+    this.type = type;
+    this.process = process;
+    this.sequence = sequence;
+  }
+
+  // Getters
+  public int getTime() {
+    return time;
+  }
+
+  public EventType getType() {
+    return type;
+  }
+
+  public Process getProcess() {
+    return process;
+  }
+
+  @Override
+  public int compareTo(SimulationEvent other) {
+    if (time != other.time) {
+      return Integer.compare(time, other.time);
+    }
+    if (type != other.type) {
+      return Integer.compare(type.ordinal(), other.type.ordinal());
+    }
+    return Long.compare(sequence, other.sequence);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("[t=%d] %s %s", time, type,
+        process != null ? process.getPid() : "-");
+  }
+}
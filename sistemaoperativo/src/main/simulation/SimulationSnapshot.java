@@ -0,0 +1,589 @@
+package simulation;
+
+import model.Burst;
+import model.Process;
+import model.ReferencePattern;
+import scheduler.GanttChart;
+import scheduler.SchedulingAlgorithm;
+import memory.MemoryManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Instantanea de una simulacion terminada (o solo de un conjunto de procesos)
+ * en el formato binario de SnapshotFormat: definiciones de procesos, entradas
+ * y eventos del diagrama de Gantt de cada nucleo, metricas por proceso y un
+ * resumen de la ejecucion. Permite guardar los resultados de un barrido y
+ * volver a analizarlos sin repetir las simulaciones.
+ */
+public class SimulationSnapshot {
+  private static final int PROCESSES = 0;
+  private static final int BURSTS = 1;
+  private static final int GANTT = 2;
+  private static final int EVENTS = 3;
+  private static final int METRICS = 4;
+  private static final int SUMMARY_SIZE = 9 * 4;
+  private static final int DEFLATE_CHUNK = 1 << 16;
+
+  private final List<String> strings;
+  private final Map<String, Integer> stringIndex;
+  private final Table[] tables;
+
+  // Resumen
+  private int finalTime;
+  private int cpuBusyTime;
+  private int coreCount;
+  private int totalFrames;
+  private int pageFaults;
+  private int memoryAccesses;
+  private int pageReplacements;
+  private String schedulerName;
+  private String replacementName;
+
+  private SimulationSnapshot() {
+    this.strings = new ArrayList<>();
+    this.stringIndex = new HashMap<>();
+    this.tables = new Table[] {
+        new Table(SnapshotFormat.PROCESS_COLUMNS), new Table(SnapshotFormat.BURST_COLUMNS),
+        new Table(SnapshotFormat.GANTT_COLUMNS), new Table(SnapshotFormat.EVENT_COLUMNS),
+        new Table(SnapshotFormat.METRIC_COLUMNS)};
+  }
+
+  /**
+   * Instantanea de un conjunto de procesos, sin resultados
+   */
+  public static SimulationSnapshot of(List<Process> processes) {
+    SimulationSnapshot snapshot = new SimulationSnapshot();
+    snapshot.addProcesses(processes);
+    return snapshot;
+  }
+
+  /**
+   * Instantanea de una simulacion ya ejecutada. Con llegadas en flujo solo
+   * quedan las definiciones de los procesos no liberados y, salvo que se
+   * haya llamado setKeepHistory(true) antes de ejecutar, el diagrama queda
+   * vacio y las metricas por proceso solo cubren los no terminados; los
+   * totales (tiempo, CPU y fallos de pagina) siempre estan.
+   */
+  public static SimulationSnapshot capture(SimulationController controller) {
+    SimulationSnapshot snapshot = new SimulationSnapshot();
+    snapshot.addProcesses(controller.getAllProcesses());
+
+    SchedulingAlgorithm scheduler = controller.getScheduler();
+    MemoryManager memory = controller.getMemoryManager();
+    snapshot.finalTime = controller.getClock().now();
+    snapshot.cpuBusyTime = controller.getCPUBusyTime();
+    snapshot.coreCount = controller.getCoreCount();
+    snapshot.totalFrames = memory.getTotalFrames();
+    snapshot.pageFaults = memory.getPageFaults();
+    snapshot.memoryAccesses = memory.getMemoryAccesses();
+    snapshot.pageReplacements = memory.getPageReplacements();
+    snapshot.schedulerName = scheduler.getClass().getSimpleName();
+    snapshot.replacementName = memory.getReplacementAlgorithm().getName();
+
+    for (int lane = 0; lane < snapshot.coreCount; lane++) {
+      GanttChart chart = controller.getCoreGanttChart(lane);
+      for (int i = 0; i < chart.getEntryCount(); i++) {
+        snapshot.tables[GANTT].add(lane, snapshot.index(chart.getEntryProcessId(i)),
+            chart.getEntryStartTime(i), chart.getEntryEndTime(i));
+      }
+      for (int i = 0; i < chart.getEventCount(); i++) {
+        snapshot.tables[EVENTS].add(lane, chart.getEventTime(i), snapshot.index(chart.getEventDescription(i)));
+      }
+    }
+
+    scheduler.getPerformanceMetrics().forEachProcess(
+        (pid, arrival, firstExecution, completion, waiting, turnaround, response) ->
+            snapshot.tables[METRICS].add(snapshot.index(pid), arrival, firstExecution, completion,
+                waiting, turnaround, response));
+    return snapshot;
+  }
+
+  private void addProcesses(Collection<Process> processes) {
+    for (Process p : processes) {
+      ReferencePattern pattern = p.getReferencePattern();
+      tables[PROCESSES].add(index(p.getPid()), p.getArrivalTime(), p.getPriority(), p.getRequiredPages(),
+          index(pattern != null ? pattern.spec() : null), p.getBursts().size());
+      for (Burst burst : p.getBursts()) {
+        tables[BURSTS].add(burst.getType().ordinal(), burst.getDuration(), index(burst.getDevice()),
+            burst.getPosition());
+      }
+    }
+  }
+
+  // ---- Analisis ----
+
+  public int getProcessCount() {
+    return tables[PROCESSES].rows;
+  }
+
+  /**
+   * Procesos nuevos (en estado NEW) con las definiciones guardadas
+   */
+  public List<Process> toProcesses() {
+    Table processes = tables[PROCESSES];
+    Table bursts = tables[BURSTS];
+    Burst.BurstType[] types = Burst.BurstType.values();
+    List<Process> result = new ArrayList<>(processes.rows);
+    int burst = 0;
+    for (int row = 0; row < processes.rows; row++) {
+      int count = processes.get(row, 5);
+      List<Burst> list = new ArrayList<>(count);
+      for (int i = 0; i < count; i++, burst++) {
+        Burst.BurstType type = types[bursts.get(burst, 0)];
+        String device = text(bursts.get(burst, 2));
+        list.add(device == null
+            ? new Burst(type, bursts.get(burst, 1))
+            : new Burst(type, bursts.get(burst, 1), device, bursts.get(burst, 3)));
+      }
+      int pages = processes.get(row, 3);
+      Process process = new Process(text(processes.get(row, 0)), processes.get(row, 1), list,
+          processes.get(row, 2), pages);
+      String pattern = text(processes.get(row, 4));
+      if (pattern != null) {
+        process.setReferencePattern(ReferencePattern.parse(pattern, Math.max(1, pages)));
+      }
+      result.add(process);
+    }
+    return result;
+  }
+
+  /**
+   * Carriles del diagrama (uno por nucleo); 0 si solo se guardaron procesos
+   */
+  public int getLaneCount() {
+    return coreCount;
+  }
+
+  /**
+   * Diagrama de Gantt de un nucleo, igual al de la simulacion original
+   */
+  public GanttChart getGanttChart(int lane) {
+    GanttChart chart = new GanttChart();
+    Table gantt = tables[GANTT];
+    for (int row = 0; row < gantt.rows; row++) {
+      if (gantt.get(row, 0) == lane) {
+        chart.appendEntry(text(gantt.get(row, 1)), gantt.get(row, 2), gantt.get(row, 3));
+      }
+    }
+    Table events = tables[EVENTS];
+    for (int row = 0; row < events.rows; row++) {
+      if (events.get(row, 0) == lane) {
+        chart.addEvent(events.get(row, 1), text(events.get(row, 2)));
+      }
+    }
+    return chart;
+  }
+
+  public int getCompletedProcessCount() {
+    Table metrics = tables[METRICS];
+    int count = 0;
+    for (int row = 0; row < metrics.rows; row++) {
+      count += metrics.get(row, 3) != -1 ? 1 : 0;
+    }
+    return count;
+  }
+
+  // Mismos criterios que PerformanceMetrics: espera y retorno de los terminados
+  public double getAverageWaitingTime() {
+    return average(4, 3);
+  }
+
+  public double getAverageTurnaroundTime() {
+    return average(5, 3);
+  }
+
+  // Respuesta de los que llegaron a ejecutar
+  public double getAverageResponseTime() {
+    return average(6, 2);
+  }
+
+  private double average(int column, int requiredColumn) {
+    Table metrics = tables[METRICS];
+    double total = 0;
+    int count = 0;
+    for (int row = 0; row < metrics.rows; row++) {
+      if (metrics.get(row, requiredColumn) != -1) {
+        total += metrics.get(row, column);
+        count++;
+      }
+    }
+    return count > 0 ? total / count : 0.0;
+  }
+
+  public int getFinalTime() {
+    return finalTime;
+  }
+
+  public int getCPUBusyTime() {
+    return cpuBusyTime;
+  }
+
+  public int getTotalFrames() {
+    return totalFrames;
+  }
+
+  public int getPageFaults() {
+    return pageFaults;
+  }
+
+  public int getMemoryAccesses() {
+    return memoryAccesses;
+  }
+
+  public int getPageReplacements() {
+    return pageReplacements;
+  }
+
+  public String getSchedulerName() {
+    return schedulerName;
+  }
+
+  public String getReplacementName() {
+    return replacementName;
+  }
+
+  /**
+   * Resumen legible de la instantanea
+   */
+  public String getReport() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("=== INSTANTANEA DE SIMULACION ===\n");
+    sb.append(String.format("Procesos: %d, Rafagas: %d\n", tables[PROCESSES].rows, tables[BURSTS].rows));
+    if (schedulerName != null) {
+      sb.append(String.format("Planificador: %s, Reemplazo: %s, Nucleos: %d, Marcos: %d\n",
+          schedulerName, replacementName, coreCount, totalFrames));
+      sb.append(String.format("Tiempo final: %d, CPU ocupada: %d\n", finalTime, cpuBusyTime));
+      sb.append(String.format("Fallos de pagina: %d, Accesos: %d, Reemplazos: %d\n",
+          pageFaults, memoryAccesses, pageReplacements));
+      sb.append(String.format("Entradas de Gantt: %d, Eventos: %d\n", tables[GANTT].rows, tables[EVENTS].rows));
+      sb.append(String.format("Procesos completados: %d\n", getCompletedProcessCount()));
+      sb.append(String.format("Tiempo de espera promedio: %.2f unidades\n", getAverageWaitingTime()));
+      sb.append(String.format("Tiempo de retorno promedio: %.2f unidades\n", getAverageTurnaroundTime()));
+      sb.append(String.format("Tiempo de respuesta promedio: %.2f unidades\n", getAverageResponseTime()));
+    }
+    return sb.toString();
+  }
+
+  // ---- Guardar ----
+
+  /**
+   * Guarda la instantanea por filas
+   */
+  public void save(Path path) throws IOException {
+    save(path, false);
+  }
+
+  /**
+   * @param columnar true para la variante por columnas comprimida
+   */
+  public void save(Path path, boolean columnar) throws IOException {
+    ByteBuffer body = encode(columnar);
+    CRC32 crc = new CRC32();
+    crc.update(body.duplicate());
+    long rawLength = body.remaining();
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      channel.position(SnapshotFormat.HEADER_SIZE);
+      if (columnar) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+          deflater.setInput(body);
+          deflater.finish();
+          ByteBuffer chunk = ByteBuffer.allocateDirect(DEFLATE_CHUNK);
+          while (!deflater.finished()) {
+            deflater.deflate(chunk);
+            chunk.flip();
+            writeFully(channel, chunk);
+            chunk.clear();
+          }
+        } finally {
+          deflater.end();
+        }
+      } else {
+        writeFully(channel, body);
+      }
+      long storedLength = channel.position() - SnapshotFormat.HEADER_SIZE;
+
+      ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_SIZE).order(SnapshotFormat.ORDER);
+      header.putInt(SnapshotFormat.MAGIC).putShort(SnapshotFormat.VERSION)
+          .putShort(columnar ? SnapshotFormat.LAYOUT_COLUMNS : SnapshotFormat.LAYOUT_ROWS)
+          .putLong(storedLength).putLong(rawLength).putInt((int) crc.getValue()).putInt(0);
+      header.flip();
+      channel.position(0);
+      writeFully(channel, header);
+    }
+  }
+
+  private ByteBuffer encode(boolean columnar) {
+    // Los nombres del resumen entran en la tabla de textos antes de escribirla
+    int scheduler = index(schedulerName);
+    int replacement = index(replacementName);
+    byte[][] encoded = new byte[strings.size()][];
+    long size = 4 + SUMMARY_SIZE;
+    for (int i = 0; i < encoded.length; i++) {
+      encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+      size += 4 + encoded[i].length;
+    }
+    // Por columnas cada varint ocupa a lo sumo 5 bytes
+    int valueSize = columnar ? 5 : 4;
+    for (Table table : tables) {
+      size += 4 + (long) table.rows * table.columns.length * valueSize;
+    }
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Instantanea demasiado grande para un solo archivo: " + size + " bytes");
+    }
+
+    ByteBuffer body = ByteBuffer.allocate((int) size).order(SnapshotFormat.ORDER);
+    body.putInt(encoded.length);
+    for (byte[] text : encoded) {
+      body.putInt(text.length).put(text);
+    }
+    body.putInt(finalTime).putInt(cpuBusyTime).putInt(coreCount).putInt(totalFrames)
+        .putInt(pageFaults).putInt(memoryAccesses).putInt(pageReplacements)
+        .putInt(scheduler).putInt(replacement);
+    for (Table table : tables) {
+      body.putInt(table.rows);
+      if (columnar) {
+        for (int[] column : table.columns) {
+          int previous = 0;
+          for (int row = 0; row < table.rows; row++) {
+            int delta = column[row] - previous;
+            putVarint(body, (delta << 1) ^ (delta >> 31));
+            previous = column[row];
+          }
+        }
+      } else {
+        for (int row = 0; row < table.rows; row++) {
+          for (int[] column : table.columns) {
+            body.putInt(column[row]);
+          }
+        }
+      }
+    }
+    body.flip();
+    return body;
+  }
+
+  private static void putVarint(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer data) throws IOException {
+    while (data.hasRemaining()) {
+      channel.write(data);
+    }
+  }
+
+  // ---- Cargar ----
+
+  /**
+   * Carga una instantanea guardada con save, en cualquiera de las dos disposiciones
+   * @throws IOException Si el archivo no tiene el formato esperado o esta dañado
+   */
+  public static SimulationSnapshot load(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_SIZE).order(SnapshotFormat.ORDER);
+      while (header.hasRemaining()) {
+        if (channel.read(header) < 0) {
+          throw new IOException("No es una instantanea de simulacion: " + path);
+        }
+      }
+      header.flip();
+      if (header.getInt(0) != SnapshotFormat.MAGIC) {
+        throw new IOException("No es una instantanea de simulacion: " + path);
+      }
+      short version = header.getShort(4);
+      if (version != SnapshotFormat.VERSION) {
+        throw new IOException("Version de instantanea no soportada: " + version);
+      }
+      short layout = header.getShort(6);
+      long storedLength = header.getLong(8);
+      long rawLength = header.getLong(16);
+      int checksum = header.getInt(24);
+      if (layout != SnapshotFormat.LAYOUT_ROWS && layout != SnapshotFormat.LAYOUT_COLUMNS) {
+        throw new IOException("Disposicion de instantanea desconocida: " + layout);
+      }
+      if (storedLength != channel.size() - SnapshotFormat.HEADER_SIZE || rawLength > Integer.MAX_VALUE
+          || (layout == SnapshotFormat.LAYOUT_ROWS && rawLength != storedLength)) {
+        throw new IOException("Instantanea truncada o cabecera inconsistente: " + path);
+      }
+
+      MappedByteBuffer stored = channel.map(FileChannel.MapMode.READ_ONLY, SnapshotFormat.HEADER_SIZE, storedLength);
+      ByteBuffer body = layout == SnapshotFormat.LAYOUT_COLUMNS ? inflate(stored, (int) rawLength, path) : stored;
+      body.order(SnapshotFormat.ORDER);
+      CRC32 crc = new CRC32();
+      crc.update(body.duplicate());
+      if ((int) crc.getValue() != checksum) {
+        throw new IOException("Instantanea dañada (CRC incorrecto): " + path);
+      }
+      try {
+        return decode(body, layout == SnapshotFormat.LAYOUT_COLUMNS);
+      } catch (RuntimeException e) {
+        throw new IOException("Instantanea con contenido invalido: " + path + " - " + e.getMessage(), e);
+      }
+    }
+  }
+
+  private static ByteBuffer inflate(ByteBuffer stored, int rawLength, Path path) throws IOException {
+    ByteBuffer body = ByteBuffer.allocate(rawLength);
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(stored);
+      while (body.hasRemaining() && !inflater.finished()) {
+        if (inflater.inflate(body) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+      }
+      if (body.hasRemaining() || !inflater.finished()) {
+        throw new IOException("Instantanea comprimida truncada: " + path);
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Instantanea comprimida invalida: " + path, e);
+    } finally {
+      inflater.end();
+    }
+    body.flip();
+    return body;
+  }
+
+  private static SimulationSnapshot decode(ByteBuffer body, boolean columnar) {
+    SimulationSnapshot snapshot = new SimulationSnapshot();
+    int count = body.getInt();
+    byte[] scratch = new byte[64];
+    for (int i = 0; i < count; i++) {
+      int length = body.getInt();
+      if (scratch.length < length) {
+        scratch = new byte[Math.max(length, scratch.length * 2)];
+      }
+      body.get(scratch, 0, length);
+      snapshot.index(new String(scratch, 0, length, StandardCharsets.UTF_8));
+    }
+    snapshot.finalTime = body.getInt();
+    snapshot.cpuBusyTime = body.getInt();
+    snapshot.coreCount = body.getInt();
+    snapshot.totalFrames = body.getInt();
+    snapshot.pageFaults = body.getInt();
+    snapshot.memoryAccesses = body.getInt();
+    snapshot.pageReplacements = body.getInt();
+    snapshot.schedulerName = snapshot.text(body.getInt());
+    snapshot.replacementName = snapshot.text(body.getInt());
+
+    for (Table table : snapshot.tables) {
+      int rows = body.getInt();
+      table.resize(rows);
+      if (columnar) {
+        for (int[] column : table.columns) {
+          int previous = 0;
+          for (int row = 0; row < rows; row++) {
+            int zigzag = getVarint(body);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            column[row] = previous;
+          }
+        }
+      } else {
+        for (int row = 0; row < rows; row++) {
+          for (int[] column : table.columns) {
+            column[row] = body.getInt();
+          }
+        }
+      }
+      table.rows = rows;
+    }
+    if (body.hasRemaining()) {
+      throw new IllegalStateException("bytes sobrantes al final del cuerpo");
+    }
+    return snapshot;
+  }
+
+  private static int getVarint(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("varint demasiado largo");
+  }
+
+  // ---- Tabla de textos ----
+
+  private int index(String text) {
+    if (text == null) {
+      return -1;
+    }
+    Integer index = stringIndex.get(text);
+    if (index == null) {
+      index = strings.size();
+      strings.add(text);
+      stringIndex.put(text, index);
+    }
+    return index;
+  }
+
+  private String text(int index) {
+    return index == -1 ? null : strings.get(index);
+  }
+
+  /**
+   * Tabla de enteros guardada por columnas
+   */
+  private static final class Table {
+    int[][] columns;
+    int rows;
+
+    Table(int columnCount) {
+      this.columns = new int[columnCount][16];
+    }
+
+    void add(int... values) {
+      if (rows == columns[0].length) {
+        resize(rows * 2);
+      }
+      for (int c = 0; c < columns.length; c++) {
+        columns[c][rows] = values[c];
+      }
+      rows++;
+    }
+
+    int get(int row, int column) {
+      return columns[column][row];
+    }
+
+    void resize(int capacity) {
+      for (int c = 0; c < columns.length; c++) {
+        columns[c] = Arrays.copyOf(columns[c], capacity);
+      }
+    }
+  }
+
+  /**
+   * Muestra el resumen de una instantanea guardada
+   * Uso: java simulation.SimulationSnapshot <archivo>
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.out.println("USO: java simulation.SimulationSnapshot <archivo>");
+      return;
+    }
+    System.out.print(load(Paths.get(args[0])).getReport());
+  }
+}
@@ -0,0 +1,52 @@
+package simulation;
+
+import java.nio.ByteOrder;
+
+/**
+ * Formato binario de instantaneas de simulacion (little-endian):
+ *
+ * Cabecera (32 bytes):
+ *   int   magico "SNAP"
+ *   short version
+ *   short disposicion (0 = por filas, 1 = por columnas comprimida)
+ *   long  largo del cuerpo en el archivo
+ *   long  largo del cuerpo sin comprimir
+ *   int   CRC32 del cuerpo sin comprimir
+ *   int   reservado
+ *
+ * Cuerpo:
+ *   tabla de textos: int cantidad, por texto int largo + bytes UTF-8
+ *   resumen: int tiempo final, int CPU ocupada, int nucleos, int marcos,
+ *            int fallos, int accesos, int reemplazos,
+ *            int planificador (texto), int algoritmo de reemplazo (texto)
+ *   tablas, en este orden, cada una con int cantidad de filas:
+ *     PROCESOS  pid, llegada, prioridad, paginas, patron, rafagas
+ *     RAFAGAS   tipo, duracion, dispositivo, posicion
+ *     GANTT     carril, pid, inicio, fin
+ *     EVENTOS   carril, tiempo, descripcion
+ *     METRICAS  pid, llegada, primera ejecucion, fin, espera, retorno, respuesta
+ *
+ * Todas las columnas son enteros; los textos se guardan como indice en la
+ * tabla de textos (-1 = sin texto). Por filas cada fila ocupa 4 bytes por
+ * columna. Por columnas cada columna se escribe entera como diferencias con
+ * el valor anterior en varint zigzag, y el cuerpo completo se comprime con
+ * Deflate.
+ */
+public final class SnapshotFormat {
+  public static final int MAGIC = 0x50414E53; // "SNAP" leido en little-endian
+  public static final short VERSION = 1;
+  public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  public static final int HEADER_SIZE = 32;
+  public static final short LAYOUT_ROWS = 0;
+  public static final short LAYOUT_COLUMNS = 1;
+
+  static final int PROCESS_COLUMNS = 6;
+  static final int BURST_COLUMNS = 4;
+  static final int GANTT_COLUMNS = 4;
+  static final int EVENT_COLUMNS = 3;
+  static final int METRIC_COLUMNS = 7;
+
+  private SnapshotFormat() {
+  }
+}
@@ -0,0 +1,23 @@
+package sync;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Modo de concurrencia de los componentes de la simulacion
+ * - THREAD_SAFE: cada componente protege su estado con un ReentrantLock
+ *   (necesario si la GUI u otro hilo los consulta mientras corre la simulacion).
+ * - SINGLE_THREADED: la simulacion es duena exclusiva de sus componentes y los
+ *   usa desde un solo hilo; los locks no hacen nada y las esperas fallan.
+ */
+public enum ConcurrencyMode {
+  THREAD_SAFE,
+  SINGLE_THREADED;
+
+  /**
+   * Lock para un componente segun el modo
+   */
+  public Lock newLock() {
+    return this == THREAD_SAFE ? new ReentrantLock() : NoOpLock.INSTANCE;
+  }
+}
@@ -0,0 +1,100 @@
+package sync;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.io.Serializable;
+
+/**
+ * Lock vacio para el modo SINGLE_THREADED: lock/unlock no hacen nada.
+ * Sus condiciones ignoran las senales y rechazan las esperas, porque con un
+ * solo hilo nadie podria despertar al que espera.
+ */
+final class NoOpLock implements Lock, Serializable {
+  private static final long serialVersionUID = 1L;
+
+  static final NoOpLock INSTANCE = new NoOpLock();
+
+  private static final Condition CONDITION = new NoOpCondition();
+
+  private NoOpLock() {
+  }
+
+  // Un checkpoint restaurado vuelve a usar la instancia unica
+  private Object readResolve() {
+    return INSTANCE;
+  }
+
+  private static final class NoOpCondition implements Condition, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Object readResolve() {
+      return CONDITION;
+    }
+
+    @Override
+    public void await() {
+      throw unsupportedWait();
+    }
+
+    @Override
+    public void awaitUninterruptibly() {
+      throw unsupportedWait();
+    }
+
+    @Override
+    public long awaitNanos(long nanosTimeout) {
+      throw unsupportedWait();
+    }
+
+    @Override
+    public boolean await(long time, TimeUnit unit) {
+      throw unsupportedWait();
+    }
+
+    @Override
+    public boolean awaitUntil(Date deadline) {
+      throw unsupportedWait();
+    }
+
+    @Override
+    public void signal() {
+    }
+
+    @Override
+    public void signalAll() {
+    }
+  }
+
+  private static IllegalStateException unsupportedWait() {
+    return new IllegalStateException("No se puede esperar una condicion en modo SINGLE_THREADED");
+  }
+
+  @Override
+  public void lock() {
+  }
+
+  @Override
+  public void lockInterruptibly() {
+  }
+
+  @Override
+  public boolean tryLock() {
+    return true;
+  }
+
+  @Override
+  public boolean tryLock(long time, TimeUnit unit) {
+    return true;
+  }
+
+  @Override
+  public void unlock() {
+  }
+
+  @Override
+  public Condition newCondition() {
+    return CONDITION;
+  }
+}
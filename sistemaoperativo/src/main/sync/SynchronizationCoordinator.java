@@ -2,19 +2,30 @@
 package sync;
 
 import model.Process;
+import model.Burst;
+import memory.LoadController;
 import memory.MemoryManager;
 import scheduler.SchedulingAlgorithm;
 import io.IOManager;
+import log.EventCategory;
+import log.LogLevel;
+import log.SimulationLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.Condition;
+import java.io.Serializable;
 
 /**
  * Coordinador de sincronización entre módulos del sistema
  * Asegura la correcta secuencia de ejecución entre planificador, memoria y E/S
  * Añadí una bandera hasReadyProcess para waitForReadyProcess en lugar de depender sólo de scheduler.getReadyQueue() mientras se mantiene el coordinationLock.
  */
-public class SynchronizationCoordinator {
+public class SynchronizationCoordinator implements Serializable {
+  private static final long serialVersionUID = 1L;
+
   private MemoryManager memoryManager;
   private SchedulingAlgorithm scheduler;
   private IOManager ioManager;
@@ -23,6 +34,12 @@ public class SynchronizationCoordinator {
   private Condition processReady;
   // Para evitar llamar al scheduler desde dentro del lock en waitForReadyProcess
   private volatile boolean hasReadyProcess = false;
+
+  // Control de carga (opcional) y procesos bloqueados por servicio de fallo de pagina
+  private LoadController loadController;
+  private final PriorityQueue<PageFaultWait> pageFaultWaits;
+  private long pageFaultSequence;
+  private int pageFaultBlocks;
   
   public SynchronizationCoordinator(MemoryManager memoryManager, 
                                      SchedulingAlgorithm scheduler,
@@ -33,8 +50,19 @@ public class SynchronizationCoordinator {
     
     this.coordinationLock = new ReentrantLock();
     this.processReady = coordinationLock.newCondition();
+    this.pageFaultWaits = new PriorityQueue<>();
+    this.pageFaultSequence = 0;
+    this.pageFaultBlocks = 0;
     
-    System.out.println("SynchronizationCoordinator inicializado");
+    SimulationLog.log(LogLevel.INFO, EventCategory.SYNC, "SynchronizationCoordinator inicializado");
+  }
+  
+  /**
+   * Modo de concurrencia del coordinador; se cambia antes de simular
+   */
+  public void setConcurrencyMode(ConcurrencyMode mode) {
+    this.coordinationLock = mode.newLock();
+    this.processReady = coordinationLock.newCondition();
   }
   
   /**
@@ -44,6 +72,12 @@ public class SynchronizationCoordinator {
    * @return true si el proceso está listo, false si fue bloqueado
    */
   public boolean prepareProcessForExecution(Process process) {
+    // Con control de carga, no se despacha un proceso si la memoria esta sobrecomprometida
+    if (loadController != null && loadController.shouldSuspend(process)) {
+      loadController.suspend(process, memoryManager.getClock().now());
+      return false;
+    }
+
     // No mantenemos coordinationLock mientras llamamos a memoryManager
     boolean ready = memoryManager.loadPagesForProcess(process);
     if (ready) {
@@ -64,8 +98,9 @@ public class SynchronizationCoordinator {
    * @param nextProcess Siguiente proceso a ejecutar
    */
   public void handleContextSwitch(Process currentProcess, Process nextProcess) {
-    if (currentProcess != null) {
-      System.out.println(String.format("[SYNC] Cambio de contexto: %s -> %s",
+    if (currentProcess != null && SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SYNC, currentProcess.getPid(), -1,
+          String.format("[SYNC] Cambio de contexto: %s -> %s",
           currentProcess.getPid(),
           nextProcess != null ? nextProcess.getPid() : "IDLE"));
     }
@@ -83,19 +118,40 @@ public class SynchronizationCoordinator {
    */
   public void handleIOBlocking(Process process, int ioDuration) {
     // No mantenemos coordinationLock mientras iniciamos la operación de E/S
-    System.out.println(String.format("[SYNC] Proceso %s bloqueado por E/S (duración: %d)",
-        process.getPid(), ioDuration));
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SYNC, process.getPid(), ioDuration,
+          String.format("[SYNC] Proceso %s bloqueado por E/S (duración: %d)", process.getPid(), ioDuration));
+    }
     ioManager.startIOOperation(process, ioDuration);
   }
 
+  /**
+   * Maneja el bloqueo por E/S de una rafaga (con su dispositivo, si lo indica)
+   * con un tiempo de inicio explícito
+   * @param process Proceso que se bloquea
+   * @param ioBurst Rafaga de E/S
+   * @param startTime Tiempo en que inicia la operación
+   * @return Tiempo en que finaliza la operación de E/S, o -1 si quedó en cola
+   */
+  public int handleIOBlocking(Process process, Burst ioBurst, int startTime) {
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SYNC, process.getPid(), ioBurst.getDuration(),
+          String.format("[SYNC] Proceso %s bloqueado por E/S (duración: %d)",
+          process.getPid(), ioBurst.getDuration()));
+    }
+    return ioManager.startIOOperation(process, ioBurst, startTime);
+  }
+
   /**
    * Notifica que un proceso completó su E/S
    * @param process Proceso que completó E/S
    */
   public void notifyIOComplete(Process process) {
     // No mantenemos coordinationLock mientras interactuamos con scheduler y proceso
-    System.out.println(String.format("[SYNC] Proceso %s completó E/S, vuelve a cola de listos",
-        process.getPid()));
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SYNC, process.getPid(), -1,
+          String.format("[SYNC] Proceso %s completó E/S, vuelve a cola de listos", process.getPid()));
+    }
 
     // Actualizar estado del proceso (rápido)
     process.setState(Process.ProcessState.READY);
@@ -113,13 +169,71 @@ public class SynchronizationCoordinator {
     }
   }
 
+  /**
+   * Bloquea un proceso mientras se atiende su fallo de pagina
+   * @param process Proceso que fallo
+   * @param wakeTime Tiempo en que la pagina queda disponible
+   */
+  public void handlePageFaultBlocking(Process process, int wakeTime) {
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SYNC, process.getPid(), wakeTime,
+          String.format("[SYNC] Proceso %s bloqueado por fallo de pagina hasta t=%d",
+          process.getPid(), wakeTime));
+    }
+    process.setState(Process.ProcessState.BLOCKED_MEMORY);
+    pageFaultWaits.offer(new PageFaultWait(wakeTime, pageFaultSequence++, process));
+    pageFaultBlocks++;
+  }
+
+  /**
+   * Devuelve a la cola de listos los procesos cuyo fallo termino hasta time
+   * @return Procesos desbloqueados, en orden de fin de servicio
+   */
+  public List<Process> completePageFaultsUpTo(int time) {
+    List<Process> woken = new ArrayList<>();
+    while (!pageFaultWaits.isEmpty() && pageFaultWaits.peek().wakeTime <= time) {
+      Process process = pageFaultWaits.poll().process;
+      process.setState(Process.ProcessState.READY);
+      scheduler.addProcess(process);
+      woken.add(process);
+    }
+    if (!woken.isEmpty()) {
+      signalProcessReady();
+    }
+    return woken;
+  }
+
+  /**
+   * @return Proximo fin de servicio de fallo, o Integer.MAX_VALUE si no hay
+   */
+  public int nextPageFaultCompletion() {
+    return pageFaultWaits.isEmpty() ? Integer.MAX_VALUE : pageFaultWaits.peek().wakeTime;
+  }
+
+  /**
+   * Reanuda los procesos suspendidos por el control de carga que vuelven a caber
+   */
+  public void resumeSuspendedProcesses(int time) {
+    if (loadController == null) {
+      return;
+    }
+    Process process;
+    while ((process = loadController.pollResumable(time)) != null) {
+      process.setState(Process.ProcessState.READY);
+      scheduler.addProcess(process);
+      signalProcessReady();
+    }
+  }
+
   /**
    * Notifica que un proceso completó su ejecución
    * @param process Proceso completado
    */
   public void notifyProcessComplete(Process process) {
-    System.out.println(String.format("[SYNC] Proceso %s completado, liberando recursos",
-        process.getPid()));
+    if (SimulationLog.isEnabled(LogLevel.DEBUG)) {
+      SimulationLog.log(LogLevel.DEBUG, EventCategory.SYNC, process.getPid(), -1,
+          String.format("[SYNC] Proceso %s completado, liberando recursos", process.getPid()));
+    }
 
     // Marcar terminado (rápido)
     process.setState(Process.ProcessState.TERMINATED);
@@ -158,6 +272,18 @@ public class SynchronizationCoordinator {
     }
   }
   
+  public void setLoadController(LoadController loadController) {
+    this.loadController = loadController;
+  }
+
+  public LoadController getLoadController() {
+    return loadController;
+  }
+
+  public int getPageFaultBlocks() {
+    return pageFaultBlocks;
+  }
+
   public MemoryManager getMemoryManager() {
     return memoryManager;
   }
@@ -169,6 +295,29 @@ public class SynchronizationCoordinator {
   public IOManager getIOManager() {
     return ioManager;
   }
-}
 
+  /**
+   * Proceso en espera de una pagina, ordenado por fin de servicio
+   */
+  private static class PageFaultWait implements Comparable<PageFaultWait>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    final int wakeTime;
+    final long sequence;
+    final Process process;
 
+    PageFaultWait(int wakeTime, long sequence, Process process) {
+      this.wakeTime = wakeTime;
+      this.sequence = sequence;
+      this.process = process;
+    }
+
+    @Override
+    public int compareTo(PageFaultWait other) {
+      if (wakeTime != other.wakeTime) {
+        return Integer.compare(wakeTime, other.wakeTime);
+      }
+      return Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -41,6 +41,8 @@ public class SimulatorGUI extends Application {
     private Process currentProcess = null;
     private int quantumRemaining = 0;
     private List<Process> allProcesses = new ArrayList<>();
+    private ArrivalIndex arrivals = new ArrivalIndex(Collections.emptyList());
+    private int activeProcesses = 0;
     private int totalCPUTime = 0;
     private int idleTime = 0;
     
@@ -136,7 +138,7 @@ public class SimulatorGUI extends Application {
         
         Label memLabel = new Label("Reemplazo de Paginas:");
         memoryAlgorithmCombo = new ComboBox<>();
-        memoryAlgorithmCombo.getItems().addAll("FIFO", "LRU", "Optimal");
+        memoryAlgorithmCombo.getItems().addAll(PageReplacementFactory.ALGORITHMS);
         memoryAlgorithmCombo.setValue("LRU");
         memoryAlgorithmCombo.setPrefWidth(150);
         
@@ -464,11 +466,15 @@ public class SimulatorGUI extends Application {
         MemoryManager memoryManager = new MemoryManager(frames, pageAlgorithm);
         IOManager ioManager = new IOManager();
         
-        controller = new SimulationController(scheduler, memoryManager, ioManager, quantum, 500);
+        // La GUI avanza el reloj compartido en su propio bucle
+        controller = new SimulationController(scheduler, memoryManager, ioManager, quantum, 500,
+            SimulationClock.shared());
         
         // Agregar procesos clonados
         allProcesses = cloneProcesses(new ArrayList<>(processList));
         controller.addProcesses(allProcesses);
+        arrivals = new ArrivalIndex(allProcesses);
+        activeProcesses = allProcesses.size();
         
         // Resetear variables de estado
         currentProcess = null;
@@ -620,6 +626,7 @@ public class SimulatorGUI extends Application {
                             // Proceso terminado
                             currentProcess.setCompletionTime(currentTime + 1);
                             currentProcess.setState(Process.ProcessState.TERMINATED);
+                            activeProcesses--;
                             controller.getScheduler().onProcessCompletion(currentProcess);
                             controller.getMemoryManager().freePagesForProcess(currentProcess);
                             controller.getGanttChart().addEvent(currentTime + 1, currentProcess.getPid() + " TERMINADO");
@@ -662,7 +669,7 @@ public class SimulatorGUI extends Application {
             
             // Debug: Ver por qué esta idle cada 20 unidades
             if (currentTime % 20 == 0 && currentTime > 0) {
-                int readyCount = controller.getScheduler().getReadyQueue().size();
+                int readyCount = controller.getScheduler().readyCount();
                 int ioBlocked = 0;
                 int terminated = 0;
                 for (Process p : allProcesses) {
@@ -693,14 +700,13 @@ public class SimulatorGUI extends Application {
     }
     
     private void checkNewArrivals(int currentTime) {
-        for (Process p : allProcesses) {
-            if (p.getArrivalTime() == currentTime && p.getState() == Process.ProcessState.NEW) {
-                p.setState(Process.ProcessState.READY);
-                controller.getScheduler().addProcess(p);
-                controller.getGanttChart().addEvent(currentTime, p.getPid() + " LLEGA");
-                final String pid = p.getPid();
-                Platform.runLater(() -> appendLog(pid + " llegó al sistema"));
-            }
+        Process p;
+        while ((p = arrivals.pollArrivalAt(currentTime)) != null) {
+            p.setState(Process.ProcessState.READY);
+            controller.getScheduler().addProcess(p);
+            controller.getGanttChart().addEvent(currentTime, p.getPid() + " LLEGA");
+            final String pid = p.getPid();
+            Platform.runLater(() -> appendLog(pid + " llegó al sistema"));
         }
     }
     
@@ -710,12 +716,7 @@ public class SimulatorGUI extends Application {
     }
     
     private boolean allProcessesCompleted() {
-        for (Process p : allProcesses) {
-            if (p.getState() != Process.ProcessState.TERMINATED) {
-                return false;
-            }
-        }
-        return true;
+        return activeProcesses == 0;
     }
     
     /**
@@ -1135,20 +1136,7 @@ public class SimulatorGUI extends Application {
         List<Process> clones = new ArrayList<>();
         
         for (Process p : original) {
-            List<Burst> newBursts = new ArrayList<>();
-            for (Burst b : p.getBursts()) {
-                newBursts.add(new Burst(b.getType(), b.getDuration()));
-            }
-            
-            Process clone = new Process(
-                p.getPid(),
-                p.getArrivalTime(),
-                newBursts,
-                p.getPriority(),
-                p.getRequiredPages()
-            );
-            
-            clones.add(clone);
+            clones.add(p.copy());
         }
         
         return clones;
@@ -1174,16 +1162,7 @@ public class SimulatorGUI extends Application {
      * Crea un algoritmo de reemplazo según tipo
      */
     private PageReplacementAlgorithm createPageAlgorithm(String type) {
-        switch (type) {
-            case "FIFO":
-                return new FIFOPageReplacement();
-            case "LRU":
-                return new LRUPageReplacement();
-            case "Optimal":
-                return new OptimalPageReplacement();
-            default:
-                throw new IllegalArgumentException("Algoritmo desconocido: " + type);
-        }
+        return PageReplacementFactory.createAlgorithm(type);
     }
     
     /**